@@ -8,4 +8,8 @@ import java.lang.annotation.Target;
 @Target(ElementType.PARAMETER)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface AdminSession {
+    /**
+     * true 면 관리자 클레임 토큰으로 인증된 경우 관리자를 조회하지 않고 토큰의 id, 역할, 병원 id 만 채운 관리자를 전달
+     */
+    boolean claimsOnly() default false;
 }
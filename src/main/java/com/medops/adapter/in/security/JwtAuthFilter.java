@@ -3,7 +3,11 @@ package com.medops.adapter.in.security;
 import com.medops.domain.enums.TokenType;
 import com.medops.application.port.out.LoadAdminPort;
 import com.medops.application.port.out.LoadUserPort;
+import com.medops.application.port.out.PrincipalCachePort;
 import com.medops.application.port.out.TokenPort;
+import com.medops.application.port.out.TokenVersionPort;
+import com.medops.domain.model.Admin;
+import com.medops.domain.model.TokenClaims;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -28,6 +32,8 @@ public class JwtAuthFilter extends OncePerRequestFilter {
     private final TokenPort tokenPort;
     private final LoadUserPort loadUserPort;
     private final LoadAdminPort loadAdminPort;
+    private final PrincipalCachePort principalCachePort;
+    private final TokenVersionPort tokenVersionPort;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -46,11 +52,18 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
         if (StringUtils.isNotBlank(accessToken)) {
             try {
-                TokenType tokenType = tokenPort.parseTokenType(accessToken);
-                String id = tokenPort.parseUserIdFromToken(accessToken);
+                TokenClaims claims = tokenPort.parse(accessToken);
 
-                UserDetails userDetails = loadUserDetails(tokenType, id);
-                setAuthentication(userDetails);
+                if (claims.hasAdminClaims()) {
+                    // 병원과 역할이 담긴 토큰은 버전만 확인하고 저장소 조회 없이 인증
+                    if (tokenVersionPort.loadTokenVersion(claims.getSubject()) != claims.getTokenVersion()) {
+                        throw new JwtException("폐기된 토큰입니다.");
+                    }
+                    setAuthentication(Admin.fromTokenClaims(claims), claims);
+                } else {
+                    UserDetails userDetails = loadUserDetails(claims.getTokenType(), claims.getSubject());
+                    setAuthentication(userDetails, null);
+                }
 
             } catch (JwtException e) {
                 SecurityContextHolder.clearContext();
@@ -59,23 +72,30 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private void setAuthentication(UserDetails userDetails){
-        SecurityContextHolder.getContext().setAuthentication(
-            new UsernamePasswordAuthenticationToken(
-                userDetails,
-                null,
-                userDetails.getAuthorities()
-            )
+    private void setAuthentication(UserDetails userDetails, TokenClaims claims){
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+            userDetails,
+            null,
+            userDetails.getAuthorities()
         );
+        // 클레임만으로 만든 관리자인지 AdminSessionResolver 가 알 수 있도록 남겨둔다
+        authentication.setDetails(claims);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
     }
 
     private UserDetails loadUserDetails(TokenType tokenType, String id) {
-        if (tokenType == TokenType.USER) {
-            return loadUserPort.loadUserById(id)
-               .orElseThrow(() -> new UsernameNotFoundException("not found user"));
-        } else {
-            return loadAdminPort.loadAdminById(id)
-                .orElseThrow(() -> new UsernameNotFoundException("not found admin"));
-        }
+        // 대시보드처럼 동시에 여러 요청이 오는 경우 매번 DB 를 조회하지 않도록 캐시 사용
+        return principalCachePort.get(tokenType, id).orElseGet(() -> {
+            UserDetails userDetails;
+            if (tokenType == TokenType.USER) {
+                userDetails = loadUserPort.loadUserById(id)
+                   .orElseThrow(() -> new UsernameNotFoundException("not found user"));
+            } else {
+                userDetails = loadAdminPort.loadAdminById(id)
+                    .orElseThrow(() -> new UsernameNotFoundException("not found admin"));
+            }
+            principalCachePort.put(tokenType, id, userDetails);
+            return userDetails;
+        });
     }
 }
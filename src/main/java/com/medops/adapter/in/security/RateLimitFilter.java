@@ -0,0 +1,82 @@
+package com.medops.adapter.in.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.medops.application.port.out.RateLimitPort;
+import com.medops.common.error.ErrorCode;
+import com.medops.common.response.Api;
+import com.medops.domain.enums.RateLimitRouteClass;
+import com.medops.domain.model.Admin;
+import com.medops.domain.model.User;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * JwtAuthFilter 다음에 실행되어 인증된 주체 기준으로 요청 한도를 적용한다.
+ * 관리자는 병원 단위, 사용자는 사용자 단위, 인증 전 요청은 클라이언트 IP 단위로 버킷을 나눈다.
+ * 클라이언트 IP 는 server.forward-headers-strategy 로 로드밸런서의 X-Forwarded-For 를 반영한 값이다.
+ */
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitPort rateLimitPort;
+    private final RateLimitPolicy rateLimitPolicy;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !rateLimitPolicy.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        RateLimitRouteClass routeClass = rateLimitPolicy.classify(request);
+        if (routeClass == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = routeClass.name() + ":" + resolveSubject(request);
+        long waitMillis = rateLimitPort.tryAcquire(key, rateLimitPolicy.getRule(routeClass));
+        if (waitMillis > 0) {
+            reject(response, waitMillis);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private String resolveSubject(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null) {
+            Object principal = authentication.getPrincipal();
+            if (principal instanceof Admin admin && admin.getHospital() != null) {
+                return "hospital:" + admin.getHospital().getId();
+            }
+            if (principal instanceof User user) {
+                return "user:" + user.getId();
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, long waitMillis) throws IOException {
+        long retryAfterSeconds = (waitMillis + 999) / 1000;
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setCharacterEncoding("UTF-8");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write(objectMapper.writeValueAsString(
+            Api.ERROR(ErrorCode.TOO_MANY_REQUESTS, "요청이 너무 많습니다. " + retryAfterSeconds + "초 후 다시 시도해주세요.")
+        ));
+    }
+}
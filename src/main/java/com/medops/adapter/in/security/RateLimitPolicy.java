@@ -0,0 +1,77 @@
+package com.medops.adapter.in.security;
+
+import com.medops.domain.enums.RateLimitRouteClass;
+import com.medops.domain.model.RateLimitRule;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 요청 경로를 한도 등급으로 분류하고 등급별 토큰 버킷 규칙을 제공
+ */
+@Component
+public class RateLimitPolicy {
+
+    private final boolean enabled;
+    private final Map<RateLimitRouteClass, RateLimitRule> rules = new EnumMap<>(RateLimitRouteClass.class);
+
+    public RateLimitPolicy(
+        @Value("${security.rate-limit.enabled:true}") boolean enabled,
+        @Value("${security.rate-limit.auth.capacity:10}") int authCapacity,
+        @Value("${security.rate-limit.auth.refill-per-minute:20}") int authRefillPerMinute,
+        @Value("${security.rate-limit.record-write.capacity:30}") int recordWriteCapacity,
+        @Value("${security.rate-limit.record-write.refill-per-minute:120}") int recordWriteRefillPerMinute,
+        @Value("${security.rate-limit.dashboard.capacity:20}") int dashboardCapacity,
+        @Value("${security.rate-limit.dashboard.refill-per-minute:60}") int dashboardRefillPerMinute,
+        @Value("${security.rate-limit.default.capacity:100}") int defaultCapacity,
+        @Value("${security.rate-limit.default.refill-per-minute:600}") int defaultRefillPerMinute
+    ) {
+        this.enabled = enabled;
+        rules.put(RateLimitRouteClass.AUTH, new RateLimitRule(authCapacity, authRefillPerMinute));
+        rules.put(RateLimitRouteClass.RECORD_WRITE, new RateLimitRule(recordWriteCapacity, recordWriteRefillPerMinute));
+        rules.put(RateLimitRouteClass.DASHBOARD, new RateLimitRule(dashboardCapacity, dashboardRefillPerMinute));
+        rules.put(RateLimitRouteClass.DEFAULT, new RateLimitRule(defaultCapacity, defaultRefillPerMinute));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public RateLimitRule getRule(RateLimitRouteClass routeClass) {
+        return rules.get(routeClass);
+    }
+
+    /**
+     * API 가 아닌 요청(swagger 등)은 null
+     */
+    public RateLimitRouteClass classify(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        if (!uri.startsWith("/api/")) {
+            return null;
+        }
+
+        boolean isGet = HttpMethod.GET.matches(request.getMethod());
+        if (!isGet && isAuthPath(uri)) {
+            return RateLimitRouteClass.AUTH;
+        }
+        if (uri.startsWith("/api/dashboard/")) {
+            return RateLimitRouteClass.DASHBOARD;
+        }
+        if (!isGet && uri.startsWith("/api/medical-records")) {
+            return RateLimitRouteClass.RECORD_WRITE;
+        }
+        return RateLimitRouteClass.DEFAULT;
+    }
+
+    private boolean isAuthPath(String uri) {
+        return uri.endsWith("/login")
+            || uri.equals("/api/user")
+            || uri.equals("/api/hospital")
+            || uri.equals("/api/admin/verify-invitation-code")
+            || uri.equals("/api/admin/activate-account");
+    }
+}
@@ -38,7 +38,7 @@ public class AdminApiController implements AdminApiControllerSpec{
     @PostMapping("/invite")
     public Api<Null> invite(
         @Parameter(hidden = true)
-        @AdminSession Admin admin,
+        @AdminSession(claimsOnly = true) Admin admin,
         @RequestBody InviteAdminRequest request
     ) {
         adminUseCase.inviteAdmin(new AdminInviteCommand(request.email(), admin.getHospital().getId()));
@@ -26,7 +26,7 @@ public class DashboardApiController implements DashboardApiControllerSpec {
 
     @GetMapping("/stats/{hospitalId}")
     public Api<DashboardStatsDto> getDashboardStats(
-        @Parameter(hidden = true) @AdminSession Admin admin,
+        @Parameter(hidden = true) @AdminSession(claimsOnly = true) Admin admin,
         @PathVariable String hospitalId
     ) {
         DashboardStatsDto stats = dashboardUseCase.getDashboardStats(hospitalId);
@@ -35,7 +35,7 @@ public class DashboardApiController implements DashboardApiControllerSpec {
 
     @GetMapping("/trends/{hospitalId}")
     public Api<DashboardTrendsDto> getDashboardTrends(
-        @Parameter(hidden = true) @AdminSession Admin admin,
+        @Parameter(hidden = true) @AdminSession(claimsOnly = true) Admin admin,
         @PathVariable String hospitalId,
         @RequestParam(defaultValue = "7") int days
     ) {
@@ -45,7 +45,7 @@ public class DashboardApiController implements DashboardApiControllerSpec {
 
     @GetMapping("/summary/{hospitalId}")
     public Api<DashboardStatsDto.TodayStats> getRealTimeSummary(
-        @Parameter(hidden = true) @AdminSession Admin admin,
+        @Parameter(hidden = true) @AdminSession(claimsOnly = true) Admin admin,
         @PathVariable String hospitalId
     ) {
         DashboardStatsDto.TodayStats summary = dashboardUseCase.getRealTimeSummary(hospitalId);
@@ -54,7 +54,7 @@ public class DashboardApiController implements DashboardApiControllerSpec {
 
     @GetMapping("/heatmap/{hospitalId}")
     public Api<List<HeatmapDto>> getHeatmapData(
-        @Parameter(hidden = true) @AdminSession Admin admin,
+        @Parameter(hidden = true) @AdminSession(claimsOnly = true) Admin admin,
         @PathVariable String hospitalId,
         @RequestParam(defaultValue = "30") int days
     ) {
@@ -64,7 +64,7 @@ public class DashboardApiController implements DashboardApiControllerSpec {
 
     @GetMapping("/doctor-stats/{hospitalId}")
     public Api<List<DoctorStatsDto>> getDoctorStats(
-        @Parameter(hidden = true) @AdminSession Admin admin,
+        @Parameter(hidden = true) @AdminSession(claimsOnly = true) Admin admin,
         @PathVariable String hospitalId,
         @RequestParam(defaultValue = "7") int days
     ) {
@@ -74,7 +74,7 @@ public class DashboardApiController implements DashboardApiControllerSpec {
 
     @GetMapping("/doctor-treatment-stats/{hospitalId}")
     public Api<List<DoctorTreatmentStatsDto>> getDoctorTreatmentStats(
-        @Parameter(hidden = true) @AdminSession Admin admin,
+        @Parameter(hidden = true) @AdminSession(claimsOnly = true) Admin admin,
         @PathVariable String hospitalId,
         @RequestParam(defaultValue = "7") int days
     ) {
@@ -243,7 +243,7 @@ public interface DashboardApiControllerSpec {
             ),
             @Parameter(
                 name = "days",
-                description = "조회할 일수 (기본값: 7일)",
+                description = "조회할 일수 (기본값: 7일, 최대 365일)",
                 required = false,
                 example = "7"
             )
@@ -2,9 +2,11 @@ package com.medops.adapter.in.web.controller;
 
 import com.medops.adapter.in.annotation.AdminSession;
 import com.medops.adapter.in.web.request.HospitalCreateRequest;
+import com.medops.application.dto.AvailableSlotDto;
 import com.medops.application.dto.HospitalWithProductsDto;
 import com.medops.application.port.in.usecase.AdminUseCase;
 import com.medops.application.port.in.usecase.HospitalUseCase;
+import com.medops.application.port.in.usecase.SlotAvailabilityUseCase;
 import com.medops.application.port.in.usecase.TreatmentProductUseCase;
 import com.medops.common.exception.NotFoundResource;
 import com.medops.common.response.Api;
@@ -13,9 +15,11 @@ import com.medops.domain.model.Hospital;
 import com.medops.domain.model.TreatmentProduct;
 import io.swagger.v3.oas.annotations.Parameter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -26,6 +30,7 @@ public class HospitalApiController implements HospitalApiControllerSpec{
     private final HospitalUseCase hospitalUseCase;
     private final TreatmentProductUseCase treatmentProductUseCase;
     private final AdminUseCase adminUseCase;
+    private final SlotAvailabilityUseCase slotAvailabilityUseCase;
 
     @Override
     @PostMapping("")
@@ -54,7 +59,7 @@ public class HospitalApiController implements HospitalApiControllerSpec{
 
     @GetMapping("/{hospitalId}/admins")
     public Api<List<Admin>> getHospitalAdmins(
-        @Parameter(hidden = true) @AdminSession Admin admin,
+        @Parameter(hidden = true) @AdminSession(claimsOnly = true) Admin admin,
         @PathVariable String hospitalId
     ) {
         if (!admin.getHospital().getId().equals(hospitalId)) {
@@ -68,4 +73,15 @@ public class HospitalApiController implements HospitalApiControllerSpec{
     public Api<List<TreatmentProduct>> getHospitalTreatmentProducts(@PathVariable String hospitalId) {
         return Api.OK(treatmentProductUseCase.getTreatmentProductsByHospitalId(hospitalId));
     }
+
+    @Override
+    @GetMapping("/{hospitalId}/availability")
+    public Api<List<AvailableSlotDto>> getAvailableSlots(
+        @PathVariable String hospitalId,
+        @RequestParam String treatmentProductId,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return Api.OK(slotAvailabilityUseCase.getAvailableSlots(hospitalId, treatmentProductId, from, to));
+    }
 }
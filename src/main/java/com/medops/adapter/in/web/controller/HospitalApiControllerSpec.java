@@ -2,6 +2,7 @@ package com.medops.adapter.in.web.controller;
 
 
 import com.medops.adapter.in.web.request.HospitalCreateRequest;
+import com.medops.application.dto.AvailableSlotDto;
 import com.medops.application.dto.HospitalWithProductsDto;
 import com.medops.common.response.Api;
 import com.medops.domain.model.Hospital;
@@ -16,6 +17,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Tag(name = "병원 API")
@@ -75,4 +77,46 @@ public interface HospitalApiControllerSpec {
         )
     })
     Api<List<TreatmentProduct>> getHospitalTreatmentProducts(String hospitalId);
+
+    @Operation(
+        summary = "예약 가능 시간 조회",
+        description = "영업 시간과 예약 현황을 기준으로 조회 기간 동안 예약 가능한 30분 단위 시간을 조회합니다.",
+        parameters = {
+            @Parameter(
+                name = "hospitalId",
+                description = "병원 ID",
+                required = true,
+                example = "hospital-123"
+            ),
+            @Parameter(
+                name = "treatmentProductId",
+                description = "시술 상품 ID",
+                required = true,
+                example = "product-123"
+            ),
+            @Parameter(
+                name = "from",
+                description = "조회 시작일 (yyyy-MM-dd)",
+                required = true,
+                example = "2025-09-10"
+            ),
+            @Parameter(
+                name = "to",
+                description = "조회 종료일, 해당일 포함 (yyyy-MM-dd)",
+                required = true,
+                example = "2025-09-16"
+            )
+        }
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "예약 가능 시간 조회 성공",
+            content = @Content(
+                mediaType = "application/json",
+                array = @ArraySchema(schema = @Schema(implementation = AvailableSlotDto.class))
+            )
+        )
+    })
+    Api<List<AvailableSlotDto>> getAvailableSlots(String hospitalId, String treatmentProductId, LocalDate from, LocalDate to);
 }
@@ -1,18 +1,25 @@
 package com.medops.adapter.in.web.controller;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.medops.adapter.in.annotation.AdminSession;
 import com.medops.adapter.in.annotation.UserSession;
 import com.medops.adapter.in.web.request.*;
 import com.medops.adapter.out.persistence.mongodb.document.MedicalRecordViewDocument;
+import com.medops.application.dto.BatchCommandResultDto;
+import com.medops.application.dto.IdempotentRequestDto;
+import com.medops.application.dto.MedicalRecordStateDto;
 import com.medops.application.eventsourcing.command.*;
 import com.medops.application.eventsourcing.processor.MedicalRecordCommandProcessor;
+import com.medops.application.port.in.usecase.IdempotencyUseCase;
 import com.medops.application.port.in.usecase.MedicalRecordEventUseCase;
+import com.medops.application.port.in.usecase.MedicalRecordHistoryUseCase;
 import com.medops.application.port.in.usecase.MedicalRecordViewUseCase;
 import com.medops.common.response.Api;
 import com.medops.domain.model.Admin;
 import com.medops.domain.event.MedicalRecordEvent;
 import com.medops.domain.model.User;
 import io.swagger.v3.oas.annotations.Parameter;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.constraints.Null;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
@@ -28,6 +35,9 @@ public class MedicalRecordApiController implements MedicalRecordApiControllerSpe
     private final MedicalRecordCommandProcessor commandProcessor;
     private final MedicalRecordViewUseCase medicalRecordViewUseCase;
     private final MedicalRecordEventUseCase medicalRecordEventUseCase;
+    private final IdempotencyUseCase idempotencyUseCase;
+    private final MedicalRecordHistoryUseCase medicalRecordHistoryUseCase;
+    private final HttpServletRequest httpServletRequest;
 
     @GetMapping("/{recordId}")
     public Api<MedicalRecordViewDocument> getMedicalRecord(
@@ -43,10 +53,19 @@ public class MedicalRecordApiController implements MedicalRecordApiControllerSpe
         return Api.OK(medicalRecordEventUseCase.getEventsByRecordId(recordId));
     }
 
+    @GetMapping("/{recordId}/as-of")
+    public Api<MedicalRecordStateDto> getMedicalRecordAt(
+        @PathVariable String recordId,
+        @RequestParam Instant at
+    ){
+        return Api.OK(medicalRecordHistoryUseCase.getMedicalRecordAt(recordId, at));
+    }
+
     @PostMapping
     public Api<Null> createMedicalRecord(
         @Parameter(hidden = true)
         @UserSession User user,
+        @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
         @RequestBody CreateReservationRequest request
     ) {
         var command = new ReservationCreatedCommand(
@@ -59,7 +78,7 @@ public class MedicalRecordApiController implements MedicalRecordApiControllerSpe
             request.userMemo(),
             ""
         );
-        commandProcessor.handle(command);
+        idempotencyUseCase.execute(idempotencyKey, user.getId(), idempotentRequest(request), () -> commandProcessor.handle(command));
         return Api.OK(null);
     }
 
@@ -67,6 +86,7 @@ public class MedicalRecordApiController implements MedicalRecordApiControllerSpe
     public Api<Null> followUpMedicalRecord(
         @Parameter(hidden = true)
         @AdminSession Admin admin,
+        @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
         @RequestBody FollowUpReservationRequest request
     ) {
         var command = new ReservationCreatedCommand(
@@ -79,7 +99,7 @@ public class MedicalRecordApiController implements MedicalRecordApiControllerSpe
             "",
             request.note()
         );
-        commandProcessor.handle(command);
+        idempotencyUseCase.execute(idempotencyKey, admin.getId(), idempotentRequest(request), () -> commandProcessor.handle(command));
         return Api.OK(null);
     }
 
@@ -93,9 +113,20 @@ public class MedicalRecordApiController implements MedicalRecordApiControllerSpe
         return Api.OK(medicalRecordViewUseCase.getMedicalRecordsByHospital(hospitalId, startTime, endTime));
     }
 
+    @GetMapping("/hospitals/{hospitalId}/as-of")
+    public Api<List<MedicalRecordStateDto>> getHospitalMedicalRecordsAt(
+        @PathVariable String hospitalId,
+        @RequestParam Instant startTime,
+        @RequestParam Instant endTime,
+        @RequestParam Instant at
+    ){
+        return Api.OK(medicalRecordHistoryUseCase.getHospitalMedicalRecordsAt(hospitalId, startTime, endTime, at));
+    }
+
     @PatchMapping("/{recordId}/status/confirm")
     public Api<Null> confirmReservation(
         @PathVariable String recordId,
+        @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
         @RequestBody ConfirmReservationRequest request
     ){
         ConfirmCommand command = new ConfirmCommand(
@@ -104,13 +135,15 @@ public class MedicalRecordApiController implements MedicalRecordApiControllerSpe
             request.hospitalId(),
             request.adminId()
         );
-        commandProcessor.handle(command);
+        // 세션이 없는 명령은 예약 단위로 키를 구분
+        idempotencyUseCase.execute(idempotencyKey, recordId, idempotentRequest(request), () -> commandProcessor.handle(command));
         return Api.OK(null);
     }
 
     @PatchMapping("/{recordId}/status/pending")
     public Api<Null> pendingReservation(
         @PathVariable String recordId,
+        @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
         @RequestBody PendingReservationRequest request
     ){
         PendingCommand command = new PendingCommand(
@@ -119,13 +152,14 @@ public class MedicalRecordApiController implements MedicalRecordApiControllerSpe
             request.hospitalId(),
             request.adminId()
         );
-        commandProcessor.handle(command);
+        idempotencyUseCase.execute(idempotencyKey, recordId, idempotentRequest(request), () -> commandProcessor.handle(command));
         return Api.OK(null);
     }
 
     @PatchMapping("/{recordId}/status/cancel")
     public Api<Null> cancelReservation(
         @PathVariable String recordId,
+        @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
         @RequestBody CancelReservationRequest request
     ){
         CancelCommand command = new CancelCommand(
@@ -134,13 +168,14 @@ public class MedicalRecordApiController implements MedicalRecordApiControllerSpe
             request.hospitalId(),
             request.adminId()
         );
-        commandProcessor.handle(command);
+        idempotencyUseCase.execute(idempotencyKey, recordId, idempotentRequest(request), () -> commandProcessor.handle(command));
         return Api.OK(null);
     }
 
     @PatchMapping("/{recordId}/status/complete")
     public Api<Null> completeReservation(
         @PathVariable String recordId,
+        @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
         @RequestBody CompleteReservationRequest request
     ){
         CompleteCommand command = new CompleteCommand(
@@ -149,13 +184,14 @@ public class MedicalRecordApiController implements MedicalRecordApiControllerSpe
             request.hospitalId(),
             request.adminId()
         );
-        commandProcessor.handle(command);
+        idempotencyUseCase.execute(idempotencyKey, recordId, idempotentRequest(request), () -> commandProcessor.handle(command));
         return Api.OK(null);
     }
 
     @PatchMapping("/{recordId}/note")
     public Api<Null> updateNote(
         @PathVariable String recordId,
+        @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
         @RequestBody UpdateReservationNoteRequest request
     ){
         NoteUpdateCommand command = new NoteUpdateCommand(
@@ -164,7 +200,7 @@ public class MedicalRecordApiController implements MedicalRecordApiControllerSpe
             request.hospitalId(),
             request.note()
         );
-        commandProcessor.handle(command);
+        idempotencyUseCase.execute(idempotencyKey, recordId, idempotentRequest(request), () -> commandProcessor.handle(command));
         return Api.OK(null);
     }
 
@@ -186,8 +222,9 @@ public class MedicalRecordApiController implements MedicalRecordApiControllerSpe
 
     @PatchMapping("/{recordId}/doctor")
     public Api<Null> assignDoctorReservation(
-        @AdminSession Admin admin,
+        @AdminSession(claimsOnly = true) Admin admin,
         @PathVariable String recordId,
+        @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
         @RequestBody AssignDoctorRequest request
     ){
         DoctorAssignCommand command = new DoctorAssignCommand(
@@ -197,7 +234,46 @@ public class MedicalRecordApiController implements MedicalRecordApiControllerSpe
             request.doctorId(),
             admin.getId()
         );
-        commandProcessor.handle(command);
+        idempotencyUseCase.execute(idempotencyKey, admin.getId(), idempotentRequest(request), () -> commandProcessor.handle(command));
         return Api.OK(null);
     }
+
+    @PostMapping("/commands:batch")
+    public Api<List<BatchCommandResultDto>> handleCommandBatch(
+        @AdminSession(claimsOnly = true) Admin admin,
+        @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+        @RequestBody BatchCommandRequest request
+    ){
+        List<BatchCommandRequest.Item> items = request.commands() != null ? request.commands() : List.of();
+        List<StreamCommand> commands = items.stream()
+            .map(item -> toCommand(item, admin.getId()))
+            .toList();
+        return Api.OK(idempotencyUseCase.execute(
+            idempotencyKey,
+            admin.getId(),
+            idempotentRequest(request),
+            new TypeReference<List<BatchCommandResultDto>>() {},
+            () -> commandProcessor.handleBatch(commands)
+        ));
+    }
+
+    /**
+     * 같은 Idempotency-Key 로 다른 요청을 보낸 경우를 구분하도록 현재 요청의 메서드, 경로와 본문을 묶는다
+     */
+    private IdempotentRequestDto idempotentRequest(Object body) {
+        return new IdempotentRequestDto(httpServletRequest.getMethod(), httpServletRequest.getRequestURI(), body);
+    }
+
+    private StreamCommand toCommand(BatchCommandRequest.Item item, String adminId) {
+        if (item.type() == null) {
+            throw new IllegalArgumentException("명령 종류가 필요합니다.");
+        }
+        return switch (item.type()) {
+            case CONFIRM -> new ConfirmCommand(item.recordId(), item.userId(), item.hospitalId(), adminId);
+            case PENDING -> new PendingCommand(item.recordId(), item.userId(), item.hospitalId(), adminId);
+            case CANCEL -> new CancelCommand(item.recordId(), item.userId(), item.hospitalId(), adminId);
+            case COMPLETE -> new CompleteCommand(item.recordId(), item.userId(), item.hospitalId(), adminId);
+            case ASSIGN_DOCTOR -> new DoctorAssignCommand(item.recordId(), item.userId(), item.hospitalId(), item.doctorId(), adminId);
+        };
+    }
 }
@@ -2,12 +2,15 @@ package com.medops.adapter.in.web.controller;
 
 import com.medops.adapter.in.web.request.*;
 import com.medops.adapter.out.persistence.mongodb.document.MedicalRecordViewDocument;
+import com.medops.application.dto.BatchCommandResultDto;
+import com.medops.application.dto.MedicalRecordStateDto;
 import com.medops.common.response.Api;
 import com.medops.domain.model.Admin;
 import com.medops.domain.event.MedicalRecordEvent;
 import com.medops.domain.model.User;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -73,6 +76,37 @@ public interface MedicalRecordApiControllerSpec {
     })
     Api<List<MedicalRecordEvent>> getEventsByRecordId(String recordId);
 
+    @Operation(
+        summary = "특정 시점의 진료 기록 상태 조회",
+        description = "이벤트 이력으로부터 지정한 시점의 진료 기록 상태를 복원합니다.",
+        parameters = {
+            @Parameter(
+                name = "recordId",
+                description = "진료 기록 ID",
+                required = true,
+                example = "record-123"
+            ),
+            @Parameter(
+                name = "at",
+                description = "조회 시점 (ISO 8601)",
+                required = true,
+                example = "2023-12-15T09:00:00Z"
+            )
+        }
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "시점 상태 조회 성공",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = MedicalRecordStateDto.class)
+            )
+        ),
+        @ApiResponse(responseCode = "404", description = "해당 시점에 진료 기록이 없음")
+    })
+    Api<MedicalRecordStateDto> getMedicalRecordAt(String recordId, Instant at);
+
     @Operation(
         summary = "병원 진료 기록 목록 조회",
         description = "특정 병원의 지정된 기간 내 모든 진료 기록을 조회합니다.",
@@ -114,6 +148,54 @@ public interface MedicalRecordApiControllerSpec {
         Instant endTime
     );
 
+    @Operation(
+        summary = "특정 시점의 병원 예약 현황 조회",
+        description = "지정한 기간에 진료가 잡힌 병원 예약들의 특정 시점 상태를 조회합니다. 조회 시점 이후에 생성된 예약은 포함하지 않습니다.",
+        parameters = {
+            @Parameter(
+                name = "hospitalId",
+                description = "병원 ID",
+                required = true,
+                example = "hospital-123"
+            ),
+            @Parameter(
+                name = "startTime",
+                description = "조회 시작 시간 (ISO 8601)",
+                required = true,
+                example = "2023-12-01T00:00:00Z"
+            ),
+            @Parameter(
+                name = "endTime",
+                description = "조회 종료 시간 (ISO 8601)",
+                required = true,
+                example = "2023-12-31T23:59:59Z"
+            ),
+            @Parameter(
+                name = "at",
+                description = "조회 시점 (ISO 8601)",
+                required = true,
+                example = "2023-12-15T09:00:00Z"
+            )
+        }
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "시점 예약 현황 조회 성공",
+            content = @Content(
+                mediaType = "application/json",
+                array = @ArraySchema(schema = @Schema(implementation = MedicalRecordStateDto.class))
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "잘못된 조회 기간")
+    })
+    Api<List<MedicalRecordStateDto>> getHospitalMedicalRecordsAt(
+        String hospitalId,
+        Instant startTime,
+        Instant endTime,
+        Instant at
+    );
+
     @Operation(
         summary = "사용자 진료 기록 목록 조회",
         description = "특정 사용자의 모든 진료 기록을 조회합니다.",
@@ -176,6 +258,14 @@ public interface MedicalRecordApiControllerSpec {
     @Operation(
         summary = "예약 생성 (환자용)",
         description = "환자가 직접 예약을 생성합니다. 인증된 사용자 세션이 필요합니다.",
+        parameters = {
+            @Parameter(
+                name = "Idempotency-Key",
+                in = ParameterIn.HEADER,
+                description = "재시도 시 같은 값을 보내면 명령을 다시 실행하지 않고 처음 처리 결과를 반환합니다.",
+                example = "3f1c2a9e-7b4d-4e0a-9c1f-5d2b8a6e4c10"
+            )
+        },
         requestBody = @RequestBody(
             description = "예약 생성 요청",
             required = true,
@@ -191,11 +281,19 @@ public interface MedicalRecordApiControllerSpec {
         @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
         @ApiResponse(responseCode = "409", description = "예약 시간 충돌")
     })
-    Api<Null> createMedicalRecord(User user, CreateReservationRequest request);
+    Api<Null> createMedicalRecord(User user, String idempotencyKey, CreateReservationRequest request);
 
     @Operation(
         summary = "후속 예약 생성 (관리자용)",
         description = "관리자가 환자를 대신하여 후속 예약을 생성합니다.",
+        parameters = {
+            @Parameter(
+                name = "Idempotency-Key",
+                in = ParameterIn.HEADER,
+                description = "재시도 시 같은 값을 보내면 명령을 다시 실행하지 않고 처음 처리 결과를 반환합니다.",
+                example = "3f1c2a9e-7b4d-4e0a-9c1f-5d2b8a6e4c10"
+            )
+        },
         requestBody = @RequestBody(
             description = "후속 예약 생성 요청",
             required = true,
@@ -211,7 +309,7 @@ public interface MedicalRecordApiControllerSpec {
         @ApiResponse(responseCode = "401", description = "관리자 권한 필요"),
         @ApiResponse(responseCode = "409", description = "예약 시간 충돌")
     })
-    Api<Null> followUpMedicalRecord(Admin admin, FollowUpReservationRequest request);
+    Api<Null> followUpMedicalRecord(Admin admin, String idempotencyKey, FollowUpReservationRequest request);
 
     @Operation(
         summary = "예약 확정",
@@ -222,6 +320,12 @@ public interface MedicalRecordApiControllerSpec {
                 description = "예약 ID",
                 required = true,
                 example = "record-123"
+            ),
+            @Parameter(
+                name = "Idempotency-Key",
+                in = ParameterIn.HEADER,
+                description = "재시도 시 같은 값을 보내면 명령을 다시 실행하지 않고 처음 처리 결과를 반환합니다.",
+                example = "3f1c2a9e-7b4d-4e0a-9c1f-5d2b8a6e4c10"
             )
         },
         requestBody = @RequestBody(
@@ -238,7 +342,7 @@ public interface MedicalRecordApiControllerSpec {
         @ApiResponse(responseCode = "400", description = "잘못된 상태 변경"),
         @ApiResponse(responseCode = "404", description = "예약을 찾을 수 없음")
     })
-    Api<Null> confirmReservation(String recordId, ConfirmReservationRequest request);
+    Api<Null> confirmReservation(String recordId, String idempotencyKey, ConfirmReservationRequest request);
 
     @Operation(
         summary = "예약 대기로 변경",
@@ -249,6 +353,12 @@ public interface MedicalRecordApiControllerSpec {
                 description = "예약 ID",
                 required = true,
                 example = "record-123"
+            ),
+            @Parameter(
+                name = "Idempotency-Key",
+                in = ParameterIn.HEADER,
+                description = "재시도 시 같은 값을 보내면 명령을 다시 실행하지 않고 처음 처리 결과를 반환합니다.",
+                example = "3f1c2a9e-7b4d-4e0a-9c1f-5d2b8a6e4c10"
             )
         },
         requestBody = @RequestBody(
@@ -265,7 +375,7 @@ public interface MedicalRecordApiControllerSpec {
         @ApiResponse(responseCode = "400", description = "잘못된 상태 변경"),
         @ApiResponse(responseCode = "404", description = "예약을 찾을 수 없음")
     })
-    Api<Null> pendingReservation(String recordId, PendingReservationRequest request);
+    Api<Null> pendingReservation(String recordId, String idempotencyKey, PendingReservationRequest request);
 
     @Operation(
         summary = "예약 취소",
@@ -276,6 +386,12 @@ public interface MedicalRecordApiControllerSpec {
                 description = "예약 ID",
                 required = true,
                 example = "record-123"
+            ),
+            @Parameter(
+                name = "Idempotency-Key",
+                in = ParameterIn.HEADER,
+                description = "재시도 시 같은 값을 보내면 명령을 다시 실행하지 않고 처음 처리 결과를 반환합니다.",
+                example = "3f1c2a9e-7b4d-4e0a-9c1f-5d2b8a6e4c10"
             )
         },
         requestBody = @RequestBody(
@@ -292,7 +408,7 @@ public interface MedicalRecordApiControllerSpec {
         @ApiResponse(responseCode = "400", description = "잘못된 상태 변경"),
         @ApiResponse(responseCode = "404", description = "예약을 찾을 수 없음")
     })
-    Api<Null> cancelReservation(String recordId, CancelReservationRequest request);
+    Api<Null> cancelReservation(String recordId, String idempotencyKey, CancelReservationRequest request);
 
     @Operation(
         summary = "예약 완료",
@@ -303,6 +419,12 @@ public interface MedicalRecordApiControllerSpec {
                 description = "예약 ID",
                 required = true,
                 example = "record-123"
+            ),
+            @Parameter(
+                name = "Idempotency-Key",
+                in = ParameterIn.HEADER,
+                description = "재시도 시 같은 값을 보내면 명령을 다시 실행하지 않고 처음 처리 결과를 반환합니다.",
+                example = "3f1c2a9e-7b4d-4e0a-9c1f-5d2b8a6e4c10"
             )
         },
         requestBody = @RequestBody(
@@ -319,7 +441,7 @@ public interface MedicalRecordApiControllerSpec {
         @ApiResponse(responseCode = "400", description = "잘못된 상태 변경"),
         @ApiResponse(responseCode = "404", description = "예약을 찾을 수 없음")
     })
-    Api<Null> completeReservation(String recordId, CompleteReservationRequest request);
+    Api<Null> completeReservation(String recordId, String idempotencyKey, CompleteReservationRequest request);
 
     @Operation(
         summary = "예약 메모 수정",
@@ -330,6 +452,12 @@ public interface MedicalRecordApiControllerSpec {
                 description = "예약 ID",
                 required = true,
                 example = "record-123"
+            ),
+            @Parameter(
+                name = "Idempotency-Key",
+                in = ParameterIn.HEADER,
+                description = "재시도 시 같은 값을 보내면 명령을 다시 실행하지 않고 처음 처리 결과를 반환합니다.",
+                example = "3f1c2a9e-7b4d-4e0a-9c1f-5d2b8a6e4c10"
             )
         },
         requestBody = @RequestBody(
@@ -346,7 +474,7 @@ public interface MedicalRecordApiControllerSpec {
         @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터"),
         @ApiResponse(responseCode = "404", description = "예약을 찾을 수 없음")
     })
-    Api<Null> updateNote(String recordId, UpdateReservationNoteRequest request);
+    Api<Null> updateNote(String recordId, String idempotencyKey, UpdateReservationNoteRequest request);
 
     @Operation(
         summary = "담당 의사 배정",
@@ -357,6 +485,12 @@ public interface MedicalRecordApiControllerSpec {
                 description = "예약 ID",
                 required = true,
                 example = "record-123"
+            ),
+            @Parameter(
+                name = "Idempotency-Key",
+                in = ParameterIn.HEADER,
+                description = "재시도 시 같은 값을 보내면 명령을 다시 실행하지 않고 처음 처리 결과를 반환합니다.",
+                example = "3f1c2a9e-7b4d-4e0a-9c1f-5d2b8a6e4c10"
             )
         },
         requestBody = @RequestBody(
@@ -374,5 +508,39 @@ public interface MedicalRecordApiControllerSpec {
         @ApiResponse(responseCode = "401", description = "관리자 권한 필요"),
         @ApiResponse(responseCode = "404", description = "예약 또는 의사를 찾을 수 없음")
     })
-    Api<Null> assignDoctorReservation(Admin admin, String recordId, AssignDoctorRequest request);
-}
\ No newline at end of file
+    Api<Null> assignDoctorReservation(Admin admin, String recordId, String idempotencyKey, AssignDoctorRequest request);
+
+    @Operation(
+        summary = "예약 명령 일괄 처리",
+        description = "여러 예약의 확정/대기/취소/완료/의사 배정을 한 번에 처리합니다. 최대 500개까지 요청할 수 있으며, 명령별 처리 결과를 요청 순서대로 반환합니다. 관리자 권한이 필요합니다.",
+        parameters = {
+            @Parameter(
+                name = "Idempotency-Key",
+                in = ParameterIn.HEADER,
+                description = "재시도 시 같은 값을 보내면 명령을 다시 실행하지 않고 처음 처리 결과를 반환합니다.",
+                example = "3f1c2a9e-7b4d-4e0a-9c1f-5d2b8a6e4c10"
+            )
+        },
+        requestBody = @RequestBody(
+            description = "일괄 명령 요청",
+            required = true,
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = BatchCommandRequest.class)
+            )
+        )
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "일괄 처리 완료 (명령별 성공 여부 포함)",
+            content = @Content(
+                mediaType = "application/json",
+                array = @ArraySchema(schema = @Schema(implementation = BatchCommandResultDto.class))
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "명령 수가 허용 범위를 벗어남"),
+        @ApiResponse(responseCode = "401", description = "관리자 권한 필요")
+    })
+    Api<List<BatchCommandResultDto>> handleCommandBatch(Admin admin, String idempotencyKey, BatchCommandRequest request);
+}
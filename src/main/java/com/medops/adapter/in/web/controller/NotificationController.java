@@ -1,6 +1,7 @@
 package com.medops.adapter.in.web.controller;
 
 import com.medops.adapter.in.annotation.AdminSession;
+import com.medops.application.port.in.usecase.LiveDashboardUseCase;
 import com.medops.application.port.in.usecase.NotificationUseCase;
 import com.medops.domain.model.Admin;
 import lombok.RequiredArgsConstructor;
@@ -18,11 +19,15 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 public class NotificationController implements NotificationControllerSpec {
 
     private final NotificationUseCase notificationUseCase;
+    private final LiveDashboardUseCase liveDashboardUseCase;
 
     @Override
     @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter subscribeNotifications(@AdminSession Admin admin) {
-        return notificationUseCase.subscribe(admin.getHospital().getId());
+    public SseEmitter subscribeNotifications(@AdminSession(claimsOnly = true) Admin admin) {
+        SseEmitter emitter = notificationUseCase.subscribe(admin.getHospital().getId());
+        // 연결 직후 현재 오늘 요약을 보내고 이후 변경분은 DASHBOARD_SUMMARY 이벤트로 전달
+        liveDashboardUseCase.track(admin.getHospital().getId(), emitter);
+        return emitter;
     }
 
 }
\ No newline at end of file
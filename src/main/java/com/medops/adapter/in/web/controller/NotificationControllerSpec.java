@@ -17,7 +17,8 @@ public interface NotificationControllerSpec {
     @Operation(
         summary = "SSE 알림 구독",
         description = "관리자가 실시간 알림을 받기 위한 Server-Sent Events 연결을 설정합니다. " +
-                     "병원별로 연결이 관리되며, 해당 병원의 예약 변경 사항 등을 실시간으로 알림받을 수 있습니다."
+                     "병원별로 연결이 관리되며, 해당 병원의 예약 변경 사항 등을 실시간으로 알림받을 수 있습니다. " +
+                     "연결 직후와 오늘 예약 현황이 바뀔 때마다 DASHBOARD_SUMMARY 이벤트로 오늘 요약이 전달됩니다."
     )
     @ApiResponses({
         @ApiResponse(
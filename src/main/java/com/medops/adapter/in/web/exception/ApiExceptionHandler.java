@@ -2,9 +2,15 @@ package com.medops.adapter.in.web.exception;
 
 
 import com.medops.common.error.ErrorCode;
+import com.medops.common.exception.EventAppendTimeout;
+import com.medops.common.exception.EventVersionConflict;
+import com.medops.common.exception.IdempotencyKeyReused;
+import com.medops.common.exception.IdempotentRequestInProgress;
+import com.medops.common.exception.PasswordHashingRejected;
 import com.medops.common.response.Api;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -22,4 +28,70 @@ public class ApiExceptionHandler {
             Api.ERROR(ErrorCode.BAD_REQUEST, exception)
         );
     }
+
+    /**
+     * 해시 풀이 가득 찬 것은 요청 오류가 아니므로 잠시 후 다시 시도할 수 있도록 503 으로 응답
+     */
+    @ExceptionHandler(value = PasswordHashingRejected.class)
+    public ResponseEntity<Api> passwordHashingRejectedHandler(PasswordHashingRejected exception) {
+        return ResponseEntity.status(
+            ErrorCode.SERVICE_UNAVAILABLE.getErrorCode()
+        ).header(
+            HttpHeaders.RETRY_AFTER, "1"
+        ).body(
+            Api.ERROR(ErrorCode.SERVICE_UNAVAILABLE, exception)
+        );
+    }
+
+    /**
+     * 다른 요청이 먼저 같은 예약을 변경한 것은 요청 오류가 아니므로 다시 읽고 재시도할 수 있도록 409 로 응답
+     */
+    @ExceptionHandler(value = EventVersionConflict.class)
+    public ResponseEntity<Api> eventVersionConflictHandler(EventVersionConflict exception) {
+        return ResponseEntity.status(
+            ErrorCode.CONFLICT.getErrorCode()
+        ).body(
+            Api.ERROR(ErrorCode.CONFLICT, exception)
+        );
+    }
+
+    /**
+     * 같은 Idempotency-Key 의 처음 요청이 아직 처리 중이면 끝난 뒤 결과를 받을 수 있도록 409 로 응답
+     */
+    @ExceptionHandler(value = IdempotentRequestInProgress.class)
+    public ResponseEntity<Api> idempotentRequestInProgressHandler(IdempotentRequestInProgress exception) {
+        return ResponseEntity.status(
+            ErrorCode.CONFLICT.getErrorCode()
+        ).header(
+            HttpHeaders.RETRY_AFTER, "1"
+        ).body(
+            Api.ERROR(ErrorCode.CONFLICT, exception)
+        );
+    }
+
+    /**
+     * 같은 Idempotency-Key 로 다른 요청을 보내면 처음 결과를 돌려주지 않고 422 로 응답
+     */
+    @ExceptionHandler(value = IdempotencyKeyReused.class)
+    public ResponseEntity<Api> idempotencyKeyReusedHandler(IdempotencyKeyReused exception) {
+        return ResponseEntity.status(
+            ErrorCode.UNPROCESSABLE_ENTITY.getErrorCode()
+        ).body(
+            Api.ERROR(ErrorCode.UNPROCESSABLE_ENTITY, exception)
+        );
+    }
+
+    /**
+     * 이벤트 기록 대기 시간이 지난 요청은 기록되지 않았으므로 잠시 후 다시 시도할 수 있도록 503 으로 응답
+     */
+    @ExceptionHandler(value = EventAppendTimeout.class)
+    public ResponseEntity<Api> eventAppendTimeoutHandler(EventAppendTimeout exception) {
+        return ResponseEntity.status(
+            ErrorCode.SERVICE_UNAVAILABLE.getErrorCode()
+        ).header(
+            HttpHeaders.RETRY_AFTER, "1"
+        ).body(
+            Api.ERROR(ErrorCode.SERVICE_UNAVAILABLE, exception)
+        );
+    }
 }
@@ -0,0 +1,13 @@
+package com.medops.adapter.in.web.request;
+
+import java.util.List;
+
+public record BatchCommandRequest(List<Item> commands) {
+
+    public enum Type {
+        CONFIRM, PENDING, CANCEL, COMPLETE, ASSIGN_DOCTOR
+    }
+
+    public record Item(Type type, String recordId, String userId, String hospitalId, String doctorId) {
+    }
+}
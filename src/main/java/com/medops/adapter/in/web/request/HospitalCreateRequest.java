@@ -12,6 +12,11 @@ public record HospitalCreateRequest(
     @Schema(description = "관리자 이름", example = "김실장")
     String adminName,
     @Schema(description = "관리자 비밀번호", example = "1234!@#$")
-    String adminPassword
+    String adminPassword,
+    @Schema(description = "시간대 (IANA ID, 없으면 Asia/Seoul)", example = "Asia/Seoul")
+    String zoneId
 ) {
+    public HospitalCreateRequest(String name, String address, String adminEmail, String adminName, String adminPassword) {
+        this(name, address, adminEmail, adminName, adminPassword, null);
+    }
 }
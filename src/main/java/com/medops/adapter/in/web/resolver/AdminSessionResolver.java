@@ -1,9 +1,16 @@
 package com.medops.adapter.in.web.resolver;
 
 import com.medops.adapter.in.annotation.AdminSession;
+import com.medops.application.port.out.LoadAdminPort;
+import com.medops.application.port.out.PrincipalCachePort;
+import com.medops.domain.enums.TokenType;
 import com.medops.domain.model.Admin;
+import com.medops.domain.model.TokenClaims;
+import lombok.RequiredArgsConstructor;
 import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
@@ -12,7 +19,12 @@ import org.springframework.web.method.support.ModelAndViewContainer;
 
 
 @Component
+@RequiredArgsConstructor
 public class AdminSessionResolver implements HandlerMethodArgumentResolver {
+
+    private final LoadAdminPort loadAdminPort;
+    private final PrincipalCachePort principalCachePort;
+
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
         var annotation = parameter.hasParameterAnnotation(AdminSession.class);
@@ -23,6 +35,20 @@ public class AdminSessionResolver implements HandlerMethodArgumentResolver {
 
     @Override
     public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer, NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
-        return SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        AdminSession adminSession = parameter.getParameterAnnotation(AdminSession.class);
+
+        // 클레임 토큰으로 인증되었지만 전체 관리자 정보가 필요한 경우에만 조회
+        if (!(authentication.getDetails() instanceof TokenClaims) || adminSession.claimsOnly()) {
+            return authentication.getPrincipal();
+        }
+
+        String adminId = ((Admin) authentication.getPrincipal()).getId();
+        return principalCachePort.get(TokenType.ADMIN, adminId).orElseGet(() -> {
+            Admin admin = loadAdminPort.loadAdminById(adminId)
+                .orElseThrow(() -> new UsernameNotFoundException("not found admin"));
+            principalCachePort.put(TokenType.ADMIN, adminId, admin);
+            return admin;
+        });
     }
 }
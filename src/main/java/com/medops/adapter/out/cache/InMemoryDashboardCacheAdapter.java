@@ -0,0 +1,42 @@
+package com.medops.adapter.out.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.medops.application.port.out.DashboardCachePort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 단일 인스턴스용 대시보드 캐시 세대 관리
+ * 계산 결과는 DashboardService 의 인스턴스 캐시에만 보관하므로 공유 계층은 두지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "dashboard.cache.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryDashboardCacheAdapter implements DashboardCachePort {
+
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    @Override
+    public long loadGeneration(String hospitalId) {
+        AtomicLong generation = generations.get(hospitalId);
+        return generation != null ? generation.get() : 0L;
+    }
+
+    @Override
+    public void increaseGeneration(String hospitalId) {
+        generations.computeIfAbsent(hospitalId, k -> new AtomicLong()).incrementAndGet();
+    }
+
+    @Override
+    public <T> Optional<T> loadSnapshot(String key, TypeReference<T> type) {
+        return Optional.empty();
+    }
+
+    @Override
+    public void saveSnapshot(String key, Object value) {
+    }
+}
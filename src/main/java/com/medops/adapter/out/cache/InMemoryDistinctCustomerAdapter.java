@@ -0,0 +1,56 @@
+package com.medops.adapter.out.cache;
+
+import com.medops.application.port.out.DistinctCustomerPort;
+import com.medops.domain.model.HyperLogLog;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 병원/날짜별 HyperLogLog 를 메모리에 보관하는 고유 고객 수 추정기
+ * 기간 조회시 날짜별 추정기를 합쳐서 계산하므로 고객 수와 관계없이 날짜당 4KB 만 사용한다.
+ */
+@Component
+@ConditionalOnProperty(name = "dashboard.unique-customers.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryDistinctCustomerAdapter implements DistinctCustomerPort {
+
+    private final int retentionDays;
+    private final Map<String, Map<LocalDate, HyperLogLog>> hospitalCustomers = new ConcurrentHashMap<>();
+
+    public InMemoryDistinctCustomerAdapter(
+        @Value("${dashboard.unique-customers.retention-days:400}") int retentionDays
+    ) {
+        this.retentionDays = retentionDays;
+    }
+
+    @Override
+    public void addCustomer(String hospitalId, LocalDate date, String userId) {
+        Map<LocalDate, HyperLogLog> dailyCustomers = hospitalCustomers.computeIfAbsent(hospitalId, k -> new ConcurrentHashMap<>());
+        dailyCustomers.computeIfAbsent(date, k -> new HyperLogLog()).add(userId);
+        if (dailyCustomers.size() > retentionDays) {
+            LocalDate oldest = LocalDate.now().minusDays(retentionDays);
+            dailyCustomers.keySet().removeIf(day -> day.isBefore(oldest));
+        }
+    }
+
+    @Override
+    public long countDistinctCustomers(String hospitalId, LocalDate from, LocalDate to) {
+        Map<LocalDate, HyperLogLog> dailyCustomers = hospitalCustomers.get(hospitalId);
+        if (dailyCustomers == null) {
+            return 0L;
+        }
+
+        HyperLogLog merged = new HyperLogLog();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            HyperLogLog daily = dailyCustomers.get(date);
+            if (daily != null) {
+                merged.merge(daily);
+            }
+        }
+        return merged.estimate();
+    }
+}
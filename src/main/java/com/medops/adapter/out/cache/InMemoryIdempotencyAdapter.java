@@ -0,0 +1,86 @@
+package com.medops.adapter.out.cache;
+
+import com.medops.application.port.out.IdempotencyPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 단일 인스턴스용 멱등 요청 저장소
+ * 로드밸런서가 다른 인스턴스로 재시도하는 구성에서는 idempotency.store=redis 를 사용한다.
+ */
+@Component
+@ConditionalOnProperty(name = "idempotency.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIdempotencyAdapter implements IdempotencyPort {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    // result 가 null 이면 처리 중
+    private record Entry(String result, String fingerprint, long expiresAtNanos) {
+        boolean isExpired(long now) {
+            return expiresAtNanos - now <= 0;
+        }
+    }
+
+    @Override
+    public Optional<String> loadResult(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null || entry.result() == null || entry.isExpired(System.nanoTime())) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.result());
+    }
+
+    @Override
+    public boolean reserve(String key, String fingerprint, Duration ttl) {
+        long now = System.nanoTime();
+        Entry reserved = new Entry(null, fingerprint, now + ttl.toNanos());
+        Entry current = entries.compute(key, (k, entry) -> entry == null || entry.isExpired(now) ? reserved : entry);
+        return current == reserved;
+    }
+
+    @Override
+    public Optional<String> loadReservedFingerprint(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null || entry.result() != null || entry.isExpired(System.nanoTime())) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(entry.fingerprint());
+    }
+
+    @Override
+    public boolean extend(String key, Duration ttl) {
+        long now = System.nanoTime();
+        Entry entry = entries.get(key);
+        if (entry == null || entry.result() != null || entry.isExpired(now)) {
+            return false;
+        }
+        // 확인 후 결과가 저장되었으면 바꾸지 않는다
+        return entries.replace(key, entry, new Entry(null, entry.fingerprint(), now + ttl.toNanos()));
+    }
+
+    @Override
+    public void saveResult(String key, String result, Duration ttl) {
+        entries.put(key, new Entry(result, null, System.nanoTime() + ttl.toNanos()));
+    }
+
+    @Override
+    public void release(String key) {
+        entries.computeIfPresent(key, (k, entry) -> entry.result() == null ? null : entry);
+    }
+
+    /**
+     * 주기적으로 만료된 키 정리
+     */
+    @Scheduled(initialDelay = 1, fixedDelay = 1, timeUnit = TimeUnit.MINUTES)
+    public void removeExpired() {
+        long now = System.nanoTime();
+        entries.values().removeIf(entry -> entry.isExpired(now));
+    }
+}
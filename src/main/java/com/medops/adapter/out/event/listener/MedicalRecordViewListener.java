@@ -3,12 +3,22 @@ package com.medops.adapter.out.event.listener;
 import com.medops.adapter.out.persistence.mongodb.document.MedicalRecordViewDocument;
 import com.medops.adapter.out.persistence.mongodb.repository.*;
 import com.medops.application.eventsourcing.event.*;
+import com.medops.application.port.in.usecase.CustomerAnalyticsUseCase;
+import com.medops.application.port.in.usecase.DashboardUseCase;
+import com.medops.application.port.in.usecase.LiveDashboardUseCase;
 import com.medops.application.service.NotificationEventService;
 import com.medops.common.exception.NotFoundResource;
 import com.medops.domain.enums.MedicalRecordStatus;
+import com.mongodb.client.result.UpdateResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReplaceOptions;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -22,9 +32,22 @@ public class MedicalRecordViewListener {
     private final HospitalDocumentRepository hospitalDocumentRepository;
     private final DoctorDocumentRepository doctorDocumentRepository;
     private final NotificationEventService notificationEventService;
+    private final DashboardUseCase dashboardUseCase;
+    private final LiveDashboardUseCase liveDashboardUseCase;
+    private final CustomerAnalyticsUseCase customerAnalyticsUseCase;
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * 애플리케이션 시작시 고객 첫 방문 색인과 고유 고객 추정기를 준비
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        customerAnalyticsUseCase.warmUp();
+    }
 
     @EventListener
-    public void on(ReservationCreated event) {
+    public void on(RecordedEvent<ReservationCreated> recorded) {
+        ReservationCreated event = recorded.event();
         String userName = userDocumentRepository.findById(event.getUserId()).orElseThrow().getName();
         String productName = treatmentProductDocumentRepository.findById(event.getTreatmentProductId()).orElseThrow().getName();
         String hospitalName = hospitalDocumentRepository.findById(event.getHospitalId()).orElseThrow().getName();
@@ -43,9 +66,16 @@ public class MedicalRecordViewListener {
             event.getEndTime(),
             event.getTreatmentProductId(),
             productName,
-            event.getUserMemo()
+            event.getUserMemo(),
+            recorded.version()
         );
-        viewRepository.save(viewDocument);
+        if (!saveIfNewer(viewDocument)) {
+            return;
+        }
+        // 대시보드 캐시를 비우기 전에 반영해야 신규 고객 수가 이전 값으로 다시 캐시되지 않는다
+        customerAnalyticsUseCase.recordVisit(event.getHospitalId(), event.getUserId(), event.getStartTime());
+        dashboardUseCase.evictHospital(viewDocument.getHospitalId());
+        liveDashboardUseCase.apply(viewDocument);
 
         // SSE 새 예약 알림 발송
         try {
@@ -58,8 +88,9 @@ public class MedicalRecordViewListener {
     }
 
     @EventListener
-    public void on(Confirmed event){
-        viewRepository.findById(event.getRecordId()).ifPresent(viewDoc -> {
+    public void on(RecordedEvent<Confirmed> recorded) {
+        Confirmed event = recorded.event();
+        viewRepository.findById(event.getRecordId()).filter(viewDoc -> isNewer(viewDoc, recorded)).ifPresent(viewDoc -> {
             MedicalRecordViewDocument updatedDoc = new MedicalRecordViewDocument(
                 viewDoc.getId(),
                 viewDoc.getUserId(),
@@ -74,9 +105,14 @@ public class MedicalRecordViewListener {
                 viewDoc.getEndTime(),
                 viewDoc.getTreatmentProductId(),
                 viewDoc.getTreatmentProductName(),
-                viewDoc.getUserMemo()
+                viewDoc.getUserMemo(),
+                recorded.version()
             );
-            viewRepository.save(updatedDoc);
+            if (!saveIfNewer(updatedDoc)) {
+                return;
+            }
+            dashboardUseCase.evictHospital(updatedDoc.getHospitalId());
+            liveDashboardUseCase.apply(updatedDoc);
 
             // SSE 예약 확정 알림 발송
             try {
@@ -89,8 +125,9 @@ public class MedicalRecordViewListener {
     }
 
     @EventListener
-    public void on(Pending event){
-        viewRepository.findById(event.getRecordId()).ifPresent(viewDoc -> {
+    public void on(RecordedEvent<Pending> recorded) {
+        Pending event = recorded.event();
+        viewRepository.findById(event.getRecordId()).filter(viewDoc -> isNewer(viewDoc, recorded)).ifPresent(viewDoc -> {
             MedicalRecordViewDocument updatedDoc = new MedicalRecordViewDocument(
                 viewDoc.getId(),
                 viewDoc.getUserId(),
@@ -105,9 +142,14 @@ public class MedicalRecordViewListener {
                 viewDoc.getEndTime(),
                 viewDoc.getTreatmentProductId(),
                 viewDoc.getTreatmentProductName(),
-                viewDoc.getUserMemo()
+                viewDoc.getUserMemo(),
+                recorded.version()
             );
-            viewRepository.save(updatedDoc);
+            if (!saveIfNewer(updatedDoc)) {
+                return;
+            }
+            dashboardUseCase.evictHospital(updatedDoc.getHospitalId());
+            liveDashboardUseCase.apply(updatedDoc);
 
             // SSE 예약 대기 상태 변경 알림 발송
             try {
@@ -120,8 +162,9 @@ public class MedicalRecordViewListener {
     }
 
     @EventListener
-    public void on(Canceled event){
-        viewRepository.findById(event.getRecordId()).ifPresent(viewDoc -> {
+    public void on(RecordedEvent<Canceled> recorded) {
+        Canceled event = recorded.event();
+        viewRepository.findById(event.getRecordId()).filter(viewDoc -> isNewer(viewDoc, recorded)).ifPresent(viewDoc -> {
             MedicalRecordViewDocument updatedDoc = new MedicalRecordViewDocument(
                 viewDoc.getId(),
                 viewDoc.getUserId(),
@@ -136,9 +179,14 @@ public class MedicalRecordViewListener {
                 viewDoc.getEndTime(),
                 viewDoc.getTreatmentProductId(),
                 viewDoc.getTreatmentProductName(),
-                viewDoc.getUserMemo()
+                viewDoc.getUserMemo(),
+                recorded.version()
             );
-            viewRepository.save(updatedDoc);
+            if (!saveIfNewer(updatedDoc)) {
+                return;
+            }
+            dashboardUseCase.evictHospital(updatedDoc.getHospitalId());
+            liveDashboardUseCase.apply(updatedDoc);
 
             // SSE 예약 취소 알림 발송
             try {
@@ -151,8 +199,9 @@ public class MedicalRecordViewListener {
     }
 
     @EventListener
-    public void on(Completed event){
-        viewRepository.findById(event.getRecordId()).ifPresent(viewDoc -> {
+    public void on(RecordedEvent<Completed> recorded) {
+        Completed event = recorded.event();
+        viewRepository.findById(event.getRecordId()).filter(viewDoc -> isNewer(viewDoc, recorded)).ifPresent(viewDoc -> {
             MedicalRecordViewDocument updatedDoc = new MedicalRecordViewDocument(
                 viewDoc.getId(),
                 viewDoc.getUserId(),
@@ -167,9 +216,14 @@ public class MedicalRecordViewListener {
                 viewDoc.getEndTime(),
                 viewDoc.getTreatmentProductId(),
                 viewDoc.getTreatmentProductName(),
-                viewDoc.getUserMemo()
+                viewDoc.getUserMemo(),
+                recorded.version()
             );
-            viewRepository.save(updatedDoc);
+            if (!saveIfNewer(updatedDoc)) {
+                return;
+            }
+            dashboardUseCase.evictHospital(updatedDoc.getHospitalId());
+            liveDashboardUseCase.apply(updatedDoc);
 
             // SSE 예약 완료 알림 발송
             try {
@@ -182,11 +236,12 @@ public class MedicalRecordViewListener {
     }
 
     @EventListener
-    public void on(DoctorAssigned event) {
+    public void on(RecordedEvent<DoctorAssigned> recorded) {
+        DoctorAssigned event = recorded.event();
 
         String doctorName = doctorDocumentRepository.findById(event.getDoctorId()).orElseThrow(() -> new NotFoundResource("담당의사 정보를 찾을수 없습니다.")).getName();
 
-        viewRepository.findById(event.getRecordId()).ifPresent(viewDoc -> {
+        viewRepository.findById(event.getRecordId()).filter(viewDoc -> isNewer(viewDoc, recorded)).ifPresent(viewDoc -> {
             // 2. 의사 이름과 상태를 업데이트한 새로운 객체를 만듭니다. (불변성 유지)
             MedicalRecordViewDocument updatedDoc = new MedicalRecordViewDocument(
                 viewDoc.getId(),
@@ -202,9 +257,14 @@ public class MedicalRecordViewListener {
                 viewDoc.getEndTime(),
                 viewDoc.getTreatmentProductId(),
                 viewDoc.getTreatmentProductName(),
-                viewDoc.getUserMemo()
+                viewDoc.getUserMemo(),
+                recorded.version()
             );
-            viewRepository.save(updatedDoc);
+            if (!saveIfNewer(updatedDoc)) {
+                return;
+            }
+            dashboardUseCase.evictHospital(updatedDoc.getHospitalId());
+            liveDashboardUseCase.apply(updatedDoc);
 
             // SSE 담당의사 배정 알림 발송
             try {
@@ -217,8 +277,9 @@ public class MedicalRecordViewListener {
     }
 
     @EventListener
-    public void on(NoteUpdated event) {
-        viewRepository.findById(event.getRecordId()).ifPresent(viewDoc -> {
+    public void on(RecordedEvent<NoteUpdated> recorded) {
+        NoteUpdated event = recorded.event();
+        viewRepository.findById(event.getRecordId()).filter(viewDoc -> isNewer(viewDoc, recorded)).ifPresent(viewDoc -> {
             MedicalRecordViewDocument updatedDoc = new MedicalRecordViewDocument(
                 viewDoc.getId(),
                 viewDoc.getUserId(),
@@ -233,9 +294,14 @@ public class MedicalRecordViewListener {
                 viewDoc.getEndTime(),
                 viewDoc.getTreatmentProductId(),
                 viewDoc.getTreatmentProductName(),
-                viewDoc.getUserMemo()
+                viewDoc.getUserMemo(),
+                recorded.version()
             );
-            viewRepository.save(updatedDoc);
+            if (!saveIfNewer(updatedDoc)) {
+                return;
+            }
+            dashboardUseCase.evictHospital(updatedDoc.getHospitalId());
+            liveDashboardUseCase.apply(updatedDoc);
 
             // SSE 노트 업데이트 알림 발송
             try {
@@ -246,4 +312,25 @@ public class MedicalRecordViewListener {
             }
         });
     }
+
+    private static boolean isNewer(MedicalRecordViewDocument viewDoc, RecordedEvent<?> recorded) {
+        return viewDoc.getVersion() == null || viewDoc.getVersion() < recorded.version();
+    }
+
+    /**
+     * 뷰 모델에 반영된 버전보다 새 이벤트일 때만 저장하고, 저장했으면 true
+     * 아웃박스는 최소 한 번 전달하므로 이미 반영한 이벤트가 다시 오면 저장하지 않고 대시보드 반영과 알림도 건너뛴다.
+     * 조회 후 저장 사이에 다른 인스턴스가 먼저 반영할 수 있어 버전 조건을 붙여 덮어쓴다.
+     */
+    private boolean saveIfNewer(MedicalRecordViewDocument viewDoc) {
+        Query query = Query.query(Criteria.where("_id").is(viewDoc.getId()).and("version").not().gte(viewDoc.getVersion()));
+        try {
+            UpdateResult result = mongoTemplate.replace(query, viewDoc, ReplaceOptions.replaceOptions().upsert());
+            return result.getMatchedCount() > 0 || result.getUpsertedId() != null;
+        } catch (DuplicateKeyException e) {
+            // 이미 더 높은 버전이 반영된 문서가 있어 upsert 가 같은 id 로 insert 를 시도한 경우
+            log.info("이미 반영된 이벤트 건너뜀: recordId={}, version={}", viewDoc.getId(), viewDoc.getVersion());
+            return false;
+        }
+    }
 }
@@ -0,0 +1,56 @@
+package com.medops.adapter.out.event.listener;
+
+import com.medops.application.eventsourcing.event.Canceled;
+import com.medops.application.eventsourcing.event.RecordedEvent;
+import com.medops.application.eventsourcing.event.ReservationCreated;
+import com.medops.application.port.in.usecase.ReservationValidationUseCase;
+import com.medops.application.port.in.usecase.SlotAvailabilityUseCase;
+import com.medops.application.port.out.LoadMedicalRecordViewPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationSlotListener {
+
+    private final LoadMedicalRecordViewPort loadMedicalRecordViewPort;
+    private final ReservationValidationUseCase reservationValidationUseCase;
+    private final SlotAvailabilityUseCase slotAvailabilityUseCase;
+
+    /**
+     * 애플리케이션 시작시 슬롯 카운터와 예약 가능 슬롯 장부를 뷰 모델로부터 채움
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reservationValidationUseCase.warmUp();
+        slotAvailabilityUseCase.warmUp();
+    }
+
+    /**
+     * 생성된 예약이 차지하는 슬롯을 장부에 반영. 장부는 예약 ID 로 관리하므로 다시 전달되어도 한 번만 반영된다.
+     */
+    @EventListener
+    public void on(RecordedEvent<ReservationCreated> recorded) {
+        ReservationCreated event = recorded.event();
+        slotAvailabilityUseCase.book(event.getRecordId(), event.getTreatmentProductId(), event.getStartTime(), event.getEndTime());
+    }
+
+    /**
+     * 취소된 예약이 차지하던 슬롯을 반환. 취소 이벤트가 다시 전달되어도 예약 ID 로 한 번만 반환된다.
+     */
+    @EventListener
+    public void on(RecordedEvent<Canceled> recorded) {
+        Canceled event = recorded.event();
+        slotAvailabilityUseCase.release(event.getRecordId());
+        loadMedicalRecordViewPort.loadMedicalRecordById(event.getRecordId()).ifPresent(viewDoc -> {
+            reservationValidationUseCase.release(
+                event.getRecordId(), viewDoc.getTreatmentProductId(), viewDoc.getStartTime(), viewDoc.getEndTime()
+            );
+            log.info("예약 슬롯 반환 완료: recordId={}, treatmentProductId={}", event.getRecordId(), viewDoc.getTreatmentProductId());
+        });
+    }
+}
@@ -1,28 +1,115 @@
 package com.medops.adapter.out.persistence.eventstore.adapter;
 
+import com.medops.adapter.out.persistence.eventstore.append.GroupCommitEventAppender;
+import com.medops.adapter.out.persistence.eventstore.archive.MedicalRecordEventArchive;
 import com.medops.adapter.out.persistence.eventstore.registry.EventTypeRegistry;
+import com.medops.adapter.out.persistence.eventstore.sequence.EventPositionAllocator;
 import com.medops.adapter.out.persistence.mongodb.document.MedicalRecordEventDocument;
-import com.medops.adapter.out.persistence.mongodb.repository.MedicalRecordEventDocumentRepository;
 import com.medops.application.port.out.MedicalRecordEventStorePort;
 import com.medops.application.eventsourcing.event.MedicalRecordEvent;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.medops.application.eventsourcing.event.PositionedEvent;
+import com.medops.application.eventsourcing.event.StreamAppend;
+import com.medops.common.exception.EventVersionConflict;
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.Updates;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonBoolean;
+import org.bson.BsonDateTime;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonNull;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.conversions.Bson;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.UUID;
-import java.util.stream.Collectors;
 import java.util.Map;
+import java.util.UUID;
 
+/**
+ * 이벤트 저장소
+ * payload 는 EventTypeRegistry 에 등록된 이벤트별 코덱으로 직접 BSON 을 읽고 쓰며,
+ * 문서 구조는 MedicalRecordEventDocument 와 같아 이력 조회는 기존 리포지토리를 그대로 사용한다.
+ * 모든 이벤트에는 기록 묶음마다 예약한 전역 위치(position)를 붙여 위치 순으로 이어 읽을 수 있도록 한다.
+ * 보관소로 옮겨진 스트림은 보관된 이벤트를 이어 붙여 읽는다.
+ */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class MedicalRecordEventStoreAdapter  implements MedicalRecordEventStorePort {
 
-    private final MedicalRecordEventDocumentRepository repository;
-    private final ObjectMapper objectMapper;
+    private final MongoTemplate mongoTemplate;
     private final EventTypeRegistry eventTypeRegistry;
+    private final EventPositionAllocator eventPositionAllocator;
+    private final GroupCommitEventAppender groupCommitEventAppender;
+    private final MedicalRecordEventArchive medicalRecordEventArchive;
+
+    private static final int MAX_READ_BATCH_SIZE = 1_000;
+    private static final int BACKFILL_BATCH_SIZE = 500;
+
+    /**
+     * 위치 인덱스와 스트림 버전 고유 인덱스를 만들고, 위치가 없는 기존 이벤트에 기록 순서대로 위치를 채운다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializePositions() {
+        MongoCollection<BsonDocument> collection = eventCollection(BsonDocument.class);
+        collection.createIndex(Indexes.ascending("position"), new IndexOptions().name("position_idx").unique(true).sparse(true));
+        try {
+            // 같은 버전의 이벤트가 두 번 기록되지 않도록 하여 동시 명령의 버전 충돌을 감지
+            collection.createIndex(Indexes.ascending("recordId", "version"), new IndexOptions().name("record_version_idx").unique(true));
+        } catch (MongoException e) {
+            log.warn("이벤트 버전 고유 인덱스 생성 실패, 중복 버전 이벤트를 정리해야 합니다.", e);
+        }
+
+        int count = 0;
+        while (true) {
+            List<BsonValue> ids = new ArrayList<>(BACKFILL_BATCH_SIZE);
+            collection.find(Filters.exists("position", false))
+                .projection(Projections.include("_id"))
+                .sort(Sorts.ascending("createdAt", "recordId", "version"))
+                .limit(BACKFILL_BATCH_SIZE)
+                .forEach(document -> ids.add(document.get("_id")));
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            long[] positions = eventPositionAllocator.allocate(ids.size());
+            List<UpdateOneModel<BsonDocument>> updates = new ArrayList<>(ids.size());
+            for (int i = 0; i < ids.size(); i++) {
+                // 다른 인스턴스가 먼저 채운 이벤트는 건드리지 않는다
+                updates.add(new UpdateOneModel<>(
+                    Filters.and(Filters.eq("_id", ids.get(i)), Filters.exists("position", false)),
+                    Updates.set("position", positions[i])
+                ));
+            }
+            try {
+                collection.bulkWrite(updates);
+            } finally {
+                eventPositionAllocator.complete(positions);
+            }
+            count += ids.size();
+        }
+        if (count > 0) {
+            log.info("기존 이벤트 전역 위치 부여 완료: {}건", count);
+        }
+    }
 
     public void collectEvents(
         String recordId,
@@ -31,47 +118,217 @@ public class MedicalRecordEventStoreAdapter  implements MedicalRecordEventStoreP
         Integer version,
         Iterable<MedicalRecordEvent> events
     ) {
-        List<MedicalRecordEventDocument> documentsToSave = new ArrayList<>();
+        if (version > 1 && overlapsArchive(version, medicalRecordEventArchive.loadArchivedVersions(List.of(recordId)).get(recordId))) {
+            throw new EventVersionConflict();
+        }
+        List<BsonDocument> documentsToSave = toDocuments(recordId, hospitalId, userId, version, events, Instant.now());
+        // 전역 위치는 묶음 기록 시점에 붙는다
+        groupCommitEventAppender.append(documentsToSave);
+    }
+
+    @Override
+    public Map<String, RuntimeException> collectEventsBatch(List<StreamAppend> appends) {
+        Map<String, Integer> archivedVersions = medicalRecordEventArchive.loadArchivedVersions(appends.stream()
+            .filter(append -> append.version() > 1)
+            .map(StreamAppend::recordId)
+            .toList());
+
         Instant now = Instant.now();
+        Map<String, RuntimeException> failures = new HashMap<>();
+        List<StreamAppend> accepted = new ArrayList<>(appends.size());
+        List<List<BsonDocument>> documentsPerStream = new ArrayList<>(appends.size());
+        for (StreamAppend append : appends) {
+            if (overlapsArchive(append.version(), archivedVersions.get(append.recordId()))) {
+                failures.put(append.recordId(), new EventVersionConflict());
+                continue;
+            }
+            accepted.add(append);
+            documentsPerStream.add(toDocuments(append.recordId(), append.hospitalId(), append.userId(), append.version(), append.events(), now));
+        }
 
-        for (MedicalRecordEvent event : events) {
-            Map<String, Object> payload = objectMapper.convertValue(event, Map.class);
-
-            MedicalRecordEventDocument document = new MedicalRecordEventDocument(
-                UUID.randomUUID().toString(),
-                recordId,
-                now,
-                event.getClass().getSimpleName(),
-                hospitalId,
-                userId,
-                version,
-                event.getStatus(),
-                payload
-            );
-            documentsToSave.add(document);
-            version++;
+        // 여러 스트림의 이벤트를 한 번에 큐에 넣어 같은 insertMany 로 기록되도록 한다
+        List<RuntimeException> results = groupCommitEventAppender.appendAll(documentsPerStream);
+        for (int i = 0; i < accepted.size(); i++) {
+            if (results.get(i) != null) {
+                failures.put(accepted.get(i).recordId(), results.get(i));
+            }
         }
-        repository.saveAll(documentsToSave);
-        documentsToSave.forEach(doc -> System.out.println("  - " + doc.getEventType() + " (version: " + doc.getVersion() + ")"));
+        return failures;
     }
 
     public List<Object> queryEvents(String recordId, Integer fromVersion) {
-        List<MedicalRecordEventDocument> documents = repository.findAllByRecordIdAndVersionGreaterThanEqualOrderByVersionAsc(recordId, fromVersion);
-
-        List<Object> events = documents.stream()
-            .map(document -> {
-                try {
-                    Class<?> eventClass = eventTypeRegistry.getEventClass(document.getEventType());
-                    return objectMapper.convertValue(document.getPayload(), eventClass);
-                } catch (Exception e) {
-                    e.printStackTrace();
-                    return null;
+        List<RawBsonDocument> documents = eventCollection(RawBsonDocument.class)
+            .find(Filters.and(Filters.eq("recordId", recordId), Filters.gte("version", fromVersion)))
+            .projection(Projections.include("version", "eventType", "payload"))
+            .sort(Sorts.ascending("version"))
+            .into(new ArrayList<>());
+        if (needsArchivedEvents(documents, fromVersion)) {
+            documents = withArchivedEvents(documents, fromVersion, medicalRecordEventArchive.loadArchivedEvents(recordId));
+        }
+
+        // 건너뛴 이벤트가 있으면 복원한 버전이 실제보다 낮아지므로 변환 실패는 그대로 넘긴다
+        List<Object> events = new ArrayList<>(documents.size());
+        documents.forEach(document -> events.add(decode(document)));
+        log.debug("이벤트 조회: recordId={}, fromVersion={}, count={}", recordId, fromVersion, events.size());
+        return events;
+    }
+
+    @Override
+    public Map<String, List<MedicalRecordEvent>> queryEvents(Map<String, Integer> fromVersions) {
+        Map<String, List<MedicalRecordEvent>> eventsByRecord = new HashMap<>();
+        if (fromVersions.isEmpty()) {
+            return eventsByRecord;
+        }
+
+        // 스트림마다 시작 버전이 달라 $in 으로 함께 읽은 뒤 버전을 걸러낸다
+        int minVersion = Collections.min(fromVersions.values());
+        Map<String, List<RawBsonDocument>> documentsByRecord = new HashMap<>();
+        eventCollection(RawBsonDocument.class)
+            .find(Filters.and(Filters.in("recordId", fromVersions.keySet()), Filters.gte("version", minVersion)))
+            .projection(Projections.include("recordId", "version", "eventType", "payload"))
+            .sort(Sorts.ascending("recordId", "version"))
+            .forEach(document -> {
+                String recordId = document.getString("recordId").getValue();
+                if (document.getInt32("version").getValue() >= fromVersions.get(recordId)) {
+                    documentsByRecord.computeIfAbsent(recordId, key -> new ArrayList<>()).add(document);
                 }
-            })
-            .filter(java.util.Objects::nonNull)
-            .collect(Collectors.toList());
+            });
+
+        List<String> archivedRecordIds = fromVersions.keySet().stream()
+            .filter(recordId -> needsArchivedEvents(documentsByRecord.getOrDefault(recordId, List.of()), fromVersions.get(recordId)))
+            .toList();
+        Map<String, List<RawBsonDocument>> archivedEvents = medicalRecordEventArchive.loadArchivedEvents(archivedRecordIds);
+        archivedEvents.forEach((recordId, archived) -> documentsByRecord.put(
+            recordId,
+            withArchivedEvents(documentsByRecord.getOrDefault(recordId, List.of()), fromVersions.get(recordId), archived)
+        ));
+
+        documentsByRecord.forEach((recordId, documents) -> {
+            List<MedicalRecordEvent> events = new ArrayList<>(documents.size());
+            documents.forEach(document -> events.add(decode(document)));
+            eventsByRecord.put(recordId, events);
+        });
+        return eventsByRecord;
+    }
 
-        System.out.println("Queried " + events.size() + " events from MongoDB for streamId: " + recordId + " from version " + fromVersion);
+    @Override
+    public List<MedicalRecordEvent> queryEventsUntil(String recordId, Integer fromVersion, Instant until) {
+        BsonDateTime untilTime = new BsonDateTime(until.toEpochMilli());
+        List<RawBsonDocument> documents = eventCollection(RawBsonDocument.class)
+            .find(Filters.and(Filters.eq("recordId", recordId), Filters.gte("version", fromVersion), Filters.lte("createdAt", untilTime)))
+            .projection(Projections.include("version", "createdAt", "eventType", "payload"))
+            .sort(Sorts.ascending("version"))
+            .into(new ArrayList<>());
+        if (needsArchivedEvents(documents, fromVersion)) {
+            List<RawBsonDocument> archived = medicalRecordEventArchive.loadArchivedEvents(recordId).stream()
+                .filter(document -> document.getDateTime("createdAt").getValue() <= untilTime.getValue())
+                .toList();
+            documents = withArchivedEvents(documents, fromVersion, archived);
+        }
+
+        List<MedicalRecordEvent> events = new ArrayList<>(documents.size());
+        documents.forEach(document -> events.add(decode(document)));
         return events;
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<PositionedEvent> readAllFrom(long position, int batchSize) {
+        if (batchSize < 1 || batchSize > MAX_READ_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 이벤트 수는 1에서 " + MAX_READ_BATCH_SIZE + " 사이여야 합니다.");
+        }
+
+        // 아직 기록 중인 예약 구간 위의 이벤트를 먼저 돌려주면 소비자가 늦게 기록된 낮은 위치를 건너뛰게 된다
+        List<PositionedEvent> events = new ArrayList<>(batchSize);
+        Bson filter = Filters.and(Filters.gt("position", position), Filters.lt("position", eventPositionAllocator.readableBefore()));
+        for (RawBsonDocument document : eventCollection(RawBsonDocument.class)
+            .find(filter)
+            .sort(Sorts.ascending("position"))
+            .limit(batchSize)) {
+            String eventType = document.getString("eventType").getValue();
+            events.add(new PositionedEvent(
+                document.getInt64("position").getValue(),
+                document.getString("recordId").getValue(),
+                document.isString("hospitalId") ? document.getString("hospitalId").getValue() : null,
+                document.getInt32("version").getValue(),
+                Instant.ofEpochMilli(document.getDateTime("createdAt").getValue()),
+                eventTypeRegistry.decode(eventType, (RawBsonDocument) document.getDocument("payload"))
+            ));
+        }
+        return events;
+    }
+
+    private List<BsonDocument> toDocuments(
+        String recordId,
+        String hospitalId,
+        String userId,
+        Integer version,
+        Iterable<MedicalRecordEvent> events,
+        Instant now
+    ) {
+        List<BsonDocument> documents = new ArrayList<>();
+        for (MedicalRecordEvent event : events) {
+            documents.add(new BsonDocument()
+                .append("_id", new BsonString(UUID.randomUUID().toString()))
+                .append("recordId", bsonString(recordId))
+                .append("createdAt", new BsonDateTime(now.toEpochMilli()))
+                .append("eventType", new BsonString(event.getClass().getSimpleName()))
+                .append("hospitalId", bsonString(hospitalId))
+                .append("userId", bsonString(userId))
+                .append("version", new BsonInt32(version))
+                .append("status", bsonString(event.getStatus() != null ? event.getStatus().name() : null))
+                .append("payload", eventTypeRegistry.encode(event))
+                .append("dispatched", BsonBoolean.FALSE));
+            version++;
+        }
+        return documents;
+    }
+
+    /**
+     * 기록하려는 버전이 이미 보관소에 있는지 여부
+     * 스냅샷을 읽은 직후 스트림이 보관되면 이후 이벤트가 운영 컬렉션에서 사라져 새 이벤트가 없는 것으로 보인다.
+     * 이 상태로 기록하면 보관된 버전과 같은 버전이 운영 컬렉션에 생겨 스트림이 갈라지므로 버전 충돌로 거절한다.
+     * 보관은 보관 문서를 쓴 뒤 운영 컬렉션의 이벤트를 지우므로, 이벤트를 읽은 뒤의 이 확인에서는 보관 문서가 보인다.
+     */
+    private static boolean overlapsArchive(int version, Integer archivedVersion) {
+        return version > 1 && archivedVersion != null && version <= archivedVersion;
+    }
+
+    private MedicalRecordEvent decode(RawBsonDocument document) {
+        return eventTypeRegistry.decode(document.getString("eventType").getValue(), (RawBsonDocument) document.getDocument("payload"));
+    }
+
+    /**
+     * 보관소를 확인해야 하는지 여부
+     * 운영 컬렉션의 이벤트가 fromVersion 보다 뒤에서 시작하면 앞부분이 보관소로 옮겨진 스트림이다.
+     * 보관할 때 스냅샷도 함께 지우므로 스냅샷 이후(fromVersion > 1)를 읽는데 운영 컬렉션이 비어 있으면 새 이벤트가 없는 것이고,
+     * 스냅샷 없이 처음부터 읽는데 비어 있을 때만 스트림 전체가 보관되었을 수 있다.
+     */
+    private static boolean needsArchivedEvents(List<RawBsonDocument> hotEvents, int fromVersion) {
+        if (hotEvents.isEmpty()) {
+            return fromVersion <= 1;
+        }
+        return hotEvents.get(0).getInt32("version").getValue() > fromVersion;
+    }
+
+    private static List<RawBsonDocument> withArchivedEvents(List<RawBsonDocument> hotEvents, int fromVersion, List<RawBsonDocument> archivedEvents) {
+        int hotFromVersion = hotEvents.isEmpty() ? Integer.MAX_VALUE : hotEvents.get(0).getInt32("version").getValue();
+        List<RawBsonDocument> merged = new ArrayList<>(archivedEvents.size() + hotEvents.size());
+        for (RawBsonDocument archived : archivedEvents) {
+            int version = archived.getInt32("version").getValue();
+            if (version >= fromVersion && version < hotFromVersion) {
+                merged.add(archived);
+            }
+        }
+        merged.addAll(hotEvents);
+        return merged;
+    }
+
+    private <T> MongoCollection<T> eventCollection(Class<T> documentClass) {
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(MedicalRecordEventDocument.class))
+            .withDocumentClass(documentClass);
+    }
+
+    private static BsonValue bsonString(String value) {
+        return value != null ? new BsonString(value) : BsonNull.INSTANCE;
+    }
+}
@@ -0,0 +1,331 @@
+package com.medops.adapter.out.persistence.eventstore.append;
+
+import com.medops.adapter.out.persistence.eventstore.sequence.EventPositionAllocator;
+import com.medops.adapter.out.persistence.mongodb.document.MedicalRecordEventDocument;
+import com.medops.common.exception.EventAppendTimeout;
+import com.medops.common.exception.EventVersionConflict;
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.InsertManyOptions;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.bson.BsonValue;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 여러 명령 스레드의 이벤트 추가 요청을 짧은 시간 동안 모아 한 번의 insertMany 로 기록한다.
+ * 요청마다 future 를 두어 자신의 이벤트가 모두 기록되었는지, 버전 충돌이 났는지를 각각 돌려준다.
+ * 전역 위치는 묶음마다 기록 직전에 예약하고, 기록이 끝나면(실패해도) 예약을 완료 처리해 읽는 쪽의 low-watermark 를 올린다.
+ * 기록 스레드가 가져가기 전에 대기 시간이 지난 요청은 취소되어 기록되지 않으므로, 요청한 쪽은 EventAppendTimeout 을 받으면 기록되지 않았다고 보고 되돌릴 수 있다.
+ */
+@Slf4j
+@Component
+public class GroupCommitEventAppender {
+    private final MongoCollection<BsonDocument> collection;
+    private final EventPositionAllocator eventPositionAllocator;
+    private final long windowNanos;
+    private final int maxBatchEvents;
+    private final long timeoutMillis;
+    private final Thread writer;
+
+    private final BlockingQueue<AppendRequest> queue = new LinkedBlockingQueue<>();
+    private volatile boolean running = true;
+
+    private final AtomicLong batchCount = new AtomicLong();
+    private final AtomicLong eventCount = new AtomicLong();
+    private final AtomicLong conflictCount = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+
+    // 기록 스레드와 대기 시간이 지난 요청한 쪽 중 먼저 가져간 쪽만 처리한다
+    private record AppendRequest(List<BsonDocument> documents, CompletableFuture<Void> future, AtomicBoolean claimed) {
+        AppendRequest(List<BsonDocument> documents) {
+            this(documents, new CompletableFuture<>(), new AtomicBoolean());
+        }
+
+        boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+
+    public GroupCommitEventAppender(
+        MongoTemplate mongoTemplate,
+        EventPositionAllocator eventPositionAllocator,
+        @Value("${eventstore.group-commit.window-micros:2000}") long windowMicros,
+        @Value("${eventstore.group-commit.max-events:256}") int maxBatchEvents,
+        @Value("${eventstore.group-commit.timeout-millis:5000}") long timeoutMillis
+    ) {
+        this.collection = mongoTemplate.getCollection(mongoTemplate.getCollectionName(MedicalRecordEventDocument.class)).withDocumentClass(BsonDocument.class);
+        this.eventPositionAllocator = eventPositionAllocator;
+        this.windowNanos = TimeUnit.MICROSECONDS.toNanos(windowMicros);
+        this.maxBatchEvents = maxBatchEvents;
+        this.timeoutMillis = timeoutMillis;
+
+        this.writer = new Thread(this::runWriter, "event-group-commit");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * 한 스트림의 이벤트 문서를 기록하고 완료될 때까지 기다린다.
+     * 같은 (recordId, version) 이벤트가 이미 있으면 이 요청의 이벤트는 하나도 남기지 않고 EventVersionConflict 를 던진다.
+     */
+    public void append(List<BsonDocument> documents) {
+        if (documents.isEmpty()) {
+            return;
+        }
+        AppendRequest request = new AppendRequest(documents);
+        enqueue(List.of(request));
+        RuntimeException failure = await(request);
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * 여러 스트림의 이벤트 문서를 한꺼번에 넣어 같은 묶음으로 기록되도록 하고 모두 끝날 때까지 기다린다.
+     * 스트림별 결과를 같은 순서로 돌려주며 성공한 스트림은 null 이다.
+     */
+    public List<RuntimeException> appendAll(List<List<BsonDocument>> documentsPerStream) {
+        List<AppendRequest> requests = new ArrayList<>(documentsPerStream.size());
+        for (List<BsonDocument> documents : documentsPerStream) {
+            requests.add(documents.isEmpty() ? null : new AppendRequest(documents));
+        }
+        enqueue(requests.stream().filter(request -> request != null).toList());
+
+        List<RuntimeException> results = new ArrayList<>(requests.size());
+        for (AppendRequest request : requests) {
+            results.add(request != null ? await(request) : null);
+        }
+        return results;
+    }
+
+    private void enqueue(List<AppendRequest> requests) {
+        if (!running) {
+            throw new IllegalStateException("이벤트 저장소가 종료 중입니다.");
+        }
+        queue.addAll(requests);
+    }
+
+    /**
+     * 요청이 끝날 때까지 기다려 실패를 돌려주며 성공하면 null 이다.
+     * 대기 시간 안에 기록 스레드가 가져가지 않은 요청은 취소하고 EventAppendTimeout 을 돌려준다.
+     * 이미 기록 중인 요청은 결과가 확정되어야 되돌릴지 판단할 수 있으므로 끝날 때까지 기다린다.
+     */
+    private RuntimeException await(AppendRequest request) {
+        try {
+            try {
+                request.future().copy().orTimeout(timeoutMillis, TimeUnit.MILLISECONDS).join();
+            } catch (CompletionException e) {
+                if (!(e.getCause() instanceof TimeoutException) || !request.claim()) {
+                    request.future().join();
+                    return null;
+                }
+                timeoutCount.incrementAndGet();
+                return new EventAppendTimeout();
+            }
+            return null;
+        } catch (CompletionException e) {
+            return e.getCause() instanceof RuntimeException runtimeException ? runtimeException : e;
+        }
+    }
+
+    private void runWriter() {
+        List<AppendRequest> batch = new ArrayList<>();
+        // 종료 요청 후에도 큐에 남은 요청은 모두 기록하고 멈춘다
+        while (running || !queue.isEmpty()) {
+            try {
+                AppendRequest first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                int events = first.documents().size();
+
+                // 첫 요청이 들어온 뒤 window 동안 또는 maxBatchEvents 개가 찰 때까지 모은다
+                long deadline = System.nanoTime() + windowNanos;
+                while (events < maxBatchEvents) {
+                    long remaining = deadline - System.nanoTime();
+                    AppendRequest next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    events += next.documents().size();
+                }
+                // 요청한 쪽이 이미 취소한 요청은 기록하지 않는다
+                batch.removeIf(request -> !request.claim());
+                if (!batch.isEmpty()) {
+                    write(batch);
+                }
+            } catch (InterruptedException e) {
+                // 종료 대기 시간이 지나 중단된 경우 모으던 요청은 큐에 되돌려 shutdown 에서 실패 처리한다
+                queue.addAll(batch);
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Throwable e) {
+                // Error 로 기록 스레드가 끝나면 이후 요청이 모두 멈추므로 이 묶음만 실패시키고 계속 기록한다
+                log.error("이벤트 묶음 기록 실패: requests={}", batch.size(), e);
+                batch.forEach(request -> request.future().completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 새 요청을 받지 않고, 큐에 남은 요청을 기록한 뒤 기록 스레드를 멈춘다.
+     * 대기 시간 안에 끝나지 않으면 기록 스레드를 중단하고 남은 요청은 실패 처리한다.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        writer.join(timeoutMillis);
+        if (writer.isAlive()) {
+            writer.interrupt();
+            writer.join(timeoutMillis);
+        }
+        List<AppendRequest> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(request -> request.future().completeExceptionally(new IllegalStateException("이벤트 저장소가 종료 중입니다.")));
+        if (!remaining.isEmpty()) {
+            log.warn("종료로 기록하지 못한 이벤트 요청: {}건", remaining.size());
+        }
+    }
+
+    private void write(List<AppendRequest> batch) {
+        List<BsonDocument> documents = new ArrayList<>();
+        List<Integer> owners = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            for (BsonDocument document : batch.get(i).documents()) {
+                documents.add(document);
+                owners.add(i);
+            }
+        }
+
+        long[] positions = eventPositionAllocator.allocate(documents.size());
+        for (int i = 0; i < documents.size(); i++) {
+            documents.get(i).put("position", new BsonInt64(positions[i]));
+        }
+
+        batchCount.incrementAndGet();
+        eventCount.addAndGet(documents.size());
+        Map<Integer, RuntimeException> failures;
+        try {
+            failures = insert(documents, owners);
+        } finally {
+            completePositions(positions);
+        }
+
+        // 예약을 완료한 뒤에 알려야 요청한 쪽이 바로 이어 읽을 때 자신의 이벤트가 보인다
+        for (int i = 0; i < batch.size(); i++) {
+            RuntimeException failure = failures.get(i);
+            if (failure == null) {
+                batch.get(i).future().complete(null);
+            } else {
+                batch.get(i).future().completeExceptionally(failure);
+            }
+        }
+    }
+
+    /**
+     * 요청 순번별 실패를 돌려주며 모두 기록되면 비어 있다.
+     */
+    private Map<Integer, RuntimeException> insert(List<BsonDocument> documents, List<Integer> owners) {
+        try {
+            // 순서 없는 insertMany 는 실패한 문서가 있어도 나머지 문서를 계속 기록한다
+            collection.insertMany(documents, new InsertManyOptions().ordered(false));
+            return Map.of();
+        } catch (MongoBulkWriteException e) {
+            if (e.getWriteErrors().isEmpty()) {
+                throw e;
+            }
+            Map<Integer, RuntimeException> failures = new HashMap<>();
+            boolean[] failed = new boolean[documents.size()];
+            for (BulkWriteError error : e.getWriteErrors()) {
+                failed[error.getIndex()] = true;
+                failures.putIfAbsent(owners.get(error.getIndex()), toException(error));
+            }
+
+            // 일부 이벤트만 기록된 요청은 기록된 이벤트를 지워 스트림에 빈 버전이 생기지 않게 한다
+            List<BsonValue> orphanIds = new ArrayList<>();
+            for (int i = 0; i < documents.size(); i++) {
+                if (!failed[i] && failures.containsKey(owners.get(i))) {
+                    orphanIds.add(documents.get(i).get("_id"));
+                }
+            }
+            if (!orphanIds.isEmpty()) {
+                collection.deleteMany(Filters.in("_id", orphanIds));
+            }
+            return failures;
+        }
+    }
+
+    private void completePositions(long[] positions) {
+        try {
+            eventPositionAllocator.complete(positions);
+        } catch (Exception e) {
+            // 이벤트는 이미 기록되었으므로 요청을 실패시키지 않는다. 남은 예약은 만료되면 무시된다
+            log.warn("전역 위치 예약 완료 처리 실패: from={}", positions[0], e);
+        }
+    }
+
+    private RuntimeException toException(BulkWriteError error) {
+        // (recordId, version) 고유 인덱스 위반은 다른 요청이 같은 버전을 먼저 기록한 경우
+        if (ErrorCategory.fromErrorCode(error.getCode()) == ErrorCategory.DUPLICATE_KEY) {
+            conflictCount.incrementAndGet();
+            return new EventVersionConflict();
+        }
+        return new IllegalStateException("이벤트 기록 실패: " + error.getMessage());
+    }
+
+    public long getBatchCount() {
+        return batchCount.get();
+    }
+
+    public long getEventCount() {
+        return eventCount.get();
+    }
+
+    public long getConflictCount() {
+        return conflictCount.get();
+    }
+
+    public long getTimeoutCount() {
+        return timeoutCount.get();
+    }
+
+    public double getAverageBatchEvents() {
+        long batches = batchCount.get();
+        return batches == 0 ? 0.0 : (double) eventCount.get() / batches;
+    }
+
+    /**
+     * 주기적으로 묶음 기록 현황 기록
+     */
+    @Scheduled(initialDelay = 1, fixedDelay = 1, timeUnit = TimeUnit.MINUTES)
+    public void report() {
+        log.info("이벤트 묶음 기록 현황: batches={}, events={}, avgBatchEvents={}, conflicts={}, timeouts={}, queue={}",
+            getBatchCount(), getEventCount(), String.format("%.1f", getAverageBatchEvents()), getConflictCount(), getTimeoutCount(), queue.size());
+    }
+}
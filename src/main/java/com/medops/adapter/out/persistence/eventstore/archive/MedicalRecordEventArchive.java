@@ -0,0 +1,236 @@
+package com.medops.adapter.out.persistence.eventstore.archive;
+
+import com.medops.adapter.out.persistence.mongodb.document.MedicalRecordEventDocument;
+import com.medops.adapter.out.persistence.mongodb.document.MedicalRecordSnapshotDocument;
+import com.medops.application.port.out.ArchiveMedicalRecordEventPort;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.Sorts;
+import lombok.RequiredArgsConstructor;
+import org.bson.BsonBinary;
+import org.bson.BsonDateTime;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonNull;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.bson.conversions.Bson;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 종료된 예약 스트림의 보관소
+ * 스트림의 이벤트 문서를 버전 순으로 이어 붙인 BSON 을 gzip 으로 압축해 예약당 문서 하나로 저장한다.
+ * 보관된 이벤트도 이벤트 저장소와 이력 조회에서 운영 컬렉션의 이벤트와 같은 형태로 읽힌다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MedicalRecordEventArchive implements ArchiveMedicalRecordEventPort {
+    private static final String COLLECTION = "medops_medical_record_event_archive";
+    private static final Set<String> TERMINAL_EVENT_TYPES = Set.of("Canceled", "Completed");
+    // 아웃박스 전달 상태는 보관할 필요가 없다
+    private static final List<String> TRANSIENT_FIELDS = List.of("dispatched", "claimToken", "claimedUntil");
+    private static final BsonDocumentCodec BSON_DOCUMENT_CODEC = new BsonDocumentCodec();
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<String> findClosedRecordIds(Instant closedBefore, String afterRecordId, int limit) {
+        List<Bson> pipeline = new ArrayList<>();
+        pipeline.add(Aggregates.match(Filters.and(
+            Filters.in("eventType", TERMINAL_EVENT_TYPES),
+            Filters.lt("createdAt", new BsonDateTime(closedBefore.toEpochMilli()))
+        )));
+        pipeline.add(Aggregates.group("$recordId"));
+        if (afterRecordId != null) {
+            pipeline.add(Aggregates.match(Filters.gt("_id", afterRecordId)));
+        }
+        pipeline.add(Aggregates.sort(Sorts.ascending("_id")));
+        pipeline.add(Aggregates.limit(limit));
+
+        List<String> recordIds = new ArrayList<>(limit);
+        eventCollection(BsonDocument.class).aggregate(pipeline)
+            .forEach(document -> recordIds.add(document.getString("_id").getValue()));
+        return recordIds;
+    }
+
+    @Override
+    public boolean archive(String recordId, Instant closedBefore) {
+        List<RawBsonDocument> hotEvents = eventCollection(RawBsonDocument.class)
+            .find(Filters.eq("recordId", recordId))
+            .into(new ArrayList<>());
+        if (hotEvents.isEmpty()) {
+            return false;
+        }
+
+        long closedAt = 0;
+        boolean terminal = false;
+        for (RawBsonDocument event : hotEvents) {
+            long createdAt = event.getDateTime("createdAt").getValue();
+            if (createdAt >= closedBefore.toEpochMilli() || isPendingDispatch(event)) {
+                return false;
+            }
+            if (TERMINAL_EVENT_TYPES.contains(event.getString("eventType").getValue())) {
+                terminal = true;
+                closedAt = Math.max(closedAt, createdAt);
+            }
+        }
+        if (!terminal) {
+            return false;
+        }
+
+        // 이전에 보관한 뒤 다시 이어진 스트림이면 기존 보관분과 합친다
+        TreeMap<Integer, BsonDocument> eventsByVersion = new TreeMap<>();
+        loadArchivedEvents(recordId).forEach(event -> eventsByVersion.put(event.getInt32("version").getValue(), event));
+        List<BsonValue> hotIds = new ArrayList<>(hotEvents.size());
+        for (RawBsonDocument event : hotEvents) {
+            BsonDocument archived = BSON_DOCUMENT_CODEC.decode(event.asBsonReader(), DecoderContext.builder().build());
+            TRANSIENT_FIELDS.forEach(archived::remove);
+            eventsByVersion.put(archived.getInt32("version").getValue(), archived);
+            hotIds.add(event.get("_id"));
+        }
+
+        BsonDocument first = eventsByVersion.firstEntry().getValue();
+        BsonDocument archiveDocument = new BsonDocument()
+            .append("_id", new BsonString(recordId))
+            .append("hospitalId", first.get("hospitalId", BsonNull.INSTANCE))
+            .append("closedAt", new BsonDateTime(closedAt))
+            .append("archivedAt", new BsonDateTime(Instant.now().toEpochMilli()))
+            .append("eventCount", new BsonInt32(eventsByVersion.size()))
+            .append("lastVersion", new BsonInt32(eventsByVersion.lastKey()))
+            .append("events", new BsonBinary(compress(eventsByVersion.values())));
+
+        // 보관 문서를 먼저 쓰므로 도중에 실패해도 이벤트는 어느 한 쪽에 남고, 다시 실행하면 같은 결과가 된다
+        // 스냅샷이 남아 있으면 그 이후 이벤트는 운영 컬렉션에 있다고 보고 보관소를 확인하지 않으므로 이벤트보다 먼저 지운다
+        archiveCollection().replaceOne(Filters.eq("_id", recordId), archiveDocument, new ReplaceOptions().upsert(true));
+        mongoTemplate.getCollection(mongoTemplate.getCollectionName(MedicalRecordSnapshotDocument.class))
+            .deleteMany(Filters.eq("recordId", recordId));
+        eventCollection(BsonDocument.class).deleteMany(Filters.in("_id", hotIds));
+        return true;
+    }
+
+    /**
+     * 보관된 이벤트 문서를 버전 순으로 조회. 보관되지 않은 예약이면 비어있다.
+     */
+    public List<RawBsonDocument> loadArchivedEvents(String recordId) {
+        BsonDocument archiveDocument = archiveCollection().find(Filters.eq("_id", recordId)).first();
+        return archiveDocument != null ? decompress(archiveDocument.getBinary("events").getData()) : List.of();
+    }
+
+    public Map<String, List<RawBsonDocument>> loadArchivedEvents(Collection<String> recordIds) {
+        Map<String, List<RawBsonDocument>> eventsByRecord = new HashMap<>();
+        if (recordIds.isEmpty()) {
+            return eventsByRecord;
+        }
+        archiveCollection().find(Filters.in("_id", recordIds)).forEach(archiveDocument -> eventsByRecord.put(
+            archiveDocument.getString("_id").getValue(),
+            decompress(archiveDocument.getBinary("events").getData())
+        ));
+        return eventsByRecord;
+    }
+
+    /**
+     * 예약별로 보관된 마지막 버전. 보관되지 않은 예약은 담기지 않는다.
+     * 압축된 이벤트는 읽지 않고 lastVersion 만 가져온다.
+     */
+    public Map<String, Integer> loadArchivedVersions(Collection<String> recordIds) {
+        Map<String, Integer> versions = new HashMap<>();
+        if (recordIds.isEmpty()) {
+            return versions;
+        }
+        archiveCollection().find(Filters.in("_id", recordIds))
+            .projection(Projections.include("lastVersion"))
+            .forEach(archiveDocument -> versions.put(
+                archiveDocument.getString("_id").getValue(),
+                archiveDocument.getInt32("lastVersion").getValue()
+            ));
+        return versions;
+    }
+
+    /**
+     * 보관된 이벤트를 이력 조회용 문서로 변환
+     */
+    public List<MedicalRecordEventDocument> loadArchivedDocuments(String recordId) {
+        DocumentCodec documentCodec = new DocumentCodec();
+        List<MedicalRecordEventDocument> documents = new ArrayList<>();
+        for (RawBsonDocument event : loadArchivedEvents(recordId)) {
+            Document document = documentCodec.decode(event.asBsonReader(), DecoderContext.builder().build());
+            documents.add(mongoTemplate.getConverter().read(MedicalRecordEventDocument.class, document));
+        }
+        return documents;
+    }
+
+    private static boolean isPendingDispatch(BsonDocument event) {
+        BsonValue dispatched = event.get("dispatched");
+        return dispatched != null && dispatched.isBoolean() && !dispatched.asBoolean().getValue();
+    }
+
+    private static byte[] compress(Collection<BsonDocument> events) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            for (BsonDocument event : events) {
+                RawBsonDocument raw = event instanceof RawBsonDocument rawEvent ? rawEvent : new RawBsonDocument(event, BSON_DOCUMENT_CODEC);
+                ByteBuffer buffer = raw.getByteBuffer().asNIO();
+                byte[] encoded = new byte[buffer.remaining()];
+                buffer.get(encoded);
+                gzip.write(encoded);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static List<RawBsonDocument> decompress(byte[] compressed) {
+        byte[] data;
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            data = gzip.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        // BSON 문서는 앞 4바이트에 자신의 길이를 담고 있어 이어 붙인 문서를 순서대로 나눌 수 있다
+        List<RawBsonDocument> events = new ArrayList<>();
+        int offset = 0;
+        while (offset < data.length) {
+            int length = ByteBuffer.wrap(data, offset, 4).order(ByteOrder.LITTLE_ENDIAN).getInt();
+            events.add(new RawBsonDocument(data, offset, length));
+            offset += length;
+        }
+        return events;
+    }
+
+    private MongoCollection<BsonDocument> archiveCollection() {
+        return mongoTemplate.getCollection(COLLECTION).withDocumentClass(BsonDocument.class);
+    }
+
+    private <T> MongoCollection<T> eventCollection(Class<T> documentClass) {
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(MedicalRecordEventDocument.class))
+            .withDocumentClass(documentClass);
+    }
+}
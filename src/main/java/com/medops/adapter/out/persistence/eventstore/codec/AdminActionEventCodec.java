@@ -0,0 +1,62 @@
+package com.medops.adapter.out.persistence.eventstore.codec;
+
+import com.medops.application.eventsourcing.event.MedicalRecordEvent;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.DecoderContext;
+
+import java.util.function.Function;
+
+/**
+ * 관리자 정보만 담는 상태 변경 이벤트(Pending, Confirmed, Canceled, Completed) 코덱
+ * 상태는 생성자에서 정해지므로 저장된 status 는 읽지 않는다.
+ */
+public class AdminActionEventCodec<T extends MedicalRecordEvent> extends MedicalRecordEventCodec<T> {
+
+    @FunctionalInterface
+    public interface Factory<T> {
+        T create(String recordId, String adminId, String adminName);
+    }
+
+    private final Factory<T> factory;
+    private final Function<T, String> adminIdGetter;
+    private final Function<T, String> adminNameGetter;
+
+    public AdminActionEventCodec(
+        Class<T> eventClass,
+        Factory<T> factory,
+        Function<T, String> adminIdGetter,
+        Function<T, String> adminNameGetter
+    ) {
+        super(eventClass);
+        this.factory = factory;
+        this.adminIdGetter = adminIdGetter;
+        this.adminNameGetter = adminNameGetter;
+    }
+
+    @Override
+    protected void encodeFields(BsonWriter writer, T event) {
+        writeString(writer, "adminId", adminIdGetter.apply(event));
+        writeString(writer, "adminName", adminNameGetter.apply(event));
+    }
+
+    @Override
+    public T decode(BsonReader reader, DecoderContext decoderContext) {
+        String recordId = null;
+        String adminId = null;
+        String adminName = null;
+
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case "recordId" -> recordId = readString(reader);
+                case "adminId" -> adminId = readString(reader);
+                case "adminName" -> adminName = readString(reader);
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        return factory.create(recordId, adminId, adminName);
+    }
+}
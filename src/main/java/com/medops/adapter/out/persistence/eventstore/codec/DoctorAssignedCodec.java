@@ -0,0 +1,48 @@
+package com.medops.adapter.out.persistence.eventstore.codec;
+
+import com.medops.application.eventsourcing.event.DoctorAssigned;
+import com.medops.domain.enums.MedicalRecordStatus;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.DecoderContext;
+
+public class DoctorAssignedCodec extends MedicalRecordEventCodec<DoctorAssigned> {
+
+    public DoctorAssignedCodec() {
+        super(DoctorAssigned.class);
+    }
+
+    @Override
+    protected void encodeFields(BsonWriter writer, DoctorAssigned event) {
+        writeString(writer, "doctorId", event.getDoctorId());
+        writeString(writer, "doctorName", event.getDoctorName());
+        writeString(writer, "adminId", event.getAdminId());
+        writeString(writer, "adminName", event.getAdminName());
+    }
+
+    @Override
+    public DoctorAssigned decode(BsonReader reader, DecoderContext decoderContext) {
+        String recordId = null;
+        MedicalRecordStatus status = null;
+        String doctorId = null;
+        String doctorName = null;
+        String adminId = null;
+        String adminName = null;
+
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case "recordId" -> recordId = readString(reader);
+                case "status" -> status = readStatus(reader);
+                case "doctorId" -> doctorId = readString(reader);
+                case "doctorName" -> doctorName = readString(reader);
+                case "adminId" -> adminId = readString(reader);
+                case "adminName" -> adminName = readString(reader);
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        return new DoctorAssigned(recordId, status, doctorId, doctorName, adminId, adminName);
+    }
+}
@@ -0,0 +1,87 @@
+package com.medops.adapter.out.persistence.eventstore.codec;
+
+import com.medops.application.eventsourcing.event.MedicalRecordEvent;
+import com.medops.domain.enums.MedicalRecordStatus;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.EncoderContext;
+
+import java.time.Instant;
+
+/**
+ * 이벤트 필드를 Map 을 거치지 않고 BSON 으로 바로 쓰고 읽는 이벤트별 코덱
+ * 필드 이름과 값 형식은 기존 ObjectMapper 변환 결과와 같아 이미 저장된 이벤트도 그대로 읽을 수 있다.
+ */
+public abstract class MedicalRecordEventCodec<T extends MedicalRecordEvent> implements Codec<T> {
+    private final Class<T> eventClass;
+
+    protected MedicalRecordEventCodec(Class<T> eventClass) {
+        this.eventClass = eventClass;
+    }
+
+    public String eventType() {
+        return eventClass.getSimpleName();
+    }
+
+    @Override
+    public Class<T> getEncoderClass() {
+        return eventClass;
+    }
+
+    @Override
+    public void encode(BsonWriter writer, T event, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        writeString(writer, "recordId", event.getRecordId());
+        writeStatus(writer, "status", event.getStatus());
+        encodeFields(writer, event);
+        writer.writeEndDocument();
+    }
+
+    /**
+     * recordId, status 를 제외한 이벤트 고유 필드
+     */
+    protected abstract void encodeFields(BsonWriter writer, T event);
+
+    protected static void writeString(BsonWriter writer, String name, String value) {
+        if (value == null) {
+            writer.writeNull(name);
+        } else {
+            writer.writeString(name, value);
+        }
+    }
+
+    protected static void writeStatus(BsonWriter writer, String name, MedicalRecordStatus status) {
+        writeString(writer, name, status != null ? status.name() : null);
+    }
+
+    // 이력 조회 API 가 payload 를 그대로 내려주므로 기존과 같은 ISO-8601 문자열로 저장
+    protected static void writeInstant(BsonWriter writer, String name, Instant value) {
+        writeString(writer, name, value != null ? value.toString() : null);
+    }
+
+    protected static String readString(BsonReader reader) {
+        if (reader.getCurrentBsonType() == BsonType.NULL) {
+            reader.readNull();
+            return null;
+        }
+        return reader.readString();
+    }
+
+    protected static MedicalRecordStatus readStatus(BsonReader reader) {
+        String status = readString(reader);
+        return status != null ? MedicalRecordStatus.valueOf(status) : null;
+    }
+
+    protected static Instant readInstant(BsonReader reader) {
+        return switch (reader.getCurrentBsonType()) {
+            case NULL -> {
+                reader.readNull();
+                yield null;
+            }
+            case DATE_TIME -> Instant.ofEpochMilli(reader.readDateTime());
+            default -> Instant.parse(reader.readString());
+        };
+    }
+}
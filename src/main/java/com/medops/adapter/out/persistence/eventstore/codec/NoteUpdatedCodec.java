@@ -0,0 +1,39 @@
+package com.medops.adapter.out.persistence.eventstore.codec;
+
+import com.medops.application.eventsourcing.event.NoteUpdated;
+import com.medops.domain.enums.MedicalRecordStatus;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.DecoderContext;
+
+public class NoteUpdatedCodec extends MedicalRecordEventCodec<NoteUpdated> {
+
+    public NoteUpdatedCodec() {
+        super(NoteUpdated.class);
+    }
+
+    @Override
+    protected void encodeFields(BsonWriter writer, NoteUpdated event) {
+        writeString(writer, "note", event.getNote());
+    }
+
+    @Override
+    public NoteUpdated decode(BsonReader reader, DecoderContext decoderContext) {
+        String recordId = null;
+        MedicalRecordStatus status = null;
+        String note = null;
+
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case "recordId" -> recordId = readString(reader);
+                case "status" -> status = readStatus(reader);
+                case "note" -> note = readString(reader);
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        return new NoteUpdated(recordId, status, note);
+    }
+}
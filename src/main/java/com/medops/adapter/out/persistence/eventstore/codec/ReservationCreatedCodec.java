@@ -0,0 +1,59 @@
+package com.medops.adapter.out.persistence.eventstore.codec;
+
+import com.medops.application.eventsourcing.event.ReservationCreated;
+import com.medops.domain.enums.MedicalRecordStatus;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.DecoderContext;
+
+import java.time.Instant;
+
+public class ReservationCreatedCodec extends MedicalRecordEventCodec<ReservationCreated> {
+
+    public ReservationCreatedCodec() {
+        super(ReservationCreated.class);
+    }
+
+    @Override
+    protected void encodeFields(BsonWriter writer, ReservationCreated event) {
+        writeString(writer, "userId", event.getUserId());
+        writeString(writer, "hospitalId", event.getHospitalId());
+        writeString(writer, "treatmentProductId", event.getTreatmentProductId());
+        writeInstant(writer, "startTime", event.getStartTime());
+        writeInstant(writer, "endTime", event.getEndTime());
+        writeString(writer, "userMemo", event.getUserMemo());
+        writeString(writer, "note", event.getNote());
+    }
+
+    @Override
+    public ReservationCreated decode(BsonReader reader, DecoderContext decoderContext) {
+        String recordId = null;
+        MedicalRecordStatus status = null;
+        String userId = null;
+        String hospitalId = null;
+        String treatmentProductId = null;
+        Instant startTime = null;
+        Instant endTime = null;
+        String userMemo = null;
+        String note = null;
+
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case "recordId" -> recordId = readString(reader);
+                case "status" -> status = readStatus(reader);
+                case "userId" -> userId = readString(reader);
+                case "hospitalId" -> hospitalId = readString(reader);
+                case "treatmentProductId" -> treatmentProductId = readString(reader);
+                case "startTime" -> startTime = readInstant(reader);
+                case "endTime" -> endTime = readInstant(reader);
+                case "userMemo" -> userMemo = readString(reader);
+                case "note" -> note = readString(reader);
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        return new ReservationCreated(recordId, status, userId, hospitalId, treatmentProductId, startTime, endTime, userMemo, note);
+    }
+}
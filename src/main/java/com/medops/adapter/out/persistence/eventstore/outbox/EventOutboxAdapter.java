@@ -0,0 +1,129 @@
+package com.medops.adapter.out.persistence.eventstore.outbox;
+
+import com.medops.adapter.out.persistence.eventstore.registry.EventTypeRegistry;
+import com.medops.adapter.out.persistence.mongodb.document.MedicalRecordEventDocument;
+import com.medops.application.eventsourcing.event.OutboxEvent;
+import com.medops.application.port.out.EventOutboxPort;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.Updates;
+import lombok.RequiredArgsConstructor;
+import org.bson.BsonDateTime;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.conversions.Bson;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 이벤트 문서를 그대로 아웃박스로 사용
+ * 전달 여부(dispatched)를 이벤트와 같은 문서에 함께 기록하므로 트랜잭션 없이도 이벤트 저장과 아웃박스 등록이 원자적이다.
+ * dispatched 필드가 없는 기존 이벤트는 이미 전달된 것으로 본다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EventOutboxAdapter implements EventOutboxPort {
+
+    private final MongoTemplate mongoTemplate;
+    private final EventTypeRegistry eventTypeRegistry;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndex() {
+        eventCollection(BsonDocument.class).createIndex(
+            Indexes.ascending("dispatched", "position"),
+            new IndexOptions().name("outbox_idx").partialFilterExpression(Filters.eq("dispatched", false))
+        );
+    }
+
+    @Override
+    public List<OutboxEvent> claimPending(int batchSize, Instant createdBefore, Duration lease) {
+        Instant now = Instant.now();
+        Bson claimable = Filters.and(
+            Filters.eq("dispatched", false),
+            Filters.lt("createdAt", new BsonDateTime(createdBefore.toEpochMilli())),
+            Filters.or(Filters.exists("claimedUntil", false), Filters.lt("claimedUntil", new BsonDateTime(now.toEpochMilli())))
+        );
+
+        List<BsonValue> ids = new ArrayList<>(batchSize);
+        eventCollection(BsonDocument.class)
+            .find(claimable)
+            .projection(Projections.include("_id"))
+            .sort(Sorts.ascending("position"))
+            .limit(batchSize)
+            .forEach(document -> ids.add(document.get("_id")));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // 조회와 선점 사이에 다른 인스턴스가 가져간 이벤트는 조건에서 빠지므로 토큰으로 실제 선점한 것만 다시 읽는다
+        String claimToken = UUID.randomUUID().toString();
+        eventCollection(BsonDocument.class).updateMany(
+            Filters.and(Filters.in("_id", ids), claimable),
+            Updates.combine(
+                Updates.set("claimToken", claimToken),
+                Updates.set("claimedUntil", new BsonDateTime(now.plus(lease).toEpochMilli()))
+            )
+        );
+
+        List<OutboxEvent> events = new ArrayList<>(ids.size());
+        for (RawBsonDocument document : eventCollection(RawBsonDocument.class)
+            .find(Filters.eq("claimToken", claimToken))
+            .sort(Sorts.ascending("position"))) {
+            events.add(new OutboxEvent(
+                document.getString("_id").getValue(),
+                document.getString("recordId").getValue(),
+                document.getInt32("version").getValue(),
+                eventTypeRegistry.decode(document.getString("eventType").getValue(), (RawBsonDocument) document.getDocument("payload"))
+            ));
+        }
+        return events;
+    }
+
+    @Override
+    public void markDispatched(Collection<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        eventCollection(BsonDocument.class).updateMany(Filters.in("_id", eventIds), dispatched());
+    }
+
+    @Override
+    public boolean hasUndispatchedBefore(String recordId, int version) {
+        return eventCollection(BsonDocument.class).find(Filters.and(
+            Filters.eq("recordId", recordId),
+            Filters.lt("version", version),
+            Filters.eq("dispatched", false)
+        )).projection(Projections.include("_id")).first() != null;
+    }
+
+    @Override
+    public void markDispatched(String recordId, int fromVersion, int toVersion) {
+        eventCollection(BsonDocument.class).updateMany(
+            Filters.and(Filters.eq("recordId", recordId), Filters.gte("version", fromVersion), Filters.lte("version", toVersion)),
+            dispatched()
+        );
+    }
+
+    private static Bson dispatched() {
+        return Updates.combine(Updates.set("dispatched", true), Updates.unset("claimToken"), Updates.unset("claimedUntil"));
+    }
+
+    private <T> MongoCollection<T> eventCollection(Class<T> documentClass) {
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(MedicalRecordEventDocument.class))
+            .withDocumentClass(documentClass);
+    }
+}
@@ -1,27 +1,53 @@
 package com.medops.adapter.out.persistence.eventstore.registry;
 
+import com.medops.adapter.out.persistence.eventstore.codec.AdminActionEventCodec;
+import com.medops.adapter.out.persistence.eventstore.codec.DoctorAssignedCodec;
+import com.medops.adapter.out.persistence.eventstore.codec.MedicalRecordEventCodec;
+import com.medops.adapter.out.persistence.eventstore.codec.NoteUpdatedCodec;
+import com.medops.adapter.out.persistence.eventstore.codec.ReservationCreatedCodec;
 import com.medops.application.eventsourcing.event.*;
+import org.bson.RawBsonDocument;
 import org.springframework.stereotype.Component;
 
 import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
 public class EventTypeRegistry {
-    private static final Map<String, Class<? extends MedicalRecordEvent>> EVENT_TYPE_MAP = Map.of(
-        Canceled.class.getSimpleName(), Canceled.class,
-        Completed.class.getSimpleName(), Completed.class,
-        Confirmed.class.getSimpleName(), Confirmed.class,
-        DoctorAssigned.class.getSimpleName(), DoctorAssigned.class,
-        NoteUpdated.class.getSimpleName(), NoteUpdated.class,
-        Pending.class.getSimpleName(), Pending.class,
-        ReservationCreated.class.getSimpleName(), ReservationCreated.class
-    );
+    private static final Map<String, MedicalRecordEventCodec<? extends MedicalRecordEvent>> EVENT_CODEC_MAP = Stream.<MedicalRecordEventCodec<? extends MedicalRecordEvent>>of(
+        new AdminActionEventCodec<>(Canceled.class, Canceled::new, Canceled::getAdminId, Canceled::getAdminName),
+        new AdminActionEventCodec<>(Completed.class, Completed::new, Completed::getAdminId, Completed::getAdminName),
+        new AdminActionEventCodec<>(Confirmed.class, Confirmed::new, Confirmed::getAdminId, Confirmed::getAdminName),
+        new DoctorAssignedCodec(),
+        new NoteUpdatedCodec(),
+        new AdminActionEventCodec<>(Pending.class, Pending::new, Pending::getAdminId, Pending::getAdminName),
+        new ReservationCreatedCodec()
+    ).collect(Collectors.toUnmodifiableMap(MedicalRecordEventCodec::eventType, Function.identity()));
 
     public Class<? extends MedicalRecordEvent> getEventClass(String eventType) {
-        Class<? extends MedicalRecordEvent> eventClass = EVENT_TYPE_MAP.get(eventType);
-        if (eventClass == null) {
+        return getCodec(eventType).getEncoderClass();
+    }
+
+    public MedicalRecordEventCodec<? extends MedicalRecordEvent> getCodec(String eventType) {
+        MedicalRecordEventCodec<? extends MedicalRecordEvent> codec = EVENT_CODEC_MAP.get(eventType);
+        if (codec == null) {
             throw new IllegalArgumentException("Unknown event type: " + eventType);
         }
-        return eventClass;
+        return codec;
+    }
+
+    /**
+     * 이벤트를 코덱으로 바로 BSON 바이트에 기록
+     */
+    @SuppressWarnings("unchecked")
+    public RawBsonDocument encode(MedicalRecordEvent event) {
+        MedicalRecordEventCodec<MedicalRecordEvent> codec = (MedicalRecordEventCodec<MedicalRecordEvent>) getCodec(event.getClass().getSimpleName());
+        return new RawBsonDocument(event, codec);
+    }
+
+    public MedicalRecordEvent decode(String eventType, RawBsonDocument payload) {
+        return payload.decode(getCodec(eventType));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,124 @@
+package com.medops.adapter.out.persistence.eventstore.sequence;
+
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoWriteException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.result.UpdateResult;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 이벤트 로그 전역 위치 발급기
+ * 기록 묶음마다 필요한 만큼만 카운터에서 예약하고, 예약한 구간은 기록이 끝날 때까지 미완료 목록에 남겨 둔다.
+ * 여러 인스턴스가 동시에 기록하면 낮은 위치가 높은 위치보다 늦게 기록될 수 있으므로
+ * 읽는 쪽은 미완료 구간 중 가장 낮은 위치(low-watermark) 아래만 읽어 늦게 기록된 이벤트를 건너뛰지 않는다.
+ * 위치는 1부터 시작하며 중복되지 않고 증가한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EventPositionAllocator {
+    private static final String COLLECTION = "medops_event_sequences";
+    private static final String SEQUENCE_NAME = "medicalRecordEvents";
+
+    private final MongoTemplate mongoTemplate;
+
+    // 인스턴스가 기록 도중 종료되어 완료되지 않은 예약은 이 시간이 지나면 무시한다
+    @Value("${eventstore.position-reservation-timeout-seconds:60}")
+    private long reservationTimeoutSeconds = 60;
+
+    /**
+     * count 개의 위치를 순서대로 예약한다.
+     * 기록이 끝나면 성공 여부와 관계없이 complete 를 호출해야 이후 위치가 읽는 쪽에 보인다.
+     */
+    public long[] allocate(int count) {
+        MongoCollection<Document> sequences = mongoTemplate.getCollection(COLLECTION);
+        while (true) {
+            Document counter = sequences.find(Filters.eq("_id", SEQUENCE_NAME)).first();
+            long last = counter != null ? ((Number) counter.get("next")).longValue() : 0L;
+            if (counter != null && hasExpiredReservation(counter)) {
+                sequences.updateOne(
+                    Filters.eq("_id", SEQUENCE_NAME),
+                    Updates.pull("pending", Filters.lt("reservedAt", Date.from(expiryCutoff())))
+                );
+            }
+
+            // 카운터와 미완료 목록을 함께 바꿔야 하므로 읽은 값이 그대로일 때만 갱신하고 아니면 다시 시도한다
+            try {
+                UpdateResult result = sequences.updateOne(
+                    Filters.and(Filters.eq("_id", SEQUENCE_NAME), Filters.eq("next", last)),
+                    Updates.combine(
+                        Updates.set("next", last + count),
+                        Updates.push("pending", new Document("from", last + 1).append("reservedAt", new Date()))
+                    ),
+                    new UpdateOptions().upsert(counter == null)
+                );
+                if (result.getMatchedCount() == 0 && result.getUpsertedId() == null) {
+                    continue;
+                }
+            } catch (MongoWriteException e) {
+                // 다른 인스턴스가 카운터 문서를 먼저 만든 경우
+                if (e.getError().getCategory() == ErrorCategory.DUPLICATE_KEY) {
+                    continue;
+                }
+                throw e;
+            }
+
+            long[] positions = new long[count];
+            for (int i = 0; i < count; i++) {
+                positions[i] = last + 1 + i;
+            }
+            return positions;
+        }
+    }
+
+    /**
+     * 예약한 위치의 기록이 끝났음을 알린다.
+     */
+    public void complete(long[] positions) {
+        if (positions.length == 0) {
+            return;
+        }
+        mongoTemplate.getCollection(COLLECTION).updateOne(
+            Filters.eq("_id", SEQUENCE_NAME),
+            Updates.pull("pending", new Document("from", positions[0]))
+        );
+    }
+
+    /**
+     * 이 값보다 작은 위치는 기록이 모두 끝나 더 이상 새 이벤트가 끼어들지 않는다.
+     */
+    public long readableBefore() {
+        Document counter = mongoTemplate.getCollection(COLLECTION).find(Filters.eq("_id", SEQUENCE_NAME)).first();
+        if (counter == null) {
+            return 1;
+        }
+        long watermark = ((Number) counter.get("next")).longValue() + 1;
+        Instant cutoff = expiryCutoff();
+        for (Document reservation : counter.getList("pending", Document.class, List.of())) {
+            if (reservation.getDate("reservedAt").toInstant().isAfter(cutoff)) {
+                watermark = Math.min(watermark, ((Number) reservation.get("from")).longValue());
+            }
+        }
+        return watermark;
+    }
+
+    private boolean hasExpiredReservation(Document counter) {
+        Instant cutoff = expiryCutoff();
+        return counter.getList("pending", Document.class, List.of()).stream()
+            .anyMatch(reservation -> !reservation.getDate("reservedAt").toInstant().isAfter(cutoff));
+    }
+
+    private Instant expiryCutoff() {
+        return Instant.now().minusSeconds(reservationTimeoutSeconds);
+    }
+}
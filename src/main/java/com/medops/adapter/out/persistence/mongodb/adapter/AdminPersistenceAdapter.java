@@ -4,7 +4,10 @@ import com.medops.adapter.out.persistence.mongodb.converter.AdminConverter;
 import com.medops.adapter.out.persistence.mongodb.document.AdminDocument;
 import com.medops.adapter.out.persistence.mongodb.repository.AdminDocumentRepository;
 import com.medops.application.port.out.LoadAdminPort;
+import com.medops.application.port.out.PrincipalCachePort;
 import com.medops.application.port.out.SaveAdminPort;
+import com.medops.application.port.out.TokenVersionPort;
+import com.medops.domain.enums.TokenType;
 import com.medops.domain.model.Admin;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -18,12 +21,20 @@ public class AdminPersistenceAdapter implements SaveAdminPort, LoadAdminPort {
 
     private final AdminDocumentRepository adminDocumentRepository;
     private final AdminConverter adminConverter;
+    private final PrincipalCachePort principalCachePort;
+    private final TokenVersionPort tokenVersionPort;
 
     @Override
     public Admin saveAdmin(Admin admin) {
         AdminDocument savedAdminDocument = adminDocumentRepository.save(
             adminConverter.toDocument(admin)
         );
+        // 비밀번호 변경, 계정 활성화 등이 인증 캐시에 남아있지 않도록 비움
+        principalCachePort.evict(TokenType.ADMIN, admin.getId());
+        // 클레임 토큰은 저장소를 조회하지 않으므로 삭제된 관리자의 토큰은 버전을 올려 폐기
+        if (admin.isDeleted()) {
+            tokenVersionPort.increaseTokenVersion(admin.getId());
+        }
         return adminConverter.toDomain(savedAdminDocument);
     }
 
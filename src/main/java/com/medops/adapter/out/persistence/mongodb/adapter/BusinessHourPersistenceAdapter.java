@@ -7,6 +7,7 @@ import com.medops.application.port.out.LoadBusinessHourPort;
 import com.medops.application.port.out.SaveBusinessHourPort;
 import com.medops.domain.model.BusinessHour;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -18,6 +19,7 @@ public class BusinessHourPersistenceAdapter implements SaveBusinessHourPort, Loa
 
     private final BusinessHourDocumentRepository businessHourDocumentRepository;
     private final BusinessHourConverter businessHourConverter;
+    private final MongoTemplate mongoTemplate;
 
 
     @Override
@@ -28,11 +30,19 @@ public class BusinessHourPersistenceAdapter implements SaveBusinessHourPort, Loa
         return businessHourConverter.toDomain(savedBusinessHourDocument);
     }
 
+    /**
+     * 신규 영업시간을 한 번의 insertMany 로 저장
+     * 저장한 문서를 다시 도메인으로 변환하지 않아 병원 재조회가 발생하지 않는다.
+     */
+    @Override
+    public List<BusinessHour> saveAllBusinessHours(List<BusinessHour> businessHours) {
+        mongoTemplate.insertAll(businessHours.stream().map(businessHourConverter::toDocument).toList());
+        return businessHours;
+    }
+
     @Override
     public List<BusinessHour> loadBusinessHoursByHospitalId(String HospitalId) {
-        return businessHourDocumentRepository.findAllByHospitalId(HospitalId).stream().map(
-            businessHourConverter::toDomain
-        ).toList();
+        return businessHourConverter.toDomains(businessHourDocumentRepository.findAllByHospitalId(HospitalId));
     }
 
     @Override
@@ -0,0 +1,106 @@
+package com.medops.adapter.out.persistence.mongodb.adapter;
+
+import com.medops.adapter.out.persistence.mongodb.document.CustomerFirstVisitDocument;
+import com.medops.adapter.out.persistence.mongodb.document.MedicalRecordViewDocument;
+import com.medops.application.port.out.LoadCustomerVisitPort;
+import com.medops.application.port.out.SaveCustomerVisitPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CustomerVisitPersistenceAdapter implements LoadCustomerVisitPort, SaveCustomerVisitPort {
+    private static final int BULK_SIZE = 1000;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public long countFirstVisits(String hospitalId, Instant from, Instant to) {
+        Query query = Query.query(
+            Criteria.where("hospitalId").is(hospitalId)
+                .and("firstVisitAt").gte(from).lte(to)
+        );
+        return mongoTemplate.count(query, CustomerFirstVisitDocument.class);
+    }
+
+    @Override
+    public boolean hasFirstVisits() {
+        return mongoTemplate.exists(new Query(), CustomerFirstVisitDocument.class);
+    }
+
+    /**
+     * $min 으로 갱신하므로 이벤트 순서가 바뀌거나 중복 반영되어도 가장 이른 방문 시각이 남는다.
+     */
+    @Override
+    public void saveVisit(String hospitalId, String userId, Instant visitAt) {
+        mongoTemplate.upsert(
+            Query.query(Criteria.where("_id").is(firstVisitId(hospitalId, userId))),
+            firstVisitUpdate(hospitalId, userId, visitAt),
+            CustomerFirstVisitDocument.class
+        );
+    }
+
+    @Override
+    public void rebuildFirstVisits() {
+        Aggregation aggregation = Aggregation.newAggregation(
+            Aggregation.group("hospitalId", "userId").min("startTime").as("firstVisitAt")
+        );
+
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, CustomerFirstVisitDocument.class);
+        int pending = 0;
+        int total = 0;
+        try (Stream<Document> groups = mongoTemplate.aggregateStream(aggregation, MedicalRecordViewDocument.class, Document.class)) {
+            Iterator<Document> iterator = groups.iterator();
+            while (iterator.hasNext()) {
+                Document group = iterator.next();
+                Document id = group.get("_id", Document.class);
+                Date firstVisitAt = group.getDate("firstVisitAt");
+                if (id == null || id.getString("hospitalId") == null || id.getString("userId") == null || firstVisitAt == null) {
+                    continue;
+                }
+
+                String hospitalId = id.getString("hospitalId");
+                String userId = id.getString("userId");
+                bulkOperations.upsert(
+                    Query.query(Criteria.where("_id").is(firstVisitId(hospitalId, userId))),
+                    firstVisitUpdate(hospitalId, userId, firstVisitAt.toInstant())
+                );
+                total++;
+                if (++pending == BULK_SIZE) {
+                    bulkOperations.execute();
+                    bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, CustomerFirstVisitDocument.class);
+                    pending = 0;
+                }
+            }
+        }
+        if (pending > 0) {
+            bulkOperations.execute();
+        }
+        log.info("고객 첫 방문 색인 재구성 완료: 고객 수={}", total);
+    }
+
+    private Update firstVisitUpdate(String hospitalId, String userId, Instant visitAt) {
+        return new Update()
+            .min("firstVisitAt", visitAt)
+            .setOnInsert("hospitalId", hospitalId)
+            .setOnInsert("userId", userId);
+    }
+
+    private String firstVisitId(String hospitalId, String userId) {
+        return hospitalId + "_" + userId;
+    }
+}
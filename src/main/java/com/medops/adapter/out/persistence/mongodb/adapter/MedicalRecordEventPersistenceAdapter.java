@@ -1,6 +1,8 @@
 package com.medops.adapter.out.persistence.mongodb.adapter;
 
+import com.medops.adapter.out.persistence.eventstore.archive.MedicalRecordEventArchive;
 import com.medops.adapter.out.persistence.mongodb.converter.MedicalRecordEventConverter;
+import com.medops.adapter.out.persistence.mongodb.document.MedicalRecordEventDocument;
 import com.medops.adapter.out.persistence.mongodb.repository.MedicalRecordEventDocumentRepository;
 import com.medops.application.port.out.LoadMedicalRecordEventPort;
 import com.medops.domain.event.MedicalRecordEvent;
@@ -8,15 +10,26 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @Component
 @RequiredArgsConstructor
 public class MedicalRecordEventPersistenceAdapter implements LoadMedicalRecordEventPort {
     private final MedicalRecordEventDocumentRepository medicalRecordEventDocumentRepository;
     private final MedicalRecordEventConverter medicalRecordEventConverter;
+    private final MedicalRecordEventArchive medicalRecordEventArchive;
 
     @Override
     public List<MedicalRecordEvent> loadEventsByRecordId(String recordId) {
-        return medicalRecordEventDocumentRepository.getAllByRecordId(recordId).stream().map(medicalRecordEventConverter::toDomain).toList();
+        List<MedicalRecordEventDocument> documents = medicalRecordEventDocumentRepository.getAllByRecordId(recordId);
+        int hotFromVersion = documents.stream().mapToInt(MedicalRecordEventDocument::getVersion).min().orElse(Integer.MAX_VALUE);
+        if (hotFromVersion > 1) {
+            // 보관소로 옮겨진 이벤트를 앞에 이어 붙인다
+            List<MedicalRecordEventDocument> archived = medicalRecordEventArchive.loadArchivedDocuments(recordId).stream()
+                .filter(document -> document.getVersion() < hotFromVersion)
+                .toList();
+            documents = Stream.concat(archived.stream(), documents.stream()).toList();
+        }
+        return documents.stream().map(medicalRecordEventConverter::toDomain).toList();
     }
 }
@@ -7,21 +7,55 @@ import com.medops.application.port.out.LoadMedicalRecordSnapshotPort;
 import com.medops.application.port.out.SaveMedicalRecordSnapshotPort;
 import com.medops.domain.model.MedicalRecordSnapshot;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class MedicalRecordSnapshotPersistenceAdapter implements LoadMedicalRecordSnapshotPort, SaveMedicalRecordSnapshotPort {
     private final MedicalRecordSnapshotDocumentRepository medicalRecordSnapshotDocumentRepository;
     private final MedicalRecordSnapshotConverter medicalRecordSnapshotConverter;
+    private final MongoTemplate mongoTemplate;
 
     @Override
     public Optional<MedicalRecordSnapshot> loadMedicalRecordSnapshot(String id) {
         return medicalRecordSnapshotDocumentRepository.findLatestByRecordId(id).map(medicalRecordSnapshotConverter::toDomain);
     }
 
+    @Override
+    public Map<String, MedicalRecordSnapshot> loadLatestSnapshots(Collection<String> recordIds) {
+        if (recordIds.isEmpty()) {
+            return Map.of();
+        }
+        // 예약별로 버전이 가장 높은 스냅샷 하나만 남긴다
+        Aggregation aggregation = Aggregation.newAggregation(
+            Aggregation.match(Criteria.where("recordId").in(recordIds)),
+            Aggregation.sort(Sort.Direction.DESC, "version"),
+            Aggregation.group("recordId").first(Aggregation.ROOT).as("latest"),
+            Aggregation.replaceRoot("latest")
+        );
+        return mongoTemplate.aggregate(aggregation, MedicalRecordSnapshotDocument.class, MedicalRecordSnapshotDocument.class)
+            .getMappedResults().stream()
+            .map(medicalRecordSnapshotConverter::toDomain)
+            .collect(Collectors.toMap(MedicalRecordSnapshot::getRecordId, Function.identity()));
+    }
+
+    @Override
+    public Optional<MedicalRecordSnapshot> loadSnapshotAt(String recordId, Instant at) {
+        return medicalRecordSnapshotDocumentRepository.findTopByRecordIdAndCreatedAtLessThanEqualOrderByVersionDesc(recordId, at)
+            .map(medicalRecordSnapshotConverter::toDomain);
+    }
+
     @Override
     public MedicalRecordSnapshot SaveMedicalRecordSnapshot(MedicalRecordSnapshot snapshot) {
         MedicalRecordSnapshotDocument savedDocument = medicalRecordSnapshotDocumentRepository.save(
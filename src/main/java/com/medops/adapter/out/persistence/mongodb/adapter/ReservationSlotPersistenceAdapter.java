@@ -0,0 +1,204 @@
+package com.medops.adapter.out.persistence.mongodb.adapter;
+
+import com.medops.adapter.out.persistence.mongodb.document.MedicalRecordViewDocument;
+import com.medops.adapter.out.persistence.mongodb.document.ReservationSlotDocument;
+import com.medops.adapter.out.persistence.mongodb.repository.ReservationSlotDocumentRepository;
+import com.medops.application.port.out.LoadReservationSlotPort;
+import com.medops.application.port.out.SaveReservationSlotPort;
+import com.medops.domain.enums.MedicalRecordStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationSlotPersistenceAdapter implements LoadReservationSlotPort, SaveReservationSlotPort {
+    private static final long SLOT_MILLIS = Duration.ofMinutes(30).toMillis();
+    private static final int BULK_SIZE = 1000;
+
+    private final ReservationSlotDocumentRepository reservationSlotDocumentRepository;
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public int loadReservedCount(String treatmentProductId, Instant startTime, Instant endTime) {
+        List<String> slotIds = slotStartTimes(startTime, endTime).stream()
+            .map(slotStartTime -> slotId(treatmentProductId, slotStartTime))
+            .toList();
+
+        return reservationSlotDocumentRepository.findAllById(slotIds).stream()
+            .mapToInt(ReservationSlotDocument::getReservedCount)
+            .max()
+            .orElse(0);
+    }
+
+    @Override
+    public boolean reserveSlot(String treatmentProductId, Instant startTime, Instant endTime, int maxCapacity) {
+        if (maxCapacity <= 0) {
+            return false;
+        }
+
+        List<Instant> reservedSlots = new ArrayList<>();
+        for (Instant slotStartTime : slotStartTimes(startTime, endTime)) {
+            if (!increment(treatmentProductId, slotStartTime, maxCapacity)) {
+                // 일부 슬롯만 선점된 경우 되돌려서 카운터가 어긋나지 않도록 한다
+                reservedSlots.forEach(reserved -> decrement(treatmentProductId, reserved));
+                return false;
+            }
+            reservedSlots.add(slotStartTime);
+        }
+        return true;
+    }
+
+    @Override
+    public void releaseSlot(String recordId, String treatmentProductId, Instant startTime, Instant endTime) {
+        slotStartTimes(startTime, endTime).forEach(slotStartTime -> release(recordId, treatmentProductId, slotStartTime));
+    }
+
+    @Override
+    public boolean hasReservationSlots() {
+        return mongoTemplate.exists(new Query(), ReservationSlotDocument.class);
+    }
+
+    /**
+     * 지난 슬롯은 다시 예약되지 않으므로 끝나지 않은 예약만 모아 슬롯별 예약 수를 덮어쓴다.
+     */
+    @Override
+    public void rebuildSlots() {
+        Query query = Query.query(
+            Criteria.where("status").ne(MedicalRecordStatus.CANCELED)
+                .and("endTime").gt(Instant.now())
+        );
+
+        Map<String, SlotCount> slotCounts = new HashMap<>();
+        int records = 0;
+        try (Stream<MedicalRecordViewDocument> viewDocs = mongoTemplate.stream(query, MedicalRecordViewDocument.class)) {
+            Iterator<MedicalRecordViewDocument> iterator = viewDocs.iterator();
+            while (iterator.hasNext()) {
+                MedicalRecordViewDocument viewDoc = iterator.next();
+                if (viewDoc.getTreatmentProductId() == null || viewDoc.getStartTime() == null || viewDoc.getEndTime() == null) {
+                    continue;
+                }
+                for (Instant slotStartTime : slotStartTimes(viewDoc.getStartTime(), viewDoc.getEndTime())) {
+                    slotCounts.computeIfAbsent(
+                        slotId(viewDoc.getTreatmentProductId(), slotStartTime),
+                        id -> new SlotCount(viewDoc.getTreatmentProductId(), slotStartTime)
+                    ).count++;
+                }
+                records++;
+            }
+        }
+
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ReservationSlotDocument.class);
+        int pending = 0;
+        for (Map.Entry<String, SlotCount> entry : slotCounts.entrySet()) {
+            SlotCount slotCount = entry.getValue();
+            bulkOperations.upsert(
+                Query.query(Criteria.where("_id").is(entry.getKey())),
+                new Update()
+                    .set("reservedCount", slotCount.count)
+                    .setOnInsert("treatmentProductId", slotCount.treatmentProductId)
+                    .setOnInsert("slotStartTime", slotCount.slotStartTime)
+            );
+            if (++pending == BULK_SIZE) {
+                bulkOperations.execute();
+                bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ReservationSlotDocument.class);
+                pending = 0;
+            }
+        }
+        if (pending > 0) {
+            bulkOperations.execute();
+        }
+        log.info("예약 슬롯 카운터 재구성 완료: 예약 수={}, 슬롯 수={}", records, slotCounts.size());
+    }
+
+    /**
+     * 정원 미만일 때만 카운터를 1 증가시킨다.
+     * 정원이 가득 찬 슬롯은 조건에 맞지 않아 upsert 가 같은 id 로 insert 를 시도하므로 중복 키 에러로 실패한다.
+     */
+    private boolean increment(String treatmentProductId, Instant slotStartTime, int maxCapacity) {
+        Query query = Query.query(
+            Criteria.where("_id").is(slotId(treatmentProductId, slotStartTime))
+                .and("reservedCount").lt(maxCapacity)
+        );
+        Update update = new Update()
+            .inc("reservedCount", 1)
+            .setOnInsert("treatmentProductId", treatmentProductId)
+            .setOnInsert("slotStartTime", slotStartTime);
+
+        try {
+            mongoTemplate.upsert(query, update, ReservationSlotDocument.class);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    private void decrement(String treatmentProductId, Instant slotStartTime) {
+        Query query = Query.query(
+            Criteria.where("_id").is(slotId(treatmentProductId, slotStartTime))
+                .and("reservedCount").gt(0)
+        );
+        mongoTemplate.updateFirst(query, new Update().inc("reservedCount", -1), ReservationSlotDocument.class);
+    }
+
+    /**
+     * 반환 기록과 카운터 감소를 한 번의 갱신으로 처리해 같은 예약의 반환이 몇 번 들어와도 한 번만 감소한다.
+     */
+    private void release(String recordId, String treatmentProductId, Instant slotStartTime) {
+        Query query = Query.query(
+            Criteria.where("_id").is(slotId(treatmentProductId, slotStartTime))
+                .and("reservedCount").gt(0)
+                .and("releasedRecordIds").ne(recordId)
+        );
+        Update update = new Update()
+            .inc("reservedCount", -1)
+            .addToSet("releasedRecordIds", recordId);
+        mongoTemplate.updateFirst(query, update, ReservationSlotDocument.class);
+    }
+
+    /**
+     * 예약 시간 [startTime, endTime) 이 걸쳐 있는 30분 슬롯들의 시작 시각
+     */
+    private List<Instant> slotStartTimes(Instant startTime, Instant endTime) {
+        long start = startTime.toEpochMilli();
+        long slot = start - Math.floorMod(start, SLOT_MILLIS);
+        long end = Math.max(endTime.toEpochMilli(), start + 1);
+
+        List<Instant> slots = new ArrayList<>();
+        for (; slot < end; slot += SLOT_MILLIS) {
+            slots.add(Instant.ofEpochMilli(slot));
+        }
+        return slots;
+    }
+
+    private String slotId(String treatmentProductId, Instant slotStartTime) {
+        return treatmentProductId + "_" + slotStartTime.toEpochMilli();
+    }
+
+    private static class SlotCount {
+        private final String treatmentProductId;
+        private final Instant slotStartTime;
+        private int count;
+
+        private SlotCount(String treatmentProductId, Instant slotStartTime) {
+            this.treatmentProductId = treatmentProductId;
+            this.slotStartTime = slotStartTime;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.medops.application.port.out.LoadTreatmentProductPort;
 import com.medops.application.port.out.SaveTreatmentProductPort;
 import com.medops.domain.model.TreatmentProduct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
@@ -18,6 +19,7 @@ import java.util.Optional;
 public class TreatmentProductPersistenceAdapter implements LoadTreatmentProductPort, SaveTreatmentProductPort {
     private final TreatmentProductDocumentRepository treatmentProductDocumentRepository;
     private final TreatmentProductConverter treatmentProductConverter;
+    private final MongoTemplate mongoTemplate;
 
     @Override
     public TreatmentProduct saveTreatmentProduct(TreatmentProduct treatmentProduct) {
@@ -27,6 +29,15 @@ public class TreatmentProductPersistenceAdapter implements LoadTreatmentProductP
         return treatmentProductConverter.toDomain(savedDocument);
     }
 
+    /**
+     * 신규 시술 상품을 한 번의 insertMany 로 저장
+     */
+    @Override
+    public List<TreatmentProduct> saveAllTreatmentProducts(List<TreatmentProduct> treatmentProducts) {
+        mongoTemplate.insertAll(treatmentProducts.stream().map(treatmentProductConverter::toDocument).toList());
+        return treatmentProducts;
+    }
+
     @Override
     public void deleteTreatmentProduct(String treatmentProductId) {
         TreatmentProductDocument treatmentProduct = treatmentProductDocumentRepository.findById(treatmentProductId).orElseThrow();
@@ -3,7 +3,9 @@ package com.medops.adapter.out.persistence.mongodb.adapter;
 import com.medops.adapter.out.persistence.mongodb.converter.UserConverter;
 import com.medops.adapter.out.persistence.mongodb.repository.UserDocumentRepository;
 import com.medops.application.port.out.LoadUserPort;
+import com.medops.application.port.out.PrincipalCachePort;
 import com.medops.application.port.out.SaveUserPort;
+import com.medops.domain.enums.TokenType;
 import com.medops.domain.model.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -18,10 +20,12 @@ public class UserPersistenceAdapter implements SaveUserPort, LoadUserPort {
 
     private final UserDocumentRepository userDocumentRepository;
     private final UserConverter userConverter;
+    private final PrincipalCachePort principalCachePort;
 
     @Override
     public User saveUser(User user) {
         var savedUser = userDocumentRepository.save(userConverter.toDocument(user));
+        principalCachePort.evict(TokenType.USER, user.getId());
         return userConverter.toDomain(savedUser);
     }
 
@@ -7,6 +7,10 @@ import com.medops.domain.model.Hospital;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @Component
 @RequiredArgsConstructor
 public class BusinessHourConverter {
@@ -31,6 +35,24 @@ public class BusinessHourConverter {
             businessHourDocument.getHospitalId()
         ).orElseThrow(IllegalAccessError::new);
 
+        return toDomain(businessHourDocument, hospital);
+    }
+
+    /**
+     * 같은 병원의 영업시간 문서들을 변환할 때 병원은 한 번만 조회
+     */
+    public List<BusinessHour> toDomains(List<BusinessHourDocument> businessHourDocuments) {
+        Map<String, Hospital> hospitals = new HashMap<>();
+        return businessHourDocuments.stream().map(businessHourDocument -> toDomain(
+            businessHourDocument,
+            hospitals.computeIfAbsent(
+                businessHourDocument.getHospitalId(),
+                hospitalId -> loadHospitalPort.loadHospitalById(hospitalId).orElseThrow(IllegalAccessError::new)
+            )
+        )).toList();
+    }
+
+    private BusinessHour toDomain(BusinessHourDocument businessHourDocument, Hospital hospital) {
         return BusinessHour.builder()
             .id(businessHourDocument.getId())
             .hospital(hospital)
@@ -12,7 +12,8 @@ public class HospitalConverter {
             hospital.getId(),
             hospital.getName(),
             hospital.getAddress(),
-            hospital.getCreatedAt()
+            hospital.getCreatedAt(),
+            hospital.getZoneId()
         );
     }
     public Hospital toDomain(HospitalDocument document) {
@@ -21,6 +22,7 @@ public class HospitalConverter {
             .name(document.getName())
             .address(document.getAddress())
             .createdAt(document.getCreatedAt())
+            .zoneId(document.getZoneId())
             .build();
     }
 }
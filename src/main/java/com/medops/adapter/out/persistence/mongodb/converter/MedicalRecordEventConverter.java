@@ -25,6 +25,7 @@ public class MedicalRecordEventConverter {
             .version(document.getVersion())
             .status(document.getStatus())
             .payload(document.getPayload())
+            .position(document.getPosition())
             .build();
     }
 
@@ -50,7 +51,8 @@ public class MedicalRecordEventConverter {
             domainModel.getUserId(),
             domainModel.getVersion(),
             domainModel.getStatus(),
-            domainModel.getPayload()
+            domainModel.getPayload(),
+            domainModel.getPosition()
         );
         return document;
     }
@@ -0,0 +1,25 @@
+package com.medops.adapter.out.persistence.mongodb.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * 병원별 고객의 첫 방문 시각
+ * id 는 hospitalId 와 userId 로 구성되어 병원/고객당 하나의 문서만 존재한다.
+ */
+@Getter
+@AllArgsConstructor
+@Document("medops_customer_first_visit")
+@CompoundIndex(name = "hospital_first_visit_idx", def = "{'hospitalId': 1, 'firstVisitAt': 1}")
+public class CustomerFirstVisitDocument {
+    @Id
+    private String id;
+    private String hospitalId;
+    private String userId;
+    private Instant firstVisitAt;
+}
@@ -16,4 +16,5 @@ public class HospitalDocument {
     private String name;
     private String address;
     private Instant createdAt;
+    private String zoneId;
 }
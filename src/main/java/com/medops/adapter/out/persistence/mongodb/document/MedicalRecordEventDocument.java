@@ -26,4 +26,7 @@ public class MedicalRecordEventDocument {
     private MedicalRecordStatus status;
 
     private Map<String, Object> payload;
+
+    // 전역 이벤트 로그 위치 (인덱스는 MedicalRecordEventStoreAdapter 가 생성)
+    private Long position;
 }
\ No newline at end of file
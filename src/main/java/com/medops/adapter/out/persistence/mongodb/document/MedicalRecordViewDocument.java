@@ -28,5 +28,7 @@ public class MedicalRecordViewDocument {
     private final String treatmentProductId;
     private final String treatmentProductName;
     private final String userMemo;
+    // 마지막으로 반영한 이벤트의 스트림 버전. 다시 전달되거나 늦게 도착한 이벤트를 걸러낸다
+    private final Integer version;
 
 }
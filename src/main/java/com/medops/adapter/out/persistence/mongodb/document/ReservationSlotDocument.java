@@ -0,0 +1,28 @@
+package com.medops.adapter.out.persistence.mongodb.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 시술 상품별 30분 단위 슬롯의 예약 수 카운터
+ * id 는 treatmentProductId 와 슬롯 시작 시각으로 구성되어 슬롯당 하나의 문서만 존재한다.
+ */
+@Getter
+@AllArgsConstructor
+@Document("medops_reservation_slot")
+@CompoundIndex(name = "treatment_product_slot_idx", def = "{'treatmentProductId': 1, 'slotStartTime': 1}")
+public class ReservationSlotDocument {
+    @Id
+    private String id;
+    private String treatmentProductId;
+    private Instant slotStartTime;
+    private int reservedCount;
+    // 이 슬롯을 이미 반환한 예약. 취소 이벤트가 다시 전달되어도 카운터를 두 번 줄이지 않는다
+    private List<String> releasedRecordIds;
+}
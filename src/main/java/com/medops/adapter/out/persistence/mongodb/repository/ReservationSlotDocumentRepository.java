@@ -0,0 +1,7 @@
+package com.medops.adapter.out.persistence.mongodb.repository;
+
+import com.medops.adapter.out.persistence.mongodb.document.ReservationSlotDocument;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface ReservationSlotDocumentRepository extends MongoRepository<ReservationSlotDocument, String> {
+}
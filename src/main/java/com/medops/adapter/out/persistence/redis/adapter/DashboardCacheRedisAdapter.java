@@ -0,0 +1,71 @@
+package com.medops.adapter.out.persistence.redis.adapter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.medops.adapter.out.persistence.redis.repository.DashboardCacheRedisRepository;
+import com.medops.application.port.out.DashboardCachePort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 여러 인스턴스가 세대와 계산 결과를 공유하는 대시보드 캐시
+ * 한 인스턴스에서 예약 변경을 반영하면 세대가 올라가 다른 인스턴스의 캐시도 함께 무효화된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "dashboard.cache.store", havingValue = "redis")
+public class DashboardCacheRedisAdapter implements DashboardCachePort {
+
+    private final DashboardCacheRedisRepository dashboardCacheRedisRepository;
+    private final ObjectMapper objectMapper;
+    private final Duration snapshotTtl;
+
+    public DashboardCacheRedisAdapter(
+        DashboardCacheRedisRepository dashboardCacheRedisRepository,
+        ObjectMapper objectMapper,
+        @Value("${dashboard.cache.ttl-seconds:300}") long ttlSeconds
+    ) {
+        this.dashboardCacheRedisRepository = dashboardCacheRedisRepository;
+        this.objectMapper = objectMapper;
+        this.snapshotTtl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    @Override
+    public long loadGeneration(String hospitalId) {
+        return dashboardCacheRedisRepository.getGeneration(hospitalId);
+    }
+
+    @Override
+    public void increaseGeneration(String hospitalId) {
+        dashboardCacheRedisRepository.increaseGeneration(hospitalId);
+    }
+
+    @Override
+    public <T> Optional<T> loadSnapshot(String key, TypeReference<T> type) {
+        String json = dashboardCacheRedisRepository.getSnapshot(key);
+        if (json == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(json, type));
+        } catch (JsonProcessingException e) {
+            log.warn("대시보드 캐시 역직렬화 실패: key={}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void saveSnapshot(String key, Object value) {
+        try {
+            dashboardCacheRedisRepository.saveSnapshot(key, objectMapper.writeValueAsString(value), snapshotTtl);
+        } catch (JsonProcessingException e) {
+            log.warn("대시보드 캐시 직렬화 실패: key={}", key, e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.medops.adapter.out.persistence.redis.adapter;
+
+import com.medops.adapter.out.persistence.redis.repository.DistinctCustomerRedisRepository;
+import com.medops.application.port.out.DistinctCustomerPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+@Component
+@ConditionalOnProperty(name = "dashboard.unique-customers.store", havingValue = "redis")
+public class DistinctCustomerRedisAdapter implements DistinctCustomerPort {
+
+    private final DistinctCustomerRedisRepository distinctCustomerRedisRepository;
+    private final Duration retention;
+
+    public DistinctCustomerRedisAdapter(
+        DistinctCustomerRedisRepository distinctCustomerRedisRepository,
+        @Value("${dashboard.unique-customers.retention-days:400}") int retentionDays
+    ) {
+        this.distinctCustomerRedisRepository = distinctCustomerRedisRepository;
+        this.retention = Duration.ofDays(retentionDays);
+    }
+
+    @Override
+    public void addCustomer(String hospitalId, LocalDate date, String userId) {
+        distinctCustomerRedisRepository.add(hospitalId, date, userId, retention);
+    }
+
+    @Override
+    public long countDistinctCustomers(String hospitalId, LocalDate from, LocalDate to) {
+        return distinctCustomerRedisRepository.count(hospitalId, from, to);
+    }
+}
@@ -0,0 +1,129 @@
+package com.medops.adapter.out.persistence.redis.adapter;
+
+import com.medops.adapter.out.persistence.redis.repository.IdempotencyRedisRepository;
+import com.medops.application.port.out.IdempotencyPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 여러 인스턴스가 공유하는 멱등 요청 저장소
+ * 한 번 저장된 결과는 바뀌지 않으므로 인스턴스 메모리에 앞단 캐시를 두어 연속된 재시도는 Redis 를 거치지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "idempotency.store", havingValue = "redis")
+public class IdempotencyRedisAdapter implements IdempotencyPort {
+
+    private final IdempotencyRedisRepository idempotencyRedisRepository;
+    private final long localTtlNanos;
+    private final int localMaxSize;
+
+    private final Map<String, Entry> localResults = new ConcurrentHashMap<>();
+    private final AtomicLong localHitCount = new AtomicLong();
+    private final AtomicLong remoteHitCount = new AtomicLong();
+
+    private record Entry(String result, long expiresAtNanos) {}
+
+    public IdempotencyRedisAdapter(
+        IdempotencyRedisRepository idempotencyRedisRepository,
+        @Value("${idempotency.local-cache.ttl-seconds:60}") long localTtlSeconds,
+        @Value("${idempotency.local-cache.max-size:10000}") int localMaxSize
+    ) {
+        this.idempotencyRedisRepository = idempotencyRedisRepository;
+        this.localTtlNanos = Duration.ofSeconds(localTtlSeconds).toNanos();
+        this.localMaxSize = localMaxSize;
+    }
+
+    @Override
+    public Optional<String> loadResult(String key) {
+        Entry entry = localResults.get(key);
+        if (entry != null) {
+            if (entry.expiresAtNanos() - System.nanoTime() > 0) {
+                localHitCount.incrementAndGet();
+                return Optional.of(entry.result());
+            }
+            localResults.remove(key, entry);
+        }
+
+        String result = idempotencyRedisRepository.getResult(key);
+        if (result == null) {
+            return Optional.empty();
+        }
+        remoteHitCount.incrementAndGet();
+        putLocal(key, result);
+        return Optional.of(result);
+    }
+
+    @Override
+    public boolean reserve(String key, String fingerprint, Duration ttl) {
+        return idempotencyRedisRepository.reserve(key, fingerprint, ttl);
+    }
+
+    @Override
+    public Optional<String> loadReservedFingerprint(String key) {
+        return Optional.ofNullable(idempotencyRedisRepository.getReservedFingerprint(key));
+    }
+
+    @Override
+    public boolean extend(String key, Duration ttl) {
+        return idempotencyRedisRepository.extend(key, ttl);
+    }
+
+    @Override
+    public void saveResult(String key, String result, Duration ttl) {
+        idempotencyRedisRepository.saveResult(key, result, ttl);
+        putLocal(key, result);
+    }
+
+    @Override
+    public void release(String key) {
+        idempotencyRedisRepository.release(key);
+    }
+
+    public long getLocalHitCount() {
+        return localHitCount.get();
+    }
+
+    public long getRemoteHitCount() {
+        return remoteHitCount.get();
+    }
+
+    private void putLocal(String key, String result) {
+        if (localResults.size() >= localMaxSize) {
+            removeExpired();
+            // 만료된 항목을 지워도 가득 차 있으면 임의의 항목을 하나 내보낸다
+            Iterator<String> iterator = localResults.keySet().iterator();
+            while (localResults.size() >= localMaxSize && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+        localResults.put(key, new Entry(result, System.nanoTime() + localTtlNanos));
+    }
+
+    private void removeExpired() {
+        long now = System.nanoTime();
+        localResults.values().removeIf(entry -> entry.expiresAtNanos() - now <= 0);
+    }
+
+    /**
+     * 주기적으로 만료된 항목 정리 및 적중 현황 기록
+     */
+    @Scheduled(initialDelay = 1, fixedDelay = 1, timeUnit = TimeUnit.MINUTES)
+    public void cleanupAndReport() {
+        removeExpired();
+        log.info("멱등 요청 캐시 상태: size={}, localHit={}, remoteHit={}",
+            localResults.size(), getLocalHitCount(), getRemoteHitCount());
+    }
+}
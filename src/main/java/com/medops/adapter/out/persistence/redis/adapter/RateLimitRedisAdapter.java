@@ -0,0 +1,36 @@
+package com.medops.adapter.out.persistence.redis.adapter;
+
+import com.medops.adapter.out.persistence.redis.repository.RateLimitRedisRepository;
+import com.medops.application.port.out.RateLimitPort;
+import com.medops.domain.model.RateLimitRule;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "security.rate-limit.store", havingValue = "redis")
+public class RateLimitRedisAdapter implements RateLimitPort {
+
+    private final RateLimitRedisRepository rateLimitRedisRepository;
+
+    @Override
+    public long tryAcquire(String key, RateLimitRule rule) {
+        try {
+            return rateLimitRedisRepository.acquire(
+                key,
+                System.currentTimeMillis(),
+                TimeUnit.NANOSECONDS.toMillis(rule.emissionIntervalNanos()),
+                TimeUnit.NANOSECONDS.toMillis(rule.burstToleranceNanos())
+            );
+        } catch (RuntimeException e) {
+            // 한도 저장소 장애로 서비스 전체가 막히지 않도록 허용 처리
+            log.warn("요청 한도 확인 실패, 요청을 허용합니다: key={}", key, e);
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.medops.adapter.out.persistence.redis.adapter;
+
+import com.medops.adapter.out.persistence.redis.repository.TokenVersionRedisRepository;
+import com.medops.application.port.out.TokenVersionPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "security.token.version-store", havingValue = "redis")
+public class TokenVersionRedisAdapter implements TokenVersionPort {
+
+    private final TokenVersionRedisRepository tokenVersionRedisRepository;
+
+    @Override
+    public long loadTokenVersion(String adminId) {
+        return tokenVersionRedisRepository.get(adminId);
+    }
+
+    @Override
+    public void increaseTokenVersion(String adminId) {
+        tokenVersionRedisRepository.increase(adminId);
+    }
+}
@@ -0,0 +1,39 @@
+package com.medops.adapter.out.persistence.redis.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+
+@Repository
+@RequiredArgsConstructor
+public class DashboardCacheRedisRepository {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public long getGeneration(String hospitalId) {
+        String generation = redisTemplate.opsForValue().get(generationKey(hospitalId));
+        return generation != null ? Long.parseLong(generation) : 0L;
+    }
+
+    public void increaseGeneration(String hospitalId) {
+        redisTemplate.opsForValue().increment(generationKey(hospitalId));
+    }
+
+    public String getSnapshot(String key) {
+        return redisTemplate.opsForValue().get(snapshotKey(key));
+    }
+
+    public void saveSnapshot(String key, String json, Duration ttl) {
+        redisTemplate.opsForValue().set(snapshotKey(key), json, ttl);
+    }
+
+    private String generationKey(String hospitalId) {
+        return hospitalId + ":dashboardGeneration";
+    }
+
+    private String snapshotKey(String key) {
+        return key + ":dashboardSnapshot";
+    }
+}
@@ -0,0 +1,42 @@
+package com.medops.adapter.out.persistence.redis.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class DistinctCustomerRedisRepository {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public void add(String hospitalId, LocalDate date, String userId, Duration retention) {
+        String key = key(hospitalId, date);
+        redisTemplate.opsForHyperLogLog().add(key, userId);
+        redisTemplate.expire(key, retention);
+    }
+
+    /**
+     * PFCOUNT 에 여러 키를 넘기면 합집합의 추정치를 계산한다
+     */
+    public long count(String hospitalId, LocalDate from, LocalDate to) {
+        List<String> keys = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            keys.add(key(hospitalId, date));
+        }
+        if (keys.isEmpty()) {
+            return 0L;
+        }
+        Long size = redisTemplate.opsForHyperLogLog().size(keys.toArray(String[]::new));
+        return size != null ? size : 0L;
+    }
+
+    private String key(String hospitalId, LocalDate date) {
+        return hospitalId + ":" + date + ":customers";
+    }
+}
@@ -0,0 +1,65 @@
+package com.medops.adapter.out.persistence.redis.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyRedisRepository {
+
+    // 처리 중인 키는 이 접두어 뒤에 요청 지문을 붙여 저장한다. 결과는 JSON 으로 저장되므로 겹치지 않는다
+    private static final String IN_PROGRESS = "IN_PROGRESS:";
+
+    // 확인과 만료 연장 사이에 결과가 저장되면 결과의 만료가 짧아지므로 한 번에 실행한다
+    private static final RedisScript<Long> EXTEND_SCRIPT = new DefaultRedisScript<>(
+        "local value = redis.call('GET', KEYS[1]) " +
+        "if value and string.sub(value, 1, string.len(ARGV[1])) == ARGV[1] then " +
+        "return redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+        "end " +
+        "return 0",
+        Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public String getResult(String key) {
+        String value = redisTemplate.opsForValue().get(idempotencyKey(key));
+        return value == null || value.startsWith(IN_PROGRESS) ? null : value;
+    }
+
+    public boolean reserve(String key, String fingerprint, Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(idempotencyKey(key), IN_PROGRESS + fingerprint, ttl));
+    }
+
+    public String getReservedFingerprint(String key) {
+        String value = redisTemplate.opsForValue().get(idempotencyKey(key));
+        return value != null && value.startsWith(IN_PROGRESS) ? value.substring(IN_PROGRESS.length()) : null;
+    }
+
+    public boolean extend(String key, Duration ttl) {
+        Long extended = redisTemplate.execute(EXTEND_SCRIPT, List.of(idempotencyKey(key)), IN_PROGRESS, String.valueOf(ttl.toMillis()));
+        return extended != null && extended == 1L;
+    }
+
+    public void saveResult(String key, String result, Duration ttl) {
+        redisTemplate.opsForValue().set(idempotencyKey(key), result, ttl);
+    }
+
+    public void release(String key) {
+        String redisKey = idempotencyKey(key);
+        String value = redisTemplate.opsForValue().get(redisKey);
+        if (value != null && value.startsWith(IN_PROGRESS)) {
+            redisTemplate.delete(redisKey);
+        }
+    }
+
+    private String idempotencyKey(String key) {
+        return key + ":idempotency";
+    }
+}
@@ -0,0 +1,44 @@
+package com.medops.adapter.out.persistence.redis.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class RateLimitRedisRepository {
+
+    // 다음 토큰 도착 시각을 읽고 갱신하는 과정을 한 번에 실행하여 인스턴스 간 경쟁을 막는다
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+        "local now = tonumber(ARGV[1]) " +
+        "local interval = tonumber(ARGV[2]) " +
+        "local tolerance = tonumber(ARGV[3]) " +
+        "local tat = tonumber(redis.call('GET', KEYS[1]) or now) " +
+        "if tat < now then tat = now end " +
+        "local allowAt = tat - tolerance " +
+        "if allowAt > now then return allowAt - now end " +
+        "local nextTat = tat + interval " +
+        "redis.call('SET', KEYS[1], nextTat, 'PX', nextTat - now) " +
+        "return 0",
+        Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public long acquire(String key, long nowMillis, long intervalMillis, long toleranceMillis) {
+        Long waitMillis = redisTemplate.execute(
+            ACQUIRE_SCRIPT,
+            List.of(key(key)),
+            String.valueOf(nowMillis), String.valueOf(intervalMillis), String.valueOf(toleranceMillis)
+        );
+        return waitMillis != null ? waitMillis : 0L;
+    }
+
+    private String key(String key) {
+        return key + ":rateLimit";
+    }
+}
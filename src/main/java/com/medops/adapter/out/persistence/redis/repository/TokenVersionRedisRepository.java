@@ -0,0 +1,26 @@
+package com.medops.adapter.out.persistence.redis.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class TokenVersionRedisRepository {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public long get(String adminId) {
+        String version = redisTemplate.opsForValue().get(key(adminId));
+        return version != null ? Long.parseLong(version) : 0L;
+    }
+
+    public long increase(String adminId) {
+        Long version = redisTemplate.opsForValue().increment(key(adminId));
+        return version != null ? version : 0L;
+    }
+
+    private String key(String adminId) {
+        return adminId + ":tokenVersion";
+    }
+}
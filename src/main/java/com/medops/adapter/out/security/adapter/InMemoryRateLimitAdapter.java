@@ -0,0 +1,57 @@
+package com.medops.adapter.out.security.adapter;
+
+import com.medops.application.port.out.RateLimitPort;
+import com.medops.domain.model.RateLimitRule;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 인스턴스 메모리에서 동작하는 토큰 버킷
+ * 버킷마다 "다음 토큰이 도착하는 시각"(GCRA) 하나만 보관하고 CAS 로 갱신하므로 잠금이 필요 없다.
+ * 여러 인스턴스가 한도를 공유해야 하면 security.rate-limit.store=redis 를 사용한다.
+ */
+@Component
+@ConditionalOnProperty(name = "security.rate-limit.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRateLimitAdapter implements RateLimitPort {
+
+    private final Map<String, AtomicLong> theoreticalArrivals = new ConcurrentHashMap<>();
+
+    @Override
+    public long tryAcquire(String key, RateLimitRule rule) {
+        long now = System.nanoTime();
+        long interval = rule.emissionIntervalNanos();
+        long tolerance = rule.burstToleranceNanos();
+        AtomicLong arrival = theoreticalArrivals.computeIfAbsent(key, k -> new AtomicLong(now));
+
+        while (true) {
+            long current = arrival.get();
+            long base = current - now < 0 ? now : current;
+            long allowAt = base - tolerance;
+            if (allowAt - now > 0) {
+                return Math.max(1, TimeUnit.NANOSECONDS.toMillis(allowAt - now));
+            }
+            if (arrival.compareAndSet(current, base + interval)) {
+                return 0;
+            }
+        }
+    }
+
+    int size() {
+        return theoreticalArrivals.size();
+    }
+
+    /**
+     * 가득 찬 버킷은 새로 만든 버킷과 같으므로 주기적으로 정리
+     */
+    @Scheduled(initialDelay = 1, fixedDelay = 1, timeUnit = TimeUnit.MINUTES)
+    public void removeFullBuckets() {
+        long now = System.nanoTime();
+        theoreticalArrivals.values().removeIf(arrival -> arrival.get() - now <= 0);
+    }
+}
@@ -0,0 +1,42 @@
+package com.medops.adapter.out.security.adapter;
+
+import com.medops.application.port.out.TokenVersionPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 관리자별 토큰 버전을 메모리에 보관
+ * 재시작하거나 다른 인스턴스로 요청이 가면 버전이 0 으로 보여 폐기한 토큰이 다시 유효해지므로,
+ * 클레임 토큰(security.token.embed-admin-claims=true)을 쓰는 경우에는 사용할 수 없다.
+ * 클레임 토큰을 쓰려면 security.token.version-store=redis 를 설정한다.
+ */
+@Component
+@ConditionalOnProperty(name = "security.token.version-store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryTokenVersionAdapter implements TokenVersionPort {
+
+    private final Map<String, Long> tokenVersions = new ConcurrentHashMap<>();
+
+    public InMemoryTokenVersionAdapter(
+        @Value("${security.token.embed-admin-claims:false}") boolean embedAdminClaims
+    ) {
+        if (embedAdminClaims) {
+            throw new IllegalStateException(
+                "security.token.embed-admin-claims=true 는 security.token.version-store=redis 설정이 필요합니다."
+            );
+        }
+    }
+
+    @Override
+    public long loadTokenVersion(String adminId) {
+        return tokenVersions.getOrDefault(adminId, 0L);
+    }
+
+    @Override
+    public void increaseTokenVersion(String adminId) {
+        tokenVersions.merge(adminId, 1L, Long::sum);
+    }
+}
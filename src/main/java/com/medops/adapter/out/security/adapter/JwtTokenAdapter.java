@@ -1,15 +1,18 @@
 package com.medops.adapter.out.security.adapter;
 
 import com.medops.application.port.out.TokenPort;
+import com.medops.domain.enums.AdminRole;
 import com.medops.domain.enums.TokenType;
+import com.medops.domain.model.Admin;
+import com.medops.domain.model.TokenClaims;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
-import lombok.AllArgsConstructor;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.SecretKey;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
@@ -17,41 +20,88 @@ import java.util.HashMap;
 import java.util.Map;
 
 @Component
-@AllArgsConstructor
-@RequiredArgsConstructor
 public class JwtTokenAdapter implements TokenPort {
 
-    @Value(value = "${secret.key}") String secretKey;
-    @Value(value = "${secret.expiration_hours}") Long expirationHours;
+    private final Long expirationHours;
+    // 관리자 토큰에 병원, 역할, 토큰 버전을 담아 요청마다 관리자를 조회하지 않도록 할지 여부
+    private final boolean embedAdminClaims;
+    // 서명 키와 파서는 스레드 안전하므로 한 번만 만들어 재사용
+    private final SecretKey signingKey;
+    private final JwtParser jwtParser;
+
+    public JwtTokenAdapter(String secretKey, Long expirationHours) {
+        this(secretKey, expirationHours, false);
+    }
+
+    @Autowired
+    public JwtTokenAdapter(
+        @Value(value = "${secret.key}") String secretKey,
+        @Value(value = "${secret.expiration_hours}") Long expirationHours,
+        @Value(value = "${security.token.embed-admin-claims:false}") boolean embedAdminClaims
+    ) {
+        this.expirationHours = expirationHours;
+        this.embedAdminClaims = embedAdminClaims;
+        this.signingKey = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this.jwtParser = Jwts.parser().verifyWith(signingKey).build();
+    }
 
     @Override
     public String generateToken(String id, TokenType tokenType) {
-        Instant now = Instant.now();
-        Date issuedAt = Date.from(now);
-        Date expiredAt = Date.from(now.plus(expirationHours, ChronoUnit.HOURS));
-
         Map<String, Object> claims = new HashMap<>();
         claims.put("id", id);
         claims.put("tokenType", tokenType);
+        return buildToken(id, claims);
+    }
+
+    @Override
+    public String generateAdminToken(Admin admin, long tokenVersion) {
+        if (!embedAdminClaims) {
+            return generateToken(admin.getId(), TokenType.ADMIN);
+        }
+
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("id", admin.getId());
+        claims.put("tokenType", TokenType.ADMIN);
+        claims.put("hospitalId", admin.getHospital().getId());
+        claims.put("role", admin.getRole());
+        claims.put("tokenVersion", tokenVersion);
+        return buildToken(admin.getId(), claims);
+    }
+
+    private String buildToken(String id, Map<String, Object> claims) {
+        Instant now = Instant.now();
+        Date issuedAt = Date.from(now);
+        Date expiredAt = Date.from(now.plus(expirationHours, ChronoUnit.HOURS));
 
         return Jwts.builder()
-            .signWith(Keys.hmacShaKeyFor(secretKey.getBytes())).subject(id)
+            .signWith(signingKey).subject(id)
             .claims(claims)
             .issuedAt(issuedAt)
             .expiration(expiredAt)
             .compact();
     }
 
+    /**
+     * 서명을 한 번만 검증하고 필요한 클레임을 모두 꺼낸다.
+     */
     @Override
-    public String parseUserIdFromToken(String token) {
+    public TokenClaims parse(String token) {
         try {
-            // 어드민인지 사용자인지 확인 하기
-            return Jwts.parser()
-                .verifyWith(Keys.hmacShaKeyFor(secretKey.getBytes()))
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+            Object tokenType = claims.get("tokenType");
+            if (tokenType == null) {
+                throw new JwtException("유효하지 않은 토큰입니다.");
+            }
+            Object role = claims.get("role");
+            Object tokenVersion = claims.get("tokenVersion");
+            return TokenClaims.builder()
+                .subject(claims.getSubject())
+                .tokenType(TokenType.valueOf(tokenType.toString()))
+                .expiresAt(claims.getExpiration() != null ? claims.getExpiration().toInstant() : null)
+                .hospitalId(claims.get("hospitalId", String.class))
+                .role(role != null ? AdminRole.valueOf(role.toString()) : null)
+                .tokenVersion(tokenVersion instanceof Number number ? number.longValue() : null)
+                .build();
         } catch (ExpiredJwtException e) {
             throw new JwtException("토큰이 만료되었습니다.", e);
         } catch (UnsupportedJwtException e) {
@@ -65,27 +115,13 @@ public class JwtTokenAdapter implements TokenPort {
         }
     }
 
+    @Override
+    public String parseUserIdFromToken(String token) {
+        return parse(token).getSubject();
+    }
+
     @Override
     public TokenType parseTokenType(String token) {
-        try {
-            String tokenType = Jwts.parser()
-                .verifyWith(Keys.hmacShaKeyFor(secretKey.getBytes()))
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("tokenType")
-                .toString();
-            return TokenType.valueOf(tokenType);
-        } catch (ExpiredJwtException e) {
-            throw new JwtException("토큰이 만료되었습니다.", e);
-        } catch (UnsupportedJwtException e) {
-            throw new JwtException("지원되지 않는 토큰 형식입니다.", e);
-        } catch (MalformedJwtException e) {
-            throw new JwtException("유효하지 않은 토큰입니다.", e);
-        } catch (SignatureException e) {
-            throw new JwtException("서명이 유효하지 않은 토큰입니다.", e);
-        } catch (IllegalArgumentException e) {
-            throw new JwtException("토큰이 비어있습니다.", e);
-        }
+        return parse(token).getTokenType();
     }
 }
@@ -0,0 +1,108 @@
+package com.medops.adapter.out.security.adapter;
+
+import com.medops.application.port.out.PrincipalCachePort;
+import com.medops.domain.enums.TokenType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 인증 필터에서 토큰마다 사용자/관리자를 다시 조회하지 않도록 짧은 시간 보관하는 캐시
+ * 저장 시점에 명시적으로 비우므로 TTL 은 놓친 변경에 대한 안전장치 역할만 한다.
+ */
+@Slf4j
+@Component
+public class PrincipalCacheAdapter implements PrincipalCachePort {
+
+    private final long ttlNanos;
+    private final int maxSize;
+
+    private final Map<PrincipalKey, Entry> principals = new ConcurrentHashMap<>();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    private record PrincipalKey(TokenType tokenType, String id) {}
+
+    private record Entry(UserDetails principal, long expiresAtNanos) {}
+
+    public PrincipalCacheAdapter(
+        @Value("${security.principal-cache.ttl-seconds:30}") long ttlSeconds,
+        @Value("${security.principal-cache.max-size:10000}") int maxSize
+    ) {
+        this.ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public Optional<UserDetails> get(TokenType tokenType, String id) {
+        PrincipalKey key = new PrincipalKey(tokenType, id);
+        Entry entry = principals.get(key);
+        if (entry == null || entry.expiresAtNanos() - System.nanoTime() <= 0) {
+            if (entry != null) {
+                principals.remove(key, entry);
+            }
+            missCount.incrementAndGet();
+            return Optional.empty();
+        }
+        hitCount.incrementAndGet();
+        return Optional.of(entry.principal());
+    }
+
+    @Override
+    public void put(TokenType tokenType, String id, UserDetails principal) {
+        if (principals.size() >= maxSize) {
+            removeExpired();
+            // 만료된 항목을 지워도 가득 차 있으면 임의의 항목을 하나 내보낸다
+            Iterator<PrincipalKey> iterator = principals.keySet().iterator();
+            while (principals.size() >= maxSize && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+        principals.put(new PrincipalKey(tokenType, id), new Entry(principal, System.nanoTime() + ttlNanos));
+    }
+
+    @Override
+    public void evict(TokenType tokenType, String id) {
+        principals.remove(new PrincipalKey(tokenType, id));
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public double getHitRate() {
+        long hits = hitCount.get();
+        long total = hits + missCount.get();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    private void removeExpired() {
+        long now = System.nanoTime();
+        principals.values().removeIf(entry -> entry.expiresAtNanos() - now <= 0);
+    }
+
+    /**
+     * 주기적으로 만료된 항목 정리 및 적중률 기록
+     */
+    @Scheduled(initialDelay = 1, fixedDelay = 1, timeUnit = TimeUnit.MINUTES)
+    public void cleanupAndReport() {
+        removeExpired();
+        log.info("인증 사용자 캐시 상태: size={}, hit={}, miss={}, hitRate={}",
+            principals.size(), getHitCount(), getMissCount(), String.format("%.2f", getHitRate()));
+    }
+}
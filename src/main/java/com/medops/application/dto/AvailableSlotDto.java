@@ -0,0 +1,16 @@
+package com.medops.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailableSlotDto {
+    private Instant startTime;
+    private Instant endTime;
+    private int remainingCapacity; // 해당 슬롯에 남은 예약 가능 인원
+}
@@ -0,0 +1,16 @@
+package com.medops.application.dto;
+
+public record BatchCommandResultDto(
+    int index,
+    String recordId,
+    boolean success,
+    String message
+) {
+    public static BatchCommandResultDto success(int index, String recordId) {
+        return new BatchCommandResultDto(index, recordId, true, null);
+    }
+
+    public static BatchCommandResultDto failure(int index, String recordId, String message) {
+        return new BatchCommandResultDto(index, recordId, false, message);
+    }
+}
@@ -0,0 +1,10 @@
+package com.medops.application.dto;
+
+/**
+ * Idempotency-Key 로 묶인 요청이 같은 요청인지 구분하는 정보
+ */
+public record IdempotentRequestDto(
+    String method,
+    String path,
+    Object body
+) {}
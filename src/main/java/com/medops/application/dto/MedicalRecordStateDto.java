@@ -0,0 +1,40 @@
+package com.medops.application.dto;
+
+import com.medops.domain.enums.MedicalRecordStatus;
+import com.medops.domain.model.MedicalRecord;
+import com.medops.domain.model.MedicalRecordSnapshot;
+import com.medops.domain.model.Reservation;
+
+import java.time.Instant;
+
+public record MedicalRecordStateDto(
+    String recordId,
+    Integer version,
+    String userId,
+    String hospitalId,
+    String doctorId,
+    String note,
+    MedicalRecordStatus status,
+    String treatmentProductId,
+    Instant startTime,
+    Instant endTime,
+    String userMemo
+) {
+    public static MedicalRecordStateDto from(MedicalRecordSnapshot snapshot) {
+        MedicalRecord state = snapshot.getState();
+        Reservation reservation = state.getReservation() != null ? state.getReservation() : new Reservation();
+        return new MedicalRecordStateDto(
+            snapshot.getRecordId(),
+            snapshot.getVersion(),
+            state.getUserId(),
+            state.getHospitalId(),
+            state.getDoctor(),
+            state.getNote(),
+            state.getStatus(),
+            reservation.getTreatmentProductId(),
+            reservation.getStartTime(),
+            reservation.getEndTime(),
+            reservation.getUserMemo()
+        );
+    }
+}
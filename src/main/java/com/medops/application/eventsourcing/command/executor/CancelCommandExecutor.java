@@ -4,6 +4,7 @@ import com.medops.application.eventsourcing.command.CancelCommand;
 import com.medops.application.port.out.LoadAdminPort;
 import com.medops.application.eventsourcing.event.Canceled;
 import com.medops.application.eventsourcing.event.MedicalRecordEvent;
+import com.medops.domain.enums.MedicalRecordStatus;
 import com.medops.domain.model.MedicalRecord;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -21,6 +22,11 @@ public class CancelCommandExecutor implements CommandExecutor<CancelCommand> {
             throw new RuntimeException("Already reserved");
         }
 
+        // 중복 취소 시 예약 슬롯이 두 번 반환되지 않도록 막는다
+        if (state.getStatus() == MedicalRecordStatus.CANCELED) {
+            throw new IllegalArgumentException("이미 취소된 예약입니다.");
+        }
+
         String adminName = loadAdminPort.loadAdminById(command.getAdminId()).orElseThrow().getName();
 
         return List.of(
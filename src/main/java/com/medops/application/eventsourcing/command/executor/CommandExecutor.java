@@ -9,6 +9,12 @@ import java.util.Arrays;
 public interface CommandExecutor<C> {
     Iterable<MedicalRecordEvent> produceEvents(MedicalRecord state, C command);
 
+    /**
+     * produceEvents 가 만든 이벤트를 기록하지 못했을 때 명령 실행 중 선점한 자원을 되돌린다
+     */
+    default void compensate(C command) {
+    }
+
     default Class<?> getCommandType() {
         return Arrays
             .stream(getClass().getGenericInterfaces())
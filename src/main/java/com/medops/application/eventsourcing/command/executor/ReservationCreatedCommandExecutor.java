@@ -22,7 +22,7 @@ public class ReservationCreatedCommandExecutor implements CommandExecutor<Reserv
         }
 
         if (
-            reservationValidationUseCase.isReservationAvailable(
+            !reservationValidationUseCase.reserve(
                 command.getHospitalId(), command.getTreatmentProductId(), command.getStartTime(), command.getEndTime()
             )
         ) {
@@ -43,4 +43,8 @@ public class ReservationCreatedCommandExecutor implements CommandExecutor<Reserv
         );
     }
 
+    @Override
+    public void compensate(ReservationCreatedCommand command) {
+        reservationValidationUseCase.release(command.getRecordId(), command.getTreatmentProductId(), command.getStartTime(), command.getEndTime());
+    }
 }
@@ -20,4 +20,9 @@ public class Canceled extends MedicalRecordEvent {
         this.adminId = adminId;
         this.adminName = adminName;
     }
+
+    @Override
+    public MedicalRecordEventType eventType() {
+        return MedicalRecordEventType.CANCELED;
+    }
 }
@@ -28,4 +28,9 @@ public class DoctorAssigned extends MedicalRecordEvent{
         this.adminId = adminId;
         this.adminName = adminName;
     }
-}
\ No newline at end of file
+
+    @Override
+    public MedicalRecordEventType eventType() {
+        return MedicalRecordEventType.DOCTOR_ASSIGNED;
+    }
+}
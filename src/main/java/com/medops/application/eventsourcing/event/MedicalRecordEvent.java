@@ -18,4 +18,9 @@ public abstract class MedicalRecordEvent {
         this.recordId = recordId;
         this.status = status;
     }
+
+    /**
+     * 핸들러 배열 인덱스로 쓰는 이벤트 종류
+     */
+    public abstract MedicalRecordEventType eventType();
 }
@@ -0,0 +1,34 @@
+package com.medops.application.eventsourcing.event;
+
+/**
+ * 이벤트 종류 식별자
+ * ordinal 을 배열 인덱스로 써서 핸들러를 Map 조회 없이 찾는다.
+ */
+public enum MedicalRecordEventType {
+    RESERVATION_CREATED(ReservationCreated.class),
+    PENDING(Pending.class),
+    CONFIRMED(Confirmed.class),
+    CANCELED(Canceled.class),
+    COMPLETED(Completed.class),
+    DOCTOR_ASSIGNED(DoctorAssigned.class),
+    NOTE_UPDATED(NoteUpdated.class);
+
+    private final Class<? extends MedicalRecordEvent> eventClass;
+
+    MedicalRecordEventType(Class<? extends MedicalRecordEvent> eventClass) {
+        this.eventClass = eventClass;
+    }
+
+    public Class<? extends MedicalRecordEvent> getEventClass() {
+        return eventClass;
+    }
+
+    public static MedicalRecordEventType of(Class<?> eventClass) {
+        for (MedicalRecordEventType type : values()) {
+            if (type.eventClass.equals(eventClass)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown event class: " + eventClass.getName());
+    }
+}
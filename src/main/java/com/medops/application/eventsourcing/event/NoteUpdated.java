@@ -19,4 +19,9 @@ public class NoteUpdated extends MedicalRecordEvent{
         super(recordId, status);
         this.note = note;
     }
-}
\ No newline at end of file
+
+    @Override
+    public MedicalRecordEventType eventType() {
+        return MedicalRecordEventType.NOTE_UPDATED;
+    }
+}
@@ -0,0 +1,11 @@
+package com.medops.application.eventsourcing.event;
+
+/**
+ * 아직 리스너에 전달되지 않은 이벤트
+ */
+public record OutboxEvent(
+    String eventId,
+    String recordId,
+    Integer version,
+    MedicalRecordEvent event
+) {}
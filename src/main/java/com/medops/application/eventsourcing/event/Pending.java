@@ -20,4 +20,9 @@ public class Pending extends MedicalRecordEvent {
         this.adminId = adminId;
         this.adminName = adminName;
     }
+
+    @Override
+    public MedicalRecordEventType eventType() {
+        return MedicalRecordEventType.PENDING;
+    }
 }
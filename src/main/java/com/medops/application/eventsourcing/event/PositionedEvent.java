@@ -0,0 +1,15 @@
+package com.medops.application.eventsourcing.event;
+
+import java.time.Instant;
+
+/**
+ * 전역 이벤트 로그에서 읽은 이벤트와 그 위치
+ */
+public record PositionedEvent(
+    long position,
+    String recordId,
+    String hospitalId,
+    Integer version,
+    Instant createdAt,
+    MedicalRecordEvent event
+) {}
@@ -0,0 +1,28 @@
+package com.medops.application.eventsourcing.event;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.ResolvableTypeProvider;
+
+/**
+ * 리스너에 전달하는 기록된 이벤트와 그 스트림 버전
+ * 전달은 최소 한 번이므로 리스너는 (recordId, version) 으로 이미 반영한 이벤트인지 구분한다.
+ * 리스너는 RecordedEvent&lt;Canceled&gt; 처럼 이벤트 종류를 지정해 받는다.
+ */
+public record RecordedEvent<E extends MedicalRecordEvent>(
+    String recordId,
+    int version,
+    E event
+) implements ResolvableTypeProvider {
+
+    /**
+     * 스트림 안에서 이벤트를 구분하는 키
+     */
+    public String eventKey() {
+        return recordId + ":" + version;
+    }
+
+    @Override
+    public ResolvableType getResolvableType() {
+        return ResolvableType.forClassWithGenerics(getClass(), ResolvableType.forInstance(event));
+    }
+}
@@ -39,4 +39,9 @@ public class ReservationCreated extends MedicalRecordEvent{
         this.userMemo = userMemo;
         this.note = note;
     }
-}
\ No newline at end of file
+
+    @Override
+    public MedicalRecordEventType eventType() {
+        return MedicalRecordEventType.RESERVATION_CREATED;
+    }
+}
@@ -0,0 +1,14 @@
+package com.medops.application.eventsourcing.event;
+
+import java.util.List;
+
+/**
+ * 한 예약 스트림에 이어 붙일 이벤트 묶음
+ */
+public record StreamAppend(
+    String recordId,
+    String hospitalId,
+    String userId,
+    Integer version,
+    List<MedicalRecordEvent> events
+) {}
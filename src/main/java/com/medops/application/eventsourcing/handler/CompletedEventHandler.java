@@ -2,16 +2,14 @@ package com.medops.application.eventsourcing.handler;
 
 import com.medops.domain.enums.MedicalRecordStatus;
 import com.medops.application.eventsourcing.event.Completed;
-import com.medops.domain.model.MedicalRecord;
+import com.medops.domain.model.MutableMedicalRecord;
 import org.springframework.stereotype.Component;
 
 @Component
 public class CompletedEventHandler implements EventHandler<Completed> {
 
     @Override
-    public MedicalRecord handleEvent(MedicalRecord state, Completed event) {
-        return state.toBuilder()
-            .status(MedicalRecordStatus.COMPLETED)
-            .build();
+    public void apply(MutableMedicalRecord state, Completed event) {
+        state.setStatus(MedicalRecordStatus.COMPLETED);
     }
-}
\ No newline at end of file
+}
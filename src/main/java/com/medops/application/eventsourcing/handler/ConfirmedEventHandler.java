@@ -2,16 +2,14 @@ package com.medops.application.eventsourcing.handler;
 
 import com.medops.domain.enums.MedicalRecordStatus;
 import com.medops.application.eventsourcing.event.Confirmed;
-import com.medops.domain.model.MedicalRecord;
+import com.medops.domain.model.MutableMedicalRecord;
 import org.springframework.stereotype.Component;
 
 @Component
 public class ConfirmedEventHandler implements EventHandler<Confirmed> {
 
     @Override
-    public MedicalRecord handleEvent(MedicalRecord state, Confirmed event) {
-        return state.toBuilder()
-            .status(MedicalRecordStatus.RESERVED)
-            .build();
+    public void apply(MutableMedicalRecord state, Confirmed event) {
+        state.setStatus(MedicalRecordStatus.RESERVED);
     }
-}
\ No newline at end of file
+}
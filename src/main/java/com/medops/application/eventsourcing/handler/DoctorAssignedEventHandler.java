@@ -1,16 +1,14 @@
 package com.medops.application.eventsourcing.handler;
 
 import com.medops.application.eventsourcing.event.DoctorAssigned;
-import com.medops.domain.model.MedicalRecord;
+import com.medops.domain.model.MutableMedicalRecord;
 import org.springframework.stereotype.Component;
 
 @Component
 public class DoctorAssignedEventHandler implements EventHandler<DoctorAssigned> {
 
     @Override
-    public MedicalRecord handleEvent(MedicalRecord state, DoctorAssigned event) {
-        return state.toBuilder()
-            .doctor(event.getDoctorId())
-            .build();
+    public void apply(MutableMedicalRecord state, DoctorAssigned event) {
+        state.setDoctor(event.getDoctorId());
     }
-}
\ No newline at end of file
+}
@@ -1,12 +1,15 @@
 package com.medops.application.eventsourcing.handler;
 
-import com.medops.domain.model.MedicalRecord;
+import com.medops.domain.model.MutableMedicalRecord;
 
 import java.lang.reflect.ParameterizedType;
 import java.util.Arrays;
 
 public interface EventHandler<E> {
-    MedicalRecord handleEvent(MedicalRecord state, E event);
+    /**
+     * 재생 중인 가변 상태에 이벤트를 적용
+     */
+    void apply(MutableMedicalRecord state, E event);
 
     default Class<?> getEventType() {
         return Arrays
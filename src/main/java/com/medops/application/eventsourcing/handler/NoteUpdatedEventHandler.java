@@ -1,17 +1,14 @@
 package com.medops.application.eventsourcing.handler;
 
 import com.medops.application.eventsourcing.event.NoteUpdated;
-import com.medops.domain.model.MedicalRecord;
+import com.medops.domain.model.MutableMedicalRecord;
 import org.springframework.stereotype.Component;
 
 @Component
 public class NoteUpdatedEventHandler implements EventHandler<NoteUpdated> {
 
     @Override
-    public MedicalRecord handleEvent(MedicalRecord state, NoteUpdated event) {
-        return state.toBuilder()
-            .status(state.getStatus())
-            .note(event.getNote())
-            .build();
+    public void apply(MutableMedicalRecord state, NoteUpdated event) {
+        state.setNote(event.getNote());
     }
-}
\ No newline at end of file
+}
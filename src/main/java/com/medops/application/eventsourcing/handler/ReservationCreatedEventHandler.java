@@ -1,7 +1,7 @@
 package com.medops.application.eventsourcing.handler;
 
 import com.medops.domain.enums.MedicalRecordStatus;
-import com.medops.domain.model.MedicalRecord;
+import com.medops.domain.model.MutableMedicalRecord;
 import com.medops.application.eventsourcing.event.ReservationCreated;
 import org.springframework.stereotype.Component;
 
@@ -9,17 +9,14 @@ import org.springframework.stereotype.Component;
 public class ReservationCreatedEventHandler implements EventHandler<ReservationCreated> {
 
     @Override
-    public MedicalRecord handleEvent(MedicalRecord state, ReservationCreated event) {
-        return state.toBuilder()
-            .reservation(
-                state.getReservation().toBuilder()
-                    .startTime(event.getStartTime())
-                    .endTime(event.getEndTime())
-                    .treatmentProductId(event.getTreatmentProductId())
-                    .userMemo(event.getUserMemo())
-                    .build()
-            )
-            .status(MedicalRecordStatus.PENDING)
-            .build();
+    public void apply(MutableMedicalRecord state, ReservationCreated event) {
+        state.setUserId(event.getUserId());
+        state.setHospitalId(event.getHospitalId());
+        state.setNote(event.getNote());
+        state.setStartTime(event.getStartTime());
+        state.setEndTime(event.getEndTime());
+        state.setTreatmentProductId(event.getTreatmentProductId());
+        state.setUserMemo(event.getUserMemo());
+        state.setStatus(MedicalRecordStatus.PENDING);
     }
-}
\ No newline at end of file
+}
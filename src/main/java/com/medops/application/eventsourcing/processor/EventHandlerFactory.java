@@ -1,31 +1,42 @@
 package com.medops.application.eventsourcing.processor;
 
 import com.medops.application.eventsourcing.event.MedicalRecordEvent;
+import com.medops.application.eventsourcing.event.MedicalRecordEventType;
 import com.medops.application.eventsourcing.handler.EventHandler;
+import com.medops.domain.model.MutableMedicalRecord;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
-import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 @Component
 public class EventHandlerFactory {
-    private final Map<Class<? extends MedicalRecordEvent>, EventHandler<?>> eventHandlers;
+    // MedicalRecordEventType.ordinal() 로 바로 찾는 핸들러 배열
+    private final EventHandler<MedicalRecordEvent>[] eventHandlers;
 
+    @SuppressWarnings("unchecked")
     public EventHandlerFactory(List<EventHandler<?>> handlers) {
-        this.eventHandlers = handlers.stream()
-                .collect(Collectors.toMap(
-                        handler -> (Class<? extends MedicalRecordEvent>) handler.getEventType(),
-                        Function.identity()
-                ));
+        this.eventHandlers = new EventHandler[MedicalRecordEventType.values().length];
+        for (EventHandler<?> handler : handlers) {
+            int index = MedicalRecordEventType.of(handler.getEventType()).ordinal();
+            if (eventHandlers[index] != null) {
+                throw new IllegalStateException("Duplicate EventHandler for event type: " + handler.getEventType().getName());
+            }
+            eventHandlers[index] = (EventHandler<MedicalRecordEvent>) handler;
+        }
     }
 
-    public <T extends MedicalRecordEvent> EventHandler<T> getHandler(Class<T> eventType) {
-        EventHandler<?> handler = eventHandlers.get(eventType);
+    public EventHandler<MedicalRecordEvent> getHandler(MedicalRecordEventType eventType) {
+        EventHandler<MedicalRecordEvent> handler = eventHandlers[eventType.ordinal()];
         if (handler == null) {
-            throw new IllegalArgumentException("No EventHandler found for event type: " + eventType.getName());
+            throw new IllegalArgumentException("No EventHandler found for event type: " + eventType.getEventClass().getName());
         }
-        return (EventHandler<T>) handler;
+        return handler;
+    }
+
+    /**
+     * 이벤트 종류에 맞는 핸들러로 가변 상태에 적용
+     */
+    public void apply(MutableMedicalRecord state, MedicalRecordEvent event) {
+        getHandler(event.eventType()).apply(state, event);
     }
 }
@@ -0,0 +1,252 @@
+package com.medops.application.eventsourcing.processor;
+
+import com.medops.application.eventsourcing.event.MedicalRecordEvent;
+import com.medops.application.eventsourcing.event.OutboxEvent;
+import com.medops.application.eventsourcing.event.RecordedEvent;
+import com.medops.application.port.out.EventOutboxPort;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 기록된 이벤트를 리스너(뷰 모델, SSE 알림)에 빠짐없이 전달
+ * 명령 처리 중에는 기록 직후 바로 전달하고, 그 사이 프로세스가 죽거나 리스너가 실패해 남은 이벤트는
+ * 주기적으로 아웃박스에서 꺼내 다시 전달한다. 전달은 최소 한 번이며 같은 인스턴스에서 이미 전달한 이벤트는 건너뛴다.
+ * 다른 인스턴스에서 다시 전달될 수 있으므로 리스너는 RecordedEvent 의 (recordId, version) 으로 중복을 걸러야 한다.
+ * 한 예약의 이벤트는 버전 순서대로만 전달하며, 앞선 버전이 아직 전달되지 않았으면 뒤의 버전도 아웃박스에 맡긴다.
+ */
+@Slf4j
+@Service
+public class EventOutboxDispatcher {
+
+    private static final int RECENT_EVENT_IDS = 10_000;
+
+    private final EventOutboxPort eventOutboxPort;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final Duration lease;
+    private final Duration grace;
+    private final ExecutorService dispatchExecutor;
+
+    // 전달 완료 기록에 실패해 다시 선점된 이벤트를 중복 전달하지 않도록 최근 전달한 이벤트 키(recordId:version)를 보관
+    private final Set<String> recentEventKeys = Collections.newSetFromMap(new LinkedHashMap<String, Boolean>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > RECENT_EVENT_IDS;
+        }
+    });
+
+    private final AtomicLong inlineDispatchedCount = new AtomicLong();
+    private final AtomicLong outboxDispatchedCount = new AtomicLong();
+    private final AtomicLong duplicateCount = new AtomicLong();
+    private final AtomicLong deferredCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    public EventOutboxDispatcher(
+        EventOutboxPort eventOutboxPort,
+        ApplicationEventPublisher eventPublisher,
+        @Value("${eventstore.outbox.batch-size:200}") int batchSize,
+        @Value("${eventstore.outbox.parallelism:4}") int parallelism,
+        @Value("${eventstore.outbox.lease-seconds:30}") long leaseSeconds,
+        @Value("${eventstore.outbox.grace-seconds:5}") long graceSeconds
+    ) {
+        this.eventOutboxPort = eventOutboxPort;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.grace = Duration.ofSeconds(graceSeconds);
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.dispatchExecutor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "outbox-dispatch-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 명령 처리 직후 바로 전달. 리스너가 실패해도 이벤트는 이미 기록되었으므로 호출자에게 예외를 넘기지 않고 아웃박스에 맡긴다.
+     * 앞선 버전이 아직 전달되지 않은 예약은 순서가 뒤바뀌지 않도록 바로 전달하지 않는다.
+     */
+    public void publish(String recordId, int fromVersion, List<MedicalRecordEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        int published = 0;
+        try {
+            if (fromVersion > 1 && eventOutboxPort.hasUndispatchedBefore(recordId, fromVersion)) {
+                deferredCount.addAndGet(events.size());
+                return;
+            }
+            for (MedicalRecordEvent event : events) {
+                RecordedEvent<MedicalRecordEvent> recorded = new RecordedEvent<>(recordId, fromVersion + published, event);
+                eventPublisher.publishEvent(recorded);
+                rememberDispatched(recorded.eventKey());
+                published++;
+            }
+        } catch (RuntimeException e) {
+            failedCount.incrementAndGet();
+            log.warn("이벤트 전달 실패, 아웃박스에서 다시 전달합니다: recordId={}, version={}", recordId, fromVersion + published, e);
+        }
+
+        // 실패한 이벤트부터는 아웃박스에서 순서대로 다시 전달
+        if (published > 0) {
+            try {
+                eventOutboxPort.markDispatched(recordId, fromVersion, fromVersion + published - 1);
+                inlineDispatchedCount.addAndGet(published);
+            } catch (RuntimeException e) {
+                log.warn("이벤트 전달 완료 기록 실패, 아웃박스에서 다시 전달합니다: recordId={}, fromVersion={}", recordId, fromVersion, e);
+            }
+        }
+    }
+
+    /**
+     * 전달되지 않은 이벤트를 더 없을 때까지 배치 단위로 전달하고 전달한 이벤트 수를 돌려준다.
+     */
+    public int drain() {
+        int total = 0;
+        while (true) {
+            List<OutboxEvent> batch = eventOutboxPort.claimPending(batchSize, Instant.now().minus(grace), lease);
+            if (batch.isEmpty()) {
+                return total;
+            }
+            total += dispatchBatch(batch);
+            if (batch.size() < batchSize) {
+                return total;
+            }
+        }
+    }
+
+    private int dispatchBatch(List<OutboxEvent> batch) {
+        Map<String, List<OutboxEvent>> eventsByRecord = new LinkedHashMap<>();
+        for (OutboxEvent event : batch) {
+            eventsByRecord.computeIfAbsent(event.recordId(), key -> new ArrayList<>()).add(event);
+        }
+
+        // 예약별 순서는 지키면서 서로 다른 예약은 병렬로 전달
+        List<CompletableFuture<List<String>>> futures = new ArrayList<>(eventsByRecord.size());
+        for (List<OutboxEvent> events : eventsByRecord.values()) {
+            futures.add(CompletableFuture.supplyAsync(() -> dispatchRecord(events), dispatchExecutor));
+        }
+
+        List<String> dispatchedIds = new ArrayList<>(batch.size());
+        futures.forEach(future -> dispatchedIds.addAll(future.join()));
+        eventOutboxPort.markDispatched(dispatchedIds);
+        outboxDispatchedCount.addAndGet(dispatchedIds.size());
+        return dispatchedIds.size();
+    }
+
+    private List<String> dispatchRecord(List<OutboxEvent> events) {
+        List<String> dispatchedIds = new ArrayList<>(events.size());
+        OutboxEvent first = events.get(0);
+        // 앞선 버전을 다른 인스턴스가 선점하고 있으면 그쪽이 먼저 전달하도록 이번에는 건너뛴다
+        if (eventOutboxPort.hasUndispatchedBefore(first.recordId(), first.version())) {
+            deferredCount.addAndGet(events.size());
+            return dispatchedIds;
+        }
+        for (OutboxEvent event : events) {
+            RecordedEvent<MedicalRecordEvent> recorded = new RecordedEvent<>(event.recordId(), event.version(), event.event());
+            if (isRecentlyDispatched(recorded.eventKey())) {
+                duplicateCount.incrementAndGet();
+                dispatchedIds.add(event.eventId());
+                continue;
+            }
+            try {
+                eventPublisher.publishEvent(recorded);
+            } catch (RuntimeException e) {
+                // 뒤의 이벤트는 순서를 지키기 위해 선점이 풀린 뒤 함께 다시 전달
+                failedCount.incrementAndGet();
+                log.warn("아웃박스 이벤트 전달 실패: eventId={}, recordId={}, version={}", event.eventId(), event.recordId(), event.version(), e);
+                break;
+            }
+            rememberDispatched(recorded.eventKey());
+            dispatchedIds.add(event.eventId());
+        }
+        return dispatchedIds;
+    }
+
+    private boolean isRecentlyDispatched(String eventKey) {
+        synchronized (recentEventKeys) {
+            return recentEventKeys.contains(eventKey);
+        }
+    }
+
+    private void rememberDispatched(String eventKey) {
+        synchronized (recentEventKeys) {
+            recentEventKeys.add(eventKey);
+        }
+    }
+
+    public long getInlineDispatchedCount() {
+        return inlineDispatchedCount.get();
+    }
+
+    public long getOutboxDispatchedCount() {
+        return outboxDispatchedCount.get();
+    }
+
+    public long getDuplicateCount() {
+        return duplicateCount.get();
+    }
+
+    public long getDeferredCount() {
+        return deferredCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    /**
+     * 주기적으로 남은 이벤트 전달
+     */
+    @Scheduled(
+        initialDelayString = "${eventstore.outbox.poll-interval-millis:1000}",
+        fixedDelayString = "${eventstore.outbox.poll-interval-millis:1000}"
+    )
+    public void drainSafely() {
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            log.warn("아웃박스 전달 중 오류", e);
+        }
+    }
+
+    /**
+     * 주기적으로 처리 현황 기록
+     */
+    @Scheduled(initialDelay = 1, fixedDelay = 1, timeUnit = TimeUnit.MINUTES)
+    public void report() {
+        log.info("이벤트 전달 현황: inline={}, outbox={}, duplicate={}, deferred={}, failed={}",
+            getInlineDispatchedCount(), getOutboxDispatchedCount(), getDuplicateCount(), getDeferredCount(), getFailedCount());
+    }
+
+    /**
+     * 종료시 진행 중인 전달이 끝날 때까지 잠시 기다린 뒤 풀을 정리. 남은 이벤트는 다음 실행에서 아웃박스로 전달된다
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        dispatchExecutor.shutdown();
+        if (!dispatchExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+            dispatchExecutor.shutdownNow();
+        }
+    }
+}
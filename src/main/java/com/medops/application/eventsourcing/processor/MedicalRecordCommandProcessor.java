@@ -1,35 +1,62 @@
 package com.medops.application.eventsourcing.processor;
 
+import com.medops.application.dto.BatchCommandResultDto;
+import com.medops.application.eventsourcing.command.ReservationCreatedCommand;
 import com.medops.application.eventsourcing.command.executor.CommandExecutor;
-import com.medops.application.eventsourcing.handler.EventHandler;
+import com.medops.application.eventsourcing.event.StreamAppend;
 import com.medops.application.port.out.LoadMedicalRecordSnapshotPort;
 import com.medops.application.port.out.MedicalRecordEventStorePort;
 import com.medops.application.eventsourcing.event.MedicalRecordEvent;
 import com.medops.application.port.out.SaveMedicalRecordSnapshotPort;
 import com.medops.domain.model.MedicalRecord;
 import com.medops.domain.model.MedicalRecordSnapshot;
+import com.medops.domain.model.MutableMedicalRecord;
 import com.medops.application.eventsourcing.command.StreamCommand;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.ApplicationEventPublisher;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class MedicalRecordCommandProcessor {
 
     private static final int SNAPSHOT_INTERVAL = 5;
+    private static final int MAX_BATCH_COMMANDS = 500;
+    private static final int BATCH_THREADS = 8;
+    private static final int HISTORY_PARALLELISM = 8;
+    private static final int REHYDRATE_CHUNK_SIZE = 500;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
 
     private final MedicalRecordEventStorePort medicalRecordEventStorePort;
     private final LoadMedicalRecordSnapshotPort loadMedicalRecordSnapshotPort;
     private final SaveMedicalRecordSnapshotPort saveMedicalRecordSnapshotPort;
-    private final ApplicationEventPublisher eventPublisher;
+    private final EventOutboxDispatcher eventOutboxDispatcher;
     private final CommandExecutorFactory commandExecutorFactory;
     private final EventHandlerFactory eventHandlerFactory;
 
+    // 일괄 명령을 예약 단위로 나눠 실행하는 풀
+    private final ExecutorService batchExecutor = createBatchExecutor();
+
+    // 과거 시점 상태 복원용 풀. 예약이 많아도 동시에 DB 를 조회하는 스레드 수를 제한한다
+    private final ForkJoinPool historyPool = new ForkJoinPool(HISTORY_PARALLELISM);
+
     @SuppressWarnings("unchecked")
     private <T extends StreamCommand> Iterable<MedicalRecordEvent> produceEventsForCommand(MedicalRecord state, T command) {
         Class<T> commandType = (Class<T>) command.getClass();
@@ -38,26 +65,44 @@ public class MedicalRecordCommandProcessor {
     }
 
     @SuppressWarnings("unchecked")
-    private <T extends MedicalRecordEvent> MedicalRecordSnapshot applyAndWrapEvent(MedicalRecordSnapshot currentSnapshot, T event) {
-        Class<T> eventType = (Class<T>) event.getClass();
-        EventHandler<T> handler = eventHandlerFactory.getHandler(eventType);
-        MedicalRecord newState = handler.handleEvent(currentSnapshot.getState(), event);
-
-        return MedicalRecordSnapshot.builder()
-            .id(currentSnapshot.getId())
-            .recordId(currentSnapshot.getRecordId())
-            .createdAt(Instant.now())
-            .state(newState)
-            .version(currentSnapshot.getVersion() + 1)
-            .build();
+    private <T extends StreamCommand> void compensateCommand(T command) {
+        Class<T> commandType = (Class<T>) command.getClass();
+        try {
+            commandExecutorFactory.getExecutor(commandType).compensate(command);
+        } catch (RuntimeException e) {
+            log.error("명령 보상 실패: recordId={}, command={}", command.getRecordId(), commandType.getSimpleName(), e);
+        }
     }
 
     private MedicalRecordSnapshot applyEvents(MedicalRecordSnapshot initialSnapshot, Iterable<?> events) {
-        MedicalRecordSnapshot currentSnapshot = initialSnapshot;
+        return applyEvents(initialSnapshot, events, new MutableMedicalRecord());
+    }
+
+    /**
+     * 이벤트를 가변 상태 하나에 차례로 적용하고, 스냅샷은 마지막에 한 번만 만든다
+     * accumulator 는 시작 상태로 덮어써서 쓰므로 여러 예약을 차례로 복원할 때 재사용할 수 있다.
+     * 적용할 이벤트가 없으면 시작 스냅샷을 그대로 돌려준다.
+     */
+    private MedicalRecordSnapshot applyEvents(MedicalRecordSnapshot initialSnapshot, Iterable<?> events, MutableMedicalRecord accumulator) {
+        int applied = 0;
         for (Object event : events) {
-            currentSnapshot = applyAndWrapEvent(currentSnapshot, (MedicalRecordEvent) event);
+            if (applied == 0) {
+                accumulator.reset(initialSnapshot.getState());
+            }
+            eventHandlerFactory.apply(accumulator, (MedicalRecordEvent) event);
+            applied++;
         }
-        return currentSnapshot;
+        if (applied == 0) {
+            return initialSnapshot;
+        }
+
+        return MedicalRecordSnapshot.builder()
+            .id(initialSnapshot.getId())
+            .recordId(initialSnapshot.getRecordId())
+            .createdAt(Instant.now())
+            .state(accumulator.toMedicalRecord())
+            .version(initialSnapshot.getVersion() + applied)
+            .build();
     }
 
     public MedicalRecordSnapshot rehydrateState(String recordId) {
@@ -69,20 +114,89 @@ public class MedicalRecordCommandProcessor {
     }
 
 
-    public void handle(StreamCommand command) {
-        MedicalRecordSnapshot snapshotBefore = rehydrateState(command.getRecordId());
+    /**
+     * 여러 예약의 최신 상태를 한 번에 복원
+     * 예약 REHYDRATE_CHUNK_SIZE 개마다 스냅샷과 이후 이벤트를 각각 $in 조회 한 번으로 불러와 예약별로 적용한다.
+     * 결과는 recordIds 순서를 따르며, 이벤트가 없는 예약은 버전 0 의 초기 상태로 담긴다.
+     */
+    public Map<String, MedicalRecordSnapshot> rehydrateStates(Collection<String> recordIds) {
+        List<String> distinctIds = recordIds.stream().distinct().toList();
+        Map<String, MedicalRecordSnapshot> states = new LinkedHashMap<>();
+        for (int from = 0; from < distinctIds.size(); from += REHYDRATE_CHUNK_SIZE) {
+            states.putAll(rehydrateChunk(distinctIds.subList(from, Math.min(from + REHYDRATE_CHUNK_SIZE, distinctIds.size()))));
+        }
+        return states;
+    }
 
-        Iterable<MedicalRecordEvent> newEvents = produceEventsForCommand(snapshotBefore.getState(), command);
+    private Map<String, MedicalRecordSnapshot> rehydrateChunk(List<String> recordIds) {
+        Map<String, MedicalRecordSnapshot> latestSnapshots = loadMedicalRecordSnapshotPort.loadLatestSnapshots(recordIds);
 
-        medicalRecordEventStorePort.collectEvents(
-            command.getRecordId(),
-            command.getHospitalId(),
-            command.getUserId(),
-            snapshotBefore.getVersion() + 1,
-            newEvents
+        Map<String, MedicalRecordSnapshot> startingPoints = new LinkedHashMap<>();
+        Map<String, Integer> fromVersions = new HashMap<>();
+        for (String recordId : recordIds) {
+            MedicalRecordSnapshot startingPoint = latestSnapshots.get(recordId);
+            if (startingPoint == null) {
+                startingPoint = MedicalRecordSnapshot.seed(recordId, MedicalRecord.seedFactory(recordId));
+            }
+            startingPoints.put(recordId, startingPoint);
+            fromVersions.put(recordId, startingPoint.getVersion() + 1);
+        }
+
+        Map<String, List<MedicalRecordEvent>> subsequentEvents = medicalRecordEventStorePort.queryEvents(fromVersions);
+        Map<String, MedicalRecordSnapshot> states = new LinkedHashMap<>();
+        MutableMedicalRecord accumulator = new MutableMedicalRecord();
+        startingPoints.forEach((recordId, startingPoint) ->
+            states.put(recordId, applyEvents(startingPoint, subsequentEvents.getOrDefault(recordId, List.of()), accumulator))
         );
+        return states;
+    }
+
+    /**
+     * at 시점의 상태 복원
+     * at 이전에 만든 스냅샷 중 가장 가까운 것에서 시작해 at 까지 기록된 이벤트만 적용한다.
+     */
+    public MedicalRecordSnapshot rehydrateStateAt(String recordId, Instant at) {
+        MedicalRecordSnapshot startingPoint = loadMedicalRecordSnapshotPort.loadSnapshotAt(recordId, at)
+            .orElseGet(() -> MedicalRecordSnapshot.seed(recordId, MedicalRecord.seedFactory(recordId)));
+
+        List<MedicalRecordEvent> subsequentEvents = medicalRecordEventStorePort.queryEventsUntil(recordId, startingPoint.getVersion() + 1, at);
+        return applyEvents(startingPoint, subsequentEvents);
+    }
+
+    /**
+     * 여러 예약의 at 시점 상태를 예약별로 병렬 복원. 결과는 recordIds 순서를 따른다.
+     */
+    public List<MedicalRecordSnapshot> rehydrateStatesAt(Collection<String> recordIds, Instant at) {
+        return historyPool.submit(() -> recordIds.parallelStream()
+            .map(recordId -> rehydrateStateAt(recordId, at))
+            .toList()
+        ).join();
+    }
+
+    public void handle(StreamCommand command) {
+        // 새 예약은 서버에서 만든 ID 의 스트림이라 기록된 이벤트가 없으므로 스냅샷과 이벤트를 조회하지 않는다
+        MedicalRecordSnapshot snapshotBefore = command instanceof ReservationCreatedCommand
+            ? MedicalRecordSnapshot.seed(command.getRecordId(), MedicalRecord.seedFactory(command.getRecordId()))
+            : rehydrateState(command.getRecordId());
 
-        newEvents.forEach(eventPublisher::publishEvent);
+        List<MedicalRecordEvent> newEvents = new ArrayList<>();
+        produceEventsForCommand(snapshotBefore.getState(), command).forEach(newEvents::add);
+
+        try {
+            medicalRecordEventStorePort.collectEvents(
+                command.getRecordId(),
+                command.getHospitalId(),
+                command.getUserId(),
+                snapshotBefore.getVersion() + 1,
+                newEvents
+            );
+        } catch (RuntimeException e) {
+            // 기록되지 않은 명령이 선점한 예약 슬롯 등을 되돌린다
+            compensateCommand(command);
+            throw e;
+        }
+
+        eventOutboxDispatcher.publish(command.getRecordId(), snapshotBefore.getVersion() + 1, newEvents);
 
         MedicalRecordSnapshot snapshotAfter = applyEvents(snapshotBefore, newEvents);
 
@@ -91,6 +205,139 @@ public class MedicalRecordCommandProcessor {
         }
     }
 
+    /**
+     * 여러 예약에 대한 명령을 한 번에 처리
+     * 대상 예약의 스냅샷과 이벤트를 각각 한 번의 조회로 불러오고, 예약별로 병렬 실행한 뒤 한 번에 기록한다.
+     * 같은 예약의 명령은 요청 순서대로 이어 적용하며, 실패한 명령은 건너뛰고 명령별 결과로 돌려준다.
+     */
+    public List<BatchCommandResultDto> handleBatch(List<? extends StreamCommand> commands) {
+        if (commands.isEmpty() || commands.size() > MAX_BATCH_COMMANDS) {
+            throw new IllegalArgumentException("한 번에 처리할 수 있는 명령은 1에서 " + MAX_BATCH_COMMANDS + "개 사이여야 합니다.");
+        }
+
+        Map<String, List<Integer>> indexesByRecord = new LinkedHashMap<>();
+        for (int i = 0; i < commands.size(); i++) {
+            indexesByRecord.computeIfAbsent(commands.get(i).getRecordId(), key -> new ArrayList<>()).add(i);
+        }
+
+        Map<String, MedicalRecordSnapshot> snapshots = rehydrateStates(indexesByRecord.keySet());
+        BatchCommandResultDto[] results = new BatchCommandResultDto[commands.size()];
+
+        List<CompletableFuture<RecordBatch>> futures = new ArrayList<>(indexesByRecord.size());
+        indexesByRecord.forEach((recordId, indexes) -> futures.add(CompletableFuture.supplyAsync(
+            () -> executeRecordCommands(snapshots.get(recordId), commands, indexes, results),
+            batchExecutor
+        )));
+
+        List<RecordBatch> batches = new ArrayList<>(futures.size());
+        for (CompletableFuture<RecordBatch> future : futures) {
+            RecordBatch batch = future.join();
+            if (!batch.events().isEmpty()) {
+                batches.add(batch);
+            }
+        }
+
+        Map<String, RuntimeException> failures;
+        try {
+            failures = medicalRecordEventStorePort.collectEventsBatch(
+                batches.stream()
+                    .map(batch -> new StreamAppend(
+                        batch.snapshotBefore().getRecordId(),
+                        batch.firstCommand().getHospitalId(),
+                        batch.firstCommand().getUserId(),
+                        batch.snapshotBefore().getVersion() + 1,
+                        batch.events()
+                    ))
+                    .toList()
+            );
+        } catch (RuntimeException e) {
+            batches.forEach(batch -> batch.appliedIndexes().forEach(index -> compensateCommand(commands.get(index))));
+            throw e;
+        }
+
+        for (RecordBatch batch : batches) {
+            String recordId = batch.snapshotBefore().getRecordId();
+            RuntimeException failure = failures.get(recordId);
+            for (int index : batch.appliedIndexes()) {
+                results[index] = failure == null
+                    ? BatchCommandResultDto.success(index, recordId)
+                    : BatchCommandResultDto.failure(index, recordId, failure.getMessage());
+            }
+            if (failure != null) {
+                batch.appliedIndexes().forEach(index -> compensateCommand(commands.get(index)));
+                continue;
+            }
+
+            eventOutboxDispatcher.publish(recordId, batch.snapshotBefore().getVersion() + 1, batch.events());
+            if (shouldCreateSnapshot(batch.snapshotAfter())) {
+                saveMedicalRecordSnapshotPort.SaveMedicalRecordSnapshot(batch.snapshotAfter());
+            }
+        }
+        return List.of(results);
+    }
+
+    private RecordBatch executeRecordCommands(
+        MedicalRecordSnapshot snapshotBefore,
+        List<? extends StreamCommand> commands,
+        List<Integer> indexes,
+        BatchCommandResultDto[] results
+    ) {
+        MedicalRecordSnapshot current = snapshotBefore;
+        StreamCommand firstCommand = null;
+        List<Integer> appliedIndexes = new ArrayList<>(indexes.size());
+        List<MedicalRecordEvent> events = new ArrayList<>();
+
+        for (int index : indexes) {
+            StreamCommand command = commands.get(index);
+            try {
+                List<MedicalRecordEvent> produced = new ArrayList<>();
+                produceEventsForCommand(current.getState(), command).forEach(produced::add);
+                current = applyEvents(current, produced);
+                events.addAll(produced);
+                appliedIndexes.add(index);
+                if (firstCommand == null) {
+                    firstCommand = command;
+                }
+            } catch (RuntimeException e) {
+                // 실패한 명령은 상태를 바꾸지 않고 다음 명령을 이어서 처리
+                results[index] = BatchCommandResultDto.failure(index, command.getRecordId(), e.getMessage());
+            }
+        }
+        return new RecordBatch(snapshotBefore, firstCommand, appliedIndexes, events, current);
+    }
+
+    /**
+     * 종료시 새 작업을 받지 않고, 실행 중인 일괄 명령과 이력 조회가 끝날 때까지 잠시 기다린 뒤 풀을 정리
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        batchExecutor.shutdown();
+        historyPool.shutdown();
+        if (!batchExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            batchExecutor.shutdownNow();
+        }
+        if (!historyPool.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            historyPool.shutdownNow();
+        }
+    }
+
+    private static ExecutorService createBatchExecutor() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        return Executors.newFixedThreadPool(BATCH_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "record-batch-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private record RecordBatch(
+        MedicalRecordSnapshot snapshotBefore,
+        StreamCommand firstCommand,
+        List<Integer> appliedIndexes,
+        List<MedicalRecordEvent> events,
+        MedicalRecordSnapshot snapshotAfter
+    ) {}
+
     private boolean shouldCreateSnapshot(MedicalRecordSnapshot snapshot) {
         return snapshot.getVersion() % SNAPSHOT_INTERVAL == 0;
     }
@@ -2,11 +2,14 @@ package com.medops.application.port.in.usecase;
 
 import com.medops.application.port.in.command.UpdateBusinessHourCommand;
 import com.medops.domain.model.BusinessHour;
+import com.medops.domain.model.Hospital;
+import com.medops.domain.model.WeeklySchedule;
 
 import java.util.List;
 
 public interface BusinessHourUseCase {
-    List<BusinessHour> initializeBusinessHours(String HospitalId);
+    List<BusinessHour> initializeBusinessHours(Hospital hospital);
     List<BusinessHour> getBusinessHoursByHospitalId(String hospitalId);
     void updateBusinessHour(UpdateBusinessHourCommand command);
+    WeeklySchedule getWeeklySchedule(String hospitalId);
 }
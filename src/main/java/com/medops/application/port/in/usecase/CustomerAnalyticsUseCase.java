@@ -0,0 +1,27 @@
+package com.medops.application.port.in.usecase;
+
+import java.time.Instant;
+import java.util.OptionalLong;
+
+public interface CustomerAnalyticsUseCase {
+
+    /**
+     * 첫 방문 색인이 비어있으면 뷰 모델로부터 만들고, 고유 고객 추정기를 채운다
+     */
+    void warmUp();
+
+    /**
+     * 생성된 예약을 첫 방문 색인과 고유 고객 추정기에 반영
+     */
+    void recordVisit(String hospitalId, String userId, Instant visitAt);
+
+    /**
+     * 기간 내 첫 방문한 신규 고객 수
+     */
+    long countNewCustomers(String hospitalId, Instant from, Instant to);
+
+    /**
+     * 기간 내 고유 고객 수 추정치. 추정기를 사용하지 않으면 비어있다
+     */
+    OptionalLong estimateUniqueCustomers(String hospitalId, Instant from, Instant to);
+}
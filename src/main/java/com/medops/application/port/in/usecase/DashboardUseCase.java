@@ -55,4 +55,10 @@ public interface DashboardUseCase {
      * @return 의사별-시술별 예약 현황 통계
      */
     List<DoctorTreatmentStatsDto> getDoctorTreatmentStats(String hospitalId, int days);
+
+    /**
+     * 예약 변경이 반영된 병원의 대시보드 캐시 무효화
+     * @param hospitalId 병원 ID
+     */
+    void evictHospital(String hospitalId);
 }
\ No newline at end of file
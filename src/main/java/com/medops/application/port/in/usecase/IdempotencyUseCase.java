@@ -0,0 +1,17 @@
+package com.medops.application.port.in.usecase;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.medops.application.dto.IdempotentRequestDto;
+
+import java.util.function.Supplier;
+
+public interface IdempotencyUseCase {
+    /**
+     * 같은 요청자의 같은 키로 들어온 요청은 한 번만 실행하고, 재시도에는 처음 실행한 결과를 돌려준다.
+     * 같은 키로 메서드, 경로, 본문이 다른 요청이 들어오면 실행하지 않고 IdempotencyKeyReused 를 던진다.
+     * 키가 없으면 그대로 실행한다.
+     */
+    <T> T execute(String idempotencyKey, String requesterId, IdempotentRequestDto request, TypeReference<T> resultType, Supplier<T> action);
+
+    void execute(String idempotencyKey, String requesterId, IdempotentRequestDto request, Runnable action);
+}
@@ -0,0 +1,22 @@
+package com.medops.application.port.in.usecase;
+
+import com.medops.adapter.out.persistence.mongodb.document.MedicalRecordViewDocument;
+import com.medops.application.dto.DashboardStatsDto;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface LiveDashboardUseCase {
+
+    /**
+     * 알림 스트림을 구독한 병원의 오늘 요약을 계산해 두고 새로 연결된 구독자에게 현재 값을 전송
+     * @param hospitalId 병원 ID
+     * @param emitter 새로 연결된 구독자
+     * @return 오늘 요약
+     */
+    DashboardStatsDto.TodayStats track(String hospitalId, SseEmitter emitter);
+
+    /**
+     * 예약 뷰 모델 변경을 오늘 요약에 반영하고 달라졌으면 구독자에게 전송
+     * @param viewDoc 변경이 반영된 예약 뷰 모델
+     */
+    void apply(MedicalRecordViewDocument viewDoc);
+}
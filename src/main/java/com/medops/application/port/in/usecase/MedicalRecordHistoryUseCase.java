@@ -0,0 +1,15 @@
+package com.medops.application.port.in.usecase;
+
+import com.medops.application.dto.MedicalRecordStateDto;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface MedicalRecordHistoryUseCase {
+    MedicalRecordStateDto getMedicalRecordAt(String recordId, Instant at);
+
+    /**
+     * 진료 시간이 startTime ~ endTime 인 병원 예약들의 at 시점 상태. at 이후에 생성된 예약은 포함하지 않는다.
+     */
+    List<MedicalRecordStateDto> getHospitalMedicalRecordsAt(String hospitalId, Instant startTime, Instant endTime, Instant at);
+}
@@ -5,4 +5,10 @@ import java.time.Instant;
 public interface ReservationValidationUseCase {
 
     boolean isReservationAvailable(String hospitalId, String treatmentProductId, Instant startTime, Instant endTime);
+    boolean reserve(String hospitalId, String treatmentProductId, Instant startTime, Instant endTime);
+    /**
+     * 예약이 선점한 슬롯을 반환. 같은 예약의 반환이 다시 들어와도 한 번만 반영된다.
+     */
+    void release(String recordId, String treatmentProductId, Instant startTime, Instant endTime);
+    void warmUp();
 }
@@ -0,0 +1,15 @@
+package com.medops.application.port.in.usecase;
+
+import com.medops.application.dto.AvailableSlotDto;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface SlotAvailabilityUseCase {
+    void warmUp();
+    void book(String recordId, String treatmentProductId, Instant startTime, Instant endTime);
+    void release(String recordId);
+    boolean isAvailable(String treatmentProductId, Instant startTime, Instant endTime);
+    List<AvailableSlotDto> getAvailableSlots(String hospitalId, String treatmentProductId, LocalDate from, LocalDate to);
+}
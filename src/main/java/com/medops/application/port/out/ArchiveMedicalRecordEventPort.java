@@ -0,0 +1,17 @@
+package com.medops.application.port.out;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface ArchiveMedicalRecordEventPort {
+    /**
+     * closedBefore 이전에 취소/완료된 예약 ID 를 afterRecordId 다음부터 ID 순으로 최대 limit 개 조회
+     */
+    List<String> findClosedRecordIds(Instant closedBefore, String afterRecordId, int limit);
+
+    /**
+     * 예약 스트림을 압축 보관 문서 하나로 옮기고 운영 컬렉션의 이벤트와 스냅샷을 지운다.
+     * closedBefore 이후의 이벤트나 전달되지 않은 이벤트가 있으면 옮기지 않고 false 를 돌려준다.
+     */
+    boolean archive(String recordId, Instant closedBefore);
+}
@@ -0,0 +1,19 @@
+package com.medops.application.port.out;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.util.Optional;
+
+public interface DashboardCachePort {
+    /**
+     * 병원별 대시보드 데이터 세대. 예약 변경이 반영될 때마다 증가하며 이전 세대의 캐시는 사용하지 않는다.
+     */
+    long loadGeneration(String hospitalId);
+    void increaseGeneration(String hospitalId);
+
+    /**
+     * 여러 인스턴스가 공유하는 계산 결과. 공유 저장소가 없으면 항상 비어있다.
+     */
+    <T> Optional<T> loadSnapshot(String key, TypeReference<T> type);
+    void saveSnapshot(String key, Object value);
+}
@@ -0,0 +1,12 @@
+package com.medops.application.port.out;
+
+import java.time.LocalDate;
+
+public interface DistinctCustomerPort {
+    void addCustomer(String hospitalId, LocalDate date, String userId);
+
+    /**
+     * [from, to] 기간 동안 방문한 고유 고객 수 추정치
+     */
+    long countDistinctCustomers(String hospitalId, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,29 @@
+package com.medops.application.port.out;
+
+import com.medops.application.eventsourcing.event.OutboxEvent;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface EventOutboxPort {
+    /**
+     * createdBefore 이전에 기록되고 아직 전달되지 않은 이벤트를 위치 순으로 최대 batchSize 개 선점
+     * 선점한 이벤트는 lease 동안 다른 인스턴스가 가져가지 않으며, 그 안에 전달 완료를 기록하지 못하면 다시 선점할 수 있다.
+     */
+    List<OutboxEvent> claimPending(int batchSize, Instant createdBefore, Duration lease);
+
+    void markDispatched(Collection<String> eventIds);
+
+    /**
+     * 스트림에 version 보다 앞선 버전 중 아직 전달되지 않은 이벤트가 있는지 여부
+     * 있으면 뒤의 이벤트를 먼저 전달하지 않고 아웃박스에서 순서대로 전달되도록 한다.
+     */
+    boolean hasUndispatchedBefore(String recordId, int version);
+
+    /**
+     * 명령 처리 중 바로 전달한 스트림의 버전 구간을 전달 완료로 기록
+     */
+    void markDispatched(String recordId, int fromVersion, int toVersion);
+}
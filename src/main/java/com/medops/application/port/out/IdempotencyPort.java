@@ -0,0 +1,33 @@
+package com.medops.application.port.out;
+
+import java.time.Duration;
+import java.util.Optional;
+
+public interface IdempotencyPort {
+    /**
+     * 처리가 끝난 요청의 결과(JSON). 처리 중이거나 처음 보는 키면 비어있다.
+     */
+    Optional<String> loadResult(String key);
+
+    /**
+     * 키를 처리 중으로 선점하고 요청 지문을 함께 남긴다. 이미 선점되었거나 결과가 있으면 false
+     */
+    boolean reserve(String key, String fingerprint, Duration ttl);
+
+    /**
+     * 처리 중인 선점의 요청 지문. 선점이 없거나 이미 결과가 있으면 비어있다.
+     */
+    Optional<String> loadReservedFingerprint(String key);
+
+    /**
+     * 처리 중인 선점의 만료를 ttl 뒤로 늦춘다. 선점이 없거나 이미 결과가 있으면 false
+     */
+    boolean extend(String key, Duration ttl);
+
+    void saveResult(String key, String result, Duration ttl);
+
+    /**
+     * 처리에 실패한 요청의 선점을 풀어 같은 키로 다시 시도할 수 있게 한다.
+     */
+    void release(String key);
+}
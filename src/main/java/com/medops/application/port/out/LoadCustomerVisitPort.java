@@ -0,0 +1,11 @@
+package com.medops.application.port.out;
+
+import java.time.Instant;
+
+public interface LoadCustomerVisitPort {
+    /**
+     * 첫 방문 시각이 [from, to] 에 속하는 고객 수
+     */
+    long countFirstVisits(String hospitalId, Instant from, Instant to);
+    boolean hasFirstVisits();
+}
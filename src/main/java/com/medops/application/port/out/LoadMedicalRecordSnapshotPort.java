@@ -2,8 +2,21 @@ package com.medops.application.port.out;
 
 import com.medops.domain.model.MedicalRecordSnapshot;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 public interface LoadMedicalRecordSnapshotPort {
     Optional<MedicalRecordSnapshot> loadMedicalRecordSnapshot(String id);
+
+    /**
+     * 예약별 최신 스냅샷 (스냅샷이 없는 예약은 결과에 없음)
+     */
+    Map<String, MedicalRecordSnapshot> loadLatestSnapshots(Collection<String> recordIds);
+
+    /**
+     * at 시점까지 만들어진 스냅샷 중 가장 최신
+     */
+    Optional<MedicalRecordSnapshot> loadSnapshotAt(String recordId, Instant at);
 }
@@ -0,0 +1,8 @@
+package com.medops.application.port.out;
+
+import java.time.Instant;
+
+public interface LoadReservationSlotPort {
+    int loadReservedCount(String treatmentProductId, Instant startTime, Instant endTime);
+    boolean hasReservationSlots();
+}
@@ -1,8 +1,12 @@
 package com.medops.application.port.out;
 
 import com.medops.application.eventsourcing.event.MedicalRecordEvent;
+import com.medops.application.eventsourcing.event.PositionedEvent;
+import com.medops.application.eventsourcing.event.StreamAppend;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 
 public interface MedicalRecordEventStorePort {
     void collectEvents(
@@ -12,5 +16,33 @@ public interface MedicalRecordEventStorePort {
         Integer version,
         Iterable<MedicalRecordEvent> events
     );
+    /**
+     * fromVersion 이상의 이벤트를 버전 순으로 조회
+     * fromVersion 이 1 보다 크면 그 앞까지 스냅샷으로 복원한 것으로 보고, 보관된 스트림은 스냅샷이 지워지므로
+     * 운영 컬렉션에 이어지는 이벤트가 없으면 보관소를 확인하지 않는다. 아래 조회도 같다.
+     */
     List<Object> queryEvents(String recordId, Integer fromVersion);
+
+    /**
+     * 여러 스트림의 이벤트를 한 번에 기록
+     * 스트림 단위로 성공/실패하며, 실패한 스트림의 recordId 와 원인을 돌려준다.
+     */
+    Map<String, RuntimeException> collectEventsBatch(List<StreamAppend> appends);
+
+    /**
+     * 여러 스트림의 이벤트를 한 번의 조회로 가져온다. 스트림별로 지정한 버전 이상의 이벤트만 버전 순으로 담는다.
+     */
+    Map<String, List<MedicalRecordEvent>> queryEvents(Map<String, Integer> fromVersions);
+
+    /**
+     * fromVersion 이상이면서 until 시점까지 기록된 이벤트를 버전 순으로 조회
+     */
+    List<MedicalRecordEvent> queryEventsUntil(String recordId, Integer fromVersion, Instant until);
+
+    /**
+     * 전역 위치가 position 보다 큰 이벤트를 위치 순으로 최대 batchSize 개 조회
+     * 마지막으로 받은 이벤트의 위치를 다음 호출에 넘기면 이어서 읽을 수 있다.
+     * 기록이 끝나지 않은 위치보다 뒤의 이벤트는 기록이 끝날 때까지 돌려주지 않는다.
+     */
+    List<PositionedEvent> readAllFrom(long position, int batchSize);
 }
@@ -0,0 +1,12 @@
+package com.medops.application.port.out;
+
+import com.medops.domain.enums.TokenType;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Optional;
+
+public interface PrincipalCachePort {
+    Optional<UserDetails> get(TokenType tokenType, String id);
+    void put(TokenType tokenType, String id, UserDetails principal);
+    void evict(TokenType tokenType, String id);
+}
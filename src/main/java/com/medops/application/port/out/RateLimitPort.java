@@ -0,0 +1,10 @@
+package com.medops.application.port.out;
+
+import com.medops.domain.model.RateLimitRule;
+
+public interface RateLimitPort {
+    /**
+     * 토큰을 하나 사용한다. 허용되면 0, 거절되면 다음 토큰까지 기다려야 하는 밀리초를 반환
+     */
+    long tryAcquire(String key, RateLimitRule rule);
+}
@@ -2,6 +2,9 @@ package com.medops.application.port.out;
 
 import com.medops.domain.model.BusinessHour;
 
+import java.util.List;
+
 public interface SaveBusinessHourPort {
     BusinessHour saveBusinessHour(BusinessHour businessHour);
+    List<BusinessHour> saveAllBusinessHours(List<BusinessHour> businessHours);
 }
@@ -0,0 +1,15 @@
+package com.medops.application.port.out;
+
+import java.time.Instant;
+
+public interface SaveCustomerVisitPort {
+    /**
+     * 더 이른 방문이면 첫 방문 시각을 갱신한다
+     */
+    void saveVisit(String hospitalId, String userId, Instant visitAt);
+
+    /**
+     * 예약 뷰 모델로부터 병원/고객별 첫 방문 시각을 다시 만든다
+     */
+    void rebuildFirstVisits();
+}
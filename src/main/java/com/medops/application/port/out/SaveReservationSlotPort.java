@@ -0,0 +1,17 @@
+package com.medops.application.port.out;
+
+import java.time.Instant;
+
+public interface SaveReservationSlotPort {
+    boolean reserveSlot(String treatmentProductId, Instant startTime, Instant endTime, int maxCapacity);
+
+    /**
+     * 예약이 차지한 슬롯의 카운터를 1 감소. 슬롯마다 이미 반환한 예약을 기록해 같은 예약은 다시 감소시키지 않는다.
+     */
+    void releaseSlot(String recordId, String treatmentProductId, Instant startTime, Instant endTime);
+
+    /**
+     * 예약 뷰 모델의 취소되지 않은 예약으로 아직 끝나지 않은 슬롯의 카운터를 다시 만든다
+     */
+    void rebuildSlots();
+}
@@ -2,8 +2,11 @@ package com.medops.application.port.out;
 
 import com.medops.domain.model.TreatmentProduct;
 
+import java.util.List;
+
 public interface SaveTreatmentProductPort {
     TreatmentProduct saveTreatmentProduct(TreatmentProduct treatmentProduct);
+    List<TreatmentProduct> saveAllTreatmentProducts(List<TreatmentProduct> treatmentProducts);
     void deleteTreatmentProduct(String treatmentProductId);
     void recoverTreatmentProduct(String treatmentProductId);
 }
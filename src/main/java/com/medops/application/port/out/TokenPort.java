@@ -1,9 +1,13 @@
 package com.medops.application.port.out;
 
 import com.medops.domain.enums.TokenType;
+import com.medops.domain.model.Admin;
+import com.medops.domain.model.TokenClaims;
 
 public interface TokenPort {
     String generateToken(String id, TokenType tokenType);
+    String generateAdminToken(Admin admin, long tokenVersion);
+    TokenClaims parse(String token);
     String parseUserIdFromToken(String token);
     TokenType parseTokenType(String token);
 }
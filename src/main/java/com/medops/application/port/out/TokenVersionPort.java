@@ -0,0 +1,6 @@
+package com.medops.application.port.out;
+
+public interface TokenVersionPort {
+    long loadTokenVersion(String adminId);
+    void increaseTokenVersion(String adminId);
+}
@@ -13,7 +13,6 @@ import com.medops.domain.model.AdminRegistrationToken;
 import com.medops.domain.model.Hospital;
 import com.medops.domain.enums.AdminRole;
 import com.medops.domain.enums.AdminStatus;
-import com.medops.domain.enums.TokenType;
 import com.medops.application.port.in.usecase.AdminUseCase;
 import com.medops.domain.model.Admin;
 import lombok.RequiredArgsConstructor;
@@ -36,15 +35,23 @@ public class AdminService implements AdminUseCase {
     private final VerificationCodePort verificationCodePort;
     private final SaveAdminRegistrationTokenPort saveAdminRegistrationTokenPort;
     private final LoadAdminRegistrationTokenPort loadAdminRegistrationTokenPort;
+    private final TokenVersionPort tokenVersionPort;
 
     @Override
     public String loginAdmin(AdminLoginRequest request) {
-        Admin admin = loadAdminPort.loadAdminByEmail(request.email()).orElseThrow(() -> new NotFoundResource("사용자 찾을수 없음"));
+        Admin admin = loadAdminPort.loadAdminByEmail(request.email())
+            .filter(found -> !found.isDeleted())
+            .orElseThrow(() -> new NotFoundResource("사용자 찾을수 없음"));
         if (!passwordEncoder.matches(request.password(), admin.getPassword())){
             throw new WrongPassword();
         }
+        // 이전 cost 로 저장된 해시는 평문을 알고 있는 로그인 시점에 다시 해시한다
+        if (passwordEncoder.upgradeEncoding(admin.getPassword())) {
+            admin.setPassword(passwordEncoder.encode(request.password()));
+            saveAdminPort.saveAdmin(admin);
+        }
 
-        return tokenPort.generateToken(admin.getId(), TokenType.ADMIN);
+        return tokenPort.generateAdminToken(admin, tokenVersionPort.loadTokenVersion(admin.getId()));
     }
 
     @Override
@@ -111,6 +118,7 @@ public class AdminService implements AdminUseCase {
             request.adminName(), passwordEncoder.encode(request.password())
         );
         saveAdminPort.saveAdmin(admin);
+        tokenVersionPort.increaseTokenVersion(admin.getId());
     }
 
     @Override
@@ -125,6 +133,8 @@ public class AdminService implements AdminUseCase {
         String encodedPassword = passwordEncoder.encode(command.newPassword());
         admin.setPassword(encodedPassword);
         saveAdminPort.saveAdmin(admin);
+        // 비밀번호 변경 전에 발급된 클레임 토큰 폐기
+        tokenVersionPort.increaseTokenVersion(admin.getId());
     }
 
     @Override
@@ -3,11 +3,11 @@ package com.medops.application.service;
 import com.medops.application.port.in.command.UpdateBusinessHourCommand;
 import com.medops.application.port.in.usecase.BusinessHourUseCase;
 import com.medops.application.port.out.LoadBusinessHourPort;
-import com.medops.application.port.out.LoadHospitalPort;
 import com.medops.application.port.out.SaveBusinessHourPort;
 import com.medops.common.exception.NotFoundResource;
 import com.medops.domain.model.BusinessHour;
 import com.medops.domain.model.Hospital;
+import com.medops.domain.model.WeeklySchedule;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -15,24 +15,26 @@ import java.time.DayOfWeek;
 import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @RequiredArgsConstructor
 public class BusinessHourService implements BusinessHourUseCase {
     private final SaveBusinessHourPort saveBusinessHourPort;
-    private final LoadHospitalPort loadHospitalPort;
     private final LoadBusinessHourPort loadBusinessHourPort;
 
-    @Override
-    public List<BusinessHour> initializeBusinessHours(String HospitalId) {
-        Hospital hospital = loadHospitalPort.loadHospitalById(HospitalId).orElseThrow();
+    // 병원별로 미리 계산한 주간 영업 스케줄
+    private final Map<String, WeeklySchedule> weeklySchedules = new ConcurrentHashMap<>();
 
+    @Override
+    public List<BusinessHour> initializeBusinessHours(Hospital hospital) {
         List<BusinessHour> businessHours = new ArrayList<BusinessHour>();
 
         EnumSet.allOf(DayOfWeek.class).forEach(dayOfWeek -> {
             boolean isWeekend = dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY;
-            BusinessHour businessHour = BusinessHour.builder()
+            businessHours.add(BusinessHour.builder()
                 .id(UUID.randomUUID().toString())
                 .hospital(hospital)
                 .dayOfWeek(dayOfWeek)
@@ -41,10 +43,11 @@ public class BusinessHourService implements BusinessHourUseCase {
                 .closeTime(isWeekend? null: "18:00")
                 .breakStartTime(isWeekend? null: "12:00")
                 .breakEndTime(isWeekend? null: "13:00")
-                .build();
-
-            saveBusinessHourPort.saveBusinessHour(businessHour);
+                .build());
         });
+
+        saveBusinessHourPort.saveAllBusinessHours(businessHours);
+        weeklySchedules.put(hospital.getId(), WeeklySchedule.compile(businessHours));
         return businessHours;
     }
 
@@ -72,5 +75,23 @@ public class BusinessHourService implements BusinessHourUseCase {
             .isClosed(command.closed())
             .build()
         );
+        rebuildWeeklySchedule(businessHour.getHospital().getId());
+    }
+
+    /**
+     * 조회 결과는 영업시간이 변경될 때마다 새 인스턴스로 교체되므로
+     * 호출하는 쪽은 인스턴스 비교로 변경 여부를 알 수 있다.
+     */
+    @Override
+    public WeeklySchedule getWeeklySchedule(String hospitalId) {
+        return weeklySchedules.computeIfAbsent(hospitalId, this::compileWeeklySchedule);
+    }
+
+    private void rebuildWeeklySchedule(String hospitalId) {
+        weeklySchedules.put(hospitalId, compileWeeklySchedule(hospitalId));
+    }
+
+    private WeeklySchedule compileWeeklySchedule(String hospitalId) {
+        return WeeklySchedule.compile(loadBusinessHourPort.loadBusinessHoursByHospitalId(hospitalId));
     }
 }
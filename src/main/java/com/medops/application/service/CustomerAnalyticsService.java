@@ -0,0 +1,85 @@
+package com.medops.application.service;
+
+import com.medops.adapter.out.persistence.mongodb.document.MedicalRecordViewDocument;
+import com.medops.application.port.in.usecase.CustomerAnalyticsUseCase;
+import com.medops.application.port.out.DistinctCustomerPort;
+import com.medops.application.port.out.LoadCustomerVisitPort;
+import com.medops.application.port.out.LoadHospitalPort;
+import com.medops.application.port.out.LoadMedicalRecordViewPort;
+import com.medops.application.port.out.SaveCustomerVisitPort;
+import com.medops.domain.model.Hospital;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.OptionalLong;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CustomerAnalyticsService implements CustomerAnalyticsUseCase {
+    private final LoadCustomerVisitPort loadCustomerVisitPort;
+    private final SaveCustomerVisitPort saveCustomerVisitPort;
+    private final DistinctCustomerPort distinctCustomerPort;
+    private final LoadHospitalPort loadHospitalPort;
+    private final HospitalZoneResolver hospitalZoneResolver;
+    private final LoadMedicalRecordViewPort loadMedicalRecordViewPort;
+
+    // 예약이 매우 많은 병원은 기간 내 예약 목록 대신 추정기로 고유 고객 수를 계산
+    @Value("${dashboard.unique-customers.estimate:false}")
+    private boolean estimateUniqueCustomers = false;
+
+    @Value("${dashboard.unique-customers.warm-up-days:31}")
+    private int warmUpDays = 31;
+
+    @Override
+    public void warmUp() {
+        if (!loadCustomerVisitPort.hasFirstVisits()) {
+            saveCustomerVisitPort.rebuildFirstVisits();
+        }
+        if (!estimateUniqueCustomers) {
+            return;
+        }
+
+        // 추정기는 같은 고객을 여러 번 넣어도 결과가 같으므로 공유 저장소여도 다시 채워도 된다
+        // 날짜 구분은 병원 시간대 기준이므로 기간도 병원마다 계산한다
+        int count = 0;
+        for (Hospital hospital : loadHospitalPort.loadAllHospitals()) {
+            ZoneId zone = hospitalZoneResolver.zoneOf(hospital);
+            LocalDate today = LocalDate.now(zone);
+            Instant from = today.minusDays(warmUpDays - 1).atStartOfDay(zone).toInstant();
+            Instant to = today.plusDays(1).atStartOfDay(zone).toInstant();
+            for (MedicalRecordViewDocument viewDoc : loadMedicalRecordViewPort.loadMedicalRecordsByHospitalInRange(hospital.getId(), from, to)) {
+                distinctCustomerPort.addCustomer(viewDoc.getHospitalId(), LocalDate.ofInstant(viewDoc.getStartTime(), zone), viewDoc.getUserId());
+                count++;
+            }
+        }
+        log.info("고유 고객 추정기 초기화 완료: 예약 수={}, 기간={}일", count, warmUpDays);
+    }
+
+    @Override
+    public void recordVisit(String hospitalId, String userId, Instant visitAt) {
+        saveCustomerVisitPort.saveVisit(hospitalId, userId, visitAt);
+        distinctCustomerPort.addCustomer(hospitalId, LocalDate.ofInstant(visitAt, hospitalZoneResolver.zoneOf(hospitalId)), userId);
+    }
+
+    @Override
+    public long countNewCustomers(String hospitalId, Instant from, Instant to) {
+        return loadCustomerVisitPort.countFirstVisits(hospitalId, from, to);
+    }
+
+    @Override
+    public OptionalLong estimateUniqueCustomers(String hospitalId, Instant from, Instant to) {
+        if (!estimateUniqueCustomers) {
+            return OptionalLong.empty();
+        }
+        ZoneId zone = hospitalZoneResolver.zoneOf(hospitalId);
+        return OptionalLong.of(distinctCustomerPort.countDistinctCustomers(
+            hospitalId, LocalDate.ofInstant(from, zone), LocalDate.ofInstant(to, zone)
+        ));
+    }
+}
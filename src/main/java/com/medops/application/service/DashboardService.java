@@ -6,21 +6,32 @@ import com.medops.application.dto.DashboardTrendsDto;
 import com.medops.application.dto.DoctorStatsDto;
 import com.medops.application.dto.DoctorTreatmentStatsDto;
 import com.medops.application.dto.HeatmapDto;
+import com.medops.application.port.in.usecase.CustomerAnalyticsUseCase;
 import com.medops.application.port.in.usecase.DashboardUseCase;
 import com.medops.application.port.in.usecase.MedicalRecordViewUseCase;
+import com.medops.application.port.out.DashboardCachePort;
 import com.medops.application.port.out.LoadTreatmentProductPort;
 import com.medops.domain.enums.MedicalRecordStatus;
+import com.medops.domain.model.LocalTimeBuckets;
+import com.medops.domain.model.TreatmentPriceTable;
 import com.medops.domain.model.TreatmentProduct;
+import com.fasterxml.jackson.core.type.TypeReference;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
-import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -30,21 +41,94 @@ public class DashboardService implements DashboardUseCase {
     
     private final MedicalRecordViewUseCase medicalRecordViewUseCase;
     private final LoadTreatmentProductPort loadTreatmentProductPort;
+    private final DashboardCachePort dashboardCachePort;
+    private final CustomerAnalyticsUseCase customerAnalyticsUseCase;
+    private final HospitalZoneResolver hospitalZoneResolver;
 
-    private static final ZoneId SEOUL_ZONE = ZoneId.of("Asia/Seoul");
+    // 조회 가능한 최대 기간 (1년)
+    private static final int MAX_DAYS = 365;
+    private static final int MAX_LOCAL_CACHE_SIZE = 10_000;
+
+    // 대시보드는 화면을 열어둔 채 주기적으로 조회하므로 예약 변경이 없으면 계산 결과를 재사용한다
+    // 예약 변경이 반영되면 병원의 세대가 올라가 이전 세대의 결과는 사용되지 않는다
+    private final Map<DashboardCacheKey, CachedResult> localCache = new ConcurrentHashMap<>();
+
+    // 세대 증가를 놓친 경우에 대한 안전장치
+    @Value("${dashboard.cache.ttl-seconds:300}")
+    private long cacheTtlSeconds = 300;
+
+    private enum DashboardEndpoint {
+        STATS, TRENDS, SUMMARY, HEATMAP, DOCTOR_STATS, DOCTOR_TREATMENT_STATS
+    }
+
+    private record DashboardCacheKey(String hospitalId, DashboardEndpoint endpoint, int days, LocalDate date) {
+        String toSnapshotKey(long generation) {
+            return "dashboard:" + hospitalId + ":" + generation + ":" + endpoint + ":" + days + ":" + date;
+        }
+    }
+
+    private record CachedResult(long generation, Object value, long expiresAtNanos) {}
     
+    @Override
+    public void evictHospital(String hospitalId) {
+        dashboardCachePort.increaseGeneration(hospitalId);
+        localCache.keySet().removeIf(key ->
+            key.hospitalId().equals(hospitalId) || key.date().isBefore(LocalDate.now(zoneOf(key.hospitalId())))
+        );
+    }
+
+    /**
+     * (병원, 조회 종류, 기간, 오늘 날짜) 단위로 계산 결과를 재사용한다.
+     * 인스턴스 캐시를 먼저 확인하고, 없으면 공유 캐시, 그래도 없으면 계산 후 양쪽에 저장한다.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T cached(String hospitalId, DashboardEndpoint endpoint, int days, TypeReference<T> type, Supplier<T> loader) {
+        // 계산 전에 세대를 읽어야 계산 중 반영된 변경이 다음 조회에서 누락되지 않는다
+        long generation = dashboardCachePort.loadGeneration(hospitalId);
+        DashboardCacheKey key = new DashboardCacheKey(hospitalId, endpoint, days, LocalDate.now(zoneOf(hospitalId)));
+        long now = System.nanoTime();
+
+        CachedResult cachedResult = localCache.get(key);
+        if (cachedResult != null && cachedResult.generation() == generation && cachedResult.expiresAtNanos() - now > 0) {
+            return (T) cachedResult.value();
+        }
+
+        String snapshotKey = key.toSnapshotKey(generation);
+        T value = dashboardCachePort.loadSnapshot(snapshotKey, type).orElseGet(() -> {
+            T computed = loader.get();
+            dashboardCachePort.saveSnapshot(snapshotKey, computed);
+            return computed;
+        });
+
+        if (localCache.size() >= MAX_LOCAL_CACHE_SIZE) {
+            localCache.values().removeIf(result -> result.expiresAtNanos() - now <= 0);
+        }
+        localCache.put(key, new CachedResult(generation, value, now + TimeUnit.SECONDS.toNanos(cacheTtlSeconds)));
+        return value;
+    }
+
     // 공통 유틸리티 메서드들
+
+    private void validateDays(int days) {
+        if (days < 1 || days > MAX_DAYS) {
+            throw new IllegalArgumentException("조회 기간은 1일에서 " + MAX_DAYS + "일 사이여야 합니다.");
+        }
+    }
+
+    private ZoneId zoneOf(String hospitalId) {
+        return hospitalZoneResolver.zoneOf(hospitalId);
+    }
     
     /**
      * 오늘 날짜 범위 계산 (00:00:00 ~ 23:59:59.999)
      */
-    private Instant[] getTodayRange() {
-        Instant startOfToday = LocalDate.now(SEOUL_ZONE)
-            .atStartOfDay(SEOUL_ZONE)
+    private Instant[] getTodayRange(ZoneId zone) {
+        Instant startOfToday = LocalDate.now(zone)
+            .atStartOfDay(zone)
             .toInstant();
-        Instant endOfToday = LocalDate.now(SEOUL_ZONE)
+        Instant endOfToday = LocalDate.now(zone)
             .atTime(23, 59, 59, 999_999_999)
-            .atZone(SEOUL_ZONE)
+            .atZone(zone)
             .toInstant();
         return new Instant[]{startOfToday, endOfToday};
     }
@@ -52,14 +136,14 @@ public class DashboardService implements DashboardUseCase {
     /**
      * 이번 달 날짜 범위 계산 (1일 00:00:00 ~ 마지막일 23:59:59.999)
      */
-    private Instant[] getThisMonthRange() {
-        Instant startOfMonth = LocalDate.now(SEOUL_ZONE).withDayOfMonth(1)
-            .atStartOfDay(SEOUL_ZONE).toInstant();
-        LocalDate currentMonth = LocalDate.now(SEOUL_ZONE);
+    private Instant[] getThisMonthRange(ZoneId zone) {
+        Instant startOfMonth = LocalDate.now(zone).withDayOfMonth(1)
+            .atStartOfDay(zone).toInstant();
+        LocalDate currentMonth = LocalDate.now(zone);
         LocalDate lastDayOfMonth = currentMonth.withDayOfMonth(currentMonth.lengthOfMonth());
         Instant endOfMonth = lastDayOfMonth
             .atTime(23, 59, 59, 999_999_999)
-            .atZone(SEOUL_ZONE)
+            .atZone(zone)
             .toInstant();
         return new Instant[]{startOfMonth, endOfMonth};
     }
@@ -67,16 +151,23 @@ public class DashboardService implements DashboardUseCase {
     /**
      * N일간 날짜 범위 계산 (N일 전 00:00:00 ~ 오늘 23:59:59.999)
      */
-    private Instant[] getDaysRange(int days) {
-        LocalDate endDate = LocalDate.now(SEOUL_ZONE);
+    private Instant[] getDaysRange(int days, ZoneId zone) {
+        LocalDate endDate = LocalDate.now(zone);
         LocalDate startDate = endDate.minusDays(days - 1);
         
-        Instant startInstant = startDate.atStartOfDay(SEOUL_ZONE).toInstant();
-        Instant endInstant = endDate.atTime(23, 59, 59, 999_999_999).atZone(SEOUL_ZONE).toInstant();
+        Instant startInstant = startDate.atStartOfDay(zone).toInstant();
+        Instant endInstant = endDate.atTime(23, 59, 59, 999_999_999).atZone(zone).toInstant();
         
         return new Instant[]{startInstant, endInstant};
     }
     
+    /**
+     * N일간 (N일 전 ~ 오늘) 병원 시간대 기준 날짜/시간 버킷
+     */
+    private LocalTimeBuckets getDaysBuckets(int days, ZoneId zone) {
+        return LocalTimeBuckets.of(zone, LocalDate.now(zone).minusDays(days - 1), days);
+    }
+
     /**
      * 예약 상태별 카운팅 결과를 담는 내부 클래스
      */
@@ -118,54 +209,61 @@ public class DashboardService implements DashboardUseCase {
             return 0L;
         }
         
-        // 시술별 가격 정보 조회 (캐시 최적화 가능)
-        List<TreatmentProduct> treatments = loadTreatmentProductPort.loadTreatmentProductsByHospitalId(hospitalId);
-        Map<String, BigDecimal> priceMap = treatments.stream()
-            .collect(Collectors.toMap(
-                TreatmentProduct::getName,
-                TreatmentProduct::getPrice,
-                (existing, replacement) -> existing // 중복 시 기존 값 유지
-            ));
-        
+        TreatmentPriceTable priceTable = loadPriceTable(hospitalId);
+
         // 확정된 예약의 실제 매출 합계 계산
         return confirmedRecords.stream()
-            .mapToLong(record -> {
-                BigDecimal price = priceMap.getOrDefault(
-                    record.getTreatmentProductName(), 
-                    BigDecimal.valueOf(150_000L) // 기본값 (시술 상품이 없는 경우)
-                );
-                return price.longValue();
-            })
+            .mapToLong(record -> priceTable.priceOf(record.getTreatmentProductName()))
             .sum();
     }
+
+    /**
+     * 시술 이름별 가격표
+     */
+    private TreatmentPriceTable loadPriceTable(String hospitalId) {
+        return TreatmentPriceTable.of(loadTreatmentProductPort.loadTreatmentProductsByHospitalId(hospitalId));
+    }
     
     @Override
     public DashboardStatsDto getDashboardStats(String hospitalId) {
+        return cached(hospitalId, DashboardEndpoint.STATS, 0, new TypeReference<DashboardStatsDto>() {},
+            () -> computeDashboardStats(hospitalId));
+    }
+
+    private DashboardStatsDto computeDashboardStats(String hospitalId) {
+        ZoneId zone = zoneOf(hospitalId);
         // 오늘 데이터
-        Instant[] todayRange = getTodayRange();
+        Instant[] todayRange = getTodayRange(zone);
         List<MedicalRecordViewDocument> todayRecords = medicalRecordViewUseCase
             .getMedicalRecordsByHospital(hospitalId, todayRange[0], todayRange[1]);
 
         // 최근 30일 데이터 (더 일관성 있는 성과 측정)
-        Instant[] monthRange = getDaysRange(30);
+        Instant[] monthRange = getDaysRange(30, zone);
         List<MedicalRecordViewDocument> monthRecords = medicalRecordViewUseCase
             .getMedicalRecordsByHospital(hospitalId, monthRange[0], monthRange[1]);
 
         return DashboardStatsDto.builder()
             .today(calculateTodayStats(hospitalId, todayRecords))
-            .thisMonth(calculateMonthStats(hospitalId, monthRecords))
+            .thisMonth(calculateMonthStats(hospitalId, monthRecords, monthRange))
             .performance(calculatePerformanceStats(monthRecords))
             .build();
     }
     
     @Override
     public DashboardTrendsDto getDashboardTrends(String hospitalId, int days) {
-        Instant[] range = getDaysRange(days);
+        validateDays(days);
+        return cached(hospitalId, DashboardEndpoint.TRENDS, days, new TypeReference<DashboardTrendsDto>() {},
+            () -> computeDashboardTrends(hospitalId, days));
+    }
+
+    private DashboardTrendsDto computeDashboardTrends(String hospitalId, int days) {
+        ZoneId zone = zoneOf(hospitalId);
+        Instant[] range = getDaysRange(days, zone);
         List<MedicalRecordViewDocument> records = medicalRecordViewUseCase
             .getMedicalRecordsByHospital(hospitalId, range[0], range[1]);
         
         return DashboardTrendsDto.builder()
-            .dailyTrends(calculateDailyTrends(hospitalId, records, days))
+            .dailyTrends(calculateDailyTrends(hospitalId, records, getDaysBuckets(days, zone)))
             .timeSlotDistribution(List.of()) // 현재 사용되지 않음
             .treatmentPopularity(List.of()) // 현재 사용되지 않음 - 의사별 시술 API 사용
             .build();
@@ -173,7 +271,12 @@ public class DashboardService implements DashboardUseCase {
 
     @Override
     public DashboardStatsDto.TodayStats getRealTimeSummary(String hospitalId) {
-        Instant[] range = getTodayRange();
+        return cached(hospitalId, DashboardEndpoint.SUMMARY, 0, new TypeReference<DashboardStatsDto.TodayStats>() {},
+            () -> computeRealTimeSummary(hospitalId));
+    }
+
+    private DashboardStatsDto.TodayStats computeRealTimeSummary(String hospitalId) {
+        Instant[] range = getTodayRange(zoneOf(hospitalId));
         List<MedicalRecordViewDocument> todayRecords = medicalRecordViewUseCase
             .getMedicalRecordsByHospital(hospitalId, range[0], range[1]);
         
@@ -182,16 +285,29 @@ public class DashboardService implements DashboardUseCase {
 
     @Override
     public List<HeatmapDto> getHeatmapData(String hospitalId, int days) {
-        Instant[] range = getDaysRange(days);
+        validateDays(days);
+        return cached(hospitalId, DashboardEndpoint.HEATMAP, days, new TypeReference<List<HeatmapDto>>() {},
+            () -> computeHeatmapData(hospitalId, days));
+    }
+
+    private List<HeatmapDto> computeHeatmapData(String hospitalId, int days) {
+        ZoneId zone = zoneOf(hospitalId);
+        Instant[] range = getDaysRange(days, zone);
         List<MedicalRecordViewDocument> records = medicalRecordViewUseCase
             .getMedicalRecordsByHospital(hospitalId, range[0], range[1]);
         
-        return calculateHeatmapData(records);
+        return calculateHeatmapData(records, getDaysBuckets(days, zone));
     }
 
     @Override
     public List<DoctorStatsDto> getDoctorStats(String hospitalId, int days) {
-        Instant[] range = getDaysRange(days);
+        validateDays(days);
+        return cached(hospitalId, DashboardEndpoint.DOCTOR_STATS, days, new TypeReference<List<DoctorStatsDto>>() {},
+            () -> computeDoctorStats(hospitalId, days));
+    }
+
+    private List<DoctorStatsDto> computeDoctorStats(String hospitalId, int days) {
+        Instant[] range = getDaysRange(days, zoneOf(hospitalId));
         List<MedicalRecordViewDocument> records = medicalRecordViewUseCase
             .getMedicalRecordsByHospital(hospitalId, range[0], range[1]);
         
@@ -203,7 +319,7 @@ public class DashboardService implements DashboardUseCase {
         
         // 확정된 예약과 완료된 예약을 매출로 계산
         List<MedicalRecordViewDocument> revenueRecords = records.stream()
-            .filter(r -> r.getStatus() == MedicalRecordStatus.RESERVED || r.getStatus() == MedicalRecordStatus.COMPLETED)
+            .filter(r -> r.getStatus().isRevenue())
             .collect(Collectors.toList());
         
         long revenue = calculateActualRevenue(hospitalId, revenueRecords);
@@ -218,7 +334,7 @@ public class DashboardService implements DashboardUseCase {
             .build();
     }
     
-    private DashboardStatsDto.MonthStats calculateMonthStats(String hospitalId, List<MedicalRecordViewDocument> records) {
+    private DashboardStatsDto.MonthStats calculateMonthStats(String hospitalId, List<MedicalRecordViewDocument> records, Instant[] range) {
         int totalBookings = records.size();
         int completedTreatments = (int) records.stream()
             .filter(r -> r.getStatus() == MedicalRecordStatus.RESERVED)
@@ -226,16 +342,15 @@ public class DashboardService implements DashboardUseCase {
         
         // 확정된 예약과 완료된 예약을 매출로 계산
         List<MedicalRecordViewDocument> revenueRecords = records.stream()
-            .filter(r -> r.getStatus() == MedicalRecordStatus.RESERVED || r.getStatus() == MedicalRecordStatus.COMPLETED)
+            .filter(r -> r.getStatus().isRevenue())
             .collect(Collectors.toList());
         
         long revenue = calculateActualRevenue(hospitalId, revenueRecords);
         
-        // 고객 분석 (간단한 근사치)
-        int uniqueCustomers = records.stream()
-            .collect(Collectors.groupingBy(MedicalRecordViewDocument::getUserId))
-            .size();
-        int newCustomers = (int) (uniqueCustomers * 0.6); // 60% 신규 고객으로 가정
+        // 고객 분석: 기간 내 고유 고객 중 첫 방문이 기간 안에 있는 고객을 신규로 본다
+        int uniqueCustomers = (int) customerAnalyticsUseCase.estimateUniqueCustomers(hospitalId, range[0], range[1])
+            .orElseGet(() -> countUniqueCustomers(records));
+        int newCustomers = (int) Math.min(uniqueCustomers, customerAnalyticsUseCase.countNewCustomers(hospitalId, range[0], range[1]));
         int returningCustomers = uniqueCustomers - newCustomers;
         
         return DashboardStatsDto.MonthStats.builder()
@@ -247,6 +362,14 @@ public class DashboardService implements DashboardUseCase {
             .build();
     }
     
+    private long countUniqueCustomers(List<MedicalRecordViewDocument> records) {
+        Set<String> userIds = new HashSet<>();
+        for (MedicalRecordViewDocument record : records) {
+            userIds.add(record.getUserId());
+        }
+        return userIds.size();
+    }
+
     private DashboardStatsDto.PerformanceStats calculatePerformanceStats(List<MedicalRecordViewDocument> records) {
         if (records.isEmpty()) {
             return DashboardStatsDto.PerformanceStats.builder()
@@ -275,65 +398,60 @@ public class DashboardService implements DashboardUseCase {
             .build();
     }
     
-    private List<DashboardTrendsDto.DailyTrendData> calculateDailyTrends(String hospitalId, List<MedicalRecordViewDocument> records, int days) {
-        Map<LocalDate, List<MedicalRecordViewDocument>> recordsByDate = records.stream()
-            .collect(Collectors.groupingBy(r -> 
-                LocalDateTime.ofInstant(r.getStartTime(), SEOUL_ZONE).toLocalDate()
-            ));
-        
+    private List<DashboardTrendsDto.DailyTrendData> calculateDailyTrends(String hospitalId, List<MedicalRecordViewDocument> records, LocalTimeBuckets buckets) {
+        int days = buckets.days();
+        int[] totals = new int[days];
+        int[][] statusCounts = new int[days][MedicalRecordStatus.values().length];
+        long[] revenues = new long[days];
+        TreatmentPriceTable priceTable = loadPriceTable(hospitalId);
+
+        // 예약마다 날짜 경계와 비교해 해당 날짜 칸에 바로 누적
+        for (MedicalRecordViewDocument record : records) {
+            int day = buckets.dayIndexOf(record.getStartTime().toEpochMilli());
+            if (day < 0) {
+                continue;
+            }
+            totals[day]++;
+            statusCounts[day][record.getStatus().ordinal()]++;
+            if (record.getStatus().isRevenue()) {
+                revenues[day] += priceTable.priceOf(record.getTreatmentProductName());
+            }
+        }
+
         return IntStream.range(0, days)
-            .mapToObj(i -> {
-                LocalDate date = LocalDate.now(SEOUL_ZONE).minusDays(days - 1 - i);
-                List<MedicalRecordViewDocument> dayRecords = recordsByDate.getOrDefault(date, List.of());
-                
-                StatusCounts counts = countByStatus(dayRecords);
-                
-                // 확정된 예약과 완료된 예약을 매출로 계산
-                List<MedicalRecordViewDocument> revenueRecords = dayRecords.stream()
-                    .filter(r -> r.getStatus() == MedicalRecordStatus.RESERVED || r.getStatus() == MedicalRecordStatus.COMPLETED)
-                    .collect(Collectors.toList());
-                
-                long revenue = calculateActualRevenue(hospitalId, revenueRecords);
-                
-                return DashboardTrendsDto.DailyTrendData.builder()
-                    .date(date)
-                    .totalReservations(counts.total())
-                    .pendingReservations(counts.pending())
-                    .confirmedReservations(counts.confirmed())
-                    .canceledReservations(counts.canceled())
-                    .completedReservations(counts.completed())
-                    .revenue(revenue)
-                    .build();
-            })
+            .mapToObj(day -> DashboardTrendsDto.DailyTrendData.builder()
+                .date(buckets.dateOf(day))
+                .totalReservations(totals[day])
+                .pendingReservations(statusCounts[day][MedicalRecordStatus.PENDING.ordinal()])
+                .confirmedReservations(statusCounts[day][MedicalRecordStatus.RESERVED.ordinal()])
+                .canceledReservations(statusCounts[day][MedicalRecordStatus.CANCELED.ordinal()])
+                .completedReservations(statusCounts[day][MedicalRecordStatus.COMPLETED.ordinal()])
+                .revenue(revenues[day])
+                .build())
             .collect(Collectors.toList());
     }
 
-    private List<HeatmapDto> calculateHeatmapData(List<MedicalRecordViewDocument> records) {
-        // 요일별/시간대별 예약 건수 집계
-        Map<String, Integer> heatmapMap = records.stream()
-            .collect(Collectors.groupingBy(
-                record -> {
-                    LocalDateTime dateTime = LocalDateTime.ofInstant(record.getStartTime(), SEOUL_ZONE);
-                    int dayOfWeek = dateTime.getDayOfWeek().getValue() % 7; // 월요일=1 -> 일요일=0, 월요일=1, ...
-                    int hour = dateTime.getHour();
-                    return dayOfWeek + "_" + hour;
-                },
-                Collectors.collectingAndThen(Collectors.counting(), Math::toIntExact)
-            ));
-
-        // 모든 요일(0-6)과 시간(7-22)의 조합에 대해 HeatmapDto 생성
-        return IntStream.rangeClosed(0, 6) // 일요일(0) ~ 토요일(6)
-            .boxed()
-            .flatMap(dayOfWeek -> 
-                IntStream.rangeClosed(7, 22) // 07:00 ~ 22:00
-                    .mapToObj(hour -> {
-                        String key = dayOfWeek + "_" + hour;
-                        int count = heatmapMap.getOrDefault(key, 0);
-                        return new HeatmapDto(dayOfWeek, hour, count);
-                    })
-            )
-            .filter(dto -> dto.getCount() > 0) // 예약이 있는 시간대만 반환
-            .collect(Collectors.toList());
+    private List<HeatmapDto> calculateHeatmapData(List<MedicalRecordViewDocument> records, LocalTimeBuckets buckets) {
+        // 요일별/시간대별 예약 건수 집계 (요일(일요일=0) * 24 + 시)
+        int[] counts = new int[LocalTimeBuckets.WEEK_HOURS];
+        for (MedicalRecordViewDocument record : records) {
+            int slot = buckets.weekHourOf(record.getStartTime().toEpochMilli());
+            if (slot >= 0) {
+                counts[slot]++;
+            }
+        }
+
+        // 모든 요일(0-6)과 시간(7-22)의 조합 중 예약이 있는 시간대만 반환
+        List<HeatmapDto> heatmap = new ArrayList<>();
+        for (int dayOfWeek = 0; dayOfWeek < 7; dayOfWeek++) { // 일요일(0) ~ 토요일(6)
+            for (int hour = 7; hour <= 22; hour++) { // 07:00 ~ 22:00
+                int count = counts[dayOfWeek * LocalTimeBuckets.HOURS_PER_DAY + hour];
+                if (count > 0) {
+                    heatmap.add(new HeatmapDto(dayOfWeek, hour, count));
+                }
+            }
+        }
+        return heatmap;
     }
 
     private List<DoctorStatsDto> calculateDoctorStats(String hospitalId, List<MedicalRecordViewDocument> records) {
@@ -359,7 +477,7 @@ public class DashboardService implements DashboardUseCase {
                 
                 // 확정된 예약과 완료된 예약을 매출로 계산
                 List<MedicalRecordViewDocument> revenueRecords = doctorRecords.stream()
-                    .filter(r -> r.getStatus() == MedicalRecordStatus.RESERVED || r.getStatus() == MedicalRecordStatus.COMPLETED)
+                    .filter(r -> r.getStatus().isRevenue())
                     .collect(Collectors.toList());
                 
                 long revenue = calculateActualRevenue(hospitalId, revenueRecords);
@@ -387,62 +505,92 @@ public class DashboardService implements DashboardUseCase {
 
     @Override
     public List<DoctorTreatmentStatsDto> getDoctorTreatmentStats(String hospitalId, int days) {
+        validateDays(days);
+        return cached(hospitalId, DashboardEndpoint.DOCTOR_TREATMENT_STATS, days, new TypeReference<List<DoctorTreatmentStatsDto>>() {},
+            () -> computeDoctorTreatmentStats(hospitalId, days));
+    }
+
+    private List<DoctorTreatmentStatsDto> computeDoctorTreatmentStats(String hospitalId, int days) {
         // 해당 병원의 모든 시술 상품 조회
         List<TreatmentProduct> allTreatments = loadTreatmentProductPort.loadTreatmentProductsByHospitalId(hospitalId);
+
+        // 예약은 시술 이름으로 연결되므로 이름별로 열 번호를 부여 (같은 이름의 상품은 같은 열을 공유)
+        Map<String, Integer> treatmentColumns = new HashMap<>();
+        int[] productColumns = new int[allTreatments.size()];
+        for (int i = 0; i < allTreatments.size(); i++) {
+            productColumns[i] = treatmentColumns.computeIfAbsent(allTreatments.get(i).getName(), name -> treatmentColumns.size());
+        }
         
         // 기간 내 예약 데이터 조회
-        Instant[] range = getDaysRange(days);
+        Instant[] range = getDaysRange(days, zoneOf(hospitalId));
         List<MedicalRecordViewDocument> records = medicalRecordViewUseCase
             .getMedicalRecordsByHospital(hospitalId, range[0], range[1]);
-        
-        // 의사별로 그룹화
-        Map<String, List<MedicalRecordViewDocument>> recordsByDoctor = records.stream()
-            .filter(record -> record.getDoctorId() != null && !record.getDoctorId().isEmpty())
-            .collect(Collectors.groupingBy(MedicalRecordViewDocument::getDoctorId));
-        
-        return recordsByDoctor.entrySet().stream()
-            .map(entry -> {
-                String doctorId = entry.getKey();
-                List<MedicalRecordViewDocument> doctorRecords = entry.getValue();
-                String doctorName = doctorRecords.isEmpty() ? "Unknown" : doctorRecords.get(0).getDoctorName();
-                
-                // 해당 의사의 시술별 통계 계산
-                List<DoctorTreatmentStatsDto.TreatmentStatsDto> treatmentStats = allTreatments.stream()
-                    .map(treatment -> {
-                        // 해당 시술의 예약 수 계산
-                        int reservationCount = (int) doctorRecords.stream()
-                            .filter(record -> treatment.getName().equals(record.getTreatmentProductName()))
-                            .count();
-                        
-                        // 해당 시술의 매출 계산 (확정된 예약과 완료된 예약)
-                        List<MedicalRecordViewDocument> treatmentRevenueRecords = doctorRecords.stream()
-                            .filter(record -> treatment.getName().equals(record.getTreatmentProductName()))
-                            .filter(record -> record.getStatus() == MedicalRecordStatus.RESERVED || record.getStatus() == MedicalRecordStatus.COMPLETED)
-                            .collect(Collectors.toList());
-                        
-                        long revenue = treatmentRevenueRecords.stream()
-                            .mapToLong(record -> treatment.getPrice().longValue())
-                            .sum();
-                        
-                        return DoctorTreatmentStatsDto.TreatmentStatsDto.builder()
-                            .treatmentName(treatment.getName())
-                            .reservationCount(reservationCount)
-                            .revenue(revenue)
-                            .build();
-                    })
-                    .collect(Collectors.toList());
-                
-                return DoctorTreatmentStatsDto.builder()
-                    .doctorId(doctorId)
-                    .doctorName(doctorName)
-                    .treatmentStats(treatmentStats)
-                    .build();
-            })
-            .sorted((a, b) -> {
-                int totalA = a.treatmentStats().stream().mapToInt(DoctorTreatmentStatsDto.TreatmentStatsDto::reservationCount).sum();
-                int totalB = b.treatmentStats().stream().mapToInt(DoctorTreatmentStatsDto.TreatmentStatsDto::reservationCount).sum();
-                return Integer.compare(totalB, totalA); // 총 예약 수 기준 내림차순 정렬
-            })
-            .collect(Collectors.toList());
+
+        // 예약을 한 번만 훑으며 의사 x 시술 행렬에 예약 수와 매출 대상 건수를 누적
+        Map<String, Integer> doctorRows = new HashMap<>();
+        List<DoctorTreatmentRow> rows = new ArrayList<>();
+        for (MedicalRecordViewDocument record : records) {
+            String doctorId = record.getDoctorId();
+            if (doctorId == null || doctorId.isEmpty()) {
+                continue;
+            }
+            Integer rowIndex = doctorRows.get(doctorId);
+            if (rowIndex == null) {
+                rowIndex = rows.size();
+                doctorRows.put(doctorId, rowIndex);
+                rows.add(new DoctorTreatmentRow(doctorId, record.getDoctorName(), treatmentColumns.size()));
+            }
+            DoctorTreatmentRow row = rows.get(rowIndex);
+
+            Integer column = treatmentColumns.get(record.getTreatmentProductName());
+            if (column == null) {
+                continue;
+            }
+            row.reservationCounts[column]++;
+            row.totalReservations++;
+            if (record.getStatus().isRevenue()) {
+                row.revenueCounts[column]++;
+            }
+        }
+
+        // 매출은 상품별 가격 x 매출 대상 건수
+        rows.sort((a, b) -> Integer.compare(b.totalReservations, a.totalReservations)); // 총 예약 수 기준 내림차순 정렬
+        List<DoctorTreatmentStatsDto> result = new ArrayList<>(rows.size());
+        for (DoctorTreatmentRow row : rows) {
+            List<DoctorTreatmentStatsDto.TreatmentStatsDto> treatmentStats = new ArrayList<>(allTreatments.size());
+            for (int i = 0; i < allTreatments.size(); i++) {
+                TreatmentProduct treatment = allTreatments.get(i);
+                int column = productColumns[i];
+                treatmentStats.add(DoctorTreatmentStatsDto.TreatmentStatsDto.builder()
+                    .treatmentName(treatment.getName())
+                    .reservationCount(row.reservationCounts[column])
+                    .revenue(row.revenueCounts[column] * treatment.getPrice().longValue())
+                    .build());
+            }
+            result.add(DoctorTreatmentStatsDto.builder()
+                .doctorId(row.doctorId)
+                .doctorName(row.doctorName != null ? row.doctorName : "Unknown")
+                .treatmentStats(treatmentStats)
+                .build());
+        }
+        return result;
+    }
+
+    /**
+     * 의사 한 명의 시술 이름 열별 예약 수와 매출 대상(확정/완료) 건수
+     */
+    private static class DoctorTreatmentRow {
+        private final String doctorId;
+        private final String doctorName;
+        private final int[] reservationCounts;
+        private final int[] revenueCounts;
+        private int totalReservations;
+
+        DoctorTreatmentRow(String doctorId, String doctorName, int treatmentCount) {
+            this.doctorId = doctorId;
+            this.doctorName = doctorName;
+            this.reservationCounts = new int[treatmentCount];
+            this.revenueCounts = new int[treatmentCount];
+        }
     }
-}
\ No newline at end of file
+}
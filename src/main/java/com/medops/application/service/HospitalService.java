@@ -15,6 +15,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.time.ZoneId;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -41,6 +42,10 @@ public class HospitalService implements HospitalUseCase {
             throw new IllegalArgumentException("어드민 중복입니다");
         }
 
+        if (request.zoneId() != null && !ZoneId.getAvailableZoneIds().contains(request.zoneId())) {
+            throw new IllegalArgumentException("지원하지 않는 시간대입니다.");
+        }
+
         Instant now = Instant.now();
         Hospital savedHospital = saveHospitalPort.saveHospital(
             Hospital.builder()
@@ -48,6 +53,7 @@ public class HospitalService implements HospitalUseCase {
                 .name(request.name())
                 .address(request.address())
                 .createdAt(now)
+                .zoneId(request.zoneId())
                 .build()
         );
 
@@ -65,7 +71,7 @@ public class HospitalService implements HospitalUseCase {
         );
 
         // 기본 영업시간 생성
-        businessHourUseCase.initializeBusinessHours(savedHospital.getId());
+        businessHourUseCase.initializeBusinessHours(savedHospital);
 
         // 기본 상품 등록
         treatmentProductUseCase.initializeTreatmentProducts(savedHospital.getId());
@@ -0,0 +1,44 @@
+package com.medops.application.service;
+
+import com.medops.application.port.out.LoadHospitalPort;
+import com.medops.domain.model.Hospital;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 병원별 예약 날짜/시간 집계 기준 시간대
+ * 병원 시간대는 생성 후 바뀌지 않으므로 병원마다 한 번만 조회해 보관한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class HospitalZoneResolver {
+    private final LoadHospitalPort loadHospitalPort;
+
+    private final Map<String, ZoneId> hospitalZones = new ConcurrentHashMap<>();
+
+    /**
+     * 존재하지 않는 병원은 기본 시간대를 돌려주되 보관하지 않아 임의의 ID 로 캐시가 커지지 않는다.
+     */
+    public ZoneId zoneOf(String hospitalId) {
+        ZoneId zone = hospitalZones.get(hospitalId);
+        if (zone != null) {
+            return zone;
+        }
+        return loadHospitalPort.loadHospitalById(hospitalId)
+            .map(this::zoneOf)
+            .orElse(Hospital.DEFAULT_ZONE);
+    }
+
+    /**
+     * 이미 조회한 병원의 시간대를 보관하고 돌려준다.
+     */
+    public ZoneId zoneOf(Hospital hospital) {
+        ZoneId zone = hospital.toZoneId();
+        hospitalZones.put(hospital.getId(), zone);
+        return zone;
+    }
+}
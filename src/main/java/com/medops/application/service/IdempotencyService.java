@@ -0,0 +1,171 @@
+package com.medops.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.medops.application.dto.IdempotentRequestDto;
+import com.medops.application.port.in.usecase.IdempotencyUseCase;
+import com.medops.application.port.out.IdempotencyPort;
+import com.medops.common.exception.IdempotencyKeyReused;
+import com.medops.common.exception.IdempotentRequestInProgress;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 헤더로 명령 재시도를 안전하게 처리
+ * 처음 요청이 키를 선점하고 실행 결과를 남기며, 같은 키의 재시도는 명령을 다시 실행하지 않고 남긴 결과를 돌려준다.
+ * 선점은 명령이 실행되는 동안 주기적으로 연장하므로 일괄 명령처럼 오래 걸려도 중간에 풀리지 않고,
+ * 인스턴스가 종료되어 연장이 멈추면 짧은 시간 안에 풀려 다시 시도할 수 있다.
+ * 선점과 결과에는 요청 지문(메서드, 경로, 본문의 해시)을 함께 남겨 같은 키로 다른 요청이 오면 거부한다.
+ */
+@Slf4j
+@Service
+public class IdempotencyService implements IdempotencyUseCase {
+
+    private static final int MAX_KEY_LENGTH = 100;
+    private static final TypeReference<Object> NO_RESULT = new TypeReference<>() {};
+
+    private final IdempotencyPort idempotencyPort;
+    private final ObjectMapper objectMapper;
+    private final TaskScheduler taskScheduler;
+    private final Duration resultTtl;
+    private final Duration inProgressTtl;
+    private final Duration renewInterval;
+
+    public IdempotencyService(
+        IdempotencyPort idempotencyPort,
+        ObjectMapper objectMapper,
+        TaskScheduler taskScheduler,
+        @Value("${idempotency.ttl-hours:24}") long ttlHours,
+        @Value("${idempotency.in-progress-ttl-seconds:30}") long inProgressTtlSeconds
+    ) {
+        this.idempotencyPort = idempotencyPort;
+        this.objectMapper = objectMapper;
+        this.taskScheduler = taskScheduler;
+        this.resultTtl = Duration.ofHours(ttlHours);
+        this.inProgressTtl = Duration.ofSeconds(inProgressTtlSeconds);
+        // 연장이 한두 번 늦어져도 만료되지 않도록 만료 시간의 1/3 마다 연장
+        this.renewInterval = inProgressTtl.dividedBy(3);
+    }
+
+    @Override
+    public <T> T execute(String idempotencyKey, String requesterId, IdempotentRequestDto request, TypeReference<T> resultType, Supplier<T> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key 는 " + MAX_KEY_LENGTH + "자를 넘을 수 없습니다.");
+        }
+
+        // 다른 요청자가 같은 키를 쓰더라도 서로의 결과를 받지 않도록 요청자별로 구분
+        String key = requesterId + ":" + idempotencyKey;
+        String fingerprint = fingerprint(request);
+        StoredResult<T> previous = loadResult(key, fingerprint, resultType);
+        if (previous != null) {
+            return previous.value();
+        }
+
+        if (!idempotencyPort.reserve(key, fingerprint, inProgressTtl)) {
+            // 선점 직전에 처음 요청이 끝났을 수 있으므로 한 번 더 확인
+            previous = loadResult(key, fingerprint, resultType);
+            if (previous != null) {
+                return previous.value();
+            }
+            if (idempotencyPort.loadReservedFingerprint(key).filter(reserved -> !reserved.equals(fingerprint)).isPresent()) {
+                throw new IdempotencyKeyReused();
+            }
+            throw new IdempotentRequestInProgress();
+        }
+
+        T result;
+        ScheduledFuture<?> renewal = taskScheduler.scheduleWithFixedDelay(
+            () -> extendReservation(key), Instant.now().plus(renewInterval), renewInterval
+        );
+        try {
+            result = action.get();
+        } catch (RuntimeException e) {
+            renewal.cancel(false);
+            idempotencyPort.release(key);
+            throw e;
+        }
+        renewal.cancel(false);
+
+        try {
+            idempotencyPort.saveResult(key, objectMapper.writeValueAsString(new StoredResult<>(fingerprint, result)), resultTtl);
+        } catch (JsonProcessingException e) {
+            // 명령은 이미 반영되었으므로 선점을 풀지 않아 만료 전까지는 재실행되지 않는다
+            log.warn("멱등 요청 결과 직렬화 실패: key={}", key, e);
+        }
+        return result;
+    }
+
+    @Override
+    public void execute(String idempotencyKey, String requesterId, IdempotentRequestDto request, Runnable action) {
+        execute(idempotencyKey, requesterId, request, NO_RESULT, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private void extendReservation(String key) {
+        try {
+            if (!idempotencyPort.extend(key, inProgressTtl)) {
+                log.warn("멱등 요청 선점 연장 실패, 이미 풀렸거나 결과가 저장되었습니다: key={}", key);
+            }
+        } catch (RuntimeException e) {
+            log.warn("멱등 요청 선점 연장 중 오류: key={}", key, e);
+        }
+    }
+
+    /**
+     * 저장된 결과가 없으면 null. 결과가 없는 명령은 값이 null 로 저장되므로 값 대신 감싼 결과로 구분한다.
+     * 결과를 남긴 요청과 지문이 다르면 IdempotencyKeyReused
+     */
+    private <T> StoredResult<T> loadResult(String key, String fingerprint, TypeReference<T> resultType) {
+        Optional<String> json = idempotencyPort.loadResult(key);
+        if (json.isEmpty()) {
+            return null;
+        }
+        try {
+            JsonNode stored = objectMapper.readTree(json.get());
+            if (!fingerprint.equals(stored.path("fingerprint").asText())) {
+                throw new IdempotencyKeyReused();
+            }
+            JsonNode value = stored.get("value");
+            T result = value == null || value.isNull() ? null : objectMapper.readerFor(resultType).readValue(value);
+            return new StoredResult<>(fingerprint, result);
+        } catch (IOException e) {
+            throw new IllegalStateException("멱등 요청 결과를 읽을 수 없습니다: key=" + key, e);
+        }
+    }
+
+    /**
+     * 메서드, 경로, 본문을 직렬화한 값의 SHA-256
+     */
+    private String fingerprint(IdempotentRequestDto request) {
+        try {
+            byte[] serialized = objectMapper.writeValueAsString(request).getBytes(StandardCharsets.UTF_8);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(serialized));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("요청 본문을 읽을 수 없습니다.", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record StoredResult<T>(String fingerprint, T value) {}
+}
@@ -0,0 +1,199 @@
+package com.medops.application.service;
+
+import com.medops.adapter.out.persistence.mongodb.document.MedicalRecordViewDocument;
+import com.medops.application.dto.DashboardStatsDto;
+import com.medops.application.port.in.usecase.LiveDashboardUseCase;
+import com.medops.application.port.in.usecase.MedicalRecordViewUseCase;
+import com.medops.application.port.out.LoadHospitalPort;
+import com.medops.application.port.out.LoadTreatmentProductPort;
+import com.medops.domain.enums.MedicalRecordStatus;
+import com.medops.domain.model.Hospital;
+import com.medops.domain.model.TreatmentPriceTable;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 스트림을 구독 중인 병원의 오늘 요약을 메모리에 유지하고 예약 변경마다 증분 반영하여 전송한다.
+ * 대시보드 화면이 요약 API 를 반복 호출하지 않아도 되도록 하고, 주기적으로 전체를 다시 계산해 누락을 바로잡는다.
+ * 병원별 요약 인스턴스는 한 번 만들면 교체하지 않고, 재계산과 증분 반영 모두 그 인스턴스의 잠금 안에서 수행한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LiveDashboardService implements LiveDashboardUseCase {
+    private static final String DASHBOARD_SUMMARY = "DASHBOARD_SUMMARY";
+
+    private final MedicalRecordViewUseCase medicalRecordViewUseCase;
+    private final LoadTreatmentProductPort loadTreatmentProductPort;
+    private final LoadHospitalPort loadHospitalPort;
+    private final NotificationEventService notificationEventService;
+    private final SseEmitterService sseEmitterService;
+
+    private final Map<String, HospitalTodayStats> hospitalStats = new ConcurrentHashMap<>();
+
+    @Override
+    public DashboardStatsDto.TodayStats track(String hospitalId, SseEmitter emitter) {
+        HospitalTodayStats stats = hospitalStats.computeIfAbsent(hospitalId, id -> new HospitalTodayStats());
+        DashboardStatsDto.TodayStats todayStats;
+        synchronized (stats) {
+            reload(hospitalId, stats);
+            todayStats = stats.snapshot();
+            // 이미 연결된 구독자는 같은 값을 갖고 있으므로 새 연결에만 보낸다
+            sseEmitterService.sendTo(hospitalId, emitter, DASHBOARD_SUMMARY, todayStats);
+        }
+        return todayStats;
+    }
+
+    @Override
+    public void apply(MedicalRecordViewDocument viewDoc) {
+        HospitalTodayStats stats = hospitalStats.get(viewDoc.getHospitalId());
+        if (stats == null) {
+            // 구독자가 없는 병원은 집계하지 않는다
+            return;
+        }
+
+        DashboardStatsDto.TodayStats changed = null;
+        synchronized (stats) {
+            if (stats.date == null) {
+                // 아직 첫 계산 전이면 계산 결과에 이 변경이 포함된다
+                return;
+            }
+            if (!stats.date.equals(LocalDate.now(stats.zone))) {
+                // 날짜가 바뀌었으면 새로 계산한 값으로 교체
+                reload(viewDoc.getHospitalId(), stats);
+                changed = stats.snapshot();
+            } else if (stats.date.equals(LocalDate.ofInstant(viewDoc.getStartTime(), stats.zone))) {
+                String treatmentProductName = viewDoc.getTreatmentProductName();
+                if (treatmentProductName != null && !stats.prices.contains(treatmentProductName)) {
+                    // 새로 등록된 시술 상품이면 가격표를 다시 읽는다
+                    stats.prices = loadPrices(viewDoc.getHospitalId());
+                }
+                if (stats.apply(viewDoc.getId(), viewDoc.getStatus(), stats.prices.priceOf(treatmentProductName))) {
+                    changed = stats.snapshot();
+                }
+            }
+        }
+        if (changed != null) {
+            notificationEventService.publishDashboardSummary(viewDoc.getHospitalId(), changed);
+        }
+    }
+
+    /**
+     * 증분 반영 중 놓친 변경이 없는지 주기적으로 전체 재계산하여 확인
+     */
+    @Scheduled(
+        initialDelayString = "${dashboard.live.recompute-minutes:5}",
+        fixedDelayString = "${dashboard.live.recompute-minutes:5}",
+        timeUnit = TimeUnit.MINUTES
+    )
+    public void recomputeAll() {
+        for (String hospitalId : List.copyOf(hospitalStats.keySet())) {
+            try {
+                // track 의 computeIfAbsent 와 같은 항목 잠금 안에서 확인하여 막 구독한 병원을 지우지 않는다
+                HospitalTodayStats stats = hospitalStats.computeIfPresent(hospitalId,
+                    (id, current) -> sseEmitterService.hasSubscribers(id) ? current : null);
+                if (stats == null) {
+                    continue;
+                }
+                DashboardStatsDto.TodayStats actual;
+                DashboardStatsDto.TodayStats expected;
+                synchronized (stats) {
+                    actual = stats.date != null ? stats.snapshot() : null;
+                    reload(hospitalId, stats);
+                    expected = stats.snapshot();
+                }
+
+                if (!expected.equals(actual)) {
+                    log.warn("오늘 요약 불일치 보정: hospitalId={}, 증분={}, 재계산={}", hospitalId, actual, expected);
+                    notificationEventService.publishDashboardSummary(hospitalId, expected);
+                }
+            } catch (Exception e) {
+                log.error("오늘 요약 재계산 실패: hospitalId={}", hospitalId, e);
+            }
+        }
+    }
+
+    /**
+     * 오늘 예약을 다시 읽어 요약을 처음부터 계산. 호출하는 쪽이 stats 의 잠금을 잡고 있어야 한다.
+     */
+    private void reload(String hospitalId, HospitalTodayStats stats) {
+        // 오늘의 범위는 병원 시간대 기준
+        ZoneId zone = loadHospitalPort.loadHospitalById(hospitalId).map(Hospital::toZoneId).orElse(Hospital.DEFAULT_ZONE);
+        LocalDate today = LocalDate.now(zone);
+        Instant startOfToday = today.atStartOfDay(zone).toInstant();
+        Instant endOfToday = today.atTime(23, 59, 59, 999_999_999).atZone(zone).toInstant();
+
+        stats.reset(zone, today, loadPrices(hospitalId));
+        for (MedicalRecordViewDocument viewDoc : medicalRecordViewUseCase.getMedicalRecordsByHospital(hospitalId, startOfToday, endOfToday)) {
+            stats.apply(viewDoc.getId(), viewDoc.getStatus(), stats.prices.priceOf(viewDoc.getTreatmentProductName()));
+        }
+    }
+
+    private TreatmentPriceTable loadPrices(String hospitalId) {
+        return TreatmentPriceTable.of(loadTreatmentProductPort.loadTreatmentProductsByHospitalId(hospitalId));
+    }
+
+    /**
+     * 병원의 오늘 예약별 상태와 상태별 건수/매출
+     * 예약마다 이전 상태를 기억하여 상태가 바뀌면 이전 상태의 건수를 빼고 새 상태의 건수를 더한다.
+     */
+    private static class HospitalTodayStats {
+        private ZoneId zone;
+        private LocalDate date;
+        private TreatmentPriceTable prices;
+
+        private final Map<String, RecordContribution> records = new HashMap<>();
+        private final int[] statusCounts = new int[MedicalRecordStatus.values().length];
+        private long revenue;
+
+        private record RecordContribution(MedicalRecordStatus status, long revenue) {}
+
+        void reset(ZoneId zone, LocalDate date, TreatmentPriceTable prices) {
+            this.zone = zone;
+            this.date = date;
+            this.prices = prices;
+            records.clear();
+            Arrays.fill(statusCounts, 0);
+            revenue = 0L;
+        }
+
+        boolean apply(String recordId, MedicalRecordStatus status, long price) {
+            RecordContribution contribution = new RecordContribution(status, status.isRevenue() ? price : 0L);
+            RecordContribution previous = records.put(recordId, contribution);
+            if (contribution.equals(previous)) {
+                return false;
+            }
+            if (previous != null) {
+                statusCounts[previous.status().ordinal()]--;
+                revenue -= previous.revenue();
+            }
+            statusCounts[status.ordinal()]++;
+            revenue += contribution.revenue();
+            return true;
+        }
+
+        DashboardStatsDto.TodayStats snapshot() {
+            return DashboardStatsDto.TodayStats.builder()
+                .total(records.size())
+                .pending(statusCounts[MedicalRecordStatus.PENDING.ordinal()])
+                .confirmed(statusCounts[MedicalRecordStatus.RESERVED.ordinal()])
+                .canceled(statusCounts[MedicalRecordStatus.CANCELED.ordinal()])
+                .completed(statusCounts[MedicalRecordStatus.COMPLETED.ordinal()])
+                .revenue(revenue)
+                .build();
+        }
+    }
+}
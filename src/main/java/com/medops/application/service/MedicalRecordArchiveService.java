@@ -0,0 +1,90 @@
+package com.medops.application.service;
+
+import com.medops.application.port.out.ArchiveMedicalRecordEventPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 취소/완료 후 일정 기간이 지난 예약 스트림을 보관소로 옮기는 작업
+ * 운영 컬렉션에는 진행 중인 예약의 이벤트와 스냅샷만 남겨 조회와 인덱스 크기를 작게 유지한다.
+ */
+@Slf4j
+@Service
+public class MedicalRecordArchiveService {
+
+    private final ArchiveMedicalRecordEventPort archiveMedicalRecordEventPort;
+    private final Duration closedPeriod;
+    private final int batchSize;
+
+    private final AtomicLong archivedCount = new AtomicLong();
+    private final AtomicLong skippedCount = new AtomicLong();
+
+    public MedicalRecordArchiveService(
+        ArchiveMedicalRecordEventPort archiveMedicalRecordEventPort,
+        @Value("${eventstore.archive.closed-days:90}") long closedDays,
+        @Value("${eventstore.archive.batch-size:100}") int batchSize
+    ) {
+        this.archiveMedicalRecordEventPort = archiveMedicalRecordEventPort;
+        this.closedPeriod = Duration.ofDays(closedDays);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 보관 기준일 이전에 종료된 예약을 모두 보관소로 옮기고 옮긴 예약 수를 돌려준다.
+     */
+    public int archiveClosedRecords() {
+        Instant closedBefore = Instant.now().minus(closedPeriod);
+        int archived = 0;
+        String lastRecordId = null;
+        while (true) {
+            List<String> recordIds = archiveMedicalRecordEventPort.findClosedRecordIds(closedBefore, lastRecordId, batchSize);
+            for (String recordId : recordIds) {
+                if (archiveMedicalRecordEventPort.archive(recordId, closedBefore)) {
+                    archived++;
+                } else {
+                    // 종료 후 다시 변경된 예약은 다음 주기에 다시 확인
+                    skippedCount.incrementAndGet();
+                }
+            }
+            if (recordIds.size() < batchSize) {
+                break;
+            }
+            lastRecordId = recordIds.get(recordIds.size() - 1);
+        }
+        archivedCount.addAndGet(archived);
+        return archived;
+    }
+
+    public long getArchivedCount() {
+        return archivedCount.get();
+    }
+
+    public long getSkippedCount() {
+        return skippedCount.get();
+    }
+
+    /**
+     * 주기적으로 종료된 예약 보관
+     */
+    @Scheduled(
+        initialDelayString = "${eventstore.archive.interval-hours:24}",
+        fixedDelayString = "${eventstore.archive.interval-hours:24}",
+        timeUnit = TimeUnit.HOURS
+    )
+    public void archiveSafely() {
+        try {
+            int archived = archiveClosedRecords();
+            log.info("종료된 예약 보관 완료: archived={}, totalArchived={}, totalSkipped={}", archived, getArchivedCount(), getSkippedCount());
+        } catch (RuntimeException e) {
+            log.warn("종료된 예약 보관 중 오류", e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.medops.application.service;
+
+import com.medops.adapter.out.persistence.mongodb.document.MedicalRecordViewDocument;
+import com.medops.application.dto.MedicalRecordStateDto;
+import com.medops.application.eventsourcing.processor.MedicalRecordCommandProcessor;
+import com.medops.application.port.in.usecase.MedicalRecordHistoryUseCase;
+import com.medops.application.port.in.usecase.MedicalRecordViewUseCase;
+import com.medops.common.exception.NotFoundResource;
+import com.medops.domain.model.MedicalRecordSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 이벤트 저장소로부터 과거 시점의 예약 상태를 복원 (감사, 분쟁 확인용)
+ */
+@Service
+@RequiredArgsConstructor
+public class MedicalRecordHistoryService implements MedicalRecordHistoryUseCase {
+    private final MedicalRecordCommandProcessor medicalRecordCommandProcessor;
+    private final MedicalRecordViewUseCase medicalRecordViewUseCase;
+
+    @Override
+    public MedicalRecordStateDto getMedicalRecordAt(String recordId, Instant at) {
+        MedicalRecordSnapshot snapshot = medicalRecordCommandProcessor.rehydrateStateAt(recordId, at);
+        if (snapshot.getVersion() == 0) {
+            throw new NotFoundResource("해당 시점에 진료 기록 찾을수 없음");
+        }
+        return MedicalRecordStateDto.from(snapshot);
+    }
+
+    @Override
+    public List<MedicalRecordStateDto> getHospitalMedicalRecordsAt(String hospitalId, Instant startTime, Instant endTime, Instant at) {
+        if (startTime.isAfter(endTime)) {
+            throw new IllegalArgumentException("시작 시간이 종료 시간보다 늦을 수 없습니다.");
+        }
+        // 진료 시간은 생성 후 바뀌지 않으므로 현재 뷰에서 대상 예약을 고른 뒤 시점 상태를 복원한다
+        List<String> recordIds = medicalRecordViewUseCase.getMedicalRecordsByHospital(hospitalId, startTime, endTime).stream()
+            .map(MedicalRecordViewDocument::getId)
+            .toList();
+
+        return medicalRecordCommandProcessor.rehydrateStatesAt(recordIds, at).stream()
+            .filter(snapshot -> snapshot.getVersion() > 0)
+            .map(MedicalRecordStateDto::from)
+            .sorted(Comparator.comparing(MedicalRecordStateDto::startTime, Comparator.nullsLast(Comparator.naturalOrder())))
+            .toList();
+    }
+}
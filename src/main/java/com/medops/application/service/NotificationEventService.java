@@ -1,6 +1,7 @@
 package com.medops.application.service;
 
 import com.medops.adapter.out.persistence.mongodb.document.MedicalRecordViewDocument;
+import com.medops.application.dto.DashboardStatsDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -67,4 +68,14 @@ public class NotificationEventService {
         }
     }
 
-}
\ No newline at end of file
+    /**
+     * 오늘 요약 변경 알림 발송
+     */
+    public void publishDashboardSummary(String hospitalId, DashboardStatsDto.TodayStats todayStats) {
+        try {
+            sseEmitterService.sendToHospital(hospitalId, "DASHBOARD_SUMMARY", todayStats);
+        } catch (Exception e) {
+            log.error("오늘 요약 알림 발송 실패: hospitalId={}", hospitalId, e);
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.medops.application.service;
 
 import com.medops.application.port.in.usecase.ReservationValidationUseCase;
-import com.medops.application.port.out.LoadMedicalRecordViewPort;
+import com.medops.application.port.out.LoadReservationSlotPort;
 import com.medops.application.port.out.LoadTreatmentProductPort;
+import com.medops.application.port.out.SaveReservationSlotPort;
+import com.medops.common.exception.NotFoundResource;
 import com.medops.domain.model.TreatmentProduct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -14,11 +16,44 @@ import java.time.Instant;
 @RequiredArgsConstructor
 public class ReservationValidationService implements ReservationValidationUseCase {
     private final LoadTreatmentProductPort loadTreatmentProductPort;
-    private final LoadMedicalRecordViewPort medicalRecordViewPort;
+    private final LoadReservationSlotPort loadReservationSlotPort;
+    private final SaveReservationSlotPort saveReservationSlotPort;
 
     @Override
     public boolean isReservationAvailable(String hospitalId, String treatmentProductId, Instant startTime, Instant endTime) {
-        TreatmentProduct treatmentProduct = loadTreatmentProductPort.loadTreatmentProductById(treatmentProductId).orElseThrow();
-        return treatmentProduct.getMaxCapacity() <= medicalRecordViewPort.loadMedicalRecordsByTreatmentIdInRange(treatmentProductId, startTime, endTime).size();
+        TreatmentProduct treatmentProduct = loadTreatmentProduct(treatmentProductId);
+        return loadReservationSlotPort.loadReservedCount(treatmentProductId, startTime, endTime) < treatmentProduct.getMaxCapacity();
+    }
+
+    /**
+     * 슬롯 카운터를 원자적으로 증가시켜 예약 자리를 선점한다.
+     * 조회 후 저장하는 방식과 달리 동시에 들어온 예약이 정원을 초과할 수 없다.
+     */
+    @Override
+    public boolean reserve(String hospitalId, String treatmentProductId, Instant startTime, Instant endTime) {
+        TreatmentProduct treatmentProduct = loadTreatmentProduct(treatmentProductId);
+        return saveReservationSlotPort.reserveSlot(treatmentProductId, startTime, endTime, treatmentProduct.getMaxCapacity());
+    }
+
+    @Override
+    public void release(String recordId, String treatmentProductId, Instant startTime, Instant endTime) {
+        saveReservationSlotPort.releaseSlot(recordId, treatmentProductId, startTime, endTime);
+    }
+
+    /**
+     * 슬롯 카운터가 비어 있으면 기존 예약으로 한 번 채운다.
+     * 카운터 도입 전 예약이 정원에 포함되지 않거나 취소시 다른 예약의 자리를 반환하는 것을 막는다.
+     */
+    @Override
+    public void warmUp() {
+        if (!loadReservationSlotPort.hasReservationSlots()) {
+            saveReservationSlotPort.rebuildSlots();
+        }
+    }
+
+    private TreatmentProduct loadTreatmentProduct(String treatmentProductId) {
+        return loadTreatmentProductPort.loadTreatmentProductById(treatmentProductId).orElseThrow(
+            () -> new NotFoundResource("시술 상품을 찾을수 없습니다.")
+        );
     }
 }
@@ -0,0 +1,229 @@
+package com.medops.application.service;
+
+import com.medops.adapter.out.persistence.mongodb.document.MedicalRecordViewDocument;
+import com.medops.application.dto.AvailableSlotDto;
+import com.medops.application.port.in.usecase.BusinessHourUseCase;
+import com.medops.application.port.in.usecase.SlotAvailabilityUseCase;
+import com.medops.application.port.out.LoadHospitalPort;
+import com.medops.application.port.out.LoadMedicalRecordViewPort;
+import com.medops.application.port.out.LoadTreatmentProductPort;
+import com.medops.common.exception.NotFoundResource;
+import com.medops.domain.enums.MedicalRecordStatus;
+import com.medops.domain.model.Hospital;
+import com.medops.domain.model.ReservationSlotBook;
+import com.medops.domain.model.TreatmentProduct;
+import com.medops.domain.model.WeeklySchedule;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SlotAvailabilityService implements SlotAvailabilityUseCase {
+    private static final int SLOT_MINUTES = (int) ReservationSlotBook.SLOT_DURATION.toMinutes();
+    // 어느 시간대에서든 오늘 0시는 지금보다 하루(서머타임 포함) 이상 이전일 수 없으므로 넉넉히 이틀 전까지만 정리
+    private static final Duration EVICT_MARGIN = Duration.ofDays(2);
+
+    private final LoadHospitalPort loadHospitalPort;
+    private final HospitalZoneResolver hospitalZoneResolver;
+    private final LoadTreatmentProductPort loadTreatmentProductPort;
+    private final BusinessHourUseCase businessHourUseCase;
+    private final LoadMedicalRecordViewPort loadMedicalRecordViewPort;
+
+    private final ReservationSlotBook reservationSlotBook = new ReservationSlotBook();
+
+    // 시술 상품/날짜별 슬롯 예약 현황 캐시
+    // 예약 이벤트가 들어오면 해당 날짜의 버전을 올려 다음 조회시 다시 계산되도록 한다
+    private final Map<SlotCacheKey, DaySlots> daySlotsCache = new ConcurrentHashMap<>();
+    private final Map<SlotCacheKey, AtomicLong> dayVersions = new ConcurrentHashMap<>();
+
+    // 시술 상품의 병원은 생성 후 바뀌지 않으므로 한 번만 조회
+    private final Map<String, ZoneId> treatmentProductZones = new ConcurrentHashMap<>();
+
+    @Value("${availability.horizon-weeks:4}")
+    private int horizonWeeks = 4;
+
+    private record SlotCacheKey(String treatmentProductId, LocalDate date) {}
+
+    private record DaySlots(long dayVersion, WeeklySchedule weeklySchedule, long[] slotStartMillis, int[] reservedCounts) {}
+
+    /**
+     * 조회 가능 기간(병원 시간대로 오늘부터 horizonWeeks 주)의 예약을 뷰 모델에서 읽어 장부를 채운다.
+     * 이후 변경은 예약 생성/취소 이벤트로 반영된다.
+     */
+    @Override
+    public void warmUp() {
+        int count = 0;
+        for (Hospital hospital : loadHospitalPort.loadAllHospitals()) {
+            ZoneId zone = hospitalZoneResolver.zoneOf(hospital);
+            Instant from = startOfDay(today(zone), zone);
+            Instant to = startOfDay(today(zone).plusWeeks(horizonWeeks), zone);
+            for (MedicalRecordViewDocument viewDoc : loadMedicalRecordViewPort.loadMedicalRecordsByHospitalInRange(hospital.getId(), from, to)) {
+                if (viewDoc.getStatus() == MedicalRecordStatus.CANCELED) {
+                    continue;
+                }
+                book(viewDoc.getId(), viewDoc.getTreatmentProductId(), viewDoc.getStartTime(), viewDoc.getEndTime());
+                count++;
+            }
+        }
+        log.info("예약 가능 슬롯 장부 초기화 완료: 예약 수={}, 기간={}주", count, horizonWeeks);
+    }
+
+    @Override
+    public void book(String recordId, String treatmentProductId, Instant startTime, Instant endTime) {
+        if (reservationSlotBook.book(recordId, treatmentProductId, startTime, endTime)) {
+            invalidateDays(treatmentProductId, startTime, endTime);
+        }
+    }
+
+    @Override
+    public void release(String recordId) {
+        reservationSlotBook.release(recordId).ifPresent(booking ->
+            invalidateDays(booking.treatmentProductId(), booking.startTime(), booking.endTime())
+        );
+    }
+
+    @Override
+    public boolean isAvailable(String treatmentProductId, Instant startTime, Instant endTime) {
+        TreatmentProduct treatmentProduct = loadTreatmentProduct(treatmentProductId);
+        return reservationSlotBook.isAvailable(treatmentProductId, startTime, endTime, treatmentProduct.getMaxCapacity());
+    }
+
+    /**
+     * 영업 시간에서 휴게 시간과 이미 지난 시간을 제외한 30분 슬롯 중 자리가 남은 슬롯 목록
+     */
+    @Override
+    public List<AvailableSlotDto> getAvailableSlots(String hospitalId, String treatmentProductId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("조회 시작일은 종료일보다 늦을 수 없습니다.");
+        }
+
+        // 인증 없이 호출되는 조회이므로 병원 ID 는 시술 상품으로 확인한 뒤에만 시간대 조회에 쓴다
+        TreatmentProduct treatmentProduct = loadTreatmentProduct(treatmentProductId);
+        if (!treatmentProduct.getHospitalId().equals(hospitalId)) {
+            throw new NotFoundResource("시술 상품을 찾을수 없습니다.");
+        }
+        ZoneId zone = hospitalZoneResolver.zoneOf(treatmentProduct.getHospitalId());
+        treatmentProductZones.putIfAbsent(treatmentProductId, zone);
+
+        LocalDate today = today(zone);
+        if (from.isBefore(today) || !to.isBefore(today.plusWeeks(horizonWeeks))) {
+            throw new IllegalArgumentException("조회 가능한 기간이 아닙니다.");
+        }
+
+        // 영업시간이 변경되면 새 스케줄 인스턴스가 만들어지므로 캐시된 결과의 스케줄과 비교해 무효화한다
+        WeeklySchedule weeklySchedule = businessHourUseCase.getWeeklySchedule(hospitalId);
+        long now = Instant.now().toEpochMilli();
+        List<AvailableSlotDto> slots = new ArrayList<>();
+
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            SlotCacheKey key = new SlotCacheKey(treatmentProductId, date);
+            DaySlots daySlots = daySlotsCache.get(key);
+
+            if (daySlots == null || daySlots.dayVersion() != dayVersion(key) || daySlots.weeklySchedule() != weeklySchedule) {
+                daySlots = computeDaySlots(key, weeklySchedule, zone);
+                daySlotsCache.put(key, daySlots);
+            }
+
+            // 남은 자리는 조회 시점의 정원으로 계산하여 정원 변경시 캐시를 비우지 않아도 되도록 한다
+            long[] slotStartMillis = daySlots.slotStartMillis();
+            int[] reservedCounts = daySlots.reservedCounts();
+            for (int i = 0; i < slotStartMillis.length; i++) {
+                int remaining = treatmentProduct.getMaxCapacity() - reservedCounts[i];
+                if (slotStartMillis[i] < now || remaining <= 0) {
+                    continue;
+                }
+                Instant slotStart = Instant.ofEpochMilli(slotStartMillis[i]);
+                slots.add(new AvailableSlotDto(slotStart, slotStart.plus(ReservationSlotBook.SLOT_DURATION), remaining));
+            }
+        }
+        return slots;
+    }
+
+    private DaySlots computeDaySlots(SlotCacheKey key, WeeklySchedule weeklySchedule, ZoneId zone) {
+        // 장부를 읽기 전에 버전을 확인해야 계산 중 들어온 예약이 다음 조회에 반영된다
+        long dayVersion = dayVersion(key);
+        int[] slotStartMinutes = weeklySchedule.slotStartMinutes(key.date().getDayOfWeek(), SLOT_MINUTES);
+
+        Instant dayStart = startOfDay(key.date(), zone);
+        long[] slotStartMillis = new long[slotStartMinutes.length];
+        int[] reservedCounts = new int[slotStartMinutes.length];
+        for (int i = 0; i < slotStartMinutes.length; i++) {
+            Instant slotStart = dayStart.plusSeconds(slotStartMinutes[i] * 60L);
+            slotStartMillis[i] = slotStart.toEpochMilli();
+            reservedCounts[i] = reservationSlotBook.maxReservedCount(
+                key.treatmentProductId(), slotStart, slotStart.plus(ReservationSlotBook.SLOT_DURATION)
+            );
+        }
+        return new DaySlots(dayVersion, weeklySchedule, slotStartMillis, reservedCounts);
+    }
+
+    private void invalidateDays(String treatmentProductId, Instant startTime, Instant endTime) {
+        ZoneId zone = zoneOfTreatmentProduct(treatmentProductId);
+        LocalDate last = LocalDate.ofInstant(endTime.minusMillis(1), zone);
+        for (LocalDate date = LocalDate.ofInstant(startTime, zone); !date.isAfter(last); date = date.plusDays(1)) {
+            dayVersions.computeIfAbsent(new SlotCacheKey(treatmentProductId, date), k -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    /**
+     * 지난 예약은 조회 대상이 아니므로 주기적으로 정리
+     */
+    @Scheduled(initialDelay = 1, fixedDelay = 1, timeUnit = TimeUnit.HOURS)
+    public void evictPastDays() {
+        reservationSlotBook.evictBefore(Instant.now().minus(EVICT_MARGIN));
+        daySlotsCache.keySet().removeIf(this::isPastDay);
+        dayVersions.keySet().removeIf(this::isPastDay);
+    }
+
+    private boolean isPastDay(SlotCacheKey key) {
+        return key.date().isBefore(today(zoneOfTreatmentProduct(key.treatmentProductId())));
+    }
+
+    private long dayVersion(SlotCacheKey key) {
+        AtomicLong version = dayVersions.get(key);
+        return version != null ? version.get() : 0L;
+    }
+
+    private TreatmentProduct loadTreatmentProduct(String treatmentProductId) {
+        return loadTreatmentProductPort.loadTreatmentProductById(treatmentProductId).orElseThrow(
+            () -> new NotFoundResource("시술 상품을 찾을수 없습니다.")
+        );
+    }
+
+    private ZoneId zoneOfTreatmentProduct(String treatmentProductId) {
+        ZoneId zone = treatmentProductZones.get(treatmentProductId);
+        if (zone != null) {
+            return zone;
+        }
+        return loadTreatmentProductPort.loadTreatmentProductById(treatmentProductId)
+            .map(treatmentProduct -> {
+                ZoneId productZone = hospitalZoneResolver.zoneOf(treatmentProduct.getHospitalId());
+                treatmentProductZones.putIfAbsent(treatmentProductId, productZone);
+                return productZone;
+            })
+            .orElse(Hospital.DEFAULT_ZONE);
+    }
+
+    private static LocalDate today(ZoneId zone) {
+        return LocalDate.now(zone);
+    }
+
+    private static Instant startOfDay(LocalDate date, ZoneId zone) {
+        return date.atStartOfDay(zone).toInstant();
+    }
+}
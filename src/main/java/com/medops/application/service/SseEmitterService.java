@@ -98,6 +98,26 @@ public class SseEmitterService implements NotificationUseCase {
         }
     }
 
+    /**
+     * 병원에 연결된 관리자 한 명에게만 메시지 전송
+     */
+    public void sendTo(String hospitalId, SseEmitter emitter, String eventType, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(eventType).data(data));
+        } catch (Exception e) {
+            log.warn("SSE 메시지 전송 실패: hospitalId={}, eventType={}", hospitalId, eventType, e);
+            removeEmitter(hospitalId, emitter);
+        }
+    }
+
+    /**
+     * 병원에 연결된 구독자가 있는지 여부
+     */
+    public boolean hasSubscribers(String hospitalId) {
+        List<SseEmitter> emitters = hospitalEmitters.get(hospitalId);
+        return emitters != null && !emitters.isEmpty();
+    }
+
     /**
      * Emitter 제거
      */
@@ -39,12 +39,10 @@ public class TreatmentProductService implements TreatmentProductUseCase {
 
     @Override
     public void initializeTreatmentProducts(String hospitalId) {
-        saveTreatmentProductPort.saveTreatmentProduct(
-            TreatmentProduct.createConsultation(hospitalId, 3)
-        );
-        saveTreatmentProductPort.saveTreatmentProduct(
+        saveTreatmentProductPort.saveAllTreatmentProducts(List.of(
+            TreatmentProduct.createConsultation(hospitalId, 3),
             TreatmentProduct.createRegularCheckup(hospitalId, 1)
-        );
+        ));
     }
 
     @Override
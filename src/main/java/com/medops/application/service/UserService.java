@@ -7,6 +7,7 @@ import com.medops.domain.enums.TokenType;
 import com.medops.application.port.in.usecase.UserUseCase;
 import com.medops.application.port.out.LoadUserPort;
 import com.medops.application.port.out.SaveUserPort;
+import com.medops.common.exception.WrongPassword;
 import com.medops.domain.model.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -42,8 +43,13 @@ public class UserService implements UserUseCase {
     public String loginUser(UserLoginRequest request) {
         return loadUserPort.loadUserByEmail(request.email())
             .map(user -> {
-                if (passwordEncoder.matches(user.getPassword(), request.password())){
-                    throw new IllegalAccessError();
+                if (!passwordEncoder.matches(request.password(), user.getPassword())){
+                    throw new WrongPassword();
+                }
+                // 이전 cost 로 저장된 해시는 평문을 알고 있는 로그인 시점에 다시 해시한다
+                if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+                    user.setPassword(passwordEncoder.encode(request.password()));
+                    saveUserPort.saveUser(user);
                 }
                 return tokenPort.generateToken(user.getId(), TokenType.USER);
             })
@@ -9,7 +9,11 @@ public enum ErrorCode implements ErrorCodeInterface{
 
     OK(200, 200, "성공"),
     BAD_REQUEST(400, 400, "잘못된 요청"),
+    CONFLICT(409, 409, "요청 충돌"),
+    UNPROCESSABLE_ENTITY(422, 422, "처리할 수 없는 요청"),
+    TOO_MANY_REQUESTS(429, 429, "요청 한도 초과"),
     SERVER_ERROR(500, 500, "서버에러"),
+    SERVICE_UNAVAILABLE(503, 503, "일시적으로 처리할 수 없음"),
     NULL_POINT(500, 512, "널 포인트"),
     ;
 
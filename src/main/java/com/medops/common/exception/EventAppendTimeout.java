@@ -0,0 +1,7 @@
+package com.medops.common.exception;
+
+public class EventAppendTimeout extends RuntimeException{
+    public EventAppendTimeout() {
+        super("요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+    }
+}
@@ -0,0 +1,7 @@
+package com.medops.common.exception;
+
+public class EventVersionConflict extends RuntimeException{
+    public EventVersionConflict() {
+        super("다른 요청이 먼저 예약을 변경했습니다. 다시 시도해주세요.");
+    }
+}
@@ -0,0 +1,7 @@
+package com.medops.common.exception;
+
+public class IdempotencyKeyReused extends IllegalArgumentException{
+    public IdempotencyKeyReused() {
+        super("같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다. 새 키를 사용해주세요.");
+    }
+}
@@ -0,0 +1,7 @@
+package com.medops.common.exception;
+
+public class IdempotentRequestInProgress extends RuntimeException{
+    public IdempotentRequestInProgress() {
+        super("같은 요청을 처리하고 있습니다. 잠시 후 다시 시도해주세요.");
+    }
+}
@@ -0,0 +1,7 @@
+package com.medops.common.exception;
+
+public class PasswordHashingRejected extends RuntimeException{
+    public PasswordHashingRejected() {
+        super("로그인 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+    }
+}
@@ -0,0 +1,179 @@
+package com.medops.config;
+
+import com.medops.common.exception.PasswordHashingRejected;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * BCrypt 해시를 전용 스레드 풀에서 수행하는 PasswordEncoder
+ * 로그인이 몰려도 해시 계산은 풀 크기만큼만 동시에 실행되고, 대기열이 가득 차면 즉시 거절하여
+ * 요청 스레드가 해시 대기로 모두 묶이지 않도록 한다.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+    // 보정 전 고정으로 쓰던 cost. 빠른 서버에서도 이보다 낮아지지 않는다
+    static final int MIN_STRENGTH = 12;
+    static final int MAX_STRENGTH = 14;
+    // 측정은 낮은 cost 로 빠르게 하고 두 배씩 늘려 추정한다
+    private static final int PROBE_STRENGTH = 10;
+
+    private final BCryptPasswordEncoder delegate;
+    private final int strength;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    private final AtomicLong submittedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong completedCount = new AtomicLong();
+    private final AtomicLong totalHashNanos = new AtomicLong();
+
+    public BoundedPasswordEncoder(int strength, int threads, int queueCapacity, long timeoutMillis) {
+        this.strength = strength;
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.timeoutMillis = timeoutMillis;
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+            threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "password-hash-" + threadIndex.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    /**
+     * 해시 한 번이 목표 시간 안에 끝나는 가장 높은 cost 를 찾는다. 결과는 MIN_STRENGTH 이상이다.
+     * cost 가 1 오를 때마다 계산량이 두 배가 되므로 낮은 cost 에서 한 번 측정해 추정한다.
+     */
+    public static int calibrateStrength(long targetMillis) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(PROBE_STRENGTH);
+        // 첫 호출은 JIT 워밍업 영향이 커서 가장 빠른 측정값을 사용
+        long bestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            probe.encode("calibration");
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+        }
+
+        long targetNanos = TimeUnit.MILLISECONDS.toNanos(targetMillis);
+        int strength = PROBE_STRENGTH;
+        long estimatedNanos = bestNanos;
+        while (strength < MAX_STRENGTH && (strength < MIN_STRENGTH || estimatedNanos * 2 <= targetNanos)) {
+            estimatedNanos *= 2;
+            strength++;
+        }
+        log.info("BCrypt cost 보정 완료: cost={}, 예상 소요={}ms, 목표={}ms",
+            strength, TimeUnit.NANOSECONDS.toMillis(estimatedNanos), targetMillis);
+        return strength;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 저장된 해시의 cost 가 현재 설정보다 낮으면 true
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long start = System.nanoTime();
+                try {
+                    return task.call();
+                } finally {
+                    totalHashNanos.addAndGet(System.nanoTime() - start);
+                    completedCount.incrementAndGet();
+                }
+            });
+            submittedCount.incrementAndGet();
+        } catch (RejectedExecutionException e) {
+            rejectedCount.incrementAndGet();
+            throw new PasswordHashingRejected();
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCount.incrementAndGet();
+            throw new PasswordHashingRejected();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingRejected();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    public long getSubmittedCount() {
+        return submittedCount.get();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    public double getAverageHashMillis() {
+        long completed = completedCount.get();
+        return completed == 0 ? 0.0 : TimeUnit.NANOSECONDS.toMicros(totalHashNanos.get()) / 1000.0 / completed;
+    }
+
+    /**
+     * 종료시 대기 중인 해시 요청은 버리고 풀을 정리
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 주기적으로 해시 처리 현황 기록
+     */
+    @Scheduled(initialDelay = 1, fixedDelay = 1, timeUnit = TimeUnit.MINUTES)
+    public void report() {
+        log.info("비밀번호 해시 처리 현황: cost={}, submitted={}, rejected={}, queue={}, avgHashMs={}",
+            strength, getSubmittedCount(), getRejectedCount(), getQueueSize(), String.format("%.1f", getAverageHashMillis()));
+    }
+}
@@ -0,0 +1,13 @@
+package com.medops.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업은 @Scheduled 로 등록해 스프링이 관리하는 스케줄러에서 실행한다.
+ * 스케줄러 스레드는 컨텍스트 종료시 함께 정리된다. (spring.task.scheduling.*)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
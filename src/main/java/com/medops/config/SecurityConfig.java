@@ -1,10 +1,17 @@
 package com.medops.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.medops.adapter.in.security.JwtAuthFilter;
+import com.medops.adapter.in.security.RateLimitFilter;
+import com.medops.adapter.in.security.RateLimitPolicy;
 import com.medops.application.port.out.LoadAdminPort;
 import com.medops.application.port.out.LoadUserPort;
+import com.medops.application.port.out.PrincipalCachePort;
+import com.medops.application.port.out.RateLimitPort;
 import com.medops.application.port.out.TokenPort;
+import com.medops.application.port.out.TokenVersionPort;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -12,7 +19,6 @@ import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -25,6 +31,11 @@ public class SecurityConfig {
     private final TokenPort tokenPort;
     private final LoadUserPort loadUserPort;
     private final LoadAdminPort loadAdminPort;
+    private final PrincipalCachePort principalCachePort;
+    private final TokenVersionPort tokenVersionPort;
+    private final RateLimitPort rateLimitPort;
+    private final RateLimitPolicy rateLimitPolicy;
+    private final ObjectMapper objectMapper;
     private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
     private final CustomAccessDeniedHandler customAccessDeniedHandler;
 
@@ -43,6 +54,10 @@ public class SecurityConfig {
         "/api/hospital"
     };
 
+    private static final String[] PUBLIC_GET_ALLOWLIST = {
+        "/api/hospital/*/availability"
+    };
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception{
         http.csrf((csrf)->csrf.disable());
@@ -55,11 +70,14 @@ public class SecurityConfig {
         );
 
         http.formLogin((form)-> form.disable());
-        http.addFilterBefore(new JwtAuthFilter(tokenPort, loadUserPort, loadAdminPort), UsernamePasswordAuthenticationFilter.class);
+        http.addFilterBefore(new JwtAuthFilter(tokenPort, loadUserPort, loadAdminPort, principalCachePort, tokenVersionPort), UsernamePasswordAuthenticationFilter.class);
+        // 인증된 주체(병원/사용자) 기준으로 한도를 나누기 위해 인증 필터 다음에 둔다
+        http.addFilterAfter(new RateLimitFilter(rateLimitPort, rateLimitPolicy, objectMapper), JwtAuthFilter.class);
         http.authorizeHttpRequests(
             authorize -> authorize
                 .requestMatchers(SWAGGER_ALLOWLIST).permitAll()
                 .requestMatchers(HttpMethod.POST, AUTH_POST_ALLOWLIST).permitAll()
+                .requestMatchers(HttpMethod.GET, PUBLIC_GET_ALLOWLIST).permitAll()
 //                .requestMatchers("/api/admin/employee").hasRole("ADMIN")
 //                .requestMatchers("/api/employee").hasRole("USER")
 //                .requestMatchers("/api/department").hasRole("USER")
@@ -76,8 +94,18 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * bcrypt-strength 가 0 이면 기동 시 target-millis 에 맞춰 cost 를 보정한다.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12);
+    public PasswordEncoder passwordEncoder(
+        @Value("${security.password.bcrypt-strength:0}") int bcryptStrength,
+        @Value("${security.password.target-millis:250}") long targetMillis,
+        @Value("${security.password.hash-threads:2}") int hashThreads,
+        @Value("${security.password.queue-capacity:32}") int queueCapacity,
+        @Value("${security.password.timeout-millis:3000}") long timeoutMillis
+    ) {
+        int strength = bcryptStrength > 0 ? bcryptStrength : BoundedPasswordEncoder.calibrateStrength(targetMillis);
+        return new BoundedPasswordEncoder(strength, hashThreads, queueCapacity, timeoutMillis);
     }
 }
@@ -5,4 +5,12 @@ public enum MedicalRecordStatus {
     RESERVED,
     CANCELED,
     COMPLETED,
+    ;
+
+    /**
+     * 확정된 예약과 완료된 예약을 매출로 계산
+     */
+    public boolean isRevenue() {
+        return this == RESERVED || this == COMPLETED;
+    }
 }
@@ -0,0 +1,8 @@
+package com.medops.domain.enums;
+
+public enum RateLimitRouteClass {
+    AUTH,
+    RECORD_WRITE,
+    DASHBOARD,
+    DEFAULT
+}
@@ -24,4 +24,6 @@ public class MedicalRecordEvent {
     private MedicalRecordStatus status;
 
     private Map<String, Object> payload;
+
+    private Long position;
 }
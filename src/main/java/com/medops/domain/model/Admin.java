@@ -66,6 +66,23 @@ public class Admin implements UserDetails {
         return true;
     }
 
+    @JsonIgnore
+    public boolean isDeleted() {
+        return this.deletedAt != null;
+    }
+
+    /**
+     * 토큰 클레임만으로 만든 관리자
+     * id, 역할, 병원 id 외의 정보는 비어있다.
+     */
+    public static Admin fromTokenClaims(TokenClaims claims) {
+        return Admin.builder()
+            .id(claims.getSubject())
+            .role(claims.getRole())
+            .hospital(Hospital.builder().id(claims.getHospitalId()).build())
+            .build();
+    }
+
     public void activateAccount(String name, String password){
         this.name = name;
         this.password = password;
@@ -3,14 +3,23 @@ package com.medops.domain.model;
 import lombok.*;
 
 import java.time.Instant;
+import java.time.ZoneId;
 
 @Getter
 @Builder(toBuilder = true)
 @AllArgsConstructor
 @NoArgsConstructor
 public class Hospital {
+    public static final ZoneId DEFAULT_ZONE = ZoneId.of("Asia/Seoul");
+
     private String id;
     private String name;
     private String address;
     private Instant createdAt;
+    // 예약 날짜/시간 집계 기준 시간대 (IANA ID), 없으면 서울
+    private String zoneId;
+
+    public ZoneId toZoneId() {
+        return zoneId != null ? ZoneId.of(zoneId) : DEFAULT_ZONE;
+    }
 }
@@ -0,0 +1,94 @@
+package com.medops.domain.model;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 고유 값 개수 추정기
+ * 값의 해시 앞 precision 비트로 레지스터를 고르고 나머지 비트의 선행 0 개수 최댓값만 기록하므로
+ * 값이 아무리 많아도 2^precision 바이트만 사용한다. (precision 12 기준 표준 오차 약 1.6%)
+ */
+public class HyperLogLog {
+    public static final int DEFAULT_PRECISION = 12;
+
+    private final int precision;
+    private final byte[] registers;
+
+    public HyperLogLog() {
+        this(DEFAULT_PRECISION);
+    }
+
+    public HyperLogLog(int precision) {
+        if (precision < 4 || precision > 18) {
+            throw new IllegalArgumentException("precision 은 4 이상 18 이하여야 합니다.");
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    public synchronized void add(String value) {
+        long hash = hash(value);
+        int index = (int) (hash >>> (64 - precision));
+        // 레지스터 선택에 쓴 비트를 제외한 나머지에서 처음 1 이 나오는 위치
+        long remaining = hash << precision;
+        int rank = remaining == 0 ? 64 - precision + 1 : Long.numberOfLeadingZeros(remaining) + 1;
+        if (rank > registers[index]) {
+            registers[index] = (byte) rank;
+        }
+    }
+
+    /**
+     * 다른 추정기의 값을 합친다. 여러 날짜의 고유 고객 수를 구할 때 사용
+     */
+    public synchronized void merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("precision 이 다른 추정기는 합칠 수 없습니다.");
+        }
+        byte[] otherRegisters = other.copyRegisters();
+        for (int i = 0; i < registers.length; i++) {
+            if (otherRegisters[i] > registers[i]) {
+                registers[i] = otherRegisters[i];
+            }
+        }
+    }
+
+    public synchronized long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeroRegisters = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeroRegisters++;
+            }
+        }
+
+        double alpha = 0.7213 / (1 + 1.079 / m);
+        double estimate = alpha * m * m / sum;
+        // 값이 적을 때는 비어있는 레지스터 비율로 계산하는 편이 정확하다
+        if (estimate <= 2.5 * m && zeroRegisters > 0) {
+            estimate = m * Math.log((double) m / zeroRegisters);
+        }
+        return Math.round(estimate);
+    }
+
+    private synchronized byte[] copyRegisters() {
+        return registers.clone();
+    }
+
+    /**
+     * FNV-1a 64비트 해시에 비트 섞기를 더해 상위 비트도 고르게 분포하도록 한다
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
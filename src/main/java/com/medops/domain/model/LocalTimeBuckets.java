@@ -0,0 +1,122 @@
+package com.medops.domain.model;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * 병원 시간대 기준으로 기간 내 날짜/시간 구간의 경계(epoch millis)를 미리 계산해 둔 버킷
+ * 예약 시각마다 LocalDateTime 으로 변환하지 않고 정수 비교만으로 날짜 인덱스와 요일/시간 칸을 찾는다.
+ * 일광 절약 시간으로 하루가 23시간이나 25시간인 날도 실제 경계를 사용하므로 날짜가 어긋나지 않는다.
+ */
+public class LocalTimeBuckets {
+    public static final int HOURS_PER_DAY = 24;
+    public static final int WEEK_HOURS = 7 * HOURS_PER_DAY;
+    private static final long HOUR_MILLIS = 3_600_000L;
+
+    private final LocalDate startDate;
+    private final int days;
+    // 시간 구간 시작 시각, 마지막 원소는 기간 종료 시각
+    private final long[] hourStartMillis;
+    private final int[] hourDayIndex;
+    // 요일(일요일=0) * 24 + 시
+    private final int[] hourWeekSlot;
+
+    private LocalTimeBuckets(LocalDate startDate, int days, long[] hourStartMillis, int[] hourDayIndex, int[] hourWeekSlot) {
+        this.startDate = startDate;
+        this.days = days;
+        this.hourStartMillis = hourStartMillis;
+        this.hourDayIndex = hourDayIndex;
+        this.hourWeekSlot = hourWeekSlot;
+    }
+
+    /**
+     * startDate 00:00 부터 days 일 동안의 시간 구간
+     */
+    public static LocalTimeBuckets of(ZoneId zone, LocalDate startDate, int days) {
+        if (days <= 0) {
+            throw new IllegalArgumentException("조회 기간은 1일 이상이어야 합니다.");
+        }
+
+        long end = startDate.plusDays(days).atStartOfDay(zone).toInstant().toEpochMilli();
+        // 하루가 25시간인 날을 고려해 여유있게 할당
+        int capacity = days * (HOURS_PER_DAY + 1);
+        long[] hourStartMillis = new long[capacity + 1];
+        int[] hourDayIndex = new int[capacity];
+        int[] hourWeekSlot = new int[capacity];
+
+        int count = 0;
+        for (int day = 0; day < days; day++) {
+            ZonedDateTime hour = startDate.plusDays(day).atStartOfDay(zone);
+            long dayEnd = startDate.plusDays(day + 1).atStartOfDay(zone).toInstant().toEpochMilli();
+            int dayOfWeek = hour.getDayOfWeek().getValue() % 7;
+            while (hour.toInstant().toEpochMilli() < dayEnd) {
+                hourStartMillis[count] = hour.toInstant().toEpochMilli();
+                hourDayIndex[count] = day;
+                hourWeekSlot[count] = dayOfWeek * HOURS_PER_DAY + hour.getHour();
+                count++;
+                hour = hour.plusHours(1);
+            }
+        }
+        hourStartMillis[count] = end;
+
+        long[] trimmedStarts = new long[count + 1];
+        System.arraycopy(hourStartMillis, 0, trimmedStarts, 0, count + 1);
+        int[] trimmedDays = new int[count];
+        System.arraycopy(hourDayIndex, 0, trimmedDays, 0, count);
+        int[] trimmedSlots = new int[count];
+        System.arraycopy(hourWeekSlot, 0, trimmedSlots, 0, count);
+        return new LocalTimeBuckets(startDate, days, trimmedStarts, trimmedDays, trimmedSlots);
+    }
+
+    public int days() {
+        return days;
+    }
+
+    public LocalDate dateOf(int dayIndex) {
+        return startDate.plusDays(dayIndex);
+    }
+
+    public long startMillis() {
+        return hourStartMillis[0];
+    }
+
+    /**
+     * 기간 종료 시각 (포함하지 않음)
+     */
+    public long endMillis() {
+        return hourStartMillis[hourStartMillis.length - 1];
+    }
+
+    /**
+     * 기간 밖이면 -1
+     */
+    public int dayIndexOf(long epochMillis) {
+        int hourIndex = hourIndexOf(epochMillis);
+        return hourIndex < 0 ? -1 : hourDayIndex[hourIndex];
+    }
+
+    /**
+     * 요일(일요일=0) * 24 + 시, 기간 밖이면 -1
+     */
+    public int weekHourOf(long epochMillis) {
+        int hourIndex = hourIndexOf(epochMillis);
+        return hourIndex < 0 ? -1 : hourWeekSlot[hourIndex];
+    }
+
+    private int hourIndexOf(long epochMillis) {
+        int hours = hourDayIndex.length;
+        if (epochMillis < hourStartMillis[0] || epochMillis >= hourStartMillis[hours]) {
+            return -1;
+        }
+        // 시간 구간은 대부분 정확히 1시간이므로 나눗셈으로 위치를 잡고 경계가 어긋난 만큼만 보정
+        int index = (int) Math.min(hours - 1, (epochMillis - hourStartMillis[0]) / HOUR_MILLIS);
+        while (epochMillis < hourStartMillis[index]) {
+            index--;
+        }
+        while (epochMillis >= hourStartMillis[index + 1]) {
+            index++;
+        }
+        return index;
+    }
+}
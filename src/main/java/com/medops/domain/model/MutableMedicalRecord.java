@@ -0,0 +1,71 @@
+package com.medops.domain.model;
+
+import com.medops.domain.enums.MedicalRecordStatus;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 이벤트 재생 중에만 쓰는 가변 상태
+ * 이벤트마다 MedicalRecord / Reservation 을 새로 만들지 않고 필드만 갱신한 뒤,
+ * 재생이 끝나면 toMedicalRecord() 로 불변 객체를 한 번 만든다.
+ */
+@Getter
+@Setter
+public class MutableMedicalRecord {
+    private String id;
+
+    private String userId;
+    private String hospitalId;
+    private String doctor;
+    private String note;
+
+    private MedicalRecordStatus status;
+
+    private String userMemo;
+    private String treatmentProductId;
+    private Instant startTime;
+    private Instant endTime;
+
+    private List<Object> events;
+
+    public static MutableMedicalRecord from(MedicalRecord record) {
+        MutableMedicalRecord state = new MutableMedicalRecord();
+        state.reset(record);
+        return state;
+    }
+
+    /**
+     * 다른 예약의 상태로 덮어써 누산기를 재사용
+     */
+    public void reset(MedicalRecord record) {
+        this.id = record.getId();
+        this.userId = record.getUserId();
+        this.hospitalId = record.getHospitalId();
+        this.doctor = record.getDoctor();
+        this.note = record.getNote();
+        this.status = record.getStatus();
+        this.events = record.getEvents();
+
+        Reservation reservation = record.getReservation();
+        this.userMemo = reservation == null ? null : reservation.getUserMemo();
+        this.treatmentProductId = reservation == null ? null : reservation.getTreatmentProductId();
+        this.startTime = reservation == null ? null : reservation.getStartTime();
+        this.endTime = reservation == null ? null : reservation.getEndTime();
+    }
+
+    public MedicalRecord toMedicalRecord() {
+        return new MedicalRecord(
+            id,
+            userId,
+            hospitalId,
+            doctor,
+            note,
+            status,
+            new Reservation(userMemo, treatmentProductId, startTime, endTime),
+            events
+        );
+    }
+}
@@ -0,0 +1,24 @@
+package com.medops.domain.model;
+
+/**
+ * 토큰 버킷 규칙
+ * capacity 만큼 연속 요청을 허용하고 이후에는 분당 refillPerMinute 개씩 다시 채워진다.
+ */
+public record RateLimitRule(int capacity, int refillPerMinute) {
+
+    public RateLimitRule {
+        if (capacity <= 0 || refillPerMinute <= 0) {
+            throw new IllegalArgumentException("요청 한도는 0보다 커야 합니다.");
+        }
+    }
+
+    // 토큰 하나가 채워지는 간격
+    public long emissionIntervalNanos() {
+        return 60_000_000_000L / refillPerMinute;
+    }
+
+    // 버킷이 가득 찬 상태에서 연속으로 허용되는 구간의 길이
+    public long burstToleranceNanos() {
+        return emissionIntervalNanos() * (capacity - 1);
+    }
+}
@@ -0,0 +1,106 @@
+package com.medops.domain.model;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 시술 상품별 30분 슬롯 예약 현황을 메모리에 보관하는 장부
+ * 슬롯은 epoch 기준 30분 단위 인덱스로 관리하고, 하루(48 슬롯) 단위 배열로 묶어 저장한다.
+ */
+public class ReservationSlotBook {
+    public static final Duration SLOT_DURATION = Duration.ofMinutes(30);
+
+    private static final long SLOT_MILLIS = SLOT_DURATION.toMillis();
+    private static final int SLOTS_PER_CHUNK = 48;
+
+    // treatmentProductId -> chunk index -> 슬롯별 예약 수
+    private final Map<String, Map<Long, AtomicIntegerArray>> slotCounts = new ConcurrentHashMap<>();
+    // recordId -> 예약이 차지한 슬롯 범위 (취소 이벤트 반영용)
+    private final Map<String, Booking> bookings = new ConcurrentHashMap<>();
+
+    public record Booking(String treatmentProductId, long fromSlot, long toSlot) {
+        public Instant startTime() {
+            return Instant.ofEpochMilli(fromSlot * SLOT_MILLIS);
+        }
+
+        public Instant endTime() {
+            return Instant.ofEpochMilli(toSlot * SLOT_MILLIS);
+        }
+    }
+
+    /**
+     * @return 새로 반영된 경우 true, 이미 반영된 예약이면 false
+     */
+    public boolean book(String recordId, String treatmentProductId, Instant startTime, Instant endTime) {
+        Booking booking = new Booking(treatmentProductId, fromSlot(startTime), toSlot(startTime, endTime));
+        // 같은 예약이 두 번 반영되지 않도록 한다 (워밍업과 이벤트가 겹치는 경우)
+        if (bookings.putIfAbsent(recordId, booking) != null) {
+            return false;
+        }
+        add(booking, 1);
+        return true;
+    }
+
+    public Optional<Booking> release(String recordId) {
+        Booking booking = bookings.remove(recordId);
+        if (booking != null) {
+            add(booking, -1);
+        }
+        return Optional.ofNullable(booking);
+    }
+
+    /**
+     * [startTime, endTime) 구간에 걸친 슬롯 중 가장 많이 예약된 슬롯의 예약 수
+     */
+    public int maxReservedCount(String treatmentProductId, Instant startTime, Instant endTime) {
+        Map<Long, AtomicIntegerArray> chunks = slotCounts.get(treatmentProductId);
+        if (chunks == null) {
+            return 0;
+        }
+
+        int max = 0;
+        long toSlot = toSlot(startTime, endTime);
+        for (long slot = fromSlot(startTime); slot < toSlot; slot++) {
+            AtomicIntegerArray counts = chunks.get(Math.floorDiv(slot, SLOTS_PER_CHUNK));
+            if (counts != null) {
+                max = Math.max(max, counts.get(Math.floorMod(slot, SLOTS_PER_CHUNK)));
+            }
+        }
+        return max;
+    }
+
+    public boolean isAvailable(String treatmentProductId, Instant startTime, Instant endTime, int maxCapacity) {
+        return maxReservedCount(treatmentProductId, startTime, endTime) < maxCapacity;
+    }
+
+    /**
+     * 지정 시각 이전에 끝난 예약과 슬롯을 정리
+     */
+    public void evictBefore(Instant time) {
+        long slot = fromSlot(time);
+        long chunk = Math.floorDiv(slot, SLOTS_PER_CHUNK);
+        bookings.values().removeIf(booking -> booking.toSlot() <= slot);
+        slotCounts.values().forEach(chunks -> chunks.keySet().removeIf(key -> key < chunk));
+    }
+
+    private void add(Booking booking, int delta) {
+        Map<Long, AtomicIntegerArray> chunks = slotCounts.computeIfAbsent(booking.treatmentProductId(), k -> new ConcurrentHashMap<>());
+        for (long slot = booking.fromSlot(); slot < booking.toSlot(); slot++) {
+            AtomicIntegerArray counts = chunks.computeIfAbsent(Math.floorDiv(slot, SLOTS_PER_CHUNK), k -> new AtomicIntegerArray(SLOTS_PER_CHUNK));
+            counts.addAndGet(Math.floorMod(slot, SLOTS_PER_CHUNK), delta);
+        }
+    }
+
+    private static long fromSlot(Instant startTime) {
+        return Math.floorDiv(startTime.toEpochMilli(), SLOT_MILLIS);
+    }
+
+    private static long toSlot(Instant startTime, Instant endTime) {
+        long end = Math.max(endTime.toEpochMilli(), startTime.toEpochMilli() + 1);
+        return Math.floorDiv(end + SLOT_MILLIS - 1, SLOT_MILLIS);
+    }
+}
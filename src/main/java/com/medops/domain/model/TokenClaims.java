@@ -0,0 +1,29 @@
+package com.medops.domain.model;
+
+import com.medops.domain.enums.AdminRole;
+import com.medops.domain.enums.TokenType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 토큰의 클레임
+ * hospitalId, role, tokenVersion 은 관리자 클레임 포함 토큰에만 존재한다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class TokenClaims {
+    private String subject;
+    private TokenType tokenType;
+    private Instant expiresAt;
+    private String hospitalId;
+    private AdminRole role;
+    private Long tokenVersion;
+
+    public boolean hasAdminClaims() {
+        return tokenType == TokenType.ADMIN && hospitalId != null && role != null && tokenVersion != null;
+    }
+}
@@ -0,0 +1,38 @@
+package com.medops.domain.model;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시술 이름별 가격표
+ * 예약에는 시술 이름만 남아 있으므로 이름으로 가격을 찾고, 찾을 수 없으면 기본 가격으로 계산한다.
+ */
+public class TreatmentPriceTable {
+    public static final long DEFAULT_PRICE = 150_000L;
+
+    private final Map<String, Long> prices;
+
+    private TreatmentPriceTable(Map<String, Long> prices) {
+        this.prices = prices;
+    }
+
+    /**
+     * 이름이 같은 시술 상품이 여럿이면 먼저 나온 상품의 가격을 쓴다
+     */
+    public static TreatmentPriceTable of(List<TreatmentProduct> treatmentProducts) {
+        Map<String, Long> prices = new HashMap<>();
+        for (TreatmentProduct treatmentProduct : treatmentProducts) {
+            prices.putIfAbsent(treatmentProduct.getName(), treatmentProduct.getPrice().longValue());
+        }
+        return new TreatmentPriceTable(prices);
+    }
+
+    public boolean contains(String treatmentProductName) {
+        return prices.containsKey(treatmentProductName);
+    }
+
+    public long priceOf(String treatmentProductName) {
+        return prices.getOrDefault(treatmentProductName, DEFAULT_PRICE);
+    }
+}
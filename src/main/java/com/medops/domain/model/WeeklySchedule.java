@@ -0,0 +1,100 @@
+package com.medops.domain.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * 병원 영업 시간을 요일별 영업 구간(분 단위)으로 미리 계산해 둔 주간 스케줄
+ * 휴게 시간은 구간에서 이미 제외되어 있어 영업 여부 확인시 문자열 파싱 없이 비교만 수행한다.
+ */
+public class WeeklySchedule {
+    private static final int[] CLOSED = new int[0];
+
+    // 요일(DayOfWeek.ordinal)별 [시작분, 종료분, 시작분, 종료분, ...]
+    private final int[][] openRanges;
+
+    private WeeklySchedule(int[][] openRanges) {
+        this.openRanges = openRanges;
+    }
+
+    public static WeeklySchedule compile(List<BusinessHour> businessHours) {
+        int[][] openRanges = new int[DayOfWeek.values().length][];
+        for (int i = 0; i < openRanges.length; i++) {
+            openRanges[i] = CLOSED;
+        }
+
+        for (BusinessHour businessHour : businessHours) {
+            if (businessHour.isClosed() || businessHour.getOpenTime() == null || businessHour.getCloseTime() == null) {
+                continue;
+            }
+            int open = minuteOfDay(businessHour.getOpenTime());
+            int close = minuteOfDay(businessHour.getCloseTime());
+            if (open >= close) {
+                continue;
+            }
+
+            int breakStart = businessHour.getBreakStartTime() != null ? Math.max(open, minuteOfDay(businessHour.getBreakStartTime())) : close;
+            int breakEnd = businessHour.getBreakEndTime() != null ? Math.min(close, minuteOfDay(businessHour.getBreakEndTime())) : close;
+
+            int[] ranges;
+            if (breakStart >= breakEnd) {
+                ranges = new int[]{open, close};
+            } else if (breakStart == open) {
+                ranges = new int[]{breakEnd, close};
+            } else if (breakEnd == close) {
+                ranges = new int[]{open, breakStart};
+            } else {
+                ranges = new int[]{open, breakStart, breakEnd, close};
+            }
+            openRanges[businessHour.getDayOfWeek().ordinal()] = ranges;
+        }
+        return new WeeklySchedule(openRanges);
+    }
+
+    public boolean isClosed(DayOfWeek dayOfWeek) {
+        return openRanges[dayOfWeek.ordinal()].length == 0;
+    }
+
+    public boolean isOpenAt(DayOfWeek dayOfWeek, int minuteOfDay) {
+        return isOpen(dayOfWeek, minuteOfDay, minuteOfDay + 1);
+    }
+
+    /**
+     * [startMinute, endMinute) 가 하나의 영업 구간 안에 포함되는지 여부
+     */
+    public boolean isOpen(DayOfWeek dayOfWeek, int startMinute, int endMinute) {
+        int[] ranges = openRanges[dayOfWeek.ordinal()];
+        for (int i = 0; i < ranges.length; i += 2) {
+            if (ranges[i] <= startMinute && endMinute <= ranges[i + 1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 영업 구간 안에 온전히 들어가는 슬롯의 시작 시각(분) 목록
+     */
+    public int[] slotStartMinutes(DayOfWeek dayOfWeek, int slotMinutes) {
+        int[] ranges = openRanges[dayOfWeek.ordinal()];
+
+        int count = 0;
+        for (int i = 0; i < ranges.length; i += 2) {
+            count += (ranges[i + 1] - ranges[i]) / slotMinutes;
+        }
+
+        int[] slotStarts = new int[count];
+        int index = 0;
+        for (int i = 0; i < ranges.length; i += 2) {
+            for (int minute = ranges[i]; minute + slotMinutes <= ranges[i + 1]; minute += slotMinutes) {
+                slotStarts[index++] = minute;
+            }
+        }
+        return slotStarts;
+    }
+
+    private static int minuteOfDay(String time) {
+        return LocalTime.parse(time).toSecondOfDay() / 60;
+    }
+}
@@ -0,0 +1,139 @@
+package com.medops.adapter.out.persistence.eventstore.adapter;
+
+import com.medops.adapter.out.persistence.eventstore.sequence.EventPositionAllocator;
+import com.medops.application.eventsourcing.event.Confirmed;
+import com.medops.application.eventsourcing.event.MedicalRecordEvent;
+import com.medops.application.eventsourcing.event.NoteUpdated;
+import com.medops.application.eventsourcing.event.PositionedEvent;
+import com.medops.application.eventsourcing.event.ReservationCreated;
+import com.medops.common.exception.EventVersionConflict;
+import com.medops.domain.enums.MedicalRecordStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class MedicalRecordEventStoreAdapterTest {
+    @Autowired
+    private MedicalRecordEventStoreAdapter sut;
+
+    @Autowired
+    private EventPositionAllocator eventPositionAllocator;
+
+    @Test
+    @DisplayName("저장된 이벤트를 전역 위치 순으로 이어 읽을 수 있음")
+    void should_readEventsInPositionOrder_when_readAllFrom() {
+        // given
+        String recordId = UUID.randomUUID().toString();
+        Instant startTime = Instant.now().plusSeconds(3600);
+        long lastPosition = lastPosition();
+        sut.collectEvents(recordId, "hospital-1", "user-1", 1, List.<MedicalRecordEvent>of(
+            new ReservationCreated(recordId, MedicalRecordStatus.PENDING, "user-1", "hospital-1", "product-1", startTime, startTime.plusSeconds(1800), null, null),
+            new Confirmed(recordId, "admin-1", "관리자")
+        ));
+        sut.collectEvents(recordId, "hospital-1", "user-1", 3, List.<MedicalRecordEvent>of(
+            new NoteUpdated(recordId, MedicalRecordStatus.RESERVED, "메모")
+        ));
+
+        // when
+        List<PositionedEvent> firstBatch = sut.readAllFrom(lastPosition, 2);
+        List<PositionedEvent> secondBatch = sut.readAllFrom(firstBatch.get(1).position(), 2);
+
+        // then
+        assertEquals(2, firstBatch.size());
+        assertInstanceOf(ReservationCreated.class, firstBatch.get(0).event());
+        assertInstanceOf(Confirmed.class, firstBatch.get(1).event());
+        assertTrue(firstBatch.get(0).position() < firstBatch.get(1).position());
+        assertEquals(1, secondBatch.size());
+        assertEquals(3, secondBatch.get(0).version());
+        assertEquals(recordId, secondBatch.get(0).recordId());
+        assertEquals("메모", ((NoteUpdated) secondBatch.get(0).event()).getNote());
+    }
+
+    @Test
+    @DisplayName("앞선 위치가 아직 기록 중이면 뒤에 기록된 이벤트는 기록이 끝날 때까지 읽지 않음")
+    void should_holdBackLaterEvents_when_earlierPositionPending() {
+        // given
+        String recordId = UUID.randomUUID().toString();
+        long lastPosition = lastPosition();
+        long[] pending = eventPositionAllocator.allocate(1);
+        sut.collectEvents(recordId, "hospital-1", "user-1", 1, List.<MedicalRecordEvent>of(
+            new NoteUpdated(recordId, MedicalRecordStatus.RESERVED, "메모")
+        ));
+
+        // when
+        List<PositionedEvent> beforeComplete = sut.readAllFrom(lastPosition, 10);
+        eventPositionAllocator.complete(pending);
+        List<PositionedEvent> afterComplete = sut.readAllFrom(lastPosition, 10);
+
+        // then
+        assertTrue(beforeComplete.isEmpty());
+        assertEquals(1, afterComplete.size());
+        assertEquals(recordId, afterComplete.get(0).recordId());
+        assertTrue(afterComplete.get(0).position() > pending[0]);
+    }
+
+    @Test
+    @DisplayName("조회 개수가 범위를 벗어나면 예외 발생")
+    void should_throwException_when_batchSizeOutOfRange() {
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> sut.readAllFrom(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> sut.readAllFrom(0, 1_001));
+    }
+
+    @Test
+    @DisplayName("같은 버전을 동시에 기록하면 하나만 성공하고 나머지는 버전 충돌")
+    void should_rejectDuplicateVersion_when_appendedConcurrently() throws Exception {
+        // given
+        String recordId = UUID.randomUUID().toString();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            String note = "메모-" + i;
+            results.add(executor.submit(() -> {
+                try {
+                    sut.collectEvents(recordId, "hospital-1", "user-1", 1, List.<MedicalRecordEvent>of(
+                        new NoteUpdated(recordId, MedicalRecordStatus.RESERVED, note)
+                    ));
+                    return true;
+                } catch (EventVersionConflict e) {
+                    return false;
+                }
+            }));
+        }
+        int succeeded = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get(10, TimeUnit.SECONDS)) {
+                succeeded++;
+            }
+        }
+        executor.shutdown();
+
+        // then
+        assertEquals(1, succeeded);
+        assertEquals(1, sut.queryEvents(recordId, 1).size());
+    }
+
+    private long lastPosition() {
+        long position = 0;
+        List<PositionedEvent> batch;
+        while (!(batch = sut.readAllFrom(position, 1_000)).isEmpty()) {
+            position = batch.get(batch.size() - 1).position();
+        }
+        return position;
+    }
+}
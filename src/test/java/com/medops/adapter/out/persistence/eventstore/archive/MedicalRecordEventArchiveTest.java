@@ -0,0 +1,168 @@
+package com.medops.adapter.out.persistence.eventstore.archive;
+
+import com.medops.adapter.out.persistence.eventstore.adapter.MedicalRecordEventStoreAdapter;
+import com.medops.adapter.out.persistence.eventstore.outbox.EventOutboxAdapter;
+import com.medops.adapter.out.persistence.mongodb.adapter.MedicalRecordEventPersistenceAdapter;
+import com.medops.adapter.out.persistence.mongodb.repository.MedicalRecordEventDocumentRepository;
+import com.medops.application.eventsourcing.event.Canceled;
+import com.medops.application.eventsourcing.event.Confirmed;
+import com.medops.application.eventsourcing.event.MedicalRecordEvent;
+import com.medops.application.eventsourcing.event.ReservationCreated;
+import com.medops.application.eventsourcing.event.StreamAppend;
+import com.medops.common.exception.EventVersionConflict;
+import com.medops.domain.enums.MedicalRecordStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class MedicalRecordEventArchiveTest {
+    @Autowired
+    private MedicalRecordEventArchive sut;
+
+    @Autowired
+    private MedicalRecordEventStoreAdapter medicalRecordEventStoreAdapter;
+
+    @Autowired
+    private MedicalRecordEventPersistenceAdapter medicalRecordEventPersistenceAdapter;
+
+    @Autowired
+    private EventOutboxAdapter eventOutboxAdapter;
+
+    @Autowired
+    private MedicalRecordEventDocumentRepository medicalRecordEventDocumentRepository;
+
+    @Test
+    @DisplayName("보관한 예약의 이벤트는 운영 컬렉션에서 지워지고 보관소에서 그대로 읽힘")
+    void should_readArchivedEvents_when_streamArchived() {
+        // given
+        String recordId = createStream(true, true);
+
+        // when
+        boolean archived = sut.archive(recordId, Instant.now().plusSeconds(1));
+
+        // then
+        assertTrue(archived);
+        assertTrue(medicalRecordEventDocumentRepository.getAllByRecordId(recordId).isEmpty());
+
+        List<Object> events = medicalRecordEventStoreAdapter.queryEvents(recordId, 1);
+        assertEquals(3, events.size());
+        assertInstanceOf(ReservationCreated.class, events.get(0));
+        assertInstanceOf(Canceled.class, events.get(2));
+
+        Map<String, List<MedicalRecordEvent>> batch = medicalRecordEventStoreAdapter.queryEvents(Map.of(recordId, 1));
+        assertEquals(3, batch.get(recordId).size());
+
+        List<com.medops.domain.event.MedicalRecordEvent> history = medicalRecordEventPersistenceAdapter.loadEventsByRecordId(recordId);
+        assertEquals(3, history.size());
+        assertEquals("Canceled", history.get(2).getEventType());
+        assertEquals(3, history.get(2).getVersion());
+    }
+
+    @Test
+    @DisplayName("보관 후 이어진 스트림은 보관된 앞부분과 운영 컬렉션의 뒷부분을 이어서 읽음")
+    void should_mergeArchivedEvents_when_streamContinuedAfterArchive() {
+        // given
+        String recordId = createStream(true, true);
+        sut.archive(recordId, Instant.now().plusSeconds(1));
+
+        // when
+        medicalRecordEventStoreAdapter.collectEvents(recordId, "hospital-1", "user-1", 4, List.of(new Confirmed(recordId, "admin-1", "관리자")));
+
+        // then
+        List<Object> events = medicalRecordEventStoreAdapter.queryEvents(recordId, 2);
+        assertEquals(3, events.size());
+        assertInstanceOf(Confirmed.class, events.get(0));
+        assertInstanceOf(Canceled.class, events.get(1));
+        assertInstanceOf(Confirmed.class, events.get(2));
+        assertEquals(4, medicalRecordEventStoreAdapter.queryEvents(Map.of(recordId, 1)).get(recordId).size());
+    }
+
+    @Test
+    @DisplayName("스냅샷 이후를 읽는데 운영 컬렉션에 이어지는 이벤트가 없으면 보관소를 확인하지 않음")
+    void should_notReadArchive_when_noHotEventsAfterSnapshot() {
+        // given
+        String recordId = createStream(true, true);
+        sut.archive(recordId, Instant.now().plusSeconds(1));
+
+        // when
+        List<Object> events = medicalRecordEventStoreAdapter.queryEvents(recordId, 2);
+        Map<String, List<MedicalRecordEvent>> batch = medicalRecordEventStoreAdapter.queryEvents(Map.of(recordId, 2));
+
+        // then
+        assertTrue(events.isEmpty());
+        assertFalse(batch.containsKey(recordId));
+    }
+
+    @Test
+    @DisplayName("스냅샷을 읽는 사이 보관된 스트림에 보관된 버전으로 기록하면 버전 충돌로 거절함")
+    void should_rejectAppend_when_versionAlreadyArchived() {
+        // given
+        String recordId = createStream(true, true);
+        sut.archive(recordId, Instant.now().plusSeconds(1));
+        Confirmed event = new Confirmed(recordId, "admin-1", "관리자");
+
+        // when & then
+        assertThrows(EventVersionConflict.class, () ->
+            medicalRecordEventStoreAdapter.collectEvents(recordId, "hospital-1", "user-1", 3, List.of(event)));
+        Map<String, RuntimeException> failures = medicalRecordEventStoreAdapter.collectEventsBatch(
+            List.of(new StreamAppend(recordId, "hospital-1", "user-1", 2, List.of(event))));
+        assertInstanceOf(EventVersionConflict.class, failures.get(recordId));
+        assertTrue(medicalRecordEventDocumentRepository.getAllByRecordId(recordId).isEmpty());
+    }
+
+    @Test
+    @DisplayName("종료되지 않았거나 전달되지 않은 이벤트가 있는 예약은 보관하지 않음")
+    void should_notArchive_when_streamOpenOrPendingDispatch() {
+        // given
+        String openRecordId = createStream(false, true);
+        String pendingRecordId = createStream(true, false);
+
+        // when & then
+        assertFalse(sut.archive(openRecordId, Instant.now().plusSeconds(1)));
+        assertFalse(sut.archive(pendingRecordId, Instant.now().plusSeconds(1)));
+        assertFalse(medicalRecordEventDocumentRepository.getAllByRecordId(openRecordId).isEmpty());
+        assertFalse(medicalRecordEventDocumentRepository.getAllByRecordId(pendingRecordId).isEmpty());
+    }
+
+    @Test
+    @DisplayName("기준일 이후에 종료된 예약은 보관 대상으로 조회되지 않음")
+    void should_notFindRecord_when_closedAfterCutoff() {
+        // given
+        String recordId = createStream(true, true);
+
+        // when
+        List<String> before = sut.findClosedRecordIds(Instant.now().minusSeconds(60), null, 1_000);
+        List<String> after = sut.findClosedRecordIds(Instant.now().plusSeconds(1), null, 1_000);
+
+        // then
+        assertFalse(before.contains(recordId));
+        assertTrue(after.contains(recordId));
+    }
+
+    private String createStream(boolean closed, boolean dispatched) {
+        String recordId = UUID.randomUUID().toString();
+        Instant startTime = Instant.now().plusSeconds(3600);
+        List<MedicalRecordEvent> events = closed
+            ? List.of(
+                new ReservationCreated(recordId, MedicalRecordStatus.PENDING, "user-1", "hospital-1", "product-1", startTime, startTime.plusSeconds(1800), null, null),
+                new Confirmed(recordId, "admin-1", "관리자"),
+                new Canceled(recordId, "admin-1", "관리자"))
+            : List.of(
+                new ReservationCreated(recordId, MedicalRecordStatus.PENDING, "user-1", "hospital-1", "product-1", startTime, startTime.plusSeconds(1800), null, null),
+                new Confirmed(recordId, "admin-1", "관리자"));
+        medicalRecordEventStoreAdapter.collectEvents(recordId, "hospital-1", "user-1", 1, events);
+        if (dispatched) {
+            eventOutboxAdapter.markDispatched(recordId, 1, events.size());
+        }
+        return recordId;
+    }
+}
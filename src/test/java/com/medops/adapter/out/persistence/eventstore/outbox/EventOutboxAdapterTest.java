@@ -0,0 +1,95 @@
+package com.medops.adapter.out.persistence.eventstore.outbox;
+
+import com.medops.adapter.out.persistence.eventstore.adapter.MedicalRecordEventStoreAdapter;
+import com.medops.application.eventsourcing.event.Confirmed;
+import com.medops.application.eventsourcing.event.MedicalRecordEvent;
+import com.medops.application.eventsourcing.event.NoteUpdated;
+import com.medops.application.eventsourcing.event.OutboxEvent;
+import com.medops.domain.enums.MedicalRecordStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class EventOutboxAdapterTest {
+    @Autowired
+    private EventOutboxAdapter sut;
+
+    @Autowired
+    private MedicalRecordEventStoreAdapter medicalRecordEventStoreAdapter;
+
+    @Test
+    @DisplayName("전달되지 않은 이벤트는 한 번만 선점되고 전달 완료 후에는 다시 선점되지 않음")
+    void should_claimPendingEventsOnce_when_notDispatched() {
+        // given
+        String recordId = UUID.randomUUID().toString();
+        medicalRecordEventStoreAdapter.collectEvents(recordId, "hospital-1", "user-1", 1, List.<MedicalRecordEvent>of(
+            new Confirmed(recordId, "admin-1", "관리자"),
+            new NoteUpdated(recordId, MedicalRecordStatus.RESERVED, "메모")
+        ));
+        Instant createdBefore = Instant.now().plusSeconds(1);
+
+        // when
+        List<OutboxEvent> claimed = claimRecord(recordId, createdBefore, Duration.ofSeconds(30));
+        List<OutboxEvent> claimedAgain = claimRecord(recordId, createdBefore, Duration.ofSeconds(30));
+
+        // then
+        assertEquals(2, claimed.size());
+        assertInstanceOf(Confirmed.class, claimed.get(0).event());
+        assertEquals(2, claimed.get(1).version());
+        assertTrue(claimedAgain.isEmpty());
+
+        // when - 선점이 만료되어도 전달 완료된 이벤트는 다시 선점되지 않음
+        sut.markDispatched(claimed.stream().map(OutboxEvent::eventId).toList());
+
+        // then
+        assertTrue(claimRecord(recordId, createdBefore, Duration.ZERO).isEmpty());
+    }
+
+    @Test
+    @DisplayName("바로 전달한 버전 구간은 선점 대상에서 제외됨")
+    void should_skipEvents_when_markedDispatchedByVersion() {
+        // given
+        String recordId = UUID.randomUUID().toString();
+        medicalRecordEventStoreAdapter.collectEvents(recordId, "hospital-1", "user-1", 1, List.<MedicalRecordEvent>of(
+            new Confirmed(recordId, "admin-1", "관리자"),
+            new NoteUpdated(recordId, MedicalRecordStatus.RESERVED, "메모")
+        ));
+
+        // when
+        sut.markDispatched(recordId, 1, 1);
+        List<OutboxEvent> claimed = claimRecord(recordId, Instant.now().plusSeconds(1), Duration.ofSeconds(30));
+
+        // then
+        assertEquals(1, claimed.size());
+        assertEquals(2, claimed.get(0).version());
+    }
+
+    @Test
+    @DisplayName("유예 시간 이후에 기록된 이벤트는 선점하지 않음")
+    void should_notClaimEvents_when_createdAfterGrace() {
+        // given
+        String recordId = UUID.randomUUID().toString();
+        Instant createdBefore = Instant.now().minusSeconds(5);
+        medicalRecordEventStoreAdapter.collectEvents(recordId, "hospital-1", "user-1", 1, List.<MedicalRecordEvent>of(
+            new Confirmed(recordId, "admin-1", "관리자")
+        ));
+
+        // when & then
+        assertTrue(claimRecord(recordId, createdBefore, Duration.ofSeconds(30)).isEmpty());
+    }
+
+    private List<OutboxEvent> claimRecord(String recordId, Instant createdBefore, Duration lease) {
+        return sut.claimPending(1_000, createdBefore, lease).stream()
+            .filter(event -> event.recordId().equals(recordId))
+            .toList();
+    }
+}
@@ -0,0 +1,97 @@
+package com.medops.adapter.out.persistence.eventstore.registry;
+
+import com.medops.application.eventsourcing.event.Canceled;
+import com.medops.application.eventsourcing.event.DoctorAssigned;
+import com.medops.application.eventsourcing.event.MedicalRecordEvent;
+import com.medops.application.eventsourcing.event.NoteUpdated;
+import com.medops.application.eventsourcing.event.ReservationCreated;
+import com.medops.domain.enums.MedicalRecordStatus;
+import org.bson.RawBsonDocument;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventTypeRegistryTest {
+
+    private final EventTypeRegistry eventTypeRegistry = new EventTypeRegistry();
+
+    @Test
+    @DisplayName("예약 생성 이벤트를 코덱으로 저장하고 다시 읽으면 모든 필드가 같음")
+    void should_roundTripAllFields_when_reservationCreatedEncoded() {
+        // given
+        Instant startTime = Instant.parse("2025-07-07T00:30:00Z");
+        ReservationCreated event = new ReservationCreated(
+            "record-1", MedicalRecordStatus.PENDING, "user-1", "hospital-1", "product-1",
+            startTime, startTime.plusSeconds(1800), null, "메모"
+        );
+
+        // when
+        RawBsonDocument payload = eventTypeRegistry.encode(event);
+        MedicalRecordEvent decoded = eventTypeRegistry.decode("ReservationCreated", payload);
+
+        // then
+        ReservationCreated reservationCreated = assertInstanceOf(ReservationCreated.class, decoded);
+        assertEquals("record-1", reservationCreated.getRecordId());
+        assertEquals(MedicalRecordStatus.PENDING, reservationCreated.getStatus());
+        assertEquals("hospital-1", reservationCreated.getHospitalId());
+        assertEquals(startTime, reservationCreated.getStartTime());
+        assertEquals(startTime.plusSeconds(1800), reservationCreated.getEndTime());
+        assertNull(reservationCreated.getUserMemo());
+        assertEquals("메모", reservationCreated.getNote());
+        assertEquals("2025-07-07T00:30:00Z", payload.getString("startTime").getValue());
+    }
+
+    @Test
+    @DisplayName("관리자 상태 변경 이벤트와 의사 배정, 노트 변경 이벤트도 코덱으로 복원")
+    void should_roundTrip_when_otherEventsEncoded() {
+        // given
+        Canceled canceled = new Canceled("record-1", "admin-1", "관리자");
+        DoctorAssigned doctorAssigned = new DoctorAssigned("record-1", MedicalRecordStatus.RESERVED, "doctor-1", "김의사", "admin-1", "관리자");
+        NoteUpdated noteUpdated = new NoteUpdated("record-1", MedicalRecordStatus.RESERVED, "진료 메모");
+
+        // when
+        Canceled decodedCanceled = (Canceled) eventTypeRegistry.decode("Canceled", eventTypeRegistry.encode(canceled));
+        DoctorAssigned decodedDoctorAssigned = (DoctorAssigned) eventTypeRegistry.decode("DoctorAssigned", eventTypeRegistry.encode(doctorAssigned));
+        NoteUpdated decodedNoteUpdated = (NoteUpdated) eventTypeRegistry.decode("NoteUpdated", eventTypeRegistry.encode(noteUpdated));
+
+        // then
+        assertEquals("admin-1", decodedCanceled.getAdminId());
+        assertEquals("관리자", decodedCanceled.getAdminName());
+        assertEquals("doctor-1", decodedDoctorAssigned.getDoctorId());
+        assertEquals("김의사", decodedDoctorAssigned.getDoctorName());
+        assertEquals(MedicalRecordStatus.RESERVED, decodedDoctorAssigned.getStatus());
+        assertEquals("진료 메모", decodedNoteUpdated.getNote());
+    }
+
+    @Test
+    @DisplayName("기존 ObjectMapper 형식으로 저장된 payload 도 읽을 수 있음")
+    void should_decodeLegacyPayload_when_storedAsJacksonMap() {
+        // given
+        RawBsonDocument legacyPayload = RawBsonDocument.parse("""
+            {"adminId": "admin-1", "adminName": "관리자", "recordId": "record-1", "status": "RESERVED"}
+            """);
+        RawBsonDocument legacyReservation = RawBsonDocument.parse("""
+            {"recordId": "record-1", "status": "PENDING", "startTime": "2025-07-07T00:30:00Z", "endTime": null, "unknown": {"nested": 1}}
+            """);
+
+        // when
+        Canceled canceled = (Canceled) eventTypeRegistry.decode("Canceled", legacyPayload);
+        ReservationCreated reservationCreated = (ReservationCreated) eventTypeRegistry.decode("ReservationCreated", legacyReservation);
+
+        // then
+        assertEquals("record-1", canceled.getRecordId());
+        assertEquals("admin-1", canceled.getAdminId());
+        assertEquals(Instant.parse("2025-07-07T00:30:00Z"), reservationCreated.getStartTime());
+        assertNull(reservationCreated.getEndTime());
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 이벤트 타입이면 예외 발생")
+    void should_throwException_when_unknownEventType() {
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> eventTypeRegistry.getCodec("Unknown"));
+    }
+}
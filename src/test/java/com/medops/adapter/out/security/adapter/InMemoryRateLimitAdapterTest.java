@@ -0,0 +1,85 @@
+package com.medops.adapter.out.security.adapter;
+
+import com.medops.domain.model.RateLimitRule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryRateLimitAdapterTest {
+
+    // 연속 3회, 이후 분당 1회
+    private final RateLimitRule rule = new RateLimitRule(3, 1);
+
+    @Test
+    @DisplayName("버킷 용량만큼은 허용하고 초과하면 다음 토큰까지 대기 시간을 반환")
+    void should_rejectWithWaitTime_when_capacityExceeded() {
+        // given
+        InMemoryRateLimitAdapter rateLimiter = new InMemoryRateLimitAdapter();
+
+        // when & then
+        assertEquals(0, rateLimiter.tryAcquire("hospital-1", rule));
+        assertEquals(0, rateLimiter.tryAcquire("hospital-1", rule));
+        assertEquals(0, rateLimiter.tryAcquire("hospital-1", rule));
+
+        long waitMillis = rateLimiter.tryAcquire("hospital-1", rule);
+        assertTrue(waitMillis > 0 && waitMillis <= 60_000);
+    }
+
+    @Test
+    @DisplayName("키가 다르면 버킷을 공유하지 않음")
+    void should_useSeparateBuckets_when_keysDiffer() {
+        // given
+        InMemoryRateLimitAdapter rateLimiter = new InMemoryRateLimitAdapter();
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("hospital-1", rule);
+        }
+
+        // when & then
+        assertTrue(rateLimiter.tryAcquire("hospital-1", rule) > 0);
+        assertEquals(0, rateLimiter.tryAcquire("hospital-2", rule));
+    }
+
+    @Test
+    @DisplayName("동시에 요청해도 용량보다 많이 허용하지 않음")
+    void should_allowExactlyCapacity_when_concurrentRequests() throws InterruptedException {
+        // given
+        InMemoryRateLimitAdapter rateLimiter = new InMemoryRateLimitAdapter();
+        RateLimitRule burstRule = new RateLimitRule(50, 1);
+        AtomicInteger allowed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        for (int i = 0; i < 200; i++) {
+            executor.submit(() -> {
+                if (rateLimiter.tryAcquire("hospital-1", burstRule) == 0) {
+                    allowed.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+
+        // then
+        assertEquals(50, allowed.get());
+    }
+
+    @Test
+    @DisplayName("다시 가득 찬 버킷은 정리 대상")
+    void should_removeBucket_when_fullyRefilled() {
+        // given
+        InMemoryRateLimitAdapter rateLimiter = new InMemoryRateLimitAdapter();
+        rateLimiter.tryAcquire("hospital-1", new RateLimitRule(1, 60_000_000));
+
+        // when
+        rateLimiter.removeFullBuckets();
+
+        // then
+        assertEquals(0, rateLimiter.size());
+    }
+}
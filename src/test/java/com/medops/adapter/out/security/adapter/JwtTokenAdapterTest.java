@@ -0,0 +1,92 @@
+package com.medops.adapter.out.security.adapter;
+
+import com.medops.domain.enums.AdminRole;
+import com.medops.domain.enums.TokenType;
+import com.medops.domain.model.Admin;
+import com.medops.domain.model.Hospital;
+import com.medops.domain.model.TokenClaims;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtTokenAdapterTest {
+
+    private static final String SECRET_KEY = "sdjfionowmiowe!@#niviwemci1238f9@SFSDFSiemiflsibisl!23gficfmbisoqofjioeF#isosdf-sfenioisemvie";
+
+    private final JwtTokenAdapter jwtTokenAdapter = new JwtTokenAdapter(SECRET_KEY, 1L);
+
+    @Test
+    @DisplayName("토큰 한 번 파싱으로 subject, 토큰 타입, 만료 시각을 모두 반환")
+    void should_returnAllClaims_when_parseValidToken() {
+        // given
+        String token = jwtTokenAdapter.generateToken("admin-1", TokenType.ADMIN);
+
+        // when
+        TokenClaims claims = jwtTokenAdapter.parse(token);
+
+        // then
+        assertEquals("admin-1", claims.getSubject());
+        assertEquals(TokenType.ADMIN, claims.getTokenType());
+        assertTrue(claims.getExpiresAt().isAfter(Instant.now().plus(59, ChronoUnit.MINUTES)));
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰은 파싱 실패")
+    void should_throwJwtException_when_signedWithOtherKey() {
+        // given
+        String token = new JwtTokenAdapter(SECRET_KEY + "-other", 1L).generateToken("user-1", TokenType.USER);
+
+        // when & then
+        assertThrows(JwtException.class, () -> jwtTokenAdapter.parse(token));
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 토큰은 파싱 실패")
+    void should_throwJwtException_when_malformedToken() {
+        assertThrows(JwtException.class, () -> jwtTokenAdapter.parse("not-a-token"));
+    }
+
+    @Test
+    @DisplayName("관리자 클레임 토큰은 병원, 역할, 토큰 버전을 포함")
+    void should_containAdminClaims_when_embedAdminClaimsEnabled() {
+        // given
+        JwtTokenAdapter claimsTokenAdapter = new JwtTokenAdapter(SECRET_KEY, 1L, true);
+        Admin admin = Admin.builder()
+            .id("admin-1")
+            .role(AdminRole.MANAGER)
+            .hospital(Hospital.builder().id("hospital-1").build())
+            .build();
+
+        // when
+        TokenClaims claims = claimsTokenAdapter.parse(claimsTokenAdapter.generateAdminToken(admin, 3L));
+
+        // then
+        assertTrue(claims.hasAdminClaims());
+        assertEquals("hospital-1", claims.getHospitalId());
+        assertEquals(AdminRole.MANAGER, claims.getRole());
+        assertEquals(3L, claims.getTokenVersion());
+    }
+
+    @Test
+    @DisplayName("관리자 클레임 사용을 켜지 않으면 기존 형식의 토큰 발급")
+    void should_notContainAdminClaims_when_embedAdminClaimsDisabled() {
+        // given
+        Admin admin = Admin.builder()
+            .id("admin-1")
+            .role(AdminRole.ADMIN)
+            .hospital(Hospital.builder().id("hospital-1").build())
+            .build();
+
+        // when
+        TokenClaims claims = jwtTokenAdapter.parse(jwtTokenAdapter.generateAdminToken(admin, 0L));
+
+        // then
+        assertFalse(claims.hasAdminClaims());
+        assertEquals(TokenType.ADMIN, claims.getTokenType());
+    }
+}
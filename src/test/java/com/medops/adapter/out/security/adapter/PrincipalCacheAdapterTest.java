@@ -0,0 +1,68 @@
+package com.medops.adapter.out.security.adapter;
+
+import com.medops.domain.enums.TokenType;
+import com.medops.domain.model.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrincipalCacheAdapterTest {
+
+    private final User testUser = User.builder().id("user-1").email("test@test.com").build();
+
+    @Test
+    @DisplayName("저장한 사용자는 같은 토큰 타입과 ID 로 조회되고 적중률에 반영")
+    void should_returnCachedPrincipal_when_sameKey() {
+        // given
+        PrincipalCacheAdapter principalCache = new PrincipalCacheAdapter(30, 100);
+        principalCache.put(TokenType.USER, "user-1", testUser);
+
+        // when & then
+        assertSame(testUser, principalCache.get(TokenType.USER, "user-1").orElseThrow());
+        assertTrue(principalCache.get(TokenType.ADMIN, "user-1").isEmpty());
+        assertEquals(1, principalCache.getHitCount());
+        assertEquals(1, principalCache.getMissCount());
+        assertEquals(0.5, principalCache.getHitRate());
+    }
+
+    @Test
+    @DisplayName("비운 사용자는 다시 조회되지 않음")
+    void should_returnEmpty_when_evicted() {
+        // given
+        PrincipalCacheAdapter principalCache = new PrincipalCacheAdapter(30, 100);
+        principalCache.put(TokenType.USER, "user-1", testUser);
+
+        // when
+        principalCache.evict(TokenType.USER, "user-1");
+
+        // then
+        assertTrue(principalCache.get(TokenType.USER, "user-1").isEmpty());
+    }
+
+    @Test
+    @DisplayName("TTL 이 지난 사용자는 조회되지 않음")
+    void should_returnEmpty_when_expired() {
+        // given
+        PrincipalCacheAdapter principalCache = new PrincipalCacheAdapter(0, 100);
+        principalCache.put(TokenType.USER, "user-1", testUser);
+
+        // when & then
+        assertTrue(principalCache.get(TokenType.USER, "user-1").isEmpty());
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘지 않도록 유지")
+    void should_keepMaxSize_when_full() {
+        // given
+        PrincipalCacheAdapter principalCache = new PrincipalCacheAdapter(30, 1);
+        principalCache.put(TokenType.USER, "user-1", testUser);
+
+        // when
+        principalCache.put(TokenType.USER, "user-2", testUser);
+
+        // then
+        assertTrue(principalCache.get(TokenType.USER, "user-1").isEmpty());
+        assertTrue(principalCache.get(TokenType.USER, "user-2").isPresent());
+    }
+}
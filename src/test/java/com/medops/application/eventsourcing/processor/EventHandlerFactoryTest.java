@@ -0,0 +1,87 @@
+package com.medops.application.eventsourcing.processor;
+
+import com.medops.application.eventsourcing.event.Canceled;
+import com.medops.application.eventsourcing.event.Completed;
+import com.medops.application.eventsourcing.event.Confirmed;
+import com.medops.application.eventsourcing.event.DoctorAssigned;
+import com.medops.application.eventsourcing.event.MedicalRecordEvent;
+import com.medops.application.eventsourcing.event.MedicalRecordEventType;
+import com.medops.application.eventsourcing.event.NoteUpdated;
+import com.medops.application.eventsourcing.event.Pending;
+import com.medops.application.eventsourcing.event.ReservationCreated;
+import com.medops.application.eventsourcing.handler.*;
+import com.medops.domain.enums.MedicalRecordStatus;
+import com.medops.domain.model.MedicalRecord;
+import com.medops.domain.model.MutableMedicalRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventHandlerFactoryTest {
+
+    private final EventHandlerFactory eventHandlerFactory = new EventHandlerFactory(List.of(
+        new CanceledEventHandler(),
+        new CompletedEventHandler(),
+        new ConfirmedEventHandler(),
+        new DoctorAssignedEventHandler(),
+        new NoteUpdatedEventHandler(),
+        new PendingEventHandler(),
+        new ReservationCreatedEventHandler()
+    ));
+
+    @Test
+    @DisplayName("모든 이벤트 종류에 핸들러가 등록됨")
+    void should_registerHandler_when_everyEventTypeDefined() {
+        for (MedicalRecordEventType eventType : MedicalRecordEventType.values()) {
+            assertEquals(eventType.getEventClass(), eventHandlerFactory.getHandler(eventType).getEventType());
+        }
+    }
+
+    @Test
+    @DisplayName("긴 이벤트 스트림을 가변 상태에 차례로 적용하면 마지막 이벤트까지 반영된 상태가 됨")
+    void should_reflectLastEvents_when_longStreamFolded() {
+        // given
+        String recordId = "record-1";
+        Instant startTime = Instant.parse("2025-07-07T00:30:00Z");
+        List<MedicalRecordEvent> events = new ArrayList<>();
+        events.add(new ReservationCreated(
+            recordId, MedicalRecordStatus.PENDING, "user-1", "hospital-1", "product-1",
+            startTime, startTime.plusSeconds(1800), "요청 메모", null
+        ));
+        for (int i = 0; i < 10_000; i++) {
+            events.add(new Confirmed(recordId, "admin-1", "관리자"));
+            events.add(new DoctorAssigned(recordId, MedicalRecordStatus.RESERVED, "doctor-" + i, "의사", "admin-1", "관리자"));
+            events.add(new NoteUpdated(recordId, MedicalRecordStatus.RESERVED, "노트 " + i));
+            events.add(new Pending(recordId, "admin-1", "관리자"));
+        }
+        events.add(new Completed(recordId, "admin-1", "관리자"));
+        events.add(new Canceled(recordId, "admin-1", "관리자"));
+
+        // when
+        MutableMedicalRecord accumulator = MutableMedicalRecord.from(MedicalRecord.seedFactory(recordId));
+        for (MedicalRecordEvent event : events.subList(0, events.size() - 1)) {
+            eventHandlerFactory.apply(accumulator, event);
+        }
+        MedicalRecord completed = accumulator.toMedicalRecord();
+        eventHandlerFactory.apply(accumulator, events.get(events.size() - 1));
+        MedicalRecord canceled = accumulator.toMedicalRecord();
+
+        // then
+        assertEquals(MedicalRecordStatus.COMPLETED, completed.getStatus());
+        assertEquals(MedicalRecordStatus.CANCELED, canceled.getStatus());
+        assertEquals(recordId, canceled.getId());
+        assertEquals("user-1", canceled.getUserId());
+        assertEquals("hospital-1", canceled.getHospitalId());
+        assertEquals("doctor-9999", canceled.getDoctor());
+        assertEquals("노트 9999", canceled.getNote());
+        assertEquals(startTime, canceled.getReservation().getStartTime());
+        assertEquals(startTime.plusSeconds(1800), canceled.getReservation().getEndTime());
+        assertEquals("product-1", canceled.getReservation().getTreatmentProductId());
+        assertEquals("요청 메모", canceled.getReservation().getUserMemo());
+    }
+}
@@ -0,0 +1,77 @@
+package com.medops.application.eventsourcing.processor;
+
+import com.medops.application.eventsourcing.event.Confirmed;
+import com.medops.application.eventsourcing.event.OutboxEvent;
+import com.medops.application.eventsourcing.event.RecordedEvent;
+import com.medops.application.port.out.EventOutboxPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventOutboxDispatcherTest {
+
+    @Mock private EventOutboxPort eventOutboxPort;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    private EventOutboxDispatcher eventOutboxDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        eventOutboxDispatcher = new EventOutboxDispatcher(eventOutboxPort, eventPublisher, 200, 1, 30, 5);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        eventOutboxDispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("앞선 버전이 아직 전달되지 않았으면 바로 전달하지 않고 아웃박스에 맡김")
+    void should_deferInlinePublish_when_earlierVersionUndispatched() {
+        // given
+        when(eventOutboxPort.hasUndispatchedBefore("record-1", 3)).thenReturn(true);
+
+        // when
+        eventOutboxDispatcher.publish("record-1", 3, List.of(new Confirmed("record-1", "admin-1", "관리자")));
+
+        // then
+        verifyNoInteractions(eventPublisher);
+        verify(eventOutboxPort, never()).markDispatched(anyString(), anyInt(), anyInt());
+        assertEquals(1, eventOutboxDispatcher.getDeferredCount());
+    }
+
+    @Test
+    @DisplayName("바로 전달한 이벤트는 버전과 함께 전달되고 아웃박스에서 다시 꺼내도 중복 전달하지 않음")
+    void should_skipOutboxEvent_when_alreadyPublishedInline() {
+        // given
+        Confirmed event = new Confirmed("record-1", "admin-1", "관리자");
+        eventOutboxDispatcher.publish("record-1", 1, List.of(event));
+        when(eventOutboxPort.claimPending(anyInt(), any(), any())).thenReturn(List.of(new OutboxEvent("event-1", "record-1", 1, event)));
+
+        // when
+        int dispatched = eventOutboxDispatcher.drain();
+
+        // then
+        ArgumentCaptor<Object> published = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, times(1)).publishEvent(published.capture());
+        RecordedEvent<?> recorded = assertInstanceOf(RecordedEvent.class, published.getValue());
+        assertEquals(1, recorded.version());
+        assertSame(event, recorded.event());
+        assertEquals(1, dispatched);
+        assertEquals(1, eventOutboxDispatcher.getDuplicateCount());
+        verify(eventOutboxPort).markDispatched(List.of("event-1"));
+    }
+}
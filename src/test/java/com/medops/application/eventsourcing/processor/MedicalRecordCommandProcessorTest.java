@@ -2,6 +2,7 @@ package com.medops.application.eventsourcing.processor;
 
 import com.medops.adapter.out.persistence.mongodb.document.*;
 import com.medops.adapter.out.persistence.mongodb.repository.*;
+import com.medops.application.dto.BatchCommandResultDto;
 import com.medops.application.eventsourcing.command.ConfirmCommand;
 import com.medops.application.eventsourcing.command.DoctorAssignCommand;
 import com.medops.application.eventsourcing.command.NoteUpdateCommand;
@@ -23,9 +24,12 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest
 class MedicalRecordCommandProcessorTest {
@@ -99,7 +103,8 @@ class MedicalRecordCommandProcessorTest {
                 hospitalId,
                 "test",
                 "test",
-                Instant.now()
+                Instant.now(),
+                null
             )
         );
 
@@ -344,4 +349,124 @@ class MedicalRecordCommandProcessorTest {
         // 이벤트 개수 확인
         assertEquals(4, medicalRecordEventDocumentRepository.getAllByRecordId(recordId).size());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("일괄 명령은 예약별로 처리되고 실패한 명령만 실패 결과로 돌려준다")
+    void handleBatch_ShouldReturnResultPerCommand() {
+        // Given - 예약 두 건 생성
+        String firstRecordId = UUID.randomUUID().toString();
+        String secondRecordId = UUID.randomUUID().toString();
+        for (String recordId : List.of(firstRecordId, secondRecordId)) {
+            medicalRecordCommandProcessor.handle(
+                new ReservationCreatedCommand(
+                    recordId,
+                    userId,
+                    hospitalId,
+                    treatmentProductId,
+                    LocalDateTime.parse("2025-09-10T10:00:00").toInstant(ZoneOffset.UTC),
+                    LocalDateTime.parse("2025-09-10T10:30:00").toInstant(ZoneOffset.UTC),
+                    "기미 고민",
+                    ""
+                )
+            );
+        }
+
+        // When - 두 건 확정, 존재하지 않는 관리자로 한 번 더 확정
+        List<BatchCommandResultDto> results = medicalRecordCommandProcessor.handleBatch(List.of(
+            new ConfirmCommand(firstRecordId, userId, hospitalId, adminId),
+            new ConfirmCommand(secondRecordId, userId, hospitalId, adminId),
+            new ConfirmCommand(firstRecordId, userId, hospitalId, UUID.randomUUID().toString())
+        ));
+
+        // Then - 명령 순서대로 결과가 반환되고 성공한 명령의 이벤트만 기록됨
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).success());
+        assertTrue(results.get(1).success());
+        assertFalse(results.get(2).success());
+        assertEquals(2, results.get(2).index());
+
+        assertEquals(MedicalRecordStatus.RESERVED, medicalRecordCommandProcessor.rehydrateState(firstRecordId).getState().getStatus());
+        assertEquals(MedicalRecordStatus.RESERVED, medicalRecordCommandProcessor.rehydrateState(secondRecordId).getState().getStatus());
+        assertEquals(2, medicalRecordEventDocumentRepository.getAllByRecordId(firstRecordId).size());
+        assertEquals(2, medicalRecordEventDocumentRepository.getAllByRecordId(secondRecordId).size());
+    }
+
+    @Test
+    @DisplayName("특정 시점의 상태는 그 시점까지 기록된 이벤트만 반영한다")
+    void rehydrateStateAt_ShouldApplyEventsUntilGivenTime() throws InterruptedException {
+        // Given - 예약 생성 후 시점을 기록하고 확정
+        String recordId = UUID.randomUUID().toString();
+        medicalRecordCommandProcessor.handle(
+            new ReservationCreatedCommand(
+                recordId,
+                userId,
+                hospitalId,
+                treatmentProductId,
+                LocalDateTime.parse("2025-09-10T10:00:00").toInstant(ZoneOffset.UTC),
+                LocalDateTime.parse("2025-09-10T10:30:00").toInstant(ZoneOffset.UTC),
+                "기미 고민",
+                "초진"
+            )
+        );
+        Thread.sleep(10);
+        Instant beforeConfirm = Instant.now();
+        Thread.sleep(10);
+        medicalRecordCommandProcessor.handle(new ConfirmCommand(recordId, userId, hospitalId, adminId));
+
+        // When
+        MedicalRecordSnapshot pastSnapshot = medicalRecordCommandProcessor.rehydrateStateAt(recordId, beforeConfirm);
+        List<MedicalRecordSnapshot> snapshots = medicalRecordCommandProcessor.rehydrateStatesAt(List.of(recordId), Instant.now());
+
+        // Then
+        assertEquals(1, pastSnapshot.getVersion());
+        assertEquals(MedicalRecordStatus.PENDING, pastSnapshot.getState().getStatus());
+        assertEquals(userId, pastSnapshot.getState().getUserId());
+        assertEquals(hospitalId, pastSnapshot.getState().getHospitalId());
+        assertEquals("초진", pastSnapshot.getState().getNote());
+        assertEquals(2, snapshots.get(0).getVersion());
+        assertEquals(MedicalRecordStatus.RESERVED, snapshots.get(0).getState().getStatus());
+        assertEquals(0, medicalRecordCommandProcessor.rehydrateStateAt(recordId, beforeConfirm.minusSeconds(60)).getVersion());
+    }
+
+    @Test
+    @DisplayName("여러 예약을 한 번에 복원하면 예약별로 한 건씩 복원한 결과와 같다")
+    void rehydrateStates_ShouldMatchSingleRehydration() {
+        // Given - 스냅샷이 있는 예약, 스냅샷이 없는 예약, 존재하지 않는 예약
+        String snapshotRecordId = UUID.randomUUID().toString();
+        String plainRecordId = UUID.randomUUID().toString();
+        String unknownRecordId = UUID.randomUUID().toString();
+        for (String recordId : List.of(snapshotRecordId, plainRecordId)) {
+            medicalRecordCommandProcessor.handle(
+                new ReservationCreatedCommand(
+                    recordId,
+                    userId,
+                    hospitalId,
+                    treatmentProductId,
+                    LocalDateTime.parse("2025-09-10T10:00:00").toInstant(ZoneOffset.UTC),
+                    LocalDateTime.parse("2025-09-10T10:30:00").toInstant(ZoneOffset.UTC),
+                    "기미 고민",
+                    ""
+                )
+            );
+        }
+        medicalRecordCommandProcessor.handle(new ConfirmCommand(snapshotRecordId, userId, hospitalId, adminId));
+        medicalRecordCommandProcessor.handle(new DoctorAssignCommand(snapshotRecordId, userId, hospitalId, doctorId, adminId));
+        for (int i = 1; i <= 3; i++) {
+            medicalRecordCommandProcessor.handle(new NoteUpdateCommand(snapshotRecordId, userId, hospitalId, "메모 " + i));
+        }
+
+        // When
+        Map<String, MedicalRecordSnapshot> snapshots = medicalRecordCommandProcessor.rehydrateStates(
+            List.of(snapshotRecordId, plainRecordId, unknownRecordId, plainRecordId)
+        );
+
+        // Then
+        assertEquals(List.of(snapshotRecordId, plainRecordId, unknownRecordId), List.copyOf(snapshots.keySet()));
+        assertEquals(6, snapshots.get(snapshotRecordId).getVersion());
+        assertEquals("메모 3", snapshots.get(snapshotRecordId).getState().getNote());
+        assertEquals(doctorId, snapshots.get(snapshotRecordId).getState().getDoctor());
+        assertEquals(medicalRecordCommandProcessor.rehydrateState(plainRecordId).getVersion(), snapshots.get(plainRecordId).getVersion());
+        assertEquals(1, snapshots.get(plainRecordId).getVersion());
+        assertEquals(0, snapshots.get(unknownRecordId).getVersion());
+    }
+}
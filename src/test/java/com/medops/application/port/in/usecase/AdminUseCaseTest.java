@@ -25,6 +25,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
@@ -40,6 +41,7 @@ class AdminUseCaseTest {
     @Mock private VerificationCodePort verificationCodePort;
     @Mock private SaveAdminRegistrationTokenPort saveAdminRegistrationTokenPort;
     @Mock private LoadAdminRegistrationTokenPort loadAdminRegistrationTokenPort;
+    @Mock private TokenVersionPort tokenVersionPort;
 
     private TokenPort tokenPort;
     private PasswordEncoder passwordEncoder;
@@ -65,7 +67,8 @@ class AdminUseCaseTest {
             tokenPort,
             verificationCodePort,
             saveAdminRegistrationTokenPort,
-            loadAdminRegistrationTokenPort
+            loadAdminRegistrationTokenPort,
+            tokenVersionPort
         );
         
         lenient().when(verificationCodePort.generateVerificationCode()).thenReturn("123456");
@@ -109,6 +112,24 @@ class AdminUseCaseTest {
         verify(loadAdminPort).loadAdminByEmail("admin@test.com");
     }
 
+    @Test
+    @DisplayName("낮은 cost 로 저장된 비밀번호는 로그인 성공시 다시 해시하여 저장")
+    void should_rehashPassword_when_storedHashUsesLowerCost() {
+        // given
+        String weakHash = new BCryptPasswordEncoder(4).encode("password123");
+        testAdmin.setPassword(weakHash);
+        when(loadAdminPort.loadAdminByEmail("admin@test.com")).thenReturn(Optional.of(testAdmin));
+
+        // when
+        adminUseCase.loginAdmin(new AdminLoginRequest("admin@test.com", "password123", "Test Hospital"));
+
+        // then
+        verify(saveAdminPort).saveAdmin(testAdmin);
+        assertNotEquals(weakHash, testAdmin.getPassword());
+        assertFalse(passwordEncoder.upgradeEncoding(testAdmin.getPassword()));
+        assertTrue(passwordEncoder.matches("password123", testAdmin.getPassword()));
+    }
+
     @Test
     @DisplayName("존재하지 않는 어드민 로그인시 NotFoundResource 예외 발생")
     void should_throwNotFoundResource_when_adminNotExists() {
@@ -121,6 +142,26 @@ class AdminUseCaseTest {
         verify(loadAdminPort).loadAdminByEmail("nonexistent@test.com");
     }
 
+    @Test
+    @DisplayName("삭제된 어드민 로그인시 NotFoundResource 예외 발생")
+    void should_throwNotFoundResource_when_adminDeleted() {
+        // given
+        Admin deletedAdmin = Admin.builder()
+            .id("admin-1")
+            .email("admin@test.com")
+            .password(passwordEncoder.encode("password123"))
+            .role(AdminRole.MANAGER)
+            .status(AdminStatus.ACTIVATED)
+            .hospital(testHospital)
+            .deletedAt(Instant.now())
+            .build();
+        when(loadAdminPort.loadAdminByEmail("admin@test.com")).thenReturn(Optional.of(deletedAdmin));
+
+        // when & then
+        assertThrows(NotFoundResource.class,
+            () -> adminUseCase.loginAdmin(new AdminLoginRequest("admin@test.com", "password123", "Test Hospital")));
+    }
+
     @Test
     @DisplayName("잘못된 비밀번호로 로그인시 WrongPassword 예외 발생")
     void should_throwWrongPassword_when_wrongPassword() {
@@ -265,6 +306,7 @@ class AdminUseCaseTest {
         verify(loadAdminRegistrationTokenPort).loadAdminRegistrationTokenByAdminId("admin-1");
         verify(saveAdminRegistrationTokenPort).updateAdminRegistrationToken(validToken);
         verify(saveAdminPort).saveAdmin(invitedAdmin);
+        verify(tokenVersionPort).increaseTokenVersion("admin-1");
     }
 
     @Test
@@ -369,6 +411,7 @@ class AdminUseCaseTest {
 
         // then
         verify(saveAdminPort).saveAdmin(testAdmin);
+        verify(tokenVersionPort).increaseTokenVersion(testAdmin.getId());
     }
 
     @Test
@@ -2,7 +2,6 @@ package com.medops.application.port.in.usecase;
 
 import com.medops.application.port.in.command.UpdateBusinessHourCommand;
 import com.medops.application.port.out.LoadBusinessHourPort;
-import com.medops.application.port.out.LoadHospitalPort;
 import com.medops.application.port.out.SaveBusinessHourPort;
 import com.medops.application.service.BusinessHourService;
 import com.medops.common.exception.NotFoundResource;
@@ -28,7 +27,6 @@ import static org.mockito.Mockito.*;
 class BusinessHourUseCaseTest {
 
     @Mock private SaveBusinessHourPort saveBusinessHourPort;
-    @Mock private LoadHospitalPort loadHospitalPort;
     @Mock private LoadBusinessHourPort loadBusinessHourPort;
 
     private BusinessHourUseCase businessHourUseCase;
@@ -40,7 +38,6 @@ class BusinessHourUseCaseTest {
     void setUp() {
         businessHourUseCase = new BusinessHourService(
             saveBusinessHourPort,
-            loadHospitalPort,
             loadBusinessHourPort
         );
 
@@ -65,31 +62,16 @@ class BusinessHourUseCaseTest {
     @Test
     @DisplayName("병원 영업시간 초기화시 7일간의 영업시간 생성")
     void should_createSevenDaysBusinessHours_when_initializeBusinessHours() {
-        // given
-        String hospitalId = "hospital-1";
-        when(loadHospitalPort.loadHospitalById(hospitalId)).thenReturn(Optional.of(testHospital));
-
         // when
-        List<BusinessHour> result = businessHourUseCase.initializeBusinessHours(hospitalId);
+        List<BusinessHour> result = businessHourUseCase.initializeBusinessHours(testHospital);
 
         // then
-        verify(loadHospitalPort).loadHospitalById(hospitalId);
-        verify(saveBusinessHourPort, times(7)).saveBusinessHour(any(BusinessHour.class));
-        
-        // 평일과 주말 모두 검증하지만 각각 한 번씩만 호출되므로 times 사용하지 않음
-    }
-
-    @Test
-    @DisplayName("존재하지 않는 병원 ID로 영업시간 초기화시 예외 발생")
-    void should_throwException_when_hospitalNotFoundForInitialize() {
-        // given
-        String nonExistentHospitalId = "nonexistent-hospital";
-        when(loadHospitalPort.loadHospitalById(nonExistentHospitalId)).thenReturn(Optional.empty());
-
-        // when & then
-        assertThrows(RuntimeException.class, () -> businessHourUseCase.initializeBusinessHours(nonExistentHospitalId));
-        verify(loadHospitalPort).loadHospitalById(nonExistentHospitalId);
-        verifyNoInteractions(saveBusinessHourPort);
+        assertEquals(7, result.size());
+        verify(saveBusinessHourPort).saveAllBusinessHours(result);
+        verify(saveBusinessHourPort, never()).saveBusinessHour(any(BusinessHour.class));
+        assertTrue(result.stream().allMatch(businessHour -> businessHour.getHospital() == testHospital));
+        assertTrue(businessHourUseCase.getWeeklySchedule("hospital-1").isClosed(DayOfWeek.SUNDAY));
+        verifyNoInteractions(loadBusinessHourPort);
     }
 
     @Test
@@ -150,6 +132,7 @@ class BusinessHourUseCaseTest {
             businessHour.getBreakEndTime().equals("13:30") &&
             !businessHour.isClosed()
         ));
+        verify(loadBusinessHourPort).loadBusinessHoursByHospitalId("hospital-1");
     }
 
     @Test
@@ -0,0 +1,111 @@
+package com.medops.application.port.in.usecase;
+
+import com.medops.application.port.out.DistinctCustomerPort;
+import com.medops.application.port.out.LoadCustomerVisitPort;
+import com.medops.application.port.out.LoadHospitalPort;
+import com.medops.application.port.out.LoadMedicalRecordViewPort;
+import com.medops.application.port.out.SaveCustomerVisitPort;
+import com.medops.application.service.CustomerAnalyticsService;
+import com.medops.application.service.HospitalZoneResolver;
+import com.medops.domain.model.Hospital;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerAnalyticsUseCaseTest {
+
+    @Mock private LoadCustomerVisitPort loadCustomerVisitPort;
+    @Mock private SaveCustomerVisitPort saveCustomerVisitPort;
+    @Mock private DistinctCustomerPort distinctCustomerPort;
+    @Mock private LoadHospitalPort loadHospitalPort;
+    @Mock private LoadMedicalRecordViewPort loadMedicalRecordViewPort;
+
+    private CustomerAnalyticsUseCase customerAnalyticsUseCase;
+
+    @BeforeEach
+    void setUp() {
+        customerAnalyticsUseCase = new CustomerAnalyticsService(
+            loadCustomerVisitPort,
+            saveCustomerVisitPort,
+            distinctCustomerPort,
+            loadHospitalPort,
+            new HospitalZoneResolver(loadHospitalPort),
+            loadMedicalRecordViewPort
+        );
+    }
+
+    @Test
+    @DisplayName("첫 방문 색인이 비어있으면 시작시 뷰 모델로부터 재구성")
+    void should_rebuildFirstVisits_when_indexEmpty() {
+        // given
+        when(loadCustomerVisitPort.hasFirstVisits()).thenReturn(false);
+
+        // when
+        customerAnalyticsUseCase.warmUp();
+
+        // then
+        verify(saveCustomerVisitPort).rebuildFirstVisits();
+    }
+
+    @Test
+    @DisplayName("첫 방문 색인이 있으면 재구성하지 않음")
+    void should_skipRebuild_when_indexExists() {
+        // given
+        when(loadCustomerVisitPort.hasFirstVisits()).thenReturn(true);
+
+        // when
+        customerAnalyticsUseCase.warmUp();
+
+        // then
+        verify(saveCustomerVisitPort, never()).rebuildFirstVisits();
+    }
+
+    @Test
+    @DisplayName("예약 생성시 첫 방문 색인과 해당 날짜의 고유 고객 추정기에 반영")
+    void should_recordVisit_when_reservationCreated() {
+        // given
+        Instant visitAt = Instant.parse("2025-09-10T00:00:00Z");
+
+        // when
+        customerAnalyticsUseCase.recordVisit("hospital-1", "user-1", visitAt);
+
+        // then
+        verify(saveCustomerVisitPort).saveVisit("hospital-1", "user-1", visitAt);
+        verify(distinctCustomerPort).addCustomer("hospital-1", LocalDate.of(2025, 9, 10), "user-1");
+    }
+
+    @Test
+    @DisplayName("고유 고객 추정기의 날짜는 병원 시간대 기준으로 나눔")
+    void should_bucketVisitByHospitalZone_when_hospitalZoneNotSeoul() {
+        // given
+        when(loadHospitalPort.loadHospitalById("hospital-1")).thenReturn(Optional.of(
+            Hospital.builder().id("hospital-1").zoneId("America/New_York").build()
+        ));
+        Instant visitAt = Instant.parse("2025-09-10T00:00:00Z");
+
+        // when
+        customerAnalyticsUseCase.recordVisit("hospital-1", "user-1", visitAt);
+
+        // then
+        verify(distinctCustomerPort).addCustomer("hospital-1", LocalDate.of(2025, 9, 9), "user-1");
+    }
+
+    @Test
+    @DisplayName("추정기를 사용하지 않으면 고유 고객 추정치는 비어있음")
+    void should_returnEmpty_when_estimatorDisabled() {
+        // when & then
+        assertTrue(customerAnalyticsUseCase.estimateUniqueCustomers("hospital-1", Instant.now().minusSeconds(86400), Instant.now()).isEmpty());
+        verifyNoInteractions(distinctCustomerPort);
+    }
+}
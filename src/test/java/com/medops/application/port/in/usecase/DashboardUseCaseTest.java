@@ -0,0 +1,152 @@
+package com.medops.application.port.in.usecase;
+
+import com.medops.adapter.out.cache.InMemoryDashboardCacheAdapter;
+import com.medops.adapter.out.persistence.mongodb.document.MedicalRecordViewDocument;
+import com.medops.application.dto.DashboardStatsDto;
+import com.medops.application.dto.DoctorTreatmentStatsDto;
+import com.medops.application.port.out.LoadHospitalPort;
+import com.medops.application.port.out.LoadTreatmentProductPort;
+import com.medops.application.service.DashboardService;
+import com.medops.application.service.HospitalZoneResolver;
+import com.medops.domain.enums.MedicalRecordStatus;
+import com.medops.domain.model.TreatmentProduct;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardUseCaseTest {
+
+    @Mock private MedicalRecordViewUseCase medicalRecordViewUseCase;
+    @Mock private LoadTreatmentProductPort loadTreatmentProductPort;
+    @Mock private CustomerAnalyticsUseCase customerAnalyticsUseCase;
+    @Mock private LoadHospitalPort loadHospitalPort;
+
+    private DashboardUseCase dashboardUseCase;
+
+    @BeforeEach
+    void setUp() {
+        dashboardUseCase = new DashboardService(
+            medicalRecordViewUseCase,
+            loadTreatmentProductPort,
+            new InMemoryDashboardCacheAdapter(),
+            customerAnalyticsUseCase,
+            new HospitalZoneResolver(loadHospitalPort)
+        );
+
+        MedicalRecordViewDocument testRecord = new MedicalRecordViewDocument(
+            "record-1", "user-1", "김환자", "hospital-1", "테스트병원",
+            null, null, null, MedicalRecordStatus.PENDING,
+            Instant.now(), Instant.now().plusSeconds(1800),
+            "product-1", "일반상담", null, 1
+        );
+        lenient().when(medicalRecordViewUseCase.getMedicalRecordsByHospital(anyString(), any(), any()))
+            .thenReturn(List.of(testRecord));
+    }
+
+    @Test
+    @DisplayName("예약 변경이 없으면 반복 조회시 다시 계산하지 않음")
+    void should_reuseResult_when_noChangeBetweenPolls() {
+        // when
+        DashboardStatsDto.TodayStats first = dashboardUseCase.getRealTimeSummary("hospital-1");
+        DashboardStatsDto.TodayStats second = dashboardUseCase.getRealTimeSummary("hospital-1");
+
+        // then
+        assertSame(first, second);
+        assertEquals(1, first.pending());
+        verify(medicalRecordViewUseCase, times(1)).getMedicalRecordsByHospital(eq("hospital-1"), any(), any());
+    }
+
+    @Test
+    @DisplayName("조회 기간이 다르면 별도로 계산")
+    void should_computeSeparately_when_daysDiffer() {
+        // when
+        dashboardUseCase.getHeatmapData("hospital-1", 7);
+        dashboardUseCase.getHeatmapData("hospital-1", 30);
+
+        // then
+        verify(medicalRecordViewUseCase, times(2)).getMedicalRecordsByHospital(eq("hospital-1"), any(), any());
+    }
+
+    @Test
+    @DisplayName("병원의 예약 변경이 반영되면 해당 병원만 다시 계산")
+    void should_recompute_when_hospitalEvicted() {
+        // given
+        dashboardUseCase.getRealTimeSummary("hospital-1");
+        dashboardUseCase.getRealTimeSummary("hospital-2");
+
+        // when
+        dashboardUseCase.evictHospital("hospital-1");
+        dashboardUseCase.getRealTimeSummary("hospital-1");
+        dashboardUseCase.getRealTimeSummary("hospital-2");
+
+        // then
+        verify(medicalRecordViewUseCase, times(2)).getMedicalRecordsByHospital(eq("hospital-1"), any(), any());
+        verify(medicalRecordViewUseCase, times(1)).getMedicalRecordsByHospital(eq("hospital-2"), any(), any());
+    }
+
+    @Test
+    @DisplayName("의사별 시술 통계는 시술별 예약 수와 확정/완료 예약의 매출을 집계")
+    void should_aggregateDoctorTreatmentMatrix_when_recordsGiven() {
+        // given
+        Instant now = Instant.now();
+        when(loadTreatmentProductPort.loadTreatmentProductsByHospitalId("hospital-1")).thenReturn(List.of(
+            TreatmentProduct.builder().id("product-1").hospitalId("hospital-1").name("일반상담").price(BigDecimal.valueOf(10_000)).maxCapacity(1).build(),
+            TreatmentProduct.builder().id("product-2").hospitalId("hospital-1").name("레이저").price(BigDecimal.valueOf(50_000)).maxCapacity(1).build()
+        ));
+        when(medicalRecordViewUseCase.getMedicalRecordsByHospital(eq("hospital-1"), any(), any())).thenReturn(List.of(
+            record("record-1", "doctor-1", "김의사", MedicalRecordStatus.RESERVED, "일반상담", now),
+            record("record-2", "doctor-1", "김의사", MedicalRecordStatus.PENDING, "일반상담", now),
+            record("record-3", "doctor-2", "이의사", MedicalRecordStatus.COMPLETED, "레이저", now),
+            record("record-4", "doctor-2", "이의사", MedicalRecordStatus.COMPLETED, "레이저", now),
+            record("record-5", "doctor-2", "이의사", MedicalRecordStatus.CANCELED, "일반상담", now),
+            record("record-6", null, null, MedicalRecordStatus.RESERVED, "레이저", now)
+        ));
+
+        // when
+        List<DoctorTreatmentStatsDto> stats = dashboardUseCase.getDoctorTreatmentStats("hospital-1", 30);
+
+        // then
+        assertEquals(2, stats.size());
+        DoctorTreatmentStatsDto first = stats.get(0);
+        assertEquals("doctor-2", first.doctorId());
+        assertEquals(1, first.treatmentStats().get(0).reservationCount());
+        assertEquals(0L, first.treatmentStats().get(0).revenue());
+        assertEquals(2, first.treatmentStats().get(1).reservationCount());
+        assertEquals(100_000L, first.treatmentStats().get(1).revenue());
+
+        DoctorTreatmentStatsDto second = stats.get(1);
+        assertEquals("doctor-1", second.doctorId());
+        assertEquals(2, second.treatmentStats().get(0).reservationCount());
+        assertEquals(10_000L, second.treatmentStats().get(0).revenue());
+        assertEquals(0, second.treatmentStats().get(1).reservationCount());
+    }
+
+    @Test
+    @DisplayName("조회 기간이 1년을 넘으면 예외 발생")
+    void should_throwException_when_daysExceedOneYear() {
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> dashboardUseCase.getDoctorTreatmentStats("hospital-1", 366));
+        assertThrows(IllegalArgumentException.class, () -> dashboardUseCase.getDoctorTreatmentStats("hospital-1", 0));
+    }
+
+    private MedicalRecordViewDocument record(String id, String doctorId, String doctorName, MedicalRecordStatus status, String treatmentName, Instant startTime) {
+        return new MedicalRecordViewDocument(
+            id, "user-1", "김환자", "hospital-1", "테스트병원",
+            doctorId, doctorName, null, status,
+            startTime, startTime.plusSeconds(1800),
+            null, treatmentName, null, 1
+        );
+    }
+}
@@ -108,7 +108,7 @@ class HospitalUseCaseTest {
         ));
         
         // 기본 설정 생성 확인
-        verify(businessHourUseCase).initializeBusinessHours(testHospital.getId());
+        verify(businessHourUseCase).initializeBusinessHours(testHospital);
         verify(treatmentProductUseCase).initializeTreatmentProducts(testHospital.getId());
     }
 
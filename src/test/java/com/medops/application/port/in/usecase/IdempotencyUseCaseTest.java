@@ -0,0 +1,178 @@
+package com.medops.application.port.in.usecase;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.medops.adapter.out.cache.InMemoryIdempotencyAdapter;
+import com.medops.application.dto.IdempotentRequestDto;
+import com.medops.application.service.IdempotencyService;
+import com.medops.common.exception.IdempotencyKeyReused;
+import com.medops.common.exception.IdempotentRequestInProgress;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyUseCaseTest {
+
+    private static final IdempotentRequestDto REQUEST = new IdempotentRequestDto("PATCH", "/api/medical-records/record-1/note", Map.of("note", "노트"));
+
+    private InMemoryIdempotencyAdapter idempotencyAdapter;
+    private ThreadPoolTaskScheduler taskScheduler;
+    private IdempotencyUseCase idempotencyUseCase;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyAdapter = new InMemoryIdempotencyAdapter();
+        taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.initialize();
+        idempotencyUseCase = new IdempotencyService(idempotencyAdapter, new ObjectMapper(), taskScheduler, 24, 30);
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskScheduler.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 키로 재시도하면 명령을 다시 실행하지 않고 처음 결과를 반환한다")
+    void execute_SameKey_ShouldReturnFirstResult() {
+        // given
+        AtomicInteger executions = new AtomicInteger();
+
+        // when
+        List<String> first = idempotencyUseCase.execute("key-1", "admin-1", REQUEST, new TypeReference<>() {},
+            () -> List.of("result-" + executions.incrementAndGet()));
+        List<String> retried = idempotencyUseCase.execute("key-1", "admin-1", REQUEST, new TypeReference<>() {},
+            () -> List.of("result-" + executions.incrementAndGet()));
+
+        // then
+        assertEquals(1, executions.get());
+        assertEquals(first, retried);
+    }
+
+    @Test
+    @DisplayName("결과가 없는 명령도 한 번만 실행된다")
+    void execute_NoResultCommand_ShouldRunOnce() {
+        // given
+        AtomicInteger executions = new AtomicInteger();
+
+        // when
+        idempotencyUseCase.execute("key-1", "user-1", REQUEST, executions::incrementAndGet);
+        idempotencyUseCase.execute("key-1", "user-1", REQUEST, executions::incrementAndGet);
+
+        // then
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("요청자가 다르면 같은 키라도 각각 실행된다")
+    void execute_DifferentRequester_ShouldRunSeparately() {
+        // given
+        AtomicInteger executions = new AtomicInteger();
+
+        // when
+        idempotencyUseCase.execute("key-1", "user-1", REQUEST, executions::incrementAndGet);
+        idempotencyUseCase.execute("key-1", "user-2", REQUEST, executions::incrementAndGet);
+
+        // then
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    @DisplayName("실패한 명령은 같은 키로 다시 실행할 수 있다")
+    void execute_FailedCommand_ShouldReleaseKey() {
+        // given
+        AtomicInteger executions = new AtomicInteger();
+
+        // when
+        assertThrows(IllegalStateException.class, () -> idempotencyUseCase.execute("key-1", "user-1", REQUEST, () -> {
+            executions.incrementAndGet();
+            throw new IllegalStateException("실패");
+        }));
+        idempotencyUseCase.execute("key-1", "user-1", REQUEST, executions::incrementAndGet);
+
+        // then
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    @DisplayName("처음 요청이 처리 중이면 재시도는 예외가 발생한다")
+    void execute_InProgress_ShouldThrowException() {
+        // when & then
+        idempotencyUseCase.execute("key-1", "user-1", REQUEST, () ->
+            assertThrows(IdempotentRequestInProgress.class,
+                () -> idempotencyUseCase.execute("key-1", "user-1", REQUEST, () -> {}))
+        );
+    }
+
+    @Test
+    @DisplayName("같은 키로 본문이 다른 요청을 보내면 처음 결과를 돌려주지 않고 예외가 발생한다")
+    void execute_SameKeyDifferentBody_ShouldThrowException() {
+        // given
+        AtomicInteger executions = new AtomicInteger();
+        IdempotentRequestDto otherRequest = new IdempotentRequestDto("PATCH", "/api/medical-records/record-1/note", Map.of("note", "다른 노트"));
+        idempotencyUseCase.execute("key-1", "user-1", REQUEST, executions::incrementAndGet);
+
+        // when & then
+        assertThrows(IdempotencyKeyReused.class,
+            () -> idempotencyUseCase.execute("key-1", "user-1", otherRequest, executions::incrementAndGet));
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("처리 중인 키로 경로가 다른 요청을 보내면 예외가 발생한다")
+    void execute_InProgressDifferentPath_ShouldThrowException() {
+        // given
+        IdempotentRequestDto otherRequest = new IdempotentRequestDto("PATCH", "/api/medical-records/record-2/note", Map.of("note", "노트"));
+
+        // when & then
+        idempotencyUseCase.execute("key-1", "user-1", REQUEST, () ->
+            assertThrows(IdempotencyKeyReused.class,
+                () -> idempotencyUseCase.execute("key-1", "user-1", otherRequest, () -> {}))
+        );
+    }
+
+    @Test
+    @DisplayName("명령이 선점 만료 시간보다 오래 걸려도 실행 중에는 선점이 유지된다")
+    void execute_LongRunningCommand_ShouldKeepReservation() {
+        // given
+        IdempotencyUseCase shortTtlUseCase = new IdempotencyService(idempotencyAdapter, new ObjectMapper(), taskScheduler, 24, 1);
+        AtomicInteger executions = new AtomicInteger();
+
+        // when
+        shortTtlUseCase.execute("key-1", "user-1", REQUEST, () -> {
+            executions.incrementAndGet();
+            try {
+                Thread.sleep(1_500);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            assertThrows(IdempotentRequestInProgress.class,
+                () -> shortTtlUseCase.execute("key-1", "user-1", REQUEST, executions::incrementAndGet));
+        });
+
+        // then
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("키가 없으면 매번 실행된다")
+    void execute_WithoutKey_ShouldAlwaysRun() {
+        // given
+        AtomicInteger executions = new AtomicInteger();
+
+        // when
+        idempotencyUseCase.execute(null, "user-1", REQUEST, executions::incrementAndGet);
+        idempotencyUseCase.execute(" ", "user-1", REQUEST, executions::incrementAndGet);
+
+        // then
+        assertEquals(2, executions.get());
+    }
+}
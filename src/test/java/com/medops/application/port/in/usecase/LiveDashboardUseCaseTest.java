@@ -0,0 +1,160 @@
+package com.medops.application.port.in.usecase;
+
+import com.medops.adapter.out.persistence.mongodb.document.MedicalRecordViewDocument;
+import com.medops.application.dto.DashboardStatsDto;
+import com.medops.application.port.out.LoadHospitalPort;
+import com.medops.application.port.out.LoadTreatmentProductPort;
+import com.medops.application.service.LiveDashboardService;
+import com.medops.application.service.NotificationEventService;
+import com.medops.application.service.SseEmitterService;
+import com.medops.domain.enums.MedicalRecordStatus;
+import com.medops.domain.model.TreatmentProduct;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LiveDashboardUseCaseTest {
+
+    @Mock private MedicalRecordViewUseCase medicalRecordViewUseCase;
+    @Mock private LoadTreatmentProductPort loadTreatmentProductPort;
+    @Mock private LoadHospitalPort loadHospitalPort;
+    @Mock private NotificationEventService notificationEventService;
+    @Mock private SseEmitterService sseEmitterService;
+    @Mock private SseEmitter emitter;
+
+    private LiveDashboardUseCase liveDashboardUseCase;
+
+    @BeforeEach
+    void setUp() {
+        liveDashboardUseCase = new LiveDashboardService(
+            medicalRecordViewUseCase,
+            loadTreatmentProductPort,
+            loadHospitalPort,
+            notificationEventService,
+            sseEmitterService
+        );
+
+        TreatmentProduct testProduct = TreatmentProduct.builder()
+            .id("product-1")
+            .hospitalId("hospital-1")
+            .name("일반상담")
+            .price(BigDecimal.valueOf(50_000))
+            .maxCapacity(1)
+            .build();
+        lenient().when(loadTreatmentProductPort.loadTreatmentProductsByHospitalId("hospital-1")).thenReturn(List.of(testProduct));
+        lenient().when(medicalRecordViewUseCase.getMedicalRecordsByHospital(eq("hospital-1"), any(), any()))
+            .thenReturn(List.of(viewDoc("record-1", MedicalRecordStatus.PENDING)));
+    }
+
+    private MedicalRecordViewDocument viewDoc(String recordId, MedicalRecordStatus status) {
+        return new MedicalRecordViewDocument(
+            recordId, "user-1", "김환자", "hospital-1", "테스트병원",
+            null, null, null, status,
+            Instant.now(), Instant.now().plusSeconds(1800),
+            "product-1", "일반상담", null, 1
+        );
+    }
+
+    @Test
+    @DisplayName("구독을 시작하면 오늘 요약을 계산하여 새 구독자에게만 전송")
+    void should_sendCurrentSummaryToNewSubscriber_when_tracked() {
+        // when
+        DashboardStatsDto.TodayStats todayStats = liveDashboardUseCase.track("hospital-1", emitter);
+
+        // then
+        assertEquals(1, todayStats.total());
+        assertEquals(1, todayStats.pending());
+        assertEquals(0, todayStats.revenue());
+        verify(sseEmitterService).sendTo("hospital-1", emitter, "DASHBOARD_SUMMARY", todayStats);
+        verify(notificationEventService, never()).publishDashboardSummary(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("예약 상태가 바뀌면 이전 상태를 빼고 새 상태와 매출을 반영하여 전송")
+    void should_moveCountAndRevenue_when_statusChanged() {
+        // given
+        liveDashboardUseCase.track("hospital-1", emitter);
+
+        // when
+        liveDashboardUseCase.apply(viewDoc("record-1", MedicalRecordStatus.RESERVED));
+        liveDashboardUseCase.apply(viewDoc("record-2", MedicalRecordStatus.PENDING));
+
+        // then
+        ArgumentCaptor<DashboardStatsDto.TodayStats> captor = ArgumentCaptor.forClass(DashboardStatsDto.TodayStats.class);
+        verify(notificationEventService, times(2)).publishDashboardSummary(eq("hospital-1"), captor.capture());
+        DashboardStatsDto.TodayStats latest = captor.getValue();
+        assertEquals(2, latest.total());
+        assertEquals(1, latest.pending());
+        assertEquals(1, latest.confirmed());
+        assertEquals(50_000, latest.revenue());
+    }
+
+    @Test
+    @DisplayName("요약에 변화가 없으면 전송하지 않음")
+    void should_notPublish_when_nothingChanged() {
+        // given
+        liveDashboardUseCase.track("hospital-1", emitter);
+
+        // when
+        liveDashboardUseCase.apply(viewDoc("record-1", MedicalRecordStatus.PENDING));
+
+        // then
+        verify(notificationEventService, never()).publishDashboardSummary(eq("hospital-1"), any());
+    }
+
+    @Test
+    @DisplayName("주기 재계산 후에도 같은 요약에 변경이 이어서 반영됨")
+    void should_keepApplyingChanges_when_recomputed() {
+        // given
+        when(sseEmitterService.hasSubscribers("hospital-1")).thenReturn(true);
+        liveDashboardUseCase.track("hospital-1", emitter);
+        ((LiveDashboardService) liveDashboardUseCase).recomputeAll();
+
+        // when
+        liveDashboardUseCase.apply(viewDoc("record-1", MedicalRecordStatus.COMPLETED));
+
+        // then - 재계산 결과는 증분과 같아 전송하지 않고, 이후 변경만 전송
+        ArgumentCaptor<DashboardStatsDto.TodayStats> captor = ArgumentCaptor.forClass(DashboardStatsDto.TodayStats.class);
+        verify(notificationEventService, times(1)).publishDashboardSummary(eq("hospital-1"), captor.capture());
+        assertEquals(1, captor.getValue().completed());
+        assertEquals(50_000, captor.getValue().revenue());
+    }
+
+    @Test
+    @DisplayName("구독자가 없어진 병원은 재계산시 집계를 멈춤")
+    void should_stopTracking_when_noSubscribersOnRecompute() {
+        // given
+        liveDashboardUseCase.track("hospital-1", emitter);
+        ((LiveDashboardService) liveDashboardUseCase).recomputeAll();
+
+        // when
+        liveDashboardUseCase.apply(viewDoc("record-1", MedicalRecordStatus.RESERVED));
+
+        // then
+        verify(notificationEventService, never()).publishDashboardSummary(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("구독하지 않은 병원의 변경은 집계하지 않음")
+    void should_ignore_when_hospitalNotTracked() {
+        // when
+        liveDashboardUseCase.apply(viewDoc("record-1", MedicalRecordStatus.RESERVED));
+
+        // then
+        verifyNoInteractions(notificationEventService, medicalRecordViewUseCase);
+    }
+}
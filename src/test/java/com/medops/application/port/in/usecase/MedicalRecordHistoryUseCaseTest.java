@@ -0,0 +1,111 @@
+package com.medops.application.port.in.usecase;
+
+import com.medops.adapter.out.persistence.mongodb.document.MedicalRecordViewDocument;
+import com.medops.application.dto.MedicalRecordStateDto;
+import com.medops.application.eventsourcing.processor.MedicalRecordCommandProcessor;
+import com.medops.application.service.MedicalRecordHistoryService;
+import com.medops.common.exception.NotFoundResource;
+import com.medops.domain.enums.MedicalRecordStatus;
+import com.medops.domain.model.MedicalRecord;
+import com.medops.domain.model.MedicalRecordSnapshot;
+import com.medops.domain.model.Reservation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MedicalRecordHistoryUseCaseTest {
+
+    @Mock private MedicalRecordCommandProcessor medicalRecordCommandProcessor;
+    @Mock private MedicalRecordViewUseCase medicalRecordViewUseCase;
+
+    private MedicalRecordHistoryUseCase medicalRecordHistoryUseCase;
+
+    private final Instant at = Instant.parse("2025-09-10T09:00:00Z");
+
+    @BeforeEach
+    void setUp() {
+        medicalRecordHistoryUseCase = new MedicalRecordHistoryService(medicalRecordCommandProcessor, medicalRecordViewUseCase);
+    }
+
+    @Test
+    @DisplayName("시점 이후에 생성된 예약은 병원 예약 현황에서 제외")
+    void should_excludeRecordsCreatedLater_when_getHospitalMedicalRecordsAt() {
+        // given
+        Instant startTime = Instant.parse("2025-09-10T00:00:00Z");
+        Instant endTime = Instant.parse("2025-09-11T00:00:00Z");
+        when(medicalRecordViewUseCase.getMedicalRecordsByHospital("hospital-1", startTime, endTime))
+            .thenReturn(List.of(viewDoc("record-1"), viewDoc("record-2")));
+        when(medicalRecordCommandProcessor.rehydrateStatesAt(List.of("record-1", "record-2"), at))
+            .thenReturn(List.of(snapshot("record-1", 2, MedicalRecordStatus.RESERVED), snapshot("record-2", 0, MedicalRecordStatus.PENDING)));
+
+        // when
+        List<MedicalRecordStateDto> result = medicalRecordHistoryUseCase.getHospitalMedicalRecordsAt("hospital-1", startTime, endTime, at);
+
+        // then
+        assertEquals(1, result.size());
+        assertEquals("record-1", result.get(0).recordId());
+        assertEquals(MedicalRecordStatus.RESERVED, result.get(0).status());
+        assertEquals(2, result.get(0).version());
+    }
+
+    @Test
+    @DisplayName("시점에 존재하지 않는 예약 조회시 예외 발생")
+    void should_throwException_when_recordNotExistsAt() {
+        // given
+        when(medicalRecordCommandProcessor.rehydrateStateAt("record-1", at))
+            .thenReturn(snapshot("record-1", 0, MedicalRecordStatus.PENDING));
+
+        // when & then
+        assertThrows(NotFoundResource.class, () -> medicalRecordHistoryUseCase.getMedicalRecordAt("record-1", at));
+    }
+
+    @Test
+    @DisplayName("조회 기간이 잘못되면 예외 발생")
+    void should_throwException_when_rangeInvalid() {
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> medicalRecordHistoryUseCase.getHospitalMedicalRecordsAt(
+            "hospital-1", Instant.parse("2025-09-11T00:00:00Z"), Instant.parse("2025-09-10T00:00:00Z"), at));
+        verifyNoInteractions(medicalRecordCommandProcessor);
+    }
+
+    private MedicalRecordSnapshot snapshot(String recordId, int version, MedicalRecordStatus status) {
+        MedicalRecord state = MedicalRecord.builder()
+            .id(recordId)
+            .userId("user-1")
+            .hospitalId("hospital-1")
+            .status(status)
+            .reservation(new Reservation("메모", "product-1", Instant.parse("2025-09-10T10:00:00Z"), Instant.parse("2025-09-10T10:30:00Z")))
+            .build();
+        return new MedicalRecordSnapshot("snapshot-" + recordId, recordId, at, version, state);
+    }
+
+    private MedicalRecordViewDocument viewDoc(String recordId) {
+        return new MedicalRecordViewDocument(
+            recordId,
+            "user-1",
+            "김환자",
+            "hospital-1",
+            "테스트병원",
+            null,
+            null,
+            null,
+            MedicalRecordStatus.PENDING,
+            Instant.parse("2025-09-10T10:00:00Z"),
+            Instant.parse("2025-09-10T10:30:00Z"),
+            "product-1",
+            "일반상담",
+            "메모",
+            1
+        );
+    }
+}
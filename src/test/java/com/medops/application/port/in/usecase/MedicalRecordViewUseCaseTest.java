@@ -46,7 +46,8 @@ class MedicalRecordViewUseCaseTest {
             Instant.now(),
             "product-1",
             "일반상담",
-            "환자 메모"
+            "환자 메모",
+            1
         );
     }
 
@@ -227,7 +228,8 @@ class MedicalRecordViewUseCaseTest {
             Instant.now().plusSeconds(1800),
             "product-2",
             "정기검진",
-            "검진 메모"
+            "검진 메모",
+            1
         );
         
         List<MedicalRecordViewDocument> multipleRecords = List.of(testMedicalRecord, record2);
@@ -262,7 +264,8 @@ class MedicalRecordViewUseCaseTest {
             Instant.now().plusSeconds(7200),
             "product-1",
             "일반상담",
-            "예약 메모"
+            "예약 메모",
+            1
         );
         
         when(loadMedicalRecordViewPort.loadMedicalRecordById("record-scheduled"))
@@ -0,0 +1,138 @@
+package com.medops.application.port.in.usecase;
+
+import com.medops.application.port.out.LoadReservationSlotPort;
+import com.medops.application.port.out.LoadTreatmentProductPort;
+import com.medops.application.port.out.SaveReservationSlotPort;
+import com.medops.application.service.ReservationValidationService;
+import com.medops.common.exception.NotFoundResource;
+import com.medops.domain.model.TreatmentProduct;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationValidationUseCaseTest {
+
+    @Mock private LoadTreatmentProductPort loadTreatmentProductPort;
+    @Mock private LoadReservationSlotPort loadReservationSlotPort;
+    @Mock private SaveReservationSlotPort saveReservationSlotPort;
+
+    private ReservationValidationUseCase reservationValidationUseCase;
+
+    private TreatmentProduct testProduct;
+    private final Instant startTime = Instant.parse("2025-09-10T01:00:00Z");
+    private final Instant endTime = Instant.parse("2025-09-10T01:30:00Z");
+
+    @BeforeEach
+    void setUp() {
+        reservationValidationUseCase = new ReservationValidationService(
+            loadTreatmentProductPort,
+            loadReservationSlotPort,
+            saveReservationSlotPort
+        );
+
+        testProduct = TreatmentProduct.builder()
+            .id("product-1")
+            .hospitalId("hospital-1")
+            .name("상담")
+            .price(BigDecimal.valueOf(5000))
+            .maxCapacity(2)
+            .build();
+    }
+
+    @Test
+    @DisplayName("슬롯 예약 수가 정원 미만이면 예약 가능")
+    void should_returnTrue_when_reservedCountUnderCapacity() {
+        // given
+        when(loadTreatmentProductPort.loadTreatmentProductById("product-1")).thenReturn(Optional.of(testProduct));
+        when(loadReservationSlotPort.loadReservedCount("product-1", startTime, endTime)).thenReturn(1);
+
+        // when & then
+        assertTrue(reservationValidationUseCase.isReservationAvailable("hospital-1", "product-1", startTime, endTime));
+    }
+
+    @Test
+    @DisplayName("슬롯 예약 수가 정원에 도달하면 예약 불가")
+    void should_returnFalse_when_reservedCountReachesCapacity() {
+        // given
+        when(loadTreatmentProductPort.loadTreatmentProductById("product-1")).thenReturn(Optional.of(testProduct));
+        when(loadReservationSlotPort.loadReservedCount("product-1", startTime, endTime)).thenReturn(2);
+
+        // when & then
+        assertFalse(reservationValidationUseCase.isReservationAvailable("hospital-1", "product-1", startTime, endTime));
+    }
+
+    @Test
+    @DisplayName("예약 선점시 시술 상품의 정원으로 슬롯 카운터를 증가")
+    void should_reserveSlotWithMaxCapacity_when_reserve() {
+        // given
+        when(loadTreatmentProductPort.loadTreatmentProductById("product-1")).thenReturn(Optional.of(testProduct));
+        when(saveReservationSlotPort.reserveSlot("product-1", startTime, endTime, 2)).thenReturn(true);
+
+        // when
+        boolean result = reservationValidationUseCase.reserve("hospital-1", "product-1", startTime, endTime);
+
+        // then
+        assertTrue(result);
+        verify(saveReservationSlotPort).reserveSlot("product-1", startTime, endTime, 2);
+        verifyNoInteractions(loadReservationSlotPort);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 시술 상품으로 예약 선점시 예외 발생")
+    void should_throwException_when_treatmentProductNotFound() {
+        // given
+        when(loadTreatmentProductPort.loadTreatmentProductById("unknown")).thenReturn(Optional.empty());
+
+        // when & then
+        assertThrows(NotFoundResource.class, () -> reservationValidationUseCase.reserve("hospital-1", "unknown", startTime, endTime));
+        verify(saveReservationSlotPort, never()).reserveSlot(anyString(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("예약 취소시 슬롯 반환")
+    void should_releaseSlot_when_release() {
+        // when
+        reservationValidationUseCase.release("record-1", "product-1", startTime, endTime);
+
+        // then
+        verify(saveReservationSlotPort).releaseSlot("record-1", "product-1", startTime, endTime);
+    }
+
+    @Test
+    @DisplayName("슬롯 카운터가 비어 있으면 기존 예약으로 재구성")
+    void should_rebuildSlots_when_noSlotCounters() {
+        // given
+        when(loadReservationSlotPort.hasReservationSlots()).thenReturn(false);
+
+        // when
+        reservationValidationUseCase.warmUp();
+
+        // then
+        verify(saveReservationSlotPort).rebuildSlots();
+    }
+
+    @Test
+    @DisplayName("슬롯 카운터가 있으면 재구성하지 않음")
+    void should_skipRebuild_when_slotCountersExist() {
+        // given
+        when(loadReservationSlotPort.hasReservationSlots()).thenReturn(true);
+
+        // when
+        reservationValidationUseCase.warmUp();
+
+        // then
+        verify(saveReservationSlotPort, never()).rebuildSlots();
+    }
+}
@@ -0,0 +1,163 @@
+package com.medops.application.port.in.usecase;
+
+import com.medops.application.dto.AvailableSlotDto;
+import com.medops.application.port.out.LoadHospitalPort;
+import com.medops.application.port.out.LoadMedicalRecordViewPort;
+import com.medops.application.port.out.LoadTreatmentProductPort;
+import com.medops.application.service.HospitalZoneResolver;
+import com.medops.application.service.SlotAvailabilityService;
+import com.medops.common.exception.NotFoundResource;
+import com.medops.domain.model.BusinessHour;
+import com.medops.domain.model.Hospital;
+import com.medops.domain.model.TreatmentProduct;
+import com.medops.domain.model.WeeklySchedule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SlotAvailabilityUseCaseTest {
+
+    private static final ZoneId SEOUL_ZONE = ZoneId.of("Asia/Seoul");
+
+    @Mock private LoadHospitalPort loadHospitalPort;
+    @Mock private LoadTreatmentProductPort loadTreatmentProductPort;
+    @Mock private BusinessHourUseCase businessHourUseCase;
+    @Mock private LoadMedicalRecordViewPort loadMedicalRecordViewPort;
+
+    private SlotAvailabilityUseCase slotAvailabilityUseCase;
+
+    private LocalDate tomorrow;
+    private Instant tomorrowNine;
+
+    @BeforeEach
+    void setUp() {
+        slotAvailabilityUseCase = new SlotAvailabilityService(
+            loadHospitalPort,
+            new HospitalZoneResolver(loadHospitalPort),
+            loadTreatmentProductPort,
+            businessHourUseCase,
+            loadMedicalRecordViewPort
+        );
+
+        tomorrow = LocalDate.now(SEOUL_ZONE).plusDays(1);
+        tomorrowNine = tomorrow.atTime(9, 0).atZone(SEOUL_ZONE).toInstant();
+
+        TreatmentProduct testProduct = TreatmentProduct.builder()
+            .id("product-1")
+            .hospitalId("hospital-1")
+            .name("상담")
+            .price(BigDecimal.valueOf(5000))
+            .maxCapacity(1)
+            .build();
+        lenient().when(loadTreatmentProductPort.loadTreatmentProductById("product-1")).thenReturn(Optional.of(testProduct));
+
+        BusinessHour businessHour = BusinessHour.builder()
+            .id("business-hour-1")
+            .dayOfWeek(tomorrow.getDayOfWeek())
+            .isClosed(false)
+            .openTime("09:00")
+            .closeTime("12:00")
+            .breakStartTime("10:00")
+            .breakEndTime("11:00")
+            .build();
+        lenient().when(businessHourUseCase.getWeeklySchedule("hospital-1")).thenReturn(WeeklySchedule.compile(List.of(businessHour)));
+    }
+
+    @Test
+    @DisplayName("영업 시간에서 휴게 시간을 제외한 30분 슬롯을 반환")
+    void should_returnSlotsExcludingBreak_when_noReservation() {
+        // when
+        List<AvailableSlotDto> slots = slotAvailabilityUseCase.getAvailableSlots("hospital-1", "product-1", tomorrow, tomorrow);
+
+        // then
+        assertEquals(4, slots.size());
+        assertEquals(tomorrowNine, slots.get(0).getStartTime());
+        assertEquals(tomorrowNine.plusSeconds(7200), slots.get(2).getStartTime());
+        assertEquals(1, slots.get(0).getRemainingCapacity());
+    }
+
+    @Test
+    @DisplayName("병원 시간대 기준으로 날짜를 나누어 슬롯을 반환")
+    void should_splitSlotsOnHospitalMidnight_when_hospitalZoneNotSeoul() {
+        // given
+        ZoneId newYorkZone = ZoneId.of("America/New_York");
+        LocalDate newYorkTomorrow = LocalDate.now(newYorkZone).plusDays(1);
+        when(loadHospitalPort.loadHospitalById("hospital-1")).thenReturn(Optional.of(
+            Hospital.builder().id("hospital-1").zoneId(newYorkZone.getId()).build()
+        ));
+        BusinessHour businessHour = BusinessHour.builder()
+            .id("business-hour-1")
+            .dayOfWeek(newYorkTomorrow.getDayOfWeek())
+            .isClosed(false)
+            .openTime("09:00")
+            .closeTime("10:00")
+            .build();
+        when(businessHourUseCase.getWeeklySchedule("hospital-1")).thenReturn(WeeklySchedule.compile(List.of(businessHour)));
+
+        // when
+        List<AvailableSlotDto> slots = slotAvailabilityUseCase.getAvailableSlots("hospital-1", "product-1", newYorkTomorrow, newYorkTomorrow);
+
+        // then
+        assertEquals(2, slots.size());
+        assertEquals(newYorkTomorrow.atTime(9, 0).atZone(newYorkZone).toInstant(), slots.get(0).getStartTime());
+    }
+
+    @Test
+    @DisplayName("예약이 반영되면 캐시된 결과 대신 정원이 찬 슬롯을 제외한 결과를 반환")
+    void should_excludeFullSlot_when_reservationBookedAfterCaching() {
+        // given
+        slotAvailabilityUseCase.getAvailableSlots("hospital-1", "product-1", tomorrow, tomorrow);
+
+        // when
+        slotAvailabilityUseCase.book("record-1", "product-1", tomorrowNine, tomorrowNine.plusSeconds(1800));
+        List<AvailableSlotDto> slots = slotAvailabilityUseCase.getAvailableSlots("hospital-1", "product-1", tomorrow, tomorrow);
+
+        // then
+        assertEquals(3, slots.size());
+        assertFalse(slotAvailabilityUseCase.isAvailable("product-1", tomorrowNine, tomorrowNine.plusSeconds(1800)));
+    }
+
+    @Test
+    @DisplayName("예약이 취소되면 슬롯이 다시 예약 가능")
+    void should_restoreSlot_when_reservationReleased() {
+        // given
+        slotAvailabilityUseCase.book("record-1", "product-1", tomorrowNine, tomorrowNine.plusSeconds(1800));
+
+        // when
+        slotAvailabilityUseCase.release("record-1");
+
+        // then
+        assertEquals(4, slotAvailabilityUseCase.getAvailableSlots("hospital-1", "product-1", tomorrow, tomorrow).size());
+    }
+
+    @Test
+    @DisplayName("다른 병원의 시술 상품으로 조회시 예외 발생")
+    void should_throwNotFoundResource_when_productBelongsToOtherHospital() {
+        // when & then
+        assertThrows(NotFoundResource.class,
+            () -> slotAvailabilityUseCase.getAvailableSlots("hospital-2", "product-1", tomorrow, tomorrow));
+        verifyNoInteractions(loadHospitalPort);
+    }
+
+    @Test
+    @DisplayName("조회 시작일이 종료일보다 늦으면 예외 발생")
+    void should_throwException_when_fromIsAfterTo() {
+        // when & then
+        assertThrows(IllegalArgumentException.class,
+            () -> slotAvailabilityUseCase.getAvailableSlots("hospital-1", "product-1", tomorrow.plusDays(1), tomorrow));
+    }
+}
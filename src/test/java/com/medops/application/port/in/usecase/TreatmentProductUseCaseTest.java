@@ -58,20 +58,21 @@ class TreatmentProductUseCaseTest {
         treatmentProductUseCase.initializeTreatmentProducts(hospitalId);
 
         // then
-        verify(saveTreatmentProductPort, times(2)).saveTreatmentProduct(any(TreatmentProduct.class));
-        
-        // 상담 상품 검증
-        verify(saveTreatmentProductPort).saveTreatmentProduct(argThat(product -> 
-            product.getName().equals("상담") &&
-            product.getMaxCapacity().equals(3) &&
-            product.getHospitalId().equals(hospitalId)
-        ));
-        
-        // 정기검진 상품 검증
-        verify(saveTreatmentProductPort).saveTreatmentProduct(argThat(product -> 
-            product.getName().equals("정기 검진") &&
-            product.getMaxCapacity().equals(1) &&
-            product.getHospitalId().equals(hospitalId)
+        verify(saveTreatmentProductPort, never()).saveTreatmentProduct(any(TreatmentProduct.class));
+        verify(saveTreatmentProductPort).saveAllTreatmentProducts(argThat(products ->
+            products.size() == 2 &&
+            // 상담 상품 검증
+            products.stream().anyMatch(product ->
+                product.getName().equals("상담") &&
+                product.getMaxCapacity().equals(3) &&
+                product.getHospitalId().equals(hospitalId)
+            ) &&
+            // 정기검진 상품 검증
+            products.stream().anyMatch(product ->
+                product.getName().equals("정기 검진") &&
+                product.getMaxCapacity().equals(1) &&
+                product.getHospitalId().equals(hospitalId)
+            )
         ));
     }
 
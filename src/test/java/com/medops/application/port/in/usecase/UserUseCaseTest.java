@@ -3,12 +3,14 @@ package com.medops.application.port.in.usecase;
 import com.medops.adapter.in.web.request.UserLoginRequest;
 import com.medops.application.port.out.TokenPort;
 import com.medops.application.port.out.SaveUserPort;
+import com.medops.common.exception.WrongPassword;
 import com.medops.domain.model.User;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.UUID;
 
@@ -23,6 +25,8 @@ class UserUseCaseTest {
     private UserUseCase userUseCase;
     @Autowired
     private TokenPort tokenPort;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
 
     @Test
     @DisplayName("로그인 후 /api/user/me 호출 시 사용자 정보 반환")
@@ -31,7 +35,7 @@ class UserUseCaseTest {
         String testEmail = "test@test.com";
         String testPassword = "1234!@#$";
         User testUser = saveUserPort.saveUser(
-            User.builder().id(UUID.randomUUID().toString()).email(testEmail).password(testPassword).build()
+            User.builder().id(UUID.randomUUID().toString()).email(testEmail).password(passwordEncoder.encode(testPassword)).build()
         );
 
         // when
@@ -41,4 +45,17 @@ class UserUseCaseTest {
         var userId = tokenPort.parseUserIdFromToken(jwtToken);
         assertEquals(userId, testUser.getId());
     }
+
+    @Test
+    @DisplayName("비밀번호가 다르면 로그인 실패")
+    void should_throwWrongPassword_when_passwordMismatch() {
+        // given
+        String testEmail = "wrong-password@test.com";
+        saveUserPort.saveUser(
+            User.builder().id(UUID.randomUUID().toString()).email(testEmail).password(passwordEncoder.encode("1234!@#$")).build()
+        );
+
+        // when & then
+        assertThrows(WrongPassword.class, () -> userUseCase.loginUser(new UserLoginRequest(testEmail, "wrong")));
+    }
 }
\ No newline at end of file
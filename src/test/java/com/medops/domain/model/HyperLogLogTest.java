@@ -0,0 +1,60 @@
+package com.medops.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("HyperLogLog 도메인 모델 테스트")
+class HyperLogLogTest {
+
+    @Test
+    @DisplayName("같은 값을 여러 번 넣어도 한 번만 집계")
+    void duplicatesAreCountedOnce() {
+        // Given
+        HyperLogLog hyperLogLog = new HyperLogLog();
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            hyperLogLog.add("user-1");
+            hyperLogLog.add("user-2");
+        }
+
+        // Then
+        assertThat(hyperLogLog.estimate()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("고유 값이 많아도 오차 범위 안에서 추정")
+    void estimatesLargeCardinalityWithinError() {
+        // Given
+        HyperLogLog hyperLogLog = new HyperLogLog();
+
+        // When
+        for (int i = 0; i < 100_000; i++) {
+            hyperLogLog.add("user-" + i);
+        }
+
+        // Then
+        assertThat((double) hyperLogLog.estimate()).isCloseTo(100_000, within(5_000.0));
+    }
+
+    @Test
+    @DisplayName("합치면 두 집합의 합집합 크기를 추정")
+    void mergeEstimatesUnion() {
+        // Given
+        HyperLogLog monday = new HyperLogLog();
+        HyperLogLog tuesday = new HyperLogLog();
+        for (int i = 0; i < 1_000; i++) {
+            monday.add("user-" + i);
+            tuesday.add("user-" + (i + 500));
+        }
+
+        // When
+        monday.merge(tuesday);
+
+        // Then
+        assertThat((double) monday.estimate()).isCloseTo(1_500, within(75.0));
+    }
+}
@@ -0,0 +1,83 @@
+package com.medops.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LocalTimeBuckets 도메인 모델 테스트")
+class LocalTimeBucketsTest {
+
+    private static final ZoneId SEOUL_ZONE = ZoneId.of("Asia/Seoul");
+    private static final ZoneId NEW_YORK_ZONE = ZoneId.of("America/New_York");
+
+    private static long millis(LocalDateTime dateTime, ZoneId zone) {
+        return dateTime.atZone(zone).toInstant().toEpochMilli();
+    }
+
+    @Test
+    @DisplayName("병원 시간대 기준으로 날짜와 요일/시간 칸을 찾음")
+    void findsDayAndWeekHourInZone() {
+        // Given - 2025-07-06 은 일요일
+        LocalTimeBuckets buckets = LocalTimeBuckets.of(SEOUL_ZONE, LocalDate.of(2025, 7, 6), 7);
+
+        // When
+        long mondayNine = millis(LocalDateTime.of(2025, 7, 7, 9, 30), SEOUL_ZONE);
+
+        // Then
+        assertThat(buckets.dayIndexOf(mondayNine)).isEqualTo(1);
+        assertThat(buckets.weekHourOf(mondayNine)).isEqualTo(LocalTimeBuckets.HOURS_PER_DAY + 9);
+        assertThat(buckets.dateOf(1)).isEqualTo(LocalDate.of(2025, 7, 7));
+    }
+
+    @Test
+    @DisplayName("기간 밖의 시각은 -1")
+    void returnsMinusOneOutsideRange() {
+        // Given
+        LocalTimeBuckets buckets = LocalTimeBuckets.of(SEOUL_ZONE, LocalDate.of(2025, 7, 6), 7);
+
+        // When & Then
+        assertThat(buckets.dayIndexOf(buckets.startMillis() - 1)).isEqualTo(-1);
+        assertThat(buckets.dayIndexOf(buckets.endMillis())).isEqualTo(-1);
+        assertThat(buckets.weekHourOf(buckets.endMillis() - 1)).isEqualTo(6 * LocalTimeBuckets.HOURS_PER_DAY + 23);
+    }
+
+    @Test
+    @DisplayName("일광 절약 시간이 시작되는 날 이후에도 날짜와 시간이 어긋나지 않음")
+    void keepsLocalHoursAcrossDaylightSavingTransition() {
+        // Given - 2025-03-09 02:00 에 시계가 03:00 으로 당겨져 하루가 23시간
+        LocalTimeBuckets buckets = LocalTimeBuckets.of(NEW_YORK_ZONE, LocalDate.of(2025, 3, 8), 3);
+
+        // When
+        long sundayAfterGap = millis(LocalDateTime.of(2025, 3, 9, 3, 0), NEW_YORK_ZONE);
+        long mondayMidnight = millis(LocalDateTime.of(2025, 3, 10, 0, 0), NEW_YORK_ZONE);
+        long mondayTen = millis(LocalDateTime.of(2025, 3, 10, 10, 15), NEW_YORK_ZONE);
+
+        // Then
+        assertThat(buckets.dayIndexOf(sundayAfterGap)).isEqualTo(1);
+        assertThat(buckets.weekHourOf(sundayAfterGap)).isEqualTo(3);
+        assertThat(buckets.dayIndexOf(mondayMidnight - 1)).isEqualTo(1);
+        assertThat(buckets.dayIndexOf(mondayMidnight)).isEqualTo(2);
+        assertThat(buckets.weekHourOf(mondayTen)).isEqualTo(LocalTimeBuckets.HOURS_PER_DAY + 10);
+    }
+
+    @Test
+    @DisplayName("일광 절약 시간이 끝나 하루가 25시간인 날도 반복되는 시간을 같은 칸으로 집계")
+    void mapsRepeatedHourToSameSlot() {
+        // Given - 2025-11-02 02:00 에 시계가 01:00 으로 돌아가 01시가 두 번
+        LocalTimeBuckets buckets = LocalTimeBuckets.of(NEW_YORK_ZONE, LocalDate.of(2025, 11, 2), 1);
+        long firstOneAm = millis(LocalDateTime.of(2025, 11, 2, 1, 30), NEW_YORK_ZONE);
+
+        // When
+        long secondOneAm = firstOneAm + 3_600_000L;
+
+        // Then
+        assertThat(buckets.weekHourOf(firstOneAm)).isEqualTo(1);
+        assertThat(buckets.weekHourOf(secondOneAm)).isEqualTo(1);
+        assertThat(buckets.endMillis() - buckets.startMillis()).isEqualTo(25 * 3_600_000L);
+    }
+}
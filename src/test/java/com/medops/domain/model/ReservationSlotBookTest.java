@@ -0,0 +1,76 @@
+package com.medops.domain.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ReservationSlotBook 도메인 모델 테스트")
+class ReservationSlotBookTest {
+
+    private ReservationSlotBook reservationSlotBook;
+
+    private final Instant nine = Instant.parse("2025-09-10T00:00:00Z");
+    private final Instant nineThirty = Instant.parse("2025-09-10T00:30:00Z");
+    private final Instant ten = Instant.parse("2025-09-10T01:00:00Z");
+
+    @BeforeEach
+    void setUp() {
+        reservationSlotBook = new ReservationSlotBook();
+    }
+
+    @Test
+    @DisplayName("예약이 걸친 모든 슬롯의 예약 수가 증가")
+    void bookIncreasesAllOverlappingSlots() {
+        // When
+        reservationSlotBook.book("record-1", "product-1", nine, ten);
+
+        // Then
+        assertThat(reservationSlotBook.maxReservedCount("product-1", nine, nineThirty)).isEqualTo(1);
+        assertThat(reservationSlotBook.maxReservedCount("product-1", nineThirty, ten)).isEqualTo(1);
+        assertThat(reservationSlotBook.maxReservedCount("product-1", ten, ten.plusSeconds(1800))).isZero();
+        assertThat(reservationSlotBook.maxReservedCount("product-2", nine, ten)).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 예약을 두 번 반영해도 한 번만 집계")
+    void bookIsIdempotentPerRecord() {
+        // When
+        reservationSlotBook.book("record-1", "product-1", nine, nineThirty);
+        reservationSlotBook.book("record-1", "product-1", nine, nineThirty);
+
+        // Then
+        assertThat(reservationSlotBook.maxReservedCount("product-1", nine, nineThirty)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("정원에 도달한 슬롯은 예약 불가, 취소되면 다시 예약 가능")
+    void releaseRestoresAvailability() {
+        // Given
+        reservationSlotBook.book("record-1", "product-1", nine, nineThirty);
+        reservationSlotBook.book("record-2", "product-1", nine, nineThirty);
+        assertThat(reservationSlotBook.isAvailable("product-1", nine, nineThirty, 2)).isFalse();
+
+        // When
+        reservationSlotBook.release("record-1");
+
+        // Then
+        assertThat(reservationSlotBook.isAvailable("product-1", nine, nineThirty, 2)).isTrue();
+    }
+
+    @Test
+    @DisplayName("지난 날짜의 슬롯은 정리된다")
+    void evictBeforeRemovesPastSlots() {
+        // Given
+        reservationSlotBook.book("record-1", "product-1", nine, nineThirty);
+
+        // When
+        reservationSlotBook.evictBefore(nine.plusSeconds(2 * 24 * 3600));
+
+        // Then
+        assertThat(reservationSlotBook.maxReservedCount("product-1", nine, nineThirty)).isZero();
+    }
+}
@@ -0,0 +1,57 @@
+package com.medops.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("WeeklySchedule 도메인 모델 테스트")
+class WeeklyScheduleTest {
+
+    private final WeeklySchedule weeklySchedule = WeeklySchedule.compile(List.of(
+        BusinessHour.builder()
+            .dayOfWeek(DayOfWeek.MONDAY)
+            .isClosed(false)
+            .openTime("09:00")
+            .closeTime("18:00")
+            .breakStartTime("12:00")
+            .breakEndTime("13:00")
+            .build(),
+        BusinessHour.builder()
+            .dayOfWeek(DayOfWeek.SATURDAY)
+            .isClosed(true)
+            .build()
+    ));
+
+    @Test
+    @DisplayName("휴게 시간은 영업 구간에서 제외")
+    void breakTimeIsExcluded() {
+        assertThat(weeklySchedule.isOpenAt(DayOfWeek.MONDAY, 9 * 60)).isTrue();
+        assertThat(weeklySchedule.isOpenAt(DayOfWeek.MONDAY, 12 * 60 + 30)).isFalse();
+        assertThat(weeklySchedule.isOpenAt(DayOfWeek.MONDAY, 18 * 60)).isFalse();
+        assertThat(weeklySchedule.isOpen(DayOfWeek.MONDAY, 11 * 60 + 30, 12 * 60)).isTrue();
+        assertThat(weeklySchedule.isOpen(DayOfWeek.MONDAY, 11 * 60 + 30, 13 * 60)).isFalse();
+    }
+
+    @Test
+    @DisplayName("휴무일과 영업시간이 없는 요일은 닫힘")
+    void closedDays() {
+        assertThat(weeklySchedule.isClosed(DayOfWeek.SATURDAY)).isTrue();
+        assertThat(weeklySchedule.isClosed(DayOfWeek.SUNDAY)).isTrue();
+        assertThat(weeklySchedule.slotStartMinutes(DayOfWeek.SATURDAY, 30)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("영업 구간 안에 들어가는 슬롯 시작 시각 계산")
+    void slotStartMinutes() {
+        int[] slotStarts = weeklySchedule.slotStartMinutes(DayOfWeek.MONDAY, 30);
+
+        assertThat(slotStarts).hasSize(16);
+        assertThat(slotStarts[0]).isEqualTo(9 * 60);
+        assertThat(slotStarts[6]).isEqualTo(13 * 60);
+        assertThat(slotStarts).doesNotContain(12 * 60, 12 * 60 + 30);
+    }
+}